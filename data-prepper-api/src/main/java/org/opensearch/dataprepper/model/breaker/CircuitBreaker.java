@@ -23,4 +23,15 @@ public interface CircuitBreaker {
      * @since 2.6
      */
     boolean isOpen();
+
+    /**
+     * Gets how close the circuit breaker is to tripping. Sources can use this
+     * to reduce their intake gradually before the circuit breaker opens.
+     *
+     * @return A value from 0.0, for no pressure, to 1.0, when the circuit breaker is open.
+     * @since 2.17
+     */
+    default double getPressure() {
+        return isOpen() ? 1.0 : 0.0;
+    }
 }
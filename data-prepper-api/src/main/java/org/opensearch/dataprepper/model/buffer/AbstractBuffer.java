@@ -23,6 +23,8 @@ import java.time.Instant;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicLong;
@@ -154,6 +156,29 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         }
     }
 
+    @Override
+    public CompletableFuture<Void> writeBytesAsync(final byte[] bytes, final String key, final int timeoutInMillis) {
+        long startTime = System.nanoTime();
+
+        CompletableFuture<Void> writeFuture;
+        try {
+            writeFuture = doWriteBytesAsync(bytes, key, timeoutInMillis);
+        } catch (Exception e) {
+            writeFuture = CompletableFuture.failedFuture(e);
+        }
+        return writeFuture.whenComplete((ignored, e) -> {
+            if (e == null) {
+                postProcess(recordsInBuffer.get());
+            } else {
+                final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof TimeoutException) {
+                    writeTimeoutCounter.increment();
+                }
+            }
+            writeTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        });
+    }
+
     /**
      * Records egress and time elapsed metrics, while calling the doRead function to
      * do the actual read
@@ -227,6 +252,22 @@ public abstract class AbstractBuffer<T extends Record<?>> implements Buffer<T> {
         throw new UnsupportedOperationException("Not supported: This is not a byte buffer.");
     }
 
+    /**
+     * This method may be overridden by byte buffers which do not need to wait for each write to be stored.
+     * By default, it writes synchronously with {@link #doWriteBytes(byte[], String, int)}.
+     *
+     * @param bytes           Bytes to write to buffer
+     * @param key             Key to use when writing to the buffer
+     * @param timeoutInMillis Timeout for starting the write in millis
+     * @return A future which completes once the bytes are written
+     * @throws Exception Exception thrown when the write cannot be started
+     * @since 2.17
+     */
+    public CompletableFuture<Void> doWriteBytesAsync(final byte[] bytes, final String key, final int timeoutInMillis) throws Exception {
+        doWriteBytes(bytes, key, timeoutInMillis);
+        return CompletableFuture.completedFuture(null);
+    }
+
     /**
      * This method should implement the logic for reading from the buffer
      *
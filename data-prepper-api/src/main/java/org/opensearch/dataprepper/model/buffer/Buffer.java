@@ -18,6 +18,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -60,6 +61,27 @@ public interface Buffer<T extends Record<?>> {
         throw new UnsupportedOperationException("This buffer type does not support bytes.");
     }
 
+    /**
+     * Writes bytes into the buffer without waiting for them to be durably stored. Buffers which can pipeline writes
+     * complete the returned future once the bytes are stored, which lets callers respond to their clients
+     * asynchronously. The default implementation writes synchronously.
+     *
+     * @param bytes the bytes to be written to the buffer
+     * @param key   key to use when writing to the buffer
+     * @param timeoutInMillis how long to wait before giving up on starting the write
+     * @return A future which completes once the bytes are written, or completes exceptionally with the
+     * exceptions of {@link #writeBytes(byte[], String, int)}
+     * @since 2.17
+     */
+    default CompletableFuture<Void> writeBytesAsync(final byte[] bytes, final String key, int timeoutInMillis) {
+        try {
+            writeBytes(bytes, key, timeoutInMillis);
+            return CompletableFuture.completedFuture(null);
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     /**
      * Retrieves and removes the batch of records from the head of the queue. The batch size is defined/determined by
      * the configuration attribute "batch_size" or the @param timeoutInMillis
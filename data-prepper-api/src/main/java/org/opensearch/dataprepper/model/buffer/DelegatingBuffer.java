@@ -16,6 +16,7 @@ import java.time.Duration;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -57,6 +58,11 @@ public abstract class DelegatingBuffer<T extends Record<?>> implements Buffer<T>
         delegateBuffer.writeBytes(bytes, key, timeoutInMillis);
     }
 
+    @Override
+    public CompletableFuture<Void> writeBytesAsync(final byte[] bytes, final String key, final int timeoutInMillis) {
+        return delegateBuffer.writeBytesAsync(bytes, key, timeoutInMillis);
+    }
+
     @Override
     public Map.Entry<Collection<T>, CheckpointState> read(final int timeoutInMillis) {
         return delegateBuffer.read(timeoutInMillis);
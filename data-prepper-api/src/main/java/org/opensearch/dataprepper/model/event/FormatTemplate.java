@@ -0,0 +1,307 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A format string such as {@code "logs-${/service}-%{yyyy.MM.dd}"} which is parsed once and then rendered for
+ * many events. Each {@code ${...}} placeholder is resolved as an event key when possible. When the key is not
+ * in the event, the placeholder is evaluated as an expression if an {@link ExpressionEvaluator} was provided.
+ * <p>
+ * Rendering a template gives the same result as {@link Event#formatString(String, ExpressionEvaluator, String)},
+ * without scanning the format string or creating event keys for every event. Instances are immutable and may be
+ * shared across threads.
+ *
+ * @since 2.17
+ */
+public class FormatTemplate {
+    private static final String PLACEHOLDER_START = "${";
+    private static final String PLACEHOLDER_END = "}";
+    static final int MAX_CACHED_TEMPLATES = 1024;
+    private static final Map<String, FormatTemplate> CACHED_TEMPLATES = new ConcurrentHashMap<>();
+
+    private final String format;
+    private final ExpressionEvaluator expressionEvaluator;
+    private final List<Segment> segments;
+    private final int literalLength;
+    private final boolean constant;
+
+    private FormatTemplate(final String format, final ExpressionEvaluator expressionEvaluator) {
+        this.format = format;
+        this.expressionEvaluator = expressionEvaluator;
+        this.segments = Collections.unmodifiableList(parse(format));
+        this.literalLength = segments.stream()
+                .filter(segment -> segment instanceof LiteralSegment)
+                .mapToInt(segment -> ((LiteralSegment) segment).literal.length())
+                .sum();
+        this.constant = segments.stream().allMatch(segment -> segment instanceof LiteralSegment);
+    }
+
+    /**
+     * Creates a template whose placeholders are only resolved as event keys.
+     *
+     * @param format the format string
+     * @return the template
+     * @since 2.17
+     */
+    public static FormatTemplate compile(final String format) {
+        return compile(format, null);
+    }
+
+    /**
+     * Creates a template whose placeholders are resolved as event keys or, when the key is not in the event,
+     * as expressions.
+     *
+     * @param format the format string
+     * @param expressionEvaluator the evaluator for placeholders which are expressions, or null
+     * @return the template
+     * @since 2.17
+     */
+    public static FormatTemplate compile(final String format, final ExpressionEvaluator expressionEvaluator) {
+        Objects.requireNonNull(format, "format cannot be null");
+        return new FormatTemplate(format, expressionEvaluator);
+    }
+
+    /**
+     * Gets a compiled template from a bounded cache, for callers such as {@link Event#formatString(String)} which
+     * only get the format string for each event. Callers which render the same format for many events should hold
+     * the template from {@link #compile(String, ExpressionEvaluator)} instead. The cache is cleared when it is full,
+     * so that formats built per event cannot grow it without bound.
+     *
+     * @param format the format string
+     * @param expressionEvaluator the evaluator for placeholders which are expressions, or null
+     * @return the template
+     */
+    static FormatTemplate getCached(final String format, final ExpressionEvaluator expressionEvaluator) {
+        Objects.requireNonNull(format, "format cannot be null");
+        FormatTemplate template = CACHED_TEMPLATES.get(format);
+        // Templates cache whether placeholders are valid expressions, so they are only reused with the same evaluator
+        if (template == null || template.expressionEvaluator != expressionEvaluator) {
+            template = new FormatTemplate(format, expressionEvaluator);
+            if (CACHED_TEMPLATES.size() >= MAX_CACHED_TEMPLATES) {
+                CACHED_TEMPLATES.clear();
+            }
+            CACHED_TEMPLATES.put(format, template);
+        }
+        return template;
+    }
+
+    /**
+     * Gets the format string this template was compiled from.
+     *
+     * @return the format string
+     * @since 2.17
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Indicates whether the template has no placeholders, so every event renders to {@link #getFormat()}.
+     *
+     * @return true if the template is a constant string
+     * @since 2.17
+     */
+    public boolean isConstant() {
+        return constant;
+    }
+
+    /**
+     * Renders the template for an event.
+     *
+     * @param event the event
+     * @return the rendered string
+     * @throws EventKeyNotFoundException if a placeholder can be resolved neither as a key nor as an expression
+     * @since 2.17
+     */
+    public String format(final Event event) {
+        return format(event, null);
+    }
+
+    /**
+     * Renders the template for an event, using a default value for placeholders which cannot be resolved.
+     *
+     * @param event the event
+     * @param defaultValue the value for placeholders which cannot be resolved, or null to throw
+     * @return the rendered string
+     * @throws EventKeyNotFoundException if a placeholder cannot be resolved and there is no default value
+     * @since 2.17
+     */
+    public String format(final Event event, final String defaultValue) {
+        if (constant) {
+            return format;
+        }
+        final StringBuilder builder = new StringBuilder(literalLength + 16 * segments.size());
+        appendTo(builder, event, defaultValue);
+        return builder.toString();
+    }
+
+    /**
+     * Renders the template for an event into a builder which the caller may reuse across events. The builder
+     * is cleared first.
+     *
+     * @param builder the builder to render into
+     * @param event the event
+     * @param defaultValue the value for placeholders which cannot be resolved, or null to throw
+     * @return the rendered string
+     * @throws EventKeyNotFoundException if a placeholder cannot be resolved and there is no default value
+     * @since 2.17
+     */
+    public String format(final StringBuilder builder, final Event event, final String defaultValue) {
+        if (constant) {
+            return format;
+        }
+        builder.setLength(0);
+        appendTo(builder, event, defaultValue);
+        return builder.toString();
+    }
+
+    /**
+     * Appends the rendered template for an event to a builder.
+     *
+     * @param builder the builder to append to
+     * @param event the event
+     * @param defaultValue the value for placeholders which cannot be resolved, or null to throw
+     * @throws EventKeyNotFoundException if a placeholder cannot be resolved and there is no default value
+     * @since 2.17
+     */
+    public void appendTo(final StringBuilder builder, final Event event, final String defaultValue) {
+        for (final Segment segment : segments) {
+            segment.appendTo(builder, event, defaultValue);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return format;
+    }
+
+    private List<Segment> parse(final String format) {
+        final List<Segment> parsedSegments = new ArrayList<>();
+        int fromIndex = 0;
+        int position;
+        while ((position = format.indexOf(PLACEHOLDER_START, fromIndex)) != -1) {
+            final int endPosition = format.indexOf(PLACEHOLDER_END, position + 1);
+            if (position > fromIndex) {
+                parsedSegments.add(new LiteralSegment(format.substring(fromIndex, position)));
+            }
+            if (endPosition == -1) {
+                parsedSegments.add(new MalformedSegment());
+                return parsedSegments;
+            }
+            parsedSegments.add(new PlaceholderSegment(format.substring(position + 2, endPosition)));
+            fromIndex = endPosition + 1;
+        }
+        if (fromIndex < format.length()) {
+            parsedSegments.add(new LiteralSegment(format.substring(fromIndex)));
+        }
+        return parsedSegments;
+    }
+
+    private interface Segment {
+        void appendTo(StringBuilder builder, Event event, String defaultValue);
+    }
+
+    private static class LiteralSegment implements Segment {
+        private final String literal;
+
+        private LiteralSegment(final String literal) {
+            this.literal = literal;
+        }
+
+        @Override
+        public void appendTo(final StringBuilder builder, final Event event, final String defaultValue) {
+            builder.append(literal);
+        }
+    }
+
+    /**
+     * An opening placeholder without a closing brace. It fails when rendered, after the segments before it,
+     * which is when {@link Event#formatString(String)} reports it.
+     */
+    private static class MalformedSegment implements Segment {
+        @Override
+        public void appendTo(final StringBuilder builder, final Event event, final String defaultValue) {
+            throw new RuntimeException("Format string is not properly formed");
+        }
+    }
+
+    private class PlaceholderSegment implements Segment {
+        private final String name;
+        private final JacksonEventKey eventKey;
+        private volatile Boolean validExpression;
+
+        private PlaceholderSegment(final String name) {
+            this.name = name;
+            this.eventKey = createEventKey(name);
+        }
+
+        @Override
+        public void appendTo(final StringBuilder builder, final Event event, final String defaultValue) {
+            Object value = getValue(event);
+            if (value == null) {
+                if (isValidExpression()) {
+                    value = expressionEvaluator.evaluate(name, event);
+                } else {
+                    if (defaultValue == null) {
+                        throw new EventKeyNotFoundException(String.format("The key %s could not be found in the Event when formatting", name));
+                    }
+                    value = defaultValue;
+                }
+            }
+
+            if (value != null) {
+                builder.append(value);
+            }
+        }
+
+        private Object getValue(final Event event) {
+            if (eventKey == null) {
+                return null;
+            }
+            try {
+                return event.get(eventKey, Object.class);
+            } catch (final Exception ignored) {
+                // Exception likely indicates use of a Data Prepper expression
+                return null;
+            }
+        }
+
+        private boolean isValidExpression() {
+            if (expressionEvaluator == null) {
+                return false;
+            }
+            Boolean valid = validExpression;
+            if (valid == null) {
+                valid = Boolean.TRUE.equals(expressionEvaluator.isValidExpressionStatement(name));
+                validExpression = valid;
+            }
+            return valid;
+        }
+    }
+
+    private static JacksonEventKey createEventKey(final String name) {
+        try {
+            return new JacksonEventKey(name, EventKeyFactory.EventAction.GET);
+        } catch (final Exception e) {
+            // The placeholder is not a valid key, so it can only be an expression
+            return null;
+        }
+    }
+}
@@ -24,7 +24,6 @@ import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
-import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,11 +35,12 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.StringJoiner;
 
 import static com.google.common.base.Preconditions.checkNotNull;
@@ -113,7 +113,20 @@ public class JacksonEvent implements Event {
 
     private transient EventHandle eventHandle;
 
-    private final JsonNode jsonNode;
+    private JsonNode jsonNode;
+
+    /**
+     * The objects and arrays of {@link #jsonNode} which this event may modify in place. This is null while the
+     * event is the only owner of its data. Once the data is shared with a copy, every container starts out shared
+     * and is cloned by the first modification beneath it.
+     */
+    private transient Set<JsonNode> ownedContainers;
+
+    /**
+     * Whether the data was marked as shared by {@link #markDataShared()} and has not been modified since, so that
+     * {@link #fromEventSharingData(JacksonEvent)} may copy the event without changing it.
+     */
+    private transient volatile boolean dataShareable;
 
     static final int MAX_KEY_LENGTH = 2048;
 
@@ -133,7 +146,7 @@ public class JacksonEvent implements Event {
             this.eventMetadata = builder.eventMetadata;
         }
 
-        this.jsonNode = getInitialJsonNode(builder.data);
+        this.jsonNode = builder.jsonNode != null ? builder.jsonNode : getInitialJsonNode(builder.data);
         if (builder.eventHandle != null) {
             this.eventHandle = builder.eventHandle;
         } else {
@@ -151,6 +164,18 @@ public class JacksonEvent implements Event {
         this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
     }
 
+    private JacksonEvent(final JacksonEvent otherEvent, final JsonNode sharedJsonNode) {
+        this.jsonNode = sharedJsonNode;
+        this.ownedContainers = newOwnedContainers();
+        this.dataShareable = true;
+        this.eventMetadata = DefaultEventMetadata.fromEventMetadata(otherEvent.eventMetadata);
+        this.eventHandle = new DefaultEventHandle(eventMetadata.getTimeReceived());
+        final Instant externalOriginationTime = this.eventMetadata.getExternalOriginationTime();
+        if (externalOriginationTime != null) {
+            eventHandle.setExternalOriginationTime(externalOriginationTime);
+        }
+    }
+
     public static Event fromMessage(String message) {
         return JacksonEvent.builder()
                 .withEventType(EVENT_TYPE)
@@ -171,6 +196,12 @@ public class JacksonEvent implements Event {
         return mapper.valueToTree(data);
     }
 
+    /**
+     * Gets the JSON tree of this event. The tree may be shared with copies made by
+     * {@link #fromEventSharingData(JacksonEvent)}, so it must not be modified directly.
+     *
+     * @return the JSON tree of the event data
+     */
     @Override
     public JsonNode getJsonNode() {
         return jsonNode;
@@ -211,7 +242,7 @@ public class JacksonEvent implements Event {
 
         final Deque<String> keys = new LinkedList<>(jacksonEventKey.getKeyPathList());
 
-        JsonNode parentNode = jsonNode;
+        JsonNode parentNode = getWritableRoot();
 
         while (!keys.isEmpty()) {
             if (keys.size() == 1) {
@@ -271,7 +302,7 @@ public class JacksonEvent implements Event {
     private JsonNode getOrCreateNode(final JsonNode node, final String key) {
         JsonNode childNode = node.get(key);
         if (childNode == null) {
-            childNode = mapper.createObjectNode();
+            childNode = createOwnedObjectNode();
             if (node.isArray()) {
                 int index = Integer.parseInt(key);
                 ArrayNode arrayNode = (ArrayNode) node;
@@ -287,19 +318,94 @@ public class JacksonEvent implements Event {
 
                 JsonNode existing = arrayNode.get(index);
                 if (existing == null || !existing.isObject()) {
-                    childNode = mapper.createObjectNode();
+                    childNode = createOwnedObjectNode();
                     arrayNode.set(index, childNode);
                 } else {
-                    childNode = existing;
+                    childNode = getWritableChild(arrayNode, key, existing);
                 }
             } else {
                 ((ObjectNode) node).set(key, childNode);
             }
+        } else {
+            childNode = getWritableChild(node, key, childNode);
         }
 
         return childNode;
     }
 
+    private static Set<JsonNode> newOwnedContainers() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private ObjectNode createOwnedObjectNode() {
+        final ObjectNode objectNode = mapper.createObjectNode();
+        if (ownedContainers != null) {
+            addOwnedContainer(objectNode);
+        }
+        return objectNode;
+    }
+
+    /**
+     * Gets the root node for a modification, first replacing it with a shallow clone if it is shared.
+     */
+    private JsonNode getWritableRoot() {
+        if (ownedContainers != null && !ownedContainers.contains(jsonNode)) {
+            jsonNode = cloneContainer(jsonNode);
+        }
+        return jsonNode;
+    }
+
+    /**
+     * Gets a child of a writable parent for a modification. A shared object or array is replaced in the parent
+     * with a shallow clone, so its own children stay shared until they are modified.
+     */
+    private JsonNode getWritableChild(final JsonNode parentNode, final String key, final JsonNode childNode) {
+        if (ownedContainers == null || !childNode.isContainerNode() || ownedContainers.contains(childNode)) {
+            return childNode;
+        }
+        final JsonNode clonedNode = cloneContainer(childNode);
+        if (parentNode.isArray()) {
+            ((ArrayNode) parentNode).set(Integer.parseInt(key), clonedNode);
+        } else {
+            ((ObjectNode) parentNode).set(key, clonedNode);
+        }
+        return clonedNode;
+    }
+
+    private JsonNode cloneContainer(final JsonNode node) {
+        final JsonNode clonedNode;
+        if (node.isArray()) {
+            clonedNode = mapper.createArrayNode().addAll((ArrayNode) node);
+        } else {
+            clonedNode = mapper.createObjectNode().setAll((ObjectNode) node);
+        }
+        addOwnedContainer(clonedNode);
+        return clonedNode;
+    }
+
+    private void addOwnedContainer(final JsonNode node) {
+        ownedContainers.add(node);
+        dataShareable = false;
+    }
+
+    /**
+     * Gets the node at the pointer for a modification, making each container on the way to it writable.
+     */
+    private JsonNode getWritableNode(final JsonPointer jsonPointer) {
+        if (ownedContainers == null) {
+            return jsonNode.at(jsonPointer);
+        }
+        JsonNode node = getWritableRoot();
+        for (JsonPointer pointer = jsonPointer; !pointer.matches(); pointer = pointer.tail()) {
+            final JsonNode childNode = node.isArray() ? node.path(pointer.getMatchingIndex()) : node.path(pointer.getMatchingProperty());
+            if (childNode.isMissingNode()) {
+                return childNode;
+            }
+            node = getWritableChild(node, pointer.getMatchingProperty(), childNode);
+        }
+        return node;
+    }
+
     @Override
     public <T> T get(EventKey key, Class<T> clazz) {
         JacksonEventKey jacksonEventKey = asJacksonEventKey(key);
@@ -350,6 +456,9 @@ public class JacksonEvent implements Event {
     }
 
     private <T> T mapNodeToObject(final String key, final JsonNode node, final Class<T> clazz) {
+        if (node.isTextual() && (clazz == String.class || clazz == Object.class)) {
+            return clazz.cast(node.textValue());
+        }
         try {
             return mapper.treeToValue(node, clazz);
         } catch (final JsonProcessingException e) {
@@ -416,13 +525,15 @@ public class JacksonEvent implements Event {
         final String trimmedKey = jacksonEventKey.getTrimmedKey();
         final int index = trimmedKey.lastIndexOf(SEPARATOR);
 
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode;
         String leafKey = trimmedKey;
 
         if (index != -1) {
             final JsonPointer jsonPointer = toJsonPointer(trimmedKey.substring(0, index));
-            baseNode = jsonNode.at(jsonPointer);
+            baseNode = getWritableNode(jsonPointer);
             leafKey = trimmedKey.substring(index + 1);
+        } else {
+            baseNode = getWritableRoot();
         }
 
         if (!baseNode.isMissingNode()) {
@@ -445,7 +556,7 @@ public class JacksonEvent implements Event {
     public void clear() {
         // Delete all entries from the event
         Iterator iter = toMap().keySet().iterator();
-        JsonNode baseNode = jsonNode;
+        JsonNode baseNode = getWritableRoot();
         while (iter.hasNext()) {
             ((ObjectNode) baseNode).remove((String)iter.next());
         }
@@ -465,7 +576,7 @@ public class JacksonEvent implements Event {
             throw new UnsupportedOperationException("Unable to merge the Event. The current Event must have object data.");
         }
 
-        ((ObjectNode) jsonNode).setAll(otherObjectNode);
+        ((ObjectNode) getWritableRoot()).setAll(otherObjectNode);
     }
 
     @Override
@@ -542,47 +653,7 @@ public class JacksonEvent implements Event {
 
 
     private String formatStringInternal(final String format, final ExpressionEvaluator expressionEvaluator, final String defaultValue) {
-        int fromIndex = 0;
-        String result = "";
-        int position = 0;
-        while ((position = format.indexOf("${", fromIndex)) != -1) {
-            int endPosition = format.indexOf("}", position + 1);
-            if (endPosition == -1) {
-                throw new RuntimeException("Format string is not properly formed");
-            }
-            result += format.substring(fromIndex, position);
-            String name = format.substring(position + 2, endPosition);
-
-            Object val = null;
-
-            try {
-                val = this.get(name, Object.class);
-            } catch (final Exception ignored) {
-                // Exception likely indicates use of a Data Prepper expression
-            }
-
-            if (val == null) {
-                if (expressionEvaluator != null && expressionEvaluator.isValidExpressionStatement(name)) {
-                    val = expressionEvaluator.evaluate(name, this);
-                } else {
-                    if (defaultValue == null) {
-                        throw new EventKeyNotFoundException(String.format("The key %s could not be found in the Event when formatting", name));
-                    }
-
-                    val = defaultValue;
-                }
-            }
-
-
-            if (Objects.nonNull(val)) {
-                result += val.toString();
-            }
-            fromIndex = endPosition + 1;
-        }
-        if (fromIndex < format.length()) {
-            result += format.substring(fromIndex);
-        }
-        return result;
+        return FormatTemplate.getCached(format, expressionEvaluator).format(this, defaultValue);
     }
 
     @Override
@@ -655,6 +726,43 @@ public class JacksonEvent implements Event {
         return new JsonStringBuilder(this);
     }
 
+    /**
+     * Marks the current data of this event as shared, so that {@link #fromEventSharingData(JacksonEvent)} can copy
+     * it. From then on, this event clones the objects and arrays on the path to a key the first time it puts or
+     * deletes beneath that path instead of modifying them in place.
+     * <p>
+     * This changes how the event modifies its data, so it must be called by the thread which owns the event before
+     * the event is published to any other thread, such as a sink. It does nothing if the data is already marked as
+     * shared and has not been modified since.
+     *
+     * @since 2.17
+     */
+    public void markDataShared() {
+        if (!dataShareable) {
+            ownedContainers = newOwnedContainers();
+            dataShareable = true;
+        }
+    }
+
+    /**
+     * Creates a copy of an event which shares its data with the event instead of copying it. The data of the event
+     * must have been marked with {@link #markDataShared()} and must not have been modified since, so that copying
+     * does not change the event, which may already be in use by another thread. Neither event modifies the shared
+     * data, so changes made to one event are not visible in the other. The copy has its own metadata and a new
+     * {@link EventHandle}.
+     *
+     * @param event the event to copy
+     * @return a new event with the same data and metadata
+     * @throws IllegalStateException if the data of the event is not marked as shared or was modified since
+     * @since 2.17
+     */
+    public static JacksonEvent fromEventSharingData(final JacksonEvent event) {
+        if (!event.dataShareable) {
+            throw new IllegalStateException("The event data must be marked as shared and not modified before it is copied.");
+        }
+        return new JacksonEvent(event, event.jsonNode);
+    }
+
     public static JacksonEvent fromEvent(final Event event) {
         if (event instanceof JacksonEvent) {
             return new JacksonEvent((JacksonEvent) event);
@@ -675,6 +783,7 @@ public class JacksonEvent implements Event {
 
         private EventMetadata eventMetadata;
         protected Object data;
+        private JsonNode jsonNode;
         private String eventType;
         private Instant timeReceived;
         private Map<String, Object> eventMetadataAttributes;
@@ -754,6 +863,24 @@ public class JacksonEvent implements Event {
             return this;
         }
 
+        /**
+         * Sets the data of the event to an existing JSON object. Unlike {@link #withData(Object)}, the node is
+         * not copied. The event takes ownership of it, so the caller must not modify it afterwards. This takes
+         * precedence over {@link #withData(Object)}. Builders which set the data through typed setters, such as
+         * those of spans and metrics, do not support it.
+         *
+         * @param jsonNode the JSON object
+         * @return returns the builder
+         * @since 2.17
+         */
+        public Builder<T> withJsonNode(final JsonNode jsonNode) {
+            if (jsonNode != null && !jsonNode.isObject()) {
+                throw new IllegalArgumentException("The event data must be a JSON object.");
+            }
+            this.jsonNode = jsonNode;
+            return this;
+        }
+
         /**
          * Returns a newly created {@link JacksonEvent}.
          *
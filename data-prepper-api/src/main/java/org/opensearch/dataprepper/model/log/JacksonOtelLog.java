@@ -171,6 +171,20 @@ public class JacksonOtelLog extends JacksonEvent implements OpenTelemetryLog {
             return this;
         }
 
+        /**
+         * Not supported, since the data of a log record is set through the typed setters of this builder and would be
+         * replaced by the node.
+         *
+         * @param jsonNode the JSON object
+         * @return never returns
+         * @throws UnsupportedOperationException always
+         * @since 2.17
+         */
+        @Override
+        public JacksonEvent.Builder<JacksonOtelLog.Builder> withJsonNode(final JsonNode jsonNode) {
+            throw new UnsupportedOperationException("The data of a log record cannot be set from a JSON node.");
+        }
+
         /**
          * Optional - sets the attributes for this event. Default is an empty map.
          *
@@ -172,6 +172,20 @@ public abstract class JacksonMetric extends JacksonEvent implements Metric {
                 mdata.put(key, value);
         }
 
+        /**
+         * Not supported, since the data of a metric is set through the typed setters of this builder and would be
+         * replaced by the node.
+         *
+         * @param jsonNode the JSON object
+         * @return never returns
+         * @throws UnsupportedOperationException always
+         * @since 2.17
+         */
+        @Override
+        public JacksonEvent.Builder<T> withJsonNode(final JsonNode jsonNode) {
+            throw new UnsupportedOperationException("The data of a metric cannot be set from a JSON node.");
+        }
+
         /**
          * Sets the kind of the event. One of {@link Metric.KIND}
          * @param kind the kind of this event
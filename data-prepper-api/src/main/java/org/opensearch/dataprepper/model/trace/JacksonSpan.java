@@ -295,6 +295,20 @@ public class JacksonSpan extends JacksonEvent implements Span {
             return this;
         }
 
+        /**
+         * Not supported, since the data of a span is set through the typed setters of this builder and would be
+         * replaced by the node.
+         *
+         * @param jsonNode the JSON object
+         * @return never returns
+         * @throws UnsupportedOperationException always
+         * @since 2.17
+         */
+        @Override
+        public JacksonEvent.Builder<Builder> withJsonNode(final JsonNode jsonNode) {
+            throw new UnsupportedOperationException("The data of a span cannot be set from a JSON node.");
+        }
+
         /**
          * Sets the data of the event.
          *
@@ -34,11 +34,14 @@ import java.util.Map;
 import java.util.Queue;
 import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.mockito.Mockito.mock;
 import static org.hamcrest.CoreMatchers.sameInstance;
@@ -215,6 +218,31 @@ public class AbstractBufferTest {
         assertThat(timeoutMeasurements.get(0).getValue(), equalTo(1.0));
     }
 
+    @Test
+    void writeBytesAsync_writes_with_doWriteBytes_by_default() throws Exception {
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferWithDoWriteBytes(testPluginSetting);
+
+        final CompletableFuture<Void> writeFuture = abstractBuffer.writeBytesAsync(new byte[2], "", 1_000);
+
+        assertThat(writeFuture.isDone(), equalTo(true));
+        final List<Measurement> writeTimeMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIME_ELAPSED).toString());
+        assertThat(MetricsTestUtil.getMeasurementFromList(writeTimeMeasurements, Statistic.COUNT).getValue(), closeTo(1.0, 0));
+    }
+
+    @Test
+    void writeBytesAsync_records_writeTimeoutCounter_on_timeout() {
+        final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferWithTimeoutDoWriteBytes(testPluginSetting);
+
+        final CompletableFuture<Void> writeFuture = abstractBuffer.writeBytesAsync(new byte[2], "", 1);
+
+        final ExecutionException actualException = assertThrows(ExecutionException.class, writeFuture::get);
+        assertThat(actualException.getCause(), instanceOf(TimeoutException.class));
+        final List<Measurement> timeoutMeasurements = MetricsTestUtil.getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(PIPELINE_NAME).add(BUFFER_NAME).add(MetricNames.WRITE_TIMEOUTS).toString());
+        assertThat(timeoutMeasurements.get(0).getValue(), equalTo(1.0));
+    }
+
     @Test
     void doWriteBytes_throws_by_default() {
         final AbstractBuffer<Record<String>> abstractBuffer = new AbstractBufferTimeoutImpl(testPluginSetting);
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
@@ -124,6 +125,17 @@ class DelegatingBufferTest {
         verify(innerBuffer).writeBytes(bytesToWrite, key, timeoutInMillis);
     }
 
+    @Test
+    void writeBytesAsync_returns_inner_writeBytesAsync() {
+        final byte[] bytesToWrite = new byte[64];
+        random.nextBytes(bytesToWrite);
+        final String key = UUID.randomUUID().toString();
+        final CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+        when(innerBuffer.writeBytesAsync(bytesToWrite, key, timeoutInMillis)).thenReturn(writeFuture);
+
+        assertThat(createObjectUnderTest().writeBytesAsync(bytesToWrite, key, timeoutInMillis), sameInstance(writeFuture));
+    }
+
     @ParameterizedTest
     @ValueSource(classes = {Exception.class, RuntimeException.class, TimeoutException.class})
     void writeBytes_throws_exceptions_from_inner_writeBytes(final Class<Throwable> exceptionType) throws Exception {
@@ -0,0 +1,190 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.model.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.expression.ExpressionEvaluator;
+import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FormatTemplateTest {
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of(
+                        "foo", "bar",
+                        "number", 123,
+                        "info", Map.of("ids", Map.of("id", "idx")),
+                        "list", List.of(1, 2)))
+                .build();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "test-${foo}-string, test-bar-string",
+            "${info/ids/id}-${foo}, idx-bar",
+            "${/info/ids/id}, idx",
+            "${number}, 123",
+            "${list}, '[1, 2]'",
+            "prefix-${foo}, prefix-bar",
+            "${foo}${foo}, barbar"
+    })
+    void format_renders_keys_like_formatString(final String format, final String expected) {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile(format);
+
+        assertThat(objectUnderTest.format(event), equalTo(expected));
+        assertThat(objectUnderTest.format(event), equalTo(event.formatString(format)));
+        assertThat(objectUnderTest.isConstant(), equalTo(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "logs-%{yyyy.MM.dd}", "no placeholders"})
+    void constant_template_returns_the_format(final String format) {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile(format);
+
+        assertThat(objectUnderTest.isConstant(), equalTo(true));
+        assertThat(objectUnderTest.format(event), sameInstance(format));
+        assertThat(objectUnderTest.getFormat(), equalTo(format));
+    }
+
+    @Test
+    void format_with_missing_key_throws_EventKeyNotFoundException() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${missing}-test");
+
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.format(event));
+    }
+
+    @Test
+    void format_with_missing_key_uses_default_value() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${missing}-${foo}");
+
+        assertThat(objectUnderTest.format(event, "default"), equalTo("default-bar"));
+    }
+
+    @Test
+    void format_with_unclosed_placeholder_throws() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("test-${foo");
+
+        final RuntimeException exception = assertThrows(RuntimeException.class, () -> objectUnderTest.format(event));
+        assertThat(exception.getMessage(), equalTo("Format string is not properly formed"));
+    }
+
+    @Test
+    void format_evaluates_expressions_which_are_not_keys() {
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        final String expression = "getMetadata(\"key\")";
+        final String result = UUID.randomUUID().toString();
+        when(expressionEvaluator.isValidExpressionStatement(expression)).thenReturn(true);
+        when(expressionEvaluator.evaluate(expression, event)).thenReturn(result);
+
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${foo}-${" + expression + "}", expressionEvaluator);
+
+        assertThat(objectUnderTest.format(event), equalTo("bar-" + result));
+        assertThat(objectUnderTest.format(event), equalTo("bar-" + result));
+        verify(expressionEvaluator, never()).isValidExpressionStatement("foo");
+        verify(expressionEvaluator, times(1)).isValidExpressionStatement(expression);
+    }
+
+    @Test
+    void format_with_invalid_expression_and_missing_key_uses_default_value() {
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        when(expressionEvaluator.isValidExpressionStatement(anyString())).thenReturn(false);
+
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${missing}", expressionEvaluator);
+
+        assertThat(objectUnderTest.format(event, ""), equalTo(""));
+        assertThrows(EventKeyNotFoundException.class, () -> objectUnderTest.format(event));
+    }
+
+    @Test
+    void format_with_builder_reuses_the_builder() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${foo}-${number}");
+        final StringBuilder builder = new StringBuilder("leftover");
+
+        assertThat(objectUnderTest.format(builder, event, null), equalTo("bar-123"));
+        assertThat(objectUnderTest.format(builder, event, null), equalTo("bar-123"));
+    }
+
+    @Test
+    void appendTo_appends_to_the_builder() {
+        final FormatTemplate objectUnderTest = FormatTemplate.compile("${foo}");
+        final StringBuilder builder = new StringBuilder("prefix-");
+
+        objectUnderTest.appendTo(builder, event, null);
+
+        assertThat(builder.toString(), equalTo("prefix-bar"));
+    }
+
+    @Test
+    void compile_with_null_format_throws() {
+        assertThrows(NullPointerException.class, () -> FormatTemplate.compile(null));
+    }
+
+    @Test
+    void getCached_returns_same_template_for_same_format_and_evaluator() {
+        final ExpressionEvaluator expressionEvaluator = mock(ExpressionEvaluator.class);
+        final String format = "${foo}-" + UUID.randomUUID();
+
+        final FormatTemplate template = FormatTemplate.getCached(format, expressionEvaluator);
+
+        assertThat(template.getFormat(), equalTo(format));
+        assertThat(FormatTemplate.getCached(format, expressionEvaluator), sameInstance(template));
+    }
+
+    @Test
+    void getCached_compiles_template_for_different_evaluator() {
+        final String format = "${foo}-" + UUID.randomUUID();
+        final FormatTemplate template = FormatTemplate.getCached(format, mock(ExpressionEvaluator.class));
+
+        final FormatTemplate otherTemplate = FormatTemplate.getCached(format, mock(ExpressionEvaluator.class));
+
+        assertThat(otherTemplate, not(sameInstance(template)));
+        assertThat(FormatTemplate.getCached(format, null), not(sameInstance(otherTemplate)));
+    }
+
+    @Test
+    void getCached_clears_cache_when_full() {
+        final String format = "${foo}-" + UUID.randomUUID();
+        final FormatTemplate template = FormatTemplate.getCached(format, null);
+
+        for (int i = 0; i < FormatTemplate.MAX_CACHED_TEMPLATES; i++) {
+            FormatTemplate.getCached("${foo}-" + i + "-" + UUID.randomUUID(), null);
+        }
+
+        assertThat(FormatTemplate.getCached(format, null), not(sameInstance(template)));
+    }
+
+    @Test
+    void getCached_with_null_format_throws() {
+        assertThrows(NullPointerException.class, () -> FormatTemplate.getCached(null, null));
+    }
+}
@@ -9,6 +9,8 @@
 
 package org.opensearch.dataprepper.model.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -1018,6 +1020,26 @@ public class JacksonEventTest {
         assertThat(event.get("field1", String.class), is(equalTo(value)));
     }
 
+    @Test
+    public void testBuild_withJsonNode_uses_node_without_copy() {
+        final ObjectNode jsonNode = new ObjectMapper().createObjectNode().put("foo", "bar");
+
+        event = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withJsonNode(jsonNode)
+                .getThis()
+                .build();
+
+        assertThat(event.getJsonNode(), sameInstance(jsonNode));
+        assertThat(event.get("foo", String.class), is(equalTo("bar")));
+    }
+
+    @Test
+    public void testBuild_withJsonNode_that_is_not_an_object_throws() {
+        final JacksonEvent.Builder<?> builder = JacksonEvent.builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.withJsonNode(new ObjectMapper().createArrayNode()));
+    }
+
     @Test
     public void testBuild_withStringData() {
 
@@ -1230,6 +1252,154 @@ public class JacksonEventTest {
         assertThat(createdEvent.getMetadata(), equalTo(eventMetadata));
     }
 
+    @Test
+    void fromEventSharingData_shares_data_and_copies_metadata() {
+        final Map<String, Object> dataObject = createComplexDataMap();
+
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(dataObject)
+                .build();
+
+        originalEvent.markDataShared();
+        final JacksonEvent createdEvent = JacksonEvent.fromEventSharingData(originalEvent);
+
+        assertThat(createdEvent, notNullValue());
+        assertThat(createdEvent, not(sameInstance(originalEvent)));
+        assertThat(createdEvent.toMap(), equalTo(dataObject));
+        assertThat(createdEvent.getJsonNode(), sameInstance(originalEvent.getJsonNode()));
+
+        assertThat(createdEvent.getEventHandle(), instanceOf(DefaultEventHandle.class));
+        assertThat(createdEvent.getEventHandle(), not(sameInstance(originalEvent.getEventHandle())));
+        assertThat(createdEvent.getMetadata(), not(sameInstance(originalEvent.getMetadata())));
+        assertThat(createdEvent.getMetadata(), equalTo(originalEvent.getMetadata()));
+    }
+
+    @Test
+    void fromEventSharingData_isolates_nested_puts_in_both_events() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("outer", Map.of("inner", "value", "other", Map.of("leaf", 1))))
+                .build();
+
+        originalEvent.markDataShared();
+        final JacksonEvent createdEvent = JacksonEvent.fromEventSharingData(originalEvent);
+        createdEvent.put("outer/inner", "copy");
+        createdEvent.put("outer/new/key", "added");
+        originalEvent.put("outer/inner", "original");
+
+        assertThat(createdEvent.get("outer/inner", String.class), equalTo("copy"));
+        assertThat(createdEvent.get("outer/new/key", String.class), equalTo("added"));
+        assertThat(originalEvent.get("outer/inner", String.class), equalTo("original"));
+        assertThat(originalEvent.containsKey("outer/new"), equalTo(false));
+        assertThat(createdEvent.getJsonNode().at("/outer/other"), sameInstance(originalEvent.getJsonNode().at("/outer/other")));
+    }
+
+    @Test
+    void fromEventSharingData_isolates_deletes_in_both_events() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("outer", Map.of("inner", "value"), "top", "value"))
+                .build();
+
+        originalEvent.markDataShared();
+        final JacksonEvent createdEvent = JacksonEvent.fromEventSharingData(originalEvent);
+        createdEvent.delete("outer/inner");
+        originalEvent.delete("top");
+
+        assertThat(createdEvent.containsKey("outer/inner"), equalTo(false));
+        assertThat(createdEvent.get("top", String.class), equalTo("value"));
+        assertThat(originalEvent.get("outer/inner", String.class), equalTo("value"));
+        assertThat(originalEvent.containsKey("top"), equalTo(false));
+    }
+
+    @Test
+    void fromEventSharingData_isolates_changes_to_arrays() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("list", List.of(Map.of("key", "value"), Map.of("key", "second"))))
+                .build();
+
+        originalEvent.markDataShared();
+        final JacksonEvent createdEvent = JacksonEvent.fromEventSharingData(originalEvent);
+        createdEvent.put("list/0/key", "copy");
+        originalEvent.delete("list/1/key");
+
+        assertThat(createdEvent.get("list/0/key", String.class), equalTo("copy"));
+        assertThat(createdEvent.get("list/1/key", String.class), equalTo("second"));
+        assertThat(originalEvent.get("list/0/key", String.class), equalTo("value"));
+        assertThat(originalEvent.containsKey("list/1/key"), equalTo(false));
+    }
+
+    @Test
+    void fromEventSharingData_isolates_clear_and_merge() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("key", "value"))
+                .build();
+        final JacksonEvent otherEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("merged", "value"))
+                .build();
+
+        originalEvent.markDataShared();
+        final JacksonEvent createdEvent = JacksonEvent.fromEventSharingData(originalEvent);
+        createdEvent.merge(otherEvent);
+        originalEvent.clear();
+
+        assertThat(createdEvent.toMap(), equalTo(Map.of("key", "value", "merged", "value")));
+        assertThat(originalEvent.toMap(), equalTo(Collections.emptyMap()));
+    }
+
+    @Test
+    void fromEventSharingData_throws_if_data_is_not_marked_as_shared() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("key", "value"))
+                .build();
+
+        assertThrows(IllegalStateException.class, () -> JacksonEvent.fromEventSharingData(originalEvent));
+    }
+
+    @Test
+    void fromEventSharingData_throws_if_data_was_modified_after_it_was_marked_as_shared() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("key", "value"))
+                .build();
+        originalEvent.markDataShared();
+        JacksonEvent.fromEventSharingData(originalEvent);
+        originalEvent.put("new/key", "value");
+
+        assertThrows(IllegalStateException.class, () -> JacksonEvent.fromEventSharingData(originalEvent));
+
+        originalEvent.markDataShared();
+        final JacksonEvent createdEvent = JacksonEvent.fromEventSharingData(originalEvent);
+        assertThat(createdEvent.get("new/key", String.class), equalTo("value"));
+    }
+
+    @Test
+    void fromEventSharingData_does_not_change_the_source_event() {
+        final JacksonEvent originalEvent = JacksonEvent.builder()
+                .withEventType(eventType)
+                .withData(Map.of("outer", Map.of("inner", "value")))
+                .build();
+        originalEvent.markDataShared();
+        final JacksonEvent firstCopy = JacksonEvent.fromEventSharingData(originalEvent);
+        final JacksonEvent secondCopy = JacksonEvent.fromEventSharingData(originalEvent);
+        originalEvent.markDataShared();
+        final JacksonEvent copyOfCopy = JacksonEvent.fromEventSharingData(firstCopy);
+
+        originalEvent.put("outer/inner", "original");
+        firstCopy.put("outer/inner", "first");
+
+        assertThat(originalEvent.get("outer/inner", String.class), equalTo("original"));
+        assertThat(firstCopy.get("outer/inner", String.class), equalTo("first"));
+        assertThat(secondCopy.get("outer/inner", String.class), equalTo("value"));
+        assertThat(copyOfCopy.get("outer/inner", String.class), equalTo("value"));
+        assertThat(secondCopy.getJsonNode(), sameInstance(copyOfCopy.getJsonNode()));
+    }
+
     @Test
     void testJsonStringBuilder() {
         final String jsonString = "{\"foo\":\"bar\"}";
@@ -9,6 +9,7 @@
 
 package org.opensearch.dataprepper.model.log;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import io.micrometer.core.instrument.util.IOUtils;
 import org.json.JSONException;
@@ -77,6 +78,11 @@ public class JacksonOtelLogTest {
         log = builder.build();
     }
 
+    @Test
+    public void testWithJsonNode_throwsUnsupportedOperationException() {
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> builder.withJsonNode(new ObjectMapper().createObjectNode()));
+    }
+
     @Test
     public void testGetTime() {
         final String time = log.getTime();
@@ -9,6 +9,7 @@
 
 package org.opensearch.dataprepper.model.metric;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.ImmutableMap;
 import io.micrometer.core.instrument.util.IOUtils;
 import org.json.JSONException;
@@ -98,6 +99,11 @@ class JacksonGaugeTest {
         );
     }
 
+    @Test
+    public void testWithJsonNode_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> builder.withJsonNode(new ObjectMapper().createObjectNode()));
+    }
+
     @Test
     public void testGetName() {
         final String name = gauge.getName();
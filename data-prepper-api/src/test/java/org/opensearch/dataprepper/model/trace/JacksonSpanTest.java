@@ -600,6 +600,13 @@ public class JacksonSpanTest {
             assertThat(jacksonSpan.getEndTime(), equalTo("1970-01-01T00:00:00Z"));
         }
 
+        @Test
+        void testBuilder_withJsonNode_throwsUnsupportedOperationException() {
+            final JacksonSpan.Builder builder = JacksonSpan.builder();
+
+            assertThrows(UnsupportedOperationException.class, () -> builder.withJsonNode(new ObjectMapper().createObjectNode()));
+        }
+
         @Test
         void testBuilder_withJsonData_missingTraceGroupKey_throwsIllegalStateException() {
             final String object = "{\"traceId\": \"414243\"}";
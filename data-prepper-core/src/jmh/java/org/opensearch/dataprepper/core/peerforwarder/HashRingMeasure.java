@@ -0,0 +1,90 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import com.linecorp.armeria.client.Endpoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public class HashRingMeasure {
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object getServerIp(final BenchmarkState benchmarkState) {
+        final List<String> identificationKeyValues = benchmarkState.identificationKeyValues[benchmarkState.nextKey++ & (BenchmarkState.KEY_COUNT - 1)];
+        return benchmarkState.hashRing.getServerIp(identificationKeyValues);
+    }
+
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        private static final int KEY_COUNT = 1024;
+
+        @Param({"MD5", "MURMUR3", "RENDEZVOUS"})
+        private PeerHashStrategy peerHashStrategy;
+
+        @Param({"3", "20"})
+        private int peerCount;
+
+        private HashRing hashRing;
+        private List<String>[] identificationKeyValues;
+        private int nextKey;
+
+        @Setup
+        @SuppressWarnings("unchecked")
+        public void setUp() {
+            final List<String> peers = new ArrayList<>();
+            for (int i = 0; i < peerCount; i++) {
+                peers.add("10.10.0." + i);
+            }
+            hashRing = new HashRing(new FixedPeerListProvider(peers), PeerForwarderClientFactory.NUM_VIRTUAL_NODES, peerHashStrategy);
+
+            identificationKeyValues = new List[KEY_COUNT];
+            for (int i = 0; i < KEY_COUNT; i++) {
+                identificationKeyValues[i] = List.of(UUID.randomUUID().toString().replace("-", ""), "service-" + (i % 10));
+            }
+        }
+    }
+
+    private static class FixedPeerListProvider implements PeerListProvider {
+        private final List<String> peers;
+
+        private FixedPeerListProvider(final List<String> peers) {
+            this.peers = peers;
+        }
+
+        @Override
+        public List<String> getPeerList() {
+            return peers;
+        }
+
+        @Override
+        public void addListener(final Consumer<? super List<Endpoint>> listener) {
+        }
+
+        @Override
+        public void removeListener(final Consumer<?> listener) {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class PeerForwarderCodecMeasure {
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public byte[] serialize(final BenchmarkState benchmarkState) throws Exception {
+        return benchmarkState.codec.serialize(benchmarkState.peerForwardingEvents);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public PeerForwardingEvents deserialize(final BenchmarkState benchmarkState) throws Exception {
+        return benchmarkState.codec.deserialize(benchmarkState.serializedEvents);
+    }
+
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        private static final int EVENT_COUNT = 1500;
+
+        @Param({"java", "json", "smile", "smile_lz4"})
+        private String codecName;
+
+        private PeerForwarderCodec codec;
+        private PeerForwardingEvents peerForwardingEvents;
+        private byte[] serializedEvents;
+
+        @Setup
+        public void setUp() throws Exception {
+            final PeerForwarderCodecAppConfig appConfig = new PeerForwarderCodecAppConfig();
+            final ObjectMapper smileObjectMapper = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+            switch (codecName) {
+                case "java":
+                    codec = new JavaPeerForwarderCodec(appConfig.objectInputFilter(new PeerForwarderConfiguration()));
+                    break;
+                case "json":
+                    codec = new JacksonPeerForwarderCodec(appConfig.objectMapper());
+                    break;
+                case "smile":
+                    codec = new SmilePeerForwarderCodec(smileObjectMapper, PeerForwarderCodecCompression.NONE);
+                    break;
+                case "smile_lz4":
+                    codec = new SmilePeerForwarderCodec(smileObjectMapper, PeerForwarderCodecCompression.LZ4);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown codec: " + codecName);
+            }
+
+            final List<Event> events = new ArrayList<>(EVENT_COUNT);
+            for (int i = 0; i < EVENT_COUNT; i++) {
+                events.add(JacksonLog.builder()
+                        .withData(Map.of(
+                                "traceId", UUID.randomUUID().toString(),
+                                "status", 200 + i % 5,
+                                "durationInNanos", 1_000_000L + i,
+                                "message", "GET /index.html HTTP/1.1 request " + i,
+                                "attributes", Map.of("service.name", "frontend", "http.method", "GET")))
+                        .build());
+            }
+            peerForwardingEvents = new PeerForwardingEvents(events, "aggregate", "log-pipeline");
+            serializedEvents = codec.serialize(peerForwardingEvents);
+        }
+    }
+}
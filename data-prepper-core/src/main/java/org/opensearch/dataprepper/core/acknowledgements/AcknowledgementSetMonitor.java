@@ -9,36 +9,55 @@
 
 package org.opensearch.dataprepper.core.acknowledgements;
 
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
+
 /**
  * AcknowledgementSetMonitor - monitors the acknowledgement sets for completion/expiration
  * <p>
  * Every acknowledgement set must complete (ie get acknowledgements from all the events in it)
  * by a specified time. If it is not completed, then it is considered 'expired' and it is
- * cleaned up. The 'run' method is invoked periodically to cleanup the acknowledgement sets
- * that are either completed or expired.
+ * cleaned up. Sets whose callback has run are removed as soon as they report it through
+ * {@link #complete(AcknowledgementSet)}. The remaining sets are placed on a hashed timer wheel by
+ * their expiry time, and the 'run' method, which is invoked periodically, only checks the sets
+ * in the buckets whose time has passed. None of these operations take a lock.
  */
 class AcknowledgementSetMonitor implements Runnable {
-    private static final Logger LOG = LoggerFactory.getLogger(AcknowledgementSetMonitor.class);
-    private final Set<AcknowledgementSet> acknowledgementSets;
-    private final ReentrantLock lock;
+    static final Duration TICK_DURATION = Duration.ofMillis(100);
+    static final int WHEEL_SIZE = 1024;
+    private final Map<AcknowledgementSet, TimerEntry> acknowledgementSets;
+    private final Queue<TimerEntry>[] wheel;
+    private final Clock clock;
+    private final long tickMillis;
+    private final Timer sweepLatencyTimer;
+    private volatile long processedTick;
     private final AtomicInteger numInvalidAcquires;
     private final AtomicInteger numInvalidReleases;
-    private final AtomicInteger numNullHandles;
 
-    public AcknowledgementSetMonitor() {
-        this.acknowledgementSets = new HashSet<>();
-        this.lock = new ReentrantLock(true);
+    @SuppressWarnings("unchecked")
+    AcknowledgementSetMonitor(final Clock clock, final Timer sweepLatencyTimer) {
+        this.clock = Objects.requireNonNull(clock);
+        this.sweepLatencyTimer = Objects.requireNonNull(sweepLatencyTimer);
+        this.acknowledgementSets = new ConcurrentHashMap<>();
+        this.tickMillis = TICK_DURATION.toMillis();
+        this.wheel = new Queue[WHEEL_SIZE];
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.processedTick = toTick(clock.millis());
         this.numInvalidAcquires = new AtomicInteger(0);
         this.numInvalidReleases = new AtomicInteger(0);
-        this.numNullHandles = new AtomicInteger(0);
     }
 
     public int getNumInvalidAcquires() {
@@ -50,33 +69,88 @@ class AcknowledgementSetMonitor implements Runnable {
     }
 
     public void add(final AcknowledgementSet acknowledgementSet) {
-        lock.lock();
-        try {
-            acknowledgementSets.add(acknowledgementSet);
-        } finally {
-            lock.unlock();
-        }
+        final TimerEntry timerEntry = new TimerEntry((DefaultAcknowledgementSet) acknowledgementSet);
+        acknowledgementSets.put(acknowledgementSet, timerEntry);
+        schedule(timerEntry, deadlineTick(timerEntry.acknowledgementSet.getExpiryTime(), processedTick));
     }
 
     /**
-     * for testing
-     * @return the size
+     * Removes an acknowledgement set whose callback has run, without waiting for its expiry.
+     *
+     * @param acknowledgementSet the acknowledgement set
      */
+    void complete(final AcknowledgementSet acknowledgementSet) {
+        final TimerEntry timerEntry = acknowledgementSets.remove(acknowledgementSet);
+        if (timerEntry != null) {
+            timerEntry.acknowledgementSet = null;
+        }
+    }
+
     int getSize() {
         return acknowledgementSets.size();
     }
 
     @Override
     public void run() {
-        lock.lock();
-        try {
-            if (acknowledgementSets.size() > 0) {
-                acknowledgementSets.removeIf((ackSet) -> ((DefaultAcknowledgementSet) ackSet).isDone());
+        final long startTime = System.nanoTime();
+        final long currentTick = toTick(clock.millis());
+        // Each bucket needs to be visited at most once, even if the monitor fell behind by more than a full turn
+        final long firstTick = Math.max(processedTick + 1, currentTick - WHEEL_SIZE + 1);
+        for (long tick = firstTick; tick <= currentTick; tick++) {
+            expireBucket(wheel[bucketIndex(tick)], currentTick);
+        }
+        processedTick = Math.max(processedTick, currentTick);
+        sweepLatencyTimer.record(Duration.ofNanos(System.nanoTime() - startTime));
+    }
+
+    private void expireBucket(final Queue<TimerEntry> bucket, final long currentTick) {
+        final Iterator<TimerEntry> iterator = bucket.iterator();
+        while (iterator.hasNext()) {
+            final TimerEntry timerEntry = iterator.next();
+            final DefaultAcknowledgementSet acknowledgementSet = timerEntry.acknowledgementSet;
+            if (acknowledgementSet == null) {
+                iterator.remove();
+                continue;
             }
-            Thread.sleep(1000);
-        } catch (InterruptedException e) {
-        } finally {
-            lock.unlock();
+            if (timerEntry.deadlineTick > currentTick) {
+                continue;
+            }
+            iterator.remove();
+            if (acknowledgementSet.isDone()) {
+                acknowledgementSets.remove(acknowledgementSet, timerEntry);
+            } else {
+                // Either the expiry was increased or the expiry callback is still pending
+                schedule(timerEntry, deadlineTick(acknowledgementSet.getExpiryTime(), currentTick));
+            }
+        }
+    }
+
+    private void schedule(final TimerEntry timerEntry, final long deadlineTick) {
+        timerEntry.deadlineTick = deadlineTick;
+        wheel[bucketIndex(deadlineTick)].add(timerEntry);
+    }
+
+    private long deadlineTick(final Instant expiryTime, final long afterTick) {
+        if (expiryTime == null) {
+            return afterTick + 1;
+        }
+        return Math.max(toTick(expiryTime.toEpochMilli()) + 1, afterTick + 1);
+    }
+
+    private long toTick(final long epochMillis) {
+        return Math.floorDiv(epochMillis, tickMillis);
+    }
+
+    private static int bucketIndex(final long tick) {
+        return (int) Math.floorMod(tick, (long) WHEEL_SIZE);
+    }
+
+    private static class TimerEntry {
+        private volatile DefaultAcknowledgementSet acknowledgementSet;
+        private volatile long deadlineTick;
+
+        private TimerEntry(final DefaultAcknowledgementSet acknowledgementSet) {
+            this.acknowledgementSet = acknowledgementSet;
         }
     }
 }
@@ -18,33 +18,43 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
+/**
+ * Tracks the acknowledgements of the events in a set without locking. Each event handle has its own reference
+ * count, and the set keeps a single atomic state holding the number of event handles with outstanding
+ * references plus one token which is released by {@link #complete()}. The callback is submitted by
+ * whichever thread brings that state to zero.
+ */
 public class DefaultAcknowledgementSet implements AcknowledgementSet {
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAcknowledgementSet.class);
+    private static final long NOT_COMPLETED = 1L << 32;
+    private static final long PENDING_HANDLES_MASK = NOT_COMPLETED - 1;
     private final Consumer<Boolean> callback;
-    private Consumer<ProgressCheck> progressCheckCallback;
-    private Instant expiryTime;
+    private volatile Consumer<ProgressCheck> progressCheckCallback;
+    private volatile Instant expiryTime;
     private final ScheduledExecutorService scheduledExecutor;
-    // This lock protects all the non-final members
-    private final ReentrantLock lock;
-    private boolean result;
+    private volatile boolean result;
     private final Map<EventHandle, AtomicInteger> pendingAcknowledgments;
-    private Future<?> callbackFuture;
+    private final AtomicLong state;
+    private volatile Future<?> callbackFuture;
     private final DefaultAcknowledgementSetMetrics metrics;
-    private ScheduledFuture<?> progressCheckFuture;
-    private boolean completed;
-    private boolean expired;
-    private AtomicInteger totalEventsAdded;
+    private volatile ScheduledFuture<?> progressCheckFuture;
+    private final AtomicBoolean completed;
+    private final AtomicBoolean expired;
+    private final AtomicBoolean callbackSubmitted;
+    private final AtomicInteger totalEventsAdded;
     private final boolean invokeCallbackOnExpiry;
+    private final Consumer<DefaultAcknowledgementSet> callbackCompletionListener;
 
     public DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
                                      final Consumer<Boolean> callback,
@@ -57,6 +67,15 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
                                      final Duration expiryTime,
                                      final DefaultAcknowledgementSetMetrics metrics,
                                      final boolean invokeCallbackOnExpiry) {
+        this(scheduledExecutor, callback, expiryTime, metrics, invokeCallbackOnExpiry, acknowledgementSet -> { });
+    }
+
+    DefaultAcknowledgementSet(final ScheduledExecutorService scheduledExecutor,
+                              final Consumer<Boolean> callback,
+                              final Duration expiryTime,
+                              final DefaultAcknowledgementSetMetrics metrics,
+                              final boolean invokeCallbackOnExpiry,
+                              final Consumer<DefaultAcknowledgementSet> callbackCompletionListener) {
         this.callback = callback;
         this.result = true;
         this.totalEventsAdded = new AtomicInteger(0);
@@ -64,12 +83,14 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
         this.expiryTime = Instant.now().plusMillis(expiryTime.toMillis());
         this.callbackFuture = null;
         this.metrics = metrics;
-        this.expired = false;
+        this.expired = new AtomicBoolean(false);
         this.invokeCallbackOnExpiry = invokeCallbackOnExpiry;
-        this.completed = false;
+        this.completed = new AtomicBoolean(false);
+        this.callbackSubmitted = new AtomicBoolean(false);
         this.progressCheckCallback = null;
-        pendingAcknowledgments = new HashMap<>();
-        lock = new ReentrantLock(true);
+        this.callbackCompletionListener = callbackCompletionListener;
+        pendingAcknowledgments = new ConcurrentHashMap<>();
+        state = new AtomicLong(NOT_COMPLETED);
     }
 
     public void addProgressCheck(final Consumer<ProgressCheck> progressCheckCallback, final Duration progressCheckInterval) {
@@ -99,9 +120,8 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
     }
 
     public void checkProgress() {
-        lock.lock();
-        int numberOfEventsPending = pendingAcknowledgments.size();
-        lock.unlock();
+        final long numberOfEventsPending = state.get() & PENDING_HANDLES_MASK;
+        final Consumer<ProgressCheck> progressCheckCallback = this.progressCheckCallback;
         if (progressCheckCallback != null) {
             progressCheckCallback.accept(new DefaultProgressCheck((double)numberOfEventsPending/totalEventsAdded.get()));
         }
@@ -109,59 +129,52 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void add(EventHandle eventHandle) {
-        lock.lock();
-        try {
-            InternalEventHandle internalEventHandle = (InternalEventHandle)eventHandle;
-            internalEventHandle.addAcknowledgementSet(this);
-            pendingAcknowledgments.put(eventHandle, new AtomicInteger(1));
-            totalEventsAdded.incrementAndGet();
-        } finally {
-            lock.unlock();
+        InternalEventHandle internalEventHandle = (InternalEventHandle)eventHandle;
+        internalEventHandle.addAcknowledgementSet(this);
+        final AtomicInteger references = new AtomicInteger(1);
+        while (true) {
+            final AtomicInteger existingReferences = pendingAcknowledgments.putIfAbsent(eventHandle, references);
+            if (existingReferences == null) {
+                state.incrementAndGet();
+                break;
+            }
+            if (acquireReference(existingReferences)) {
+                break;
+            }
+            // The handle was released concurrently and is being removed
+            pendingAcknowledgments.remove(eventHandle, existingReferences);
         }
+        totalEventsAdded.incrementAndGet();
     }
 
     public void acquire(final EventHandle eventHandle) {
-        lock.lock();
-        try {
-            if (!pendingAcknowledgments.containsKey(eventHandle)) {
-                LOG.warn("Unexpected event handle acquire");
-                metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
-                return;
-            }
-            pendingAcknowledgments.get(eventHandle).incrementAndGet();
-        } finally {
-            lock.unlock();
+        final AtomicInteger references = pendingAcknowledgments.get(eventHandle);
+        if (references == null || !acquireReference(references)) {
+            LOG.warn("Unexpected event handle acquire");
+            metrics.increment(DefaultAcknowledgementSetMetrics.INVALID_ACQUIRES_METRIC_NAME);
         }
     }
 
     public boolean isDone() {
-        lock.lock();
-        try {
-            if (callbackFuture != null && callbackFuture.isDone()) {
-                if (!expired) {
-                    metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
-                }
-                return true;
+        final Future<?> currentCallbackFuture = callbackFuture;
+        if (currentCallbackFuture != null && currentCallbackFuture.isDone()) {
+            return true;
+        }
+        if (Instant.now().isAfter(expiryTime) && expired.compareAndSet(false, true)) {
+            if (progressCheckFuture != null) {
+                progressCheckFuture.cancel(false);
             }
-            if (!expired && Instant.now().isAfter(expiryTime)) {
-                expired = true;
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
-                if (invokeCallbackOnExpiry) {
-                    result = false;
-                    callbackFuture = scheduledExecutor.submit(() -> callback.accept(result));
-                    return false;
-                } else if (callbackFuture != null) {
-                    callbackFuture.cancel(true);
-                    callbackFuture = null;
-                    LOG.warn("AcknowledgementSet expired");
-                }
-                return true;
+            metrics.increment(DefaultAcknowledgementSetMetrics.EXPIRED_METRIC_NAME);
+            if (invokeCallbackOnExpiry) {
+                result = false;
+                submitCallback();
+                return false;
+            } else if (currentCallbackFuture != null) {
+                currentCallbackFuture.cancel(true);
+                callbackFuture = null;
+                LOG.warn("AcknowledgementSet expired");
             }
-        } finally {
-            lock.unlock();
+            return true;
         }
         return false;
     }
@@ -172,47 +185,79 @@ public class DefaultAcknowledgementSet implements AcknowledgementSet {
 
     @Override
     public void complete() {
-        lock.lock();
-        try {
-            completed = true;
-            if (pendingAcknowledgments.size() == 0) {
-                if (progressCheckFuture != null) {
-                    progressCheckFuture.cancel(false);
-                }
-                callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-            }
-        } finally {
-            lock.unlock();
+        if (completed.compareAndSet(false, true) && state.addAndGet(-NOT_COMPLETED) == 0) {
+            submitCallback();
         }
     }
 
     @Override
     public boolean release(final EventHandle eventHandle, final boolean result) {
-        lock.lock();
         // Result indicates negative or positive acknowledgement. Even if one of the
         // events in the set report negative acknowledgement, then the end result
         // is negative acknowledgement
-        this.result = this.result && result;
+        if (!result) {
+            this.result = false;
+        }
+        final AtomicInteger references = pendingAcknowledgments.get(eventHandle);
+        if (references == null || releaseReference(references) != 0) {
+            return false;
+        }
+        pendingAcknowledgments.remove(eventHandle, references);
+        final long remainingState = state.decrementAndGet();
+        if (remainingState == 0) {
+            return submitCallback();
+        } else if (remainingState == NOT_COMPLETED) {
+            LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
+        }
+        return false;
+    }
+
+    private boolean submitCallback() {
+        if (!callbackSubmitted.compareAndSet(false, true)) {
+            return false;
+        }
+        if (progressCheckFuture != null) {
+            progressCheckFuture.cancel(false);
+        }
+        callbackFuture = scheduledExecutor.submit(this::invokeCallback);
+        return true;
+    }
+
+    private void invokeCallback() {
         try {
-            if (!pendingAcknowledgments.containsKey(eventHandle) ||
-                pendingAcknowledgments.get(eventHandle).get() == 0) {
-                return false;
-            }
-            if (pendingAcknowledgments.get(eventHandle).decrementAndGet() == 0) {
-                pendingAcknowledgments.remove(eventHandle);
-                if (completed && pendingAcknowledgments.size() == 0) {
-                    if (progressCheckFuture != null) {
-                        progressCheckFuture.cancel(false);
-                    }
-                    callbackFuture = scheduledExecutor.submit(() -> callback.accept(this.result));
-                    return true;
-                } else if (pendingAcknowledgments.size() == 0) {
-                    LOG.debug("Acknowledgement set is not completed. Delaying callback until it is completed");
-                }
+            callback.accept(result);
+            if (!expired.get()) {
+                metrics.increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
             }
         } finally {
-            lock.unlock();
+            callbackCompletionListener.accept(this);
         }
-        return false;
+    }
+
+    private static boolean acquireReference(final AtomicInteger references) {
+        int current;
+        do {
+            current = references.get();
+            if (current == 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Releases one reference without going below zero.
+     *
+     * @return the remaining references, or -1 if there were none to release
+     */
+    private static int releaseReference(final AtomicInteger references) {
+        int current;
+        do {
+            current = references.get();
+            if (current == 0) {
+                return -1;
+            }
+        } while (!references.compareAndSet(current, current - 1));
+        return current - 1;
     }
 }
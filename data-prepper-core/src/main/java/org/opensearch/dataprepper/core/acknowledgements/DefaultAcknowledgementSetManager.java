@@ -15,9 +15,11 @@ import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManag
 
 import javax.inject.Inject;
 import javax.inject.Named;
+import java.time.Clock;
 import java.time.Duration;
 import java.util.Objects;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Consumer;
 
 @Named
@@ -36,23 +38,25 @@ public class DefaultAcknowledgementSetManager implements AcknowledgementSetManag
     }
 
     public DefaultAcknowledgementSetManager(final ScheduledExecutorService callbackExecutor, final Duration waitTime) {
-        this.acknowledgementSetMonitor = new AcknowledgementSetMonitor();
         this.scheduledExecutor = Objects.requireNonNull(callbackExecutor);
-        acknowledgementSetMonitorThread = new AcknowledgementSetMonitorThread(acknowledgementSetMonitor, waitTime);
-        acknowledgementSetMonitorThread.start();
         pluginMetrics = PluginMetrics.fromNames("acknowledgementSetManager", "acknowledgements");
         metrics = new DefaultAcknowledgementSetMetrics(pluginMetrics);
+        this.acknowledgementSetMonitor = new AcknowledgementSetMonitor(Clock.systemUTC(), metrics.getSweepLatencyTimer());
+        pluginMetrics.gauge(DefaultAcknowledgementSetMetrics.ACKNOWLEDGEMENT_SETS_METRIC_NAME, acknowledgementSetMonitor, AcknowledgementSetMonitor::getSize);
+        pluginMetrics.gauge(DefaultAcknowledgementSetMetrics.CALLBACK_QUEUE_DEPTH_METRIC_NAME, scheduledExecutor, DefaultAcknowledgementSetManager::getQueueDepth);
+        acknowledgementSetMonitorThread = new AcknowledgementSetMonitorThread(acknowledgementSetMonitor, waitTime);
+        acknowledgementSetMonitorThread.start();
     }
 
     public AcknowledgementSet create(final Consumer<Boolean> callback, final Duration timeout) {
-        AcknowledgementSet acknowledgementSet = new DefaultAcknowledgementSet(scheduledExecutor, callback, timeout, metrics);
+        AcknowledgementSet acknowledgementSet = new DefaultAcknowledgementSet(scheduledExecutor, callback, timeout, metrics, false, acknowledgementSetMonitor::complete);
         acknowledgementSetMonitor.add(acknowledgementSet);
         metrics.increment(DefaultAcknowledgementSetMetrics.CREATED_METRIC_NAME);
         return acknowledgementSet;
     }
 
     public AcknowledgementSet create(final Consumer<Boolean> callback, final Duration timeout, final boolean invokeCallbackOnExpiry) {
-        AcknowledgementSet acknowledgementSet = new DefaultAcknowledgementSet(scheduledExecutor, callback, timeout, metrics, invokeCallbackOnExpiry);
+        AcknowledgementSet acknowledgementSet = new DefaultAcknowledgementSet(scheduledExecutor, callback, timeout, metrics, invokeCallbackOnExpiry, acknowledgementSetMonitor::complete);
         acknowledgementSetMonitor.add(acknowledgementSet);
         metrics.increment(DefaultAcknowledgementSetMetrics.CREATED_METRIC_NAME);
         return acknowledgementSet;
@@ -62,6 +66,13 @@ public class DefaultAcknowledgementSetManager implements AcknowledgementSetManag
         acknowledgementSetMonitorThread.stop();
     }
 
+    private static double getQueueDepth(final ScheduledExecutorService executor) {
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getQueue().size();
+        }
+        return 0;
+    }
+
     /**
      * For testing only.
      *
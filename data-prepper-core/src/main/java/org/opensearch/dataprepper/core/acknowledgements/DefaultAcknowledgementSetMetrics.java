@@ -10,6 +10,7 @@
 package org.opensearch.dataprepper.core.acknowledgements;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 
 public class DefaultAcknowledgementSetMetrics {
@@ -18,11 +19,15 @@ public class DefaultAcknowledgementSetMetrics {
     static final String EXPIRED_METRIC_NAME = "numberOfAcknowledgementSetsExpired";
     static final String INVALID_ACQUIRES_METRIC_NAME = "numberOfInvalidAcknowledgementAcquires";
     static final String INVALID_RELEASES_METRIC_NAME = "numberOfInvalidAcknowledgementReleases";
+    static final String ACKNOWLEDGEMENT_SETS_METRIC_NAME = "numberOfAcknowledgementSets";
+    static final String CALLBACK_QUEUE_DEPTH_METRIC_NAME = "acknowledgementCallbackQueueDepth";
+    static final String SWEEP_LATENCY_METRIC_NAME = "acknowledgementSetSweepLatency";
     private final Counter numberOfAcknowledgementSetsCreated;
     private final Counter numberOfAcknowledgementSetsCompleted;
     private final Counter numberOfAcknowledgementSetsExpired;
     private final Counter numberOfInvalidAcknowledgementAcquires;
     private final Counter numberOfInvalidAcknowledgementReleases;
+    private final Timer sweepLatencyTimer;
 
     public DefaultAcknowledgementSetMetrics(PluginMetrics pluginMetrics) {
         numberOfAcknowledgementSetsCreated = pluginMetrics.counter(CREATED_METRIC_NAME);
@@ -30,6 +35,11 @@ public class DefaultAcknowledgementSetMetrics {
         numberOfAcknowledgementSetsExpired = pluginMetrics.counter(EXPIRED_METRIC_NAME);
         numberOfInvalidAcknowledgementAcquires = pluginMetrics.counter(INVALID_ACQUIRES_METRIC_NAME);
         numberOfInvalidAcknowledgementReleases = pluginMetrics.counter(INVALID_RELEASES_METRIC_NAME);
+        sweepLatencyTimer = pluginMetrics.timer(SWEEP_LATENCY_METRIC_NAME);
+    }
+
+    public Timer getSweepLatencyTimer() {
+        return sweepLatencyTimer;
     }
     
     public void increment(String metricName) throws IllegalArgumentException {
@@ -32,7 +32,8 @@ public class CircuitBreakerManager {
 
     /**
      * Returns a circuit breaker representing all circuit breakers. This is open
-     * if and only if at least one circuit breaker is open.
+     * if and only if at least one circuit breaker is open. Its pressure is the
+     * highest pressure of all circuit breakers.
      *
      * @return The global circuit breaker.
      */
@@ -51,5 +52,10 @@ public class CircuitBreakerManager {
         public boolean isOpen() {
             return circuitBreakers.stream().anyMatch(CircuitBreaker::isOpen);
         }
+
+        @Override
+        public double getPressure() {
+            return circuitBreakers.stream().mapToDouble(CircuitBreaker::getPressure).max().orElse(0.0);
+        }
     }
 }
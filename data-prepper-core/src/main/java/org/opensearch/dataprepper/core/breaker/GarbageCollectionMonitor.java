@@ -0,0 +1,190 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.GcInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Listens to garbage collection notifications to track the old generation occupancy
+ * after each collection of the old generation and the rate at which the heap is allocated
+ * between collections. Unlike the current heap usage, neither includes garbage which has
+ * not been collected yet. Young collections do not update the occupancy, since the old
+ * generation keeps its garbage through them.
+ *
+ * @since 2.17
+ */
+class GarbageCollectionMonitor implements NotificationListener, AutoCloseable {
+    private static final Logger LOG = LoggerFactory.getLogger(GarbageCollectionMonitor.class);
+    static final long UNKNOWN = -1;
+    static final String MINOR_GC_ACTION = "end of minor GC";
+
+    private final Set<String> heapPoolNames;
+    private final Set<String> oldGenerationPoolNames;
+    private final List<NotificationEmitter> notificationEmitters;
+    private volatile long oldGenerationUsedAfterGc = UNKNOWN;
+    private volatile long oldGenerationCollectionCount = 0;
+    private volatile long allocationBytesPerSecond = 0;
+    private long previousHeapUsedAfterGc = UNKNOWN;
+    private long previousGcEndTime;
+
+    GarbageCollectionMonitor() {
+        this(ManagementFactory.getGarbageCollectorMXBeans(), ManagementFactory.getMemoryPoolMXBeans());
+    }
+
+    GarbageCollectionMonitor(final List<GarbageCollectorMXBean> garbageCollectorMXBeans,
+                             final List<MemoryPoolMXBean> memoryPoolMXBeans) {
+        heapPoolNames = new HashSet<>();
+        oldGenerationPoolNames = new HashSet<>();
+        for (final MemoryPoolMXBean memoryPoolMXBean : memoryPoolMXBeans) {
+            if (memoryPoolMXBean.getType() == MemoryType.HEAP) {
+                heapPoolNames.add(memoryPoolMXBean.getName());
+                if (isOldGenerationPool(memoryPoolMXBean.getName())) {
+                    oldGenerationPoolNames.add(memoryPoolMXBean.getName());
+                }
+            }
+        }
+        // Collectors without generations, such as non-generational ZGC, only have one heap pool
+        if (oldGenerationPoolNames.isEmpty()) {
+            oldGenerationPoolNames.addAll(heapPoolNames);
+        }
+
+        notificationEmitters = new ArrayList<>();
+        for (final GarbageCollectorMXBean garbageCollectorMXBean : garbageCollectorMXBeans) {
+            if (garbageCollectorMXBean instanceof NotificationEmitter) {
+                final NotificationEmitter notificationEmitter = (NotificationEmitter) garbageCollectorMXBean;
+                notificationEmitter.addNotificationListener(this, null, null);
+                notificationEmitters.add(notificationEmitter);
+            }
+        }
+    }
+
+    /**
+     * Gets the old generation occupancy after the last garbage collection.
+     *
+     * @return The used bytes, or {@link #UNKNOWN} until the first collection
+     */
+    long getOldGenerationUsedAfterGc() {
+        return oldGenerationUsedAfterGc;
+    }
+
+    /**
+     * Gets the number of collections of the old generation so far, which tells whether
+     * {@link #getOldGenerationUsedAfterGc()} has changed since an earlier call.
+     *
+     * @return The number of old generation collections
+     */
+    long getOldGenerationCollectionCount() {
+        return oldGenerationCollectionCount;
+    }
+
+    /**
+     * Requests a collection so that the old generation occupancy is measured again.
+     */
+    void requestCollection() {
+        System.gc();
+    }
+
+    /**
+     * Gets the heap allocation rate between the last two garbage collections.
+     *
+     * @return The allocated bytes per second
+     */
+    long getAllocationBytesPerSecond() {
+        return allocationBytesPerSecond;
+    }
+
+    @Override
+    public void handleNotification(final Notification notification, final Object handback) {
+        if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            return;
+        }
+        final GarbageCollectionNotificationInfo notificationInfo =
+                GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+        final GcInfo gcInfo = notificationInfo.getGcInfo();
+        recordGc(notificationInfo.getGcName(), notificationInfo.getGcAction(), gcInfo.getStartTime(), gcInfo.getEndTime(),
+                gcInfo.getMemoryUsageBeforeGc(), gcInfo.getMemoryUsageAfterGc());
+    }
+
+    synchronized void recordGc(final String gcName, final String gcAction,
+                               final long startTime, final long endTime,
+                               final Map<String, MemoryUsage> memoryUsageBeforeGc,
+                               final Map<String, MemoryUsage> memoryUsageAfterGc) {
+        final long heapUsedBeforeGc = sumUsed(memoryUsageBeforeGc, heapPoolNames);
+        final long heapUsedAfterGc = sumUsed(memoryUsageAfterGc, heapPoolNames);
+
+        if (previousHeapUsedAfterGc != UNKNOWN && startTime > previousGcEndTime) {
+            final long allocatedBytes = Math.max(0, heapUsedBeforeGc - previousHeapUsedAfterGc);
+            allocationBytesPerSecond = allocatedBytes * 1000 / (startTime - previousGcEndTime);
+        }
+        previousHeapUsedAfterGc = heapUsedAfterGc;
+        previousGcEndTime = endTime;
+
+        final long oldGenerationUsedBeforeGc = sumUsed(memoryUsageBeforeGc, oldGenerationPoolNames);
+        final long oldGenerationUsedAfter = sumUsed(memoryUsageAfterGc, oldGenerationPoolNames);
+        if (collectsOldGeneration(gcName, gcAction, oldGenerationUsedBeforeGc, oldGenerationUsedAfter)) {
+            oldGenerationUsedAfterGc = oldGenerationUsedAfter;
+            oldGenerationCollectionCount++;
+        }
+    }
+
+    private static boolean collectsOldGeneration(final String gcName, final String gcAction,
+                                                 final long oldGenerationUsedBeforeGc, final long oldGenerationUsedAfterGc) {
+        if (MINOR_GC_ACTION.equals(gcAction)) {
+            // Young collections only promote into the old generation, so one which shrinks it was a G1 mixed collection
+            return oldGenerationUsedAfterGc < oldGenerationUsedBeforeGc;
+        }
+        // The pauses of concurrent collectors and the minor cycles of generational ZGC do not complete an old collection
+        return !gcName.endsWith("Pauses") && !gcName.contains("Minor");
+    }
+
+    private static long sumUsed(final Map<String, MemoryUsage> memoryUsages, final Set<String> poolNames) {
+        long used = 0;
+        for (final Map.Entry<String, MemoryUsage> entry : memoryUsages.entrySet()) {
+            if (poolNames.contains(entry.getKey())) {
+                used += entry.getValue().getUsed();
+            }
+        }
+        return used;
+    }
+
+    private static boolean isOldGenerationPool(final String poolName) {
+        return poolName.contains("Old") || poolName.contains("Tenured");
+    }
+
+    @Override
+    public void close() {
+        for (final NotificationEmitter notificationEmitter : notificationEmitters) {
+            try {
+                notificationEmitter.removeNotificationListener(this);
+            } catch (final ListenerNotFoundException e) {
+                LOG.debug("Garbage collection listener was already removed", e);
+            }
+        }
+    }
+}
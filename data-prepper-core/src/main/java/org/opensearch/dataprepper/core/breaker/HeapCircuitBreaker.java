@@ -15,10 +15,12 @@ import org.opensearch.dataprepper.model.breaker.CircuitBreaker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.management.BufferPoolMXBean;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
@@ -29,6 +31,11 @@ import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * An implementation of {@link CircuitBreaker} which checks against heap usage.
+ * <p>
+ * It can also check direct buffer usage, and use the old generation occupancy after
+ * garbage collection rather than the current heap usage. When a backpressure usage is
+ * configured, it reports a pressure which grows between that usage and the usage
+ * which opens the circuit breaker, so that sources can slow down before it opens.
  *
  * @since 2.1
  */
@@ -36,20 +43,38 @@ class HeapCircuitBreaker implements InnerCircuitBreaker, AutoCloseable {
     private static final Logger LOG = LoggerFactory.getLogger(HeapCircuitBreaker.class);
     public static final int OPEN_METRIC_VALUE = 1;
     public static final int CLOSED_METRIC_VALUE = 0;
+    private static final String DIRECT_BUFFER_POOL = "direct";
     private final MemoryMXBean memoryMXBean;
+    private final GarbageCollectionMonitor garbageCollectionMonitor;
+    private final List<BufferPoolMXBean> bufferPoolMXBeans;
     private final long usageBytes;
+    private final long backpressureUsageBytes;
+    private final long directUsageBytes;
+    private final boolean postGcUsage;
+    private final long checkIntervalMillis;
     private final Duration resetPeriod;
     private final Lock lock;
     private final AtomicInteger openGauge;
     private final ScheduledExecutorService scheduledExecutorService;
     private volatile boolean open;
+    private volatile double pressure;
     private Instant resetTime;
+    private long oldGenerationCollectionCount;
+    private Instant collectionRequestTime;
 
     HeapCircuitBreaker(final HeapCircuitBreakerConfig circuitBreakerConfig) {
         this(circuitBreakerConfig, ManagementFactory.getMemoryMXBean());
     }
 
     HeapCircuitBreaker(final HeapCircuitBreakerConfig circuitBreakerConfig, final MemoryMXBean memoryMXBean) {
+        this(circuitBreakerConfig, memoryMXBean, new GarbageCollectionMonitor(),
+                ManagementFactory.getPlatformMXBeans(BufferPoolMXBean.class));
+    }
+
+    HeapCircuitBreaker(final HeapCircuitBreakerConfig circuitBreakerConfig,
+                       final MemoryMXBean memoryMXBean,
+                       final GarbageCollectionMonitor garbageCollectionMonitor,
+                       final List<BufferPoolMXBean> bufferPoolMXBeans) {
         Objects.requireNonNull(circuitBreakerConfig);
         Objects.requireNonNull(circuitBreakerConfig.getUsage());
 
@@ -57,16 +82,31 @@ class HeapCircuitBreaker implements InnerCircuitBreaker, AutoCloseable {
         if(usageBytes <= 0)
             throw new IllegalArgumentException("Bytes usage must be positive.");
 
+        backpressureUsageBytes = circuitBreakerConfig.getBackpressureUsage() != null ?
+                circuitBreakerConfig.getBackpressureUsage().getBytes() : usageBytes;
+        if(backpressureUsageBytes > usageBytes)
+            throw new IllegalArgumentException("Backpressure usage must not be greater than the usage.");
+
+        directUsageBytes = circuitBreakerConfig.getDirectUsage() != null ? circuitBreakerConfig.getDirectUsage().getBytes() : 0;
+        postGcUsage = circuitBreakerConfig.isPostGcUsage();
+
         resetPeriod = Objects.requireNonNull(circuitBreakerConfig.getReset());
         this.memoryMXBean = memoryMXBean;
+        this.garbageCollectionMonitor = garbageCollectionMonitor;
+        this.bufferPoolMXBeans = bufferPoolMXBeans;
         open = false;
+        pressure = 0.0;
         lock = new ReentrantLock();
         resetTime = Instant.MIN;
 
         Metrics.gauge("core.circuitBreakers.heap.memoryUsage", this, cb -> getUsedMemoryBytes());
+        Metrics.gauge("core.circuitBreakers.heap.directMemoryUsage", this, cb -> getDirectMemoryBytes());
+        Metrics.gauge("core.circuitBreakers.heap.allocationRate", garbageCollectionMonitor, GarbageCollectionMonitor::getAllocationBytesPerSecond);
+        Metrics.gauge("core.circuitBreakers.heap.pressure", this, HeapCircuitBreaker::getPressure);
         openGauge = Metrics.gauge("core.circuitBreakers.heap.open", new AtomicInteger(0));
 
         final Duration checkInterval = Objects.requireNonNull(circuitBreakerConfig.getCheckInterval());
+        checkIntervalMillis = checkInterval.toMillis();
         scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
         scheduledExecutorService
                         .scheduleAtFixedRate(this::checkMemory, 0L, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
@@ -79,6 +119,11 @@ class HeapCircuitBreaker implements InnerCircuitBreaker, AutoCloseable {
         return open;
     }
 
+    @Override
+    public double getPressure() {
+        return pressure;
+    }
+
     private void checkMemory() {
         final boolean previousOpen = open;
 
@@ -87,16 +132,33 @@ class HeapCircuitBreaker implements InnerCircuitBreaker, AutoCloseable {
         }
 
         final long usedMemoryBytes = getUsedMemoryBytes();
-        if(usedMemoryBytes >  usageBytes) {
+        final long directMemoryBytes = getDirectMemoryBytes();
+        final boolean heapTripped = usedMemoryBytes > usageBytes;
+        final boolean directTripped = directUsageBytes > 0 && directMemoryBytes > directUsageBytes;
+        if(heapTripped || directTripped) {
             open = true;
+            pressure = 1.0;
             if(!previousOpen) {
-                System.gc();
+                // The usage after garbage collection only changes with the next collection, forcing one would stall all threads
+                if(!postGcUsage) {
+                    garbageCollectionMonitor.requestCollection();
+                }
                 resetTime = Instant.now().plus(resetPeriod);
+                oldGenerationCollectionCount = garbageCollectionMonitor.getOldGenerationCollectionCount();
+                collectionRequestTime = resetTime;
                 openGauge.set(OPEN_METRIC_VALUE);
-                LOG.info("Circuit breaker tripped and open. {} used memory bytes > {} configured", usedMemoryBytes, usageBytes);
+                if(heapTripped) {
+                    LOG.info("Circuit breaker tripped and open. {} used memory bytes > {} configured", usedMemoryBytes, usageBytes);
+                }
+                if(directTripped) {
+                    LOG.info("Circuit breaker tripped and open. {} used direct memory bytes > {} configured", directMemoryBytes, directUsageBytes);
+                }
+            } else if(postGcUsage && heapTripped) {
+                requestCollectionIfStale();
             }
         } else {
             open = false;
+            pressure = calculatePressure(usedMemoryBytes, directMemoryBytes);
             if(previousOpen) {
                 openGauge.set(CLOSED_METRIC_VALUE);
                 LOG.info("Circuit breaker closed. {} used memory bytes <= {} configured", usedMemoryBytes, usageBytes);
@@ -104,12 +166,69 @@ class HeapCircuitBreaker implements InnerCircuitBreaker, AutoCloseable {
         }
     }
 
+    /**
+     * Requests a garbage collection when the old generation has not been collected for a
+     * reset period. Until then, the usage after garbage collection which keeps the circuit
+     * breaker open is the one which opened it, and might have been garbage by now.
+     */
+    private void requestCollectionIfStale() {
+        final long collectionCount = garbageCollectionMonitor.getOldGenerationCollectionCount();
+        final Instant now = Instant.now();
+        if(collectionCount != oldGenerationCollectionCount) {
+            oldGenerationCollectionCount = collectionCount;
+            collectionRequestTime = now.plus(resetPeriod);
+        } else if(now.compareTo(collectionRequestTime) >= 0) {
+            garbageCollectionMonitor.requestCollection();
+            collectionRequestTime = now.plus(resetPeriod);
+            LOG.info("Circuit breaker is open and the old generation was not collected for {}. Requested a garbage collection.", resetPeriod);
+        }
+    }
+
+    /**
+     * Calculates the pressure while the circuit breaker is closed. The heap usage is
+     * projected to the next check using the recent allocation rate, so that pressure
+     * rises before a fast allocating pipeline reaches the usage.
+     */
+    private double calculatePressure(final long usedMemoryBytes, final long directMemoryBytes) {
+        final long projectedMemoryBytes = usedMemoryBytes +
+                garbageCollectionMonitor.getAllocationBytesPerSecond() * checkIntervalMillis / 1000;
+        final double heapPressure = scalePressure(projectedMemoryBytes, backpressureUsageBytes, usageBytes);
+        if(directUsageBytes <= 0) {
+            return heapPressure;
+        }
+        final long directBackpressureBytes = directUsageBytes * backpressureUsageBytes / usageBytes;
+        return Math.max(heapPressure, scalePressure(directMemoryBytes, directBackpressureBytes, directUsageBytes));
+    }
+
+    private static double scalePressure(final long usedBytes, final long backpressureBytes, final long limitBytes) {
+        if(usedBytes <= backpressureBytes || backpressureBytes >= limitBytes) {
+            return 0.0;
+        }
+        return Math.min(1.0, (double) (usedBytes - backpressureBytes) / (limitBytes - backpressureBytes));
+    }
+
     private long getUsedMemoryBytes() {
+        if(postGcUsage) {
+            final long oldGenerationUsedAfterGc = garbageCollectionMonitor.getOldGenerationUsedAfterGc();
+            if(oldGenerationUsedAfterGc != GarbageCollectionMonitor.UNKNOWN) {
+                return oldGenerationUsedAfterGc;
+            }
+        }
         return memoryMXBean.getHeapMemoryUsage().getUsed();
     }
 
+    private long getDirectMemoryBytes() {
+        for(final BufferPoolMXBean bufferPoolMXBean : bufferPoolMXBeans) {
+            if(DIRECT_BUFFER_POOL.equals(bufferPoolMXBean.getName())) {
+                return bufferPoolMXBean.getMemoryUsed();
+            }
+        }
+        return 0;
+    }
+
     @Override
     public void close() throws Exception {
         scheduledExecutorService.shutdown();
+        garbageCollectionMonitor.close();
     }
 }
@@ -15,13 +15,17 @@ import org.opensearch.dataprepper.model.buffer.DelegatingBuffer;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeoutException;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * Decorator for {@link Buffer} which checks a {@link CircuitBreaker}
- * before writing records.
+ * before writing records. While the circuit breaker reports pressure,
+ * a matching fraction of writes is rejected so that sources slow down
+ * gradually instead of stopping all at once when it opens.
  *
  * @param <T> The type of record.
  * @since 2.1
@@ -61,8 +65,23 @@ class CircuitBreakingBuffer<T extends Record<?>> extends DelegatingBuffer<T> imp
         super.writeBytes(bytes, key, timeoutInMillis);
     }
 
+    @Override
+    public CompletableFuture<Void> writeBytesAsync(final byte[] bytes, final String key, final int timeoutInMillis) {
+        try {
+            checkBreaker();
+        } catch (final TimeoutException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return super.writeBytesAsync(bytes, key, timeoutInMillis);
+    }
+
     private void checkBreaker() throws TimeoutException {
         if(circuitBreaker.isOpen())
             throw new TimeoutException("Circuit breaker is open. Unable to write to buffer.");
+
+        final double pressure = circuitBreaker.getPressure();
+        if(pressure > 0.0 && ThreadLocalRandom.current().nextDouble() < pressure)
+            throw new TimeoutException("Circuit breaker is shedding writes under memory pressure. Unable to write to buffer.");
     }
 }
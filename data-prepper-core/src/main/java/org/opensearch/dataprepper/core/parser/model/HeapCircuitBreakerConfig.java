@@ -31,6 +31,15 @@ public class HeapCircuitBreakerConfig {
     @JsonProperty("check_interval")
     private Duration checkInterval = DEFAULT_CHECK_INTERVAL;
 
+    @JsonProperty("backpressure_usage")
+    private ByteCount backpressureUsage;
+
+    @JsonProperty("direct_usage")
+    private ByteCount directUsage;
+
+    @JsonProperty("post_gc_usage")
+    private boolean postGcUsage = false;
+
     /**
      * Gets the usage as a {@link ByteCount}. If the current Java heap usage
      * exceeds this value then the circuit breaker will be open.
@@ -62,4 +71,38 @@ public class HeapCircuitBreakerConfig {
     public Duration getCheckInterval() {
         return checkInterval;
     }
+
+    /**
+     * Gets the usage at which backpressure starts. Between this value and
+     * {@link #getUsage()} the pressure reported to sources grows linearly.
+     *
+     * @return The backpressure threshold, or null to only open and close
+     * @since 2.17
+     */
+    public ByteCount getBackpressureUsage() {
+        return backpressureUsage;
+    }
+
+    /**
+     * Gets the direct buffer usage as a {@link ByteCount}. If the memory used by
+     * direct buffers exceeds this value then the circuit breaker will be open.
+     *
+     * @return The direct buffer usage threshold, or null if it is not checked
+     * @since 2.17
+     */
+    public ByteCount getDirectUsage() {
+        return directUsage;
+    }
+
+    /**
+     * Gets whether to check the old generation occupancy after the last collection of
+     * the old generation instead of the current heap usage. The current heap usage
+     * includes garbage which has not been collected yet.
+     *
+     * @return True to use the usage after garbage collection
+     * @since 2.17
+     */
+    public boolean isPostGcUsage() {
+        return postGcUsage;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A consistent hash ring using MD5 for keys and virtual nodes.
+ */
+class Md5PeerLookup implements PeerLookup {
+    private static final String MD5 = "MD5";
+    private static final String DELIMITER = ",";
+
+    private final TreeMap<BigInteger, String> hashServerMap = new TreeMap<>();
+
+    Md5PeerLookup(final List<String> peers, final int numVirtualNodes) {
+        for (final String serverIp : peers) {
+            addServerIpToHashMap(serverIp, numVirtualNodes);
+        }
+    }
+
+    @Override
+    public Optional<String> getServerIp(final List<String> identificationKeyValues) {
+        if (hashServerMap.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final byte[] identificationKeysInBytes = String.join(DELIMITER, identificationKeyValues).getBytes();
+
+        final MessageDigest md = createMessageDigest();
+        md.update(identificationKeysInBytes);
+        final BigInteger hashcode = new BigInteger(md.digest());
+
+        // obtain Map.Entry with key greater than the hashcode
+        final Map.Entry<BigInteger, String> entry = hashServerMap.higherEntry(hashcode);
+
+        if (entry == null) {
+            // return first node if no key is greater than the hashcode
+            return Optional.of(hashServerMap.firstEntry().getValue());
+        } else {
+            return Optional.of(entry.getValue());
+        }
+    }
+
+    private void addServerIpToHashMap(final String serverIp, final int numVirtualNodes) {
+        final byte[] serverIpInBytes = serverIp.getBytes();
+        final MessageDigest md = createMessageDigest();
+
+        final ByteBuffer intBuffer = ByteBuffer.allocate(4);
+        for (int i = 0; i < numVirtualNodes; i++) {
+            md.update(serverIpInBytes);
+            intBuffer.putInt(i);
+            md.update(intBuffer.array());
+            final BigInteger hashcode = new BigInteger(md.digest());
+            hashServerMap.putIfAbsent(hashcode, serverIp);
+            md.reset();
+            intBuffer.clear();
+        }
+    }
+
+    private static MessageDigest createMessageDigest() {
+        try {
+            return MessageDigest.getInstance(MD5);
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("unreachable", e);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.util.List;
+
+/**
+ * The first 64 bits of MurmurHash3 x64 128 with a seed of zero. This is the same value as
+ * {@code Hashing.murmur3_128().hashBytes(bytes).asLong()} in Guava, so it is stable across nodes and versions.
+ */
+final class Murmur3 {
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final int BLOCK_SIZE = 16;
+    private static final char DELIMITER = ',';
+    private static final String NULL_VALUE = "null";
+
+    private Murmur3() {
+    }
+
+    static long hash(final byte[] bytes) {
+        long h1 = 0;
+        long h2 = 0;
+        final int blockCount = bytes.length / BLOCK_SIZE;
+        for (int block = 0; block < blockCount; block++) {
+            final int offset = block * BLOCK_SIZE;
+            final long k1 = getLittleEndianLong(bytes, offset);
+            final long k2 = getLittleEndianLong(bytes, offset + 8);
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        final int tailOffset = blockCount * BLOCK_SIZE;
+        for (int i = tailOffset; i < bytes.length; i++) {
+            final int position = i - tailOffset;
+            if (position < 8) {
+                k1 |= (bytes[i] & 0xFFL) << (position * 8);
+            } else {
+                k2 |= (bytes[i] & 0xFFL) << ((position - 8) * 8);
+            }
+        }
+        h1 ^= mixK1(k1);
+        h2 ^= mixK2(k2);
+
+        return finish(h1, h2, bytes.length);
+    }
+
+    /**
+     * Hashes the UTF-8 bytes of the values joined with a comma, the same bytes as
+     * {@code String.join(",", values).getBytes(StandardCharsets.UTF_8)}, without creating the joined string or
+     * the byte array.
+     *
+     * @param values The values to hash, where a null value is hashed as "null"
+     * @return The 64-bit hash
+     */
+    static long hashJoined(final List<String> values) {
+        long h1 = 0;
+        long h2 = 0;
+        long k1 = 0;
+        long k2 = 0;
+        int blockPosition = 0;
+        long length = 0;
+
+        boolean first = true;
+        for (final String nullableValue : values) {
+            final String value = nullableValue == null ? NULL_VALUE : nullableValue;
+            final int valueLength = value.length();
+            for (int i = first ? 0 : -1; i < valueLength; i++) {
+                final int encoded;
+                final int encodedLength;
+                final char c = i < 0 ? DELIMITER : value.charAt(i);
+                if (c < 0x80) {
+                    encoded = c;
+                    encodedLength = 1;
+                } else if (c < 0x800) {
+                    encoded = (0xC0 | (c >>> 6)) | ((0x80 | (c & 0x3F)) << 8);
+                    encodedLength = 2;
+                } else if (!Character.isSurrogate(c)) {
+                    encoded = (0xE0 | (c >>> 12)) | ((0x80 | ((c >>> 6) & 0x3F)) << 8) | ((0x80 | (c & 0x3F)) << 16);
+                    encodedLength = 3;
+                } else if (Character.isHighSurrogate(c) && i + 1 < valueLength && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    encoded = (0xF0 | (codePoint >>> 18)) | ((0x80 | ((codePoint >>> 12) & 0x3F)) << 8)
+                            | ((0x80 | ((codePoint >>> 6) & 0x3F)) << 16) | ((0x80 | (codePoint & 0x3F)) << 24);
+                    encodedLength = 4;
+                } else {
+                    // Malformed surrogates are encoded as '?', the same as String.getBytes
+                    encoded = '?';
+                    encodedLength = 1;
+                }
+
+                for (int b = 0; b < encodedLength; b++) {
+                    final long unsignedByte = (encoded >>> (b * 8)) & 0xFFL;
+                    if (blockPosition < 8) {
+                        k1 |= unsignedByte << (blockPosition * 8);
+                    } else {
+                        k2 |= unsignedByte << ((blockPosition - 8) * 8);
+                    }
+                    length++;
+                    if (++blockPosition == BLOCK_SIZE) {
+                        h1 ^= mixK1(k1);
+                        h1 = Long.rotateLeft(h1, 27) + h2;
+                        h1 = h1 * 5 + 0x52dce729;
+                        h2 ^= mixK2(k2);
+                        h2 = Long.rotateLeft(h2, 31) + h1;
+                        h2 = h2 * 5 + 0x38495ab5;
+                        k1 = 0;
+                        k2 = 0;
+                        blockPosition = 0;
+                    }
+                }
+            }
+            first = false;
+        }
+        h1 ^= mixK1(k1);
+        h2 ^= mixK2(k2);
+
+        return finish(h1, h2, length);
+    }
+
+    static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    private static long finish(long h1, long h2, final long length) {
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        return h1 + h2;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+
+    private static long getLittleEndianLong(final byte[] bytes, final int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (bytes[offset + i] & 0xFFL);
+        }
+        return value;
+    }
+}
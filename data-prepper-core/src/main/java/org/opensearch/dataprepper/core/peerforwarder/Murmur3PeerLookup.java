@@ -0,0 +1,85 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * A consistent hash ring using 64-bit Murmur3 for keys and virtual nodes. The ring is held as a sorted
+ * {@code long[]} of virtual node hashes with a parallel array of peers, so a lookup is a binary search which does
+ * not allocate.
+ */
+class Murmur3PeerLookup implements PeerLookup {
+    private final long[] ringHashes;
+    private final String[] ringPeers;
+
+    Murmur3PeerLookup(final List<String> peers, final int numVirtualNodes) {
+        final TreeSet<String> distinctPeers = new TreeSet<>(peers);
+        final VirtualNode[] virtualNodes = new VirtualNode[distinctPeers.size() * numVirtualNodes];
+        int virtualNodeCount = 0;
+        for (final String peer : distinctPeers) {
+            final byte[] peerInBytes = peer.getBytes(StandardCharsets.UTF_8);
+            final ByteBuffer virtualNodeBuffer = ByteBuffer.allocate(peerInBytes.length + Integer.BYTES);
+            for (int i = 0; i < numVirtualNodes; i++) {
+                virtualNodeBuffer.clear();
+                virtualNodeBuffer.put(peerInBytes).putInt(i);
+                virtualNodes[virtualNodeCount++] = new VirtualNode(Murmur3.hash(virtualNodeBuffer.array()), peer);
+            }
+        }
+
+        // Sorting on the hash and then the peer keeps the ring identical on every node when two virtual nodes collide
+        Arrays.sort(virtualNodes, Comparator.comparingLong((VirtualNode virtualNode) -> virtualNode.hash)
+                .thenComparing(virtualNode -> virtualNode.peer));
+        ringHashes = new long[virtualNodeCount];
+        ringPeers = new String[virtualNodeCount];
+        for (int i = 0; i < virtualNodeCount; i++) {
+            ringHashes[i] = virtualNodes[i].hash;
+            ringPeers[i] = virtualNodes[i].peer;
+        }
+    }
+
+    @Override
+    public Optional<String> getServerIp(final List<String> identificationKeyValues) {
+        if (ringHashes.length == 0) {
+            return Optional.empty();
+        }
+
+        final long hash = Murmur3.hashJoined(identificationKeyValues);
+
+        // find the first virtual node with a hash greater than the key hash, wrapping around to the first node
+        int low = 0;
+        int high = ringHashes.length;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (ringHashes[middle] <= hash) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return Optional.of(ringPeers[low == ringHashes.length ? 0 : low]);
+    }
+
+    private static class VirtualNode {
+        private final long hash;
+        private final String peer;
+
+        private VirtualNode(final long hash, final String peer) {
+            this.hash = hash;
+            this.peer = peer;
+        }
+    }
+}
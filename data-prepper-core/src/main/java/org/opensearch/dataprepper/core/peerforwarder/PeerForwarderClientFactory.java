@@ -36,7 +36,7 @@ public class PeerForwarderClientFactory {
     public HashRing createHashRing() {
         final DiscoveryMode discoveryMode = peerForwarderConfiguration.getDiscoveryMode();
         final PeerListProvider peerListProvider = discoveryMode.create(peerForwarderConfiguration, pluginMetrics);
-        return new HashRing(peerListProvider, NUM_VIRTUAL_NODES);
+        return new HashRing(peerListProvider, NUM_VIRTUAL_NODES, peerForwarderConfiguration.getHashStrategy());
     }
 
     public PeerClientPool setPeerClientPool() {
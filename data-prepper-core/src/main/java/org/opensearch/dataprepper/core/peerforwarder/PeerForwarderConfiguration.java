@@ -13,6 +13,8 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.apache.commons.lang3.StringUtils;
 import org.opensearch.dataprepper.core.parser.model.DataPrepperConfiguration;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecCompression;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecType;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
 
 import java.time.Duration;
@@ -71,6 +73,9 @@ public class PeerForwarderConfiguration {
     private Integer forwardingBatchQueueDepth = 1;
     private Duration forwardingBatchTimeout = DEFAULT_FORWARDING_BATCH_TIMEOUT;
     private boolean binaryCodec = true;
+    private PeerForwarderCodecType codec = PeerForwarderCodecType.JAVA;
+    private PeerForwarderCodecCompression codecCompression = PeerForwarderCodecCompression.NONE;
+    private PeerHashStrategy hashStrategy = PeerHashStrategy.MD5;
     private List<Set<String>> excludeIdentificationKeys;
 
     public PeerForwarderConfiguration() {}
@@ -110,7 +115,10 @@ public class PeerForwarderConfiguration {
             @JsonProperty("forwarding_batch_size") final Integer forwardingBatchSize,
             @JsonProperty("forwarding_batch_queue_depth") final Integer forwardingBatchQueueDepth,
             @JsonProperty("forwarding_batch_timeout") final Duration forwardingBatchTimeout,
-            @JsonProperty("binary_codec") final Boolean binaryCodec
+            @JsonProperty("binary_codec") final Boolean binaryCodec,
+            @JsonProperty("codec") final String codec,
+            @JsonProperty("codec_compression") final String codecCompression,
+            @JsonProperty("hash_strategy") final String hashStrategy
     ) {
         setServerPort(serverPort);
         setRequestTimeout(requestTimeout);
@@ -145,6 +153,9 @@ public class PeerForwarderConfiguration {
         setForwardingBatchQueueDepth(forwardingBatchQueueDepth);
         setForwardingBatchTimeout(forwardingBatchTimeout);
         setBinaryCodec(binaryCodec == null || binaryCodec);
+        setCodec(codec);
+        setCodecCompression(codecCompression);
+        setHashStrategy(hashStrategy);
         checkForCertAndKeyFileInS3();
         validateSslAndAuthentication();
         this.excludeIdentificationKeys = excludeIdentificationKeys;
@@ -277,6 +288,18 @@ public class PeerForwarderConfiguration {
         return binaryCodec;
     }
 
+    public PeerForwarderCodecType getCodec() {
+        return codec;
+    }
+
+    public PeerForwarderCodecCompression getCodecCompression() {
+        return codecCompression;
+    }
+
+    public PeerHashStrategy getHashStrategy() {
+        return hashStrategy;
+    }
+
     private void setServerPort(final Integer serverPort) {
         if (serverPort != null) {
             if (serverPort < 0 || serverPort > 65535) {
@@ -570,4 +593,27 @@ public class PeerForwarderConfiguration {
     private void setBinaryCodec(final boolean binaryCodec) {
         this.binaryCodec = binaryCodec;
     }
+
+    private void setCodec(final String codec) {
+        if (codec != null) {
+            this.codec = PeerForwarderCodecType.valueOf(codec.toUpperCase());
+        } else {
+            this.codec = binaryCodec ? PeerForwarderCodecType.JAVA : PeerForwarderCodecType.JSON;
+        }
+    }
+
+    private void setCodecCompression(final String codecCompression) {
+        if (codecCompression != null) {
+            this.codecCompression = PeerForwarderCodecCompression.valueOf(codecCompression.toUpperCase());
+            if (this.codecCompression != PeerForwarderCodecCompression.NONE && codec != PeerForwarderCodecType.SMILE) {
+                throw new IllegalArgumentException("Codec compression is only supported with the smile codec.");
+            }
+        }
+    }
+
+    private void setHashStrategy(final String hashStrategy) {
+        if (hashStrategy != null) {
+            this.hashStrategy = PeerHashStrategy.valueOf(hashStrategy.toUpperCase());
+        }
+    }
 }
@@ -0,0 +1,48 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+
+/**
+ * The hash function and peer selection used by {@link HashRing}. All Data Prepper nodes in a cluster must use the
+ * same strategy so that each identification key is forwarded to the same peer.
+ *
+ * @since 2.17
+ */
+public enum PeerHashStrategy {
+    /**
+     * A consistent hash ring using MD5 for keys and virtual nodes.
+     */
+    MD5(Md5PeerLookup::new),
+    /**
+     * A consistent hash ring using 64-bit Murmur3 for keys and virtual nodes.
+     */
+    MURMUR3(Murmur3PeerLookup::new),
+    /**
+     * Rendezvous (highest random weight) hashing using 64-bit Murmur3. Only the keys of a peer which leaves or
+     * joins move when the peer list changes, and virtual nodes are not needed.
+     */
+    RENDEZVOUS((peers, numVirtualNodes) -> new RendezvousPeerLookup(peers));
+
+    private final BiFunction<List<String>, Integer, PeerLookup> creationFunction;
+
+    PeerHashStrategy(final BiFunction<List<String>, Integer, PeerLookup> creationFunction) {
+        Objects.requireNonNull(creationFunction);
+
+        this.creationFunction = creationFunction;
+    }
+
+    PeerLookup createPeerLookup(final List<String> peers, final int numVirtualNodes) {
+        return creationFunction.apply(peers, numVirtualNodes);
+    }
+}
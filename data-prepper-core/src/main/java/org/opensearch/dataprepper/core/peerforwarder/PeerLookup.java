@@ -0,0 +1,20 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An immutable mapping from identification keys to peers, built from a single peer list.
+ */
+interface PeerLookup {
+    Optional<String> getServerIp(List<String> identificationKeyValues);
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeSet;
+
+/**
+ * Rendezvous (highest random weight) hashing. Each key is sent to the peer with the highest combined hash of the key
+ * and the peer, so only the keys owned by a peer which leaves or joins move to a different peer.
+ */
+class RendezvousPeerLookup implements PeerLookup {
+    private final String[] peers;
+    private final long[] peerHashes;
+
+    RendezvousPeerLookup(final List<String> peers) {
+        this.peers = new TreeSet<>(peers).toArray(new String[0]);
+        this.peerHashes = new long[this.peers.length];
+        for (int i = 0; i < this.peers.length; i++) {
+            peerHashes[i] = Murmur3.hash(this.peers[i].getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public Optional<String> getServerIp(final List<String> identificationKeyValues) {
+        if (peers.length == 0) {
+            return Optional.empty();
+        }
+
+        final long keyHash = Murmur3.hashJoined(identificationKeyValues);
+
+        // peers are sorted, so ties are always won by the same peer on every node
+        int selectedPeer = 0;
+        long highestWeight = Murmur3.fmix64(keyHash ^ peerHashes[0]);
+        for (int i = 1; i < peers.length; i++) {
+            final long weight = Murmur3.fmix64(keyHash ^ peerHashes[i]);
+            if (Long.compareUnsigned(weight, highestWeight) > 0) {
+                selectedPeer = i;
+                highestWeight = weight;
+            }
+        }
+        return Optional.of(peers[selectedPeer]);
+    }
+}
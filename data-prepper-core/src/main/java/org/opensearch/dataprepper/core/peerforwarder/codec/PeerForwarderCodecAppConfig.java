@@ -10,6 +10,7 @@
 package org.opensearch.dataprepper.core.peerforwarder.codec;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.opensearch.dataprepper.core.peerforwarder.PeerForwarderConfiguration;
@@ -27,8 +28,15 @@ public class PeerForwarderCodecAppConfig {
             final PeerForwarderConfiguration peerForwarderConfiguration,
             final ObjectInputFilter objectInputFilter,
             @Qualifier("peerForwarderObjectMapper") final ObjectMapper objectMapper) {
-        return peerForwarderConfiguration.getBinaryCodec() ?
-                new JavaPeerForwarderCodec(objectInputFilter) : new JacksonPeerForwarderCodec(objectMapper);
+        switch (peerForwarderConfiguration.getCodec()) {
+            case SMILE:
+                return new SmilePeerForwarderCodec(smileObjectMapper(), peerForwarderConfiguration.getCodecCompression());
+            case JSON:
+                return new JacksonPeerForwarderCodec(objectMapper);
+            case JAVA:
+            default:
+                return new JavaPeerForwarderCodec(objectInputFilter);
+        }
     }
 
     @Bean(name = "peerForwarderObjectMapper")
@@ -42,6 +50,10 @@ public class PeerForwarderCodecAppConfig {
         return new ObjectMapper(yamlFactory).registerModule(javaTimeModule);
     }
 
+    private static ObjectMapper smileObjectMapper() {
+        return new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+    }
+
     @Bean
     public ObjectInputFilter objectInputFilter(final PeerForwarderConfiguration peerForwarderConfiguration) {
         final String baseModelPackage = "org.opensearch.dataprepper.model";
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import net.jpountz.lz4.LZ4FrameInputStream;
+import net.jpountz.lz4.LZ4FrameOutputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * The compression applied to a whole batch of forwarded events.
+ *
+ * @since 2.17
+ */
+public enum PeerForwarderCodecCompression {
+    NONE {
+        @Override
+        OutputStream compress(final OutputStream outputStream) {
+            return outputStream;
+        }
+
+        @Override
+        InputStream decompress(final InputStream inputStream) {
+            return inputStream;
+        }
+    },
+    LZ4 {
+        @Override
+        OutputStream compress(final OutputStream outputStream) throws IOException {
+            return new LZ4FrameOutputStream(outputStream);
+        }
+
+        @Override
+        InputStream decompress(final InputStream inputStream) throws IOException {
+            return new LZ4FrameInputStream(inputStream);
+        }
+    };
+
+    abstract OutputStream compress(OutputStream outputStream) throws IOException;
+
+    abstract InputStream decompress(InputStream inputStream) throws IOException;
+}
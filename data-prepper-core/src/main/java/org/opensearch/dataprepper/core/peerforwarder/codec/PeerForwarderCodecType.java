@@ -0,0 +1,30 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+/**
+ * The wire format used to send events between peers.
+ *
+ * @since 2.17
+ */
+public enum PeerForwarderCodecType {
+    /**
+     * Java object serialization, see {@link JavaPeerForwarderCodec}.
+     */
+    JAVA,
+    /**
+     * JSON with one JSON string per event, see {@link JacksonPeerForwarderCodec}.
+     */
+    JSON,
+    /**
+     * Binary Smile encoding of the event trees, see {@link SmilePeerForwarderCodec}.
+     */
+    SMILE
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.DefaultEventMetadata;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventMetadata;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link PeerForwarderCodec} which writes the events of a batch as a single Smile document. The event data is
+ * written directly from the event's JSON tree and read back as a tree, so no event is converted to or parsed from a
+ * JSON string. The whole batch may optionally be compressed.
+ *
+ * @since 2.17
+ */
+public class SmilePeerForwarderCodec implements PeerForwarderCodec {
+    private static final String TRACE_EVENT_TYPE = "TRACE";
+    private static final TypeReference<Map<String, Object>> ATTRIBUTES_TYPE_REFERENCE = new TypeReference<>() {};
+
+    static final String DESTINATION_PLUGIN_ID = "destinationPluginId";
+    static final String DESTINATION_PIPELINE_NAME = "destinationPipelineName";
+    static final String EVENTS = "events";
+    static final String EVENT_TYPE = "eventType";
+    static final String TIME_RECEIVED_SECONDS = "timeReceivedSeconds";
+    static final String TIME_RECEIVED_NANOS = "timeReceivedNanos";
+    static final String ATTRIBUTES = "attributes";
+    static final String DATA = "data";
+
+    private final ObjectMapper smileObjectMapper;
+    private final PeerForwarderCodecCompression compression;
+
+    public SmilePeerForwarderCodec(final ObjectMapper smileObjectMapper, final PeerForwarderCodecCompression compression) {
+        this.smileObjectMapper = Objects.requireNonNull(smileObjectMapper);
+        this.compression = Objects.requireNonNull(compression);
+    }
+
+    @Override
+    public byte[] serialize(final PeerForwardingEvents peerForwardingEvents) throws IOException {
+        final ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (final OutputStream outputStream = compression.compress(byteArrayOutputStream);
+             final JsonGenerator generator = smileObjectMapper.getFactory().createGenerator(outputStream)) {
+            generator.writeStartObject();
+            generator.writeStringField(DESTINATION_PLUGIN_ID, peerForwardingEvents.getDestinationPluginId());
+            generator.writeStringField(DESTINATION_PIPELINE_NAME, peerForwardingEvents.getDestinationPipelineName());
+            if (peerForwardingEvents.getEvents() != null) {
+                generator.writeArrayFieldStart(EVENTS);
+                for (final Event event : peerForwardingEvents.getEvents()) {
+                    writeEvent(generator, event);
+                }
+                generator.writeEndArray();
+            }
+            generator.writeEndObject();
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    @Override
+    public PeerForwardingEvents deserialize(final byte[] bytes) throws IOException {
+        try (final InputStream inputStream = compression.decompress(new ByteArrayInputStream(bytes));
+             final JsonParser parser = smileObjectMapper.getFactory().createParser(inputStream)) {
+            expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+            String destinationPluginId = null;
+            String destinationPipelineName = null;
+            List<Event> events = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case DESTINATION_PLUGIN_ID:
+                        destinationPluginId = parser.getValueAsString();
+                        break;
+                    case DESTINATION_PIPELINE_NAME:
+                        destinationPipelineName = parser.getValueAsString();
+                        break;
+                    case EVENTS:
+                        events = readEvents(parser);
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+            return new PeerForwardingEvents(events, destinationPluginId, destinationPipelineName);
+        }
+    }
+
+    private void writeEvent(final JsonGenerator generator, final Event event) throws IOException {
+        final EventMetadata eventMetadata = event.getMetadata();
+        generator.writeStartObject();
+        generator.writeStringField(EVENT_TYPE, eventMetadata.getEventType());
+        final Instant timeReceived = eventMetadata.getTimeReceived();
+        if (timeReceived != null) {
+            generator.writeNumberField(TIME_RECEIVED_SECONDS, timeReceived.getEpochSecond());
+            generator.writeNumberField(TIME_RECEIVED_NANOS, timeReceived.getNano());
+        }
+        generator.writeFieldName(ATTRIBUTES);
+        generator.writeObject(eventMetadata.getAttributes());
+        generator.writeFieldName(DATA);
+        generator.writeTree(event.getJsonNode());
+        generator.writeEndObject();
+    }
+
+    private List<Event> readEvents(final JsonParser parser) throws IOException {
+        expectToken(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        final List<Event> events = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            events.add(readEvent(parser));
+        }
+        expectToken(parser, parser.currentToken(), JsonToken.END_ARRAY);
+        return events;
+    }
+
+    private Event readEvent(final JsonParser parser) throws IOException {
+        String eventType = null;
+        Long timeReceivedSeconds = null;
+        int timeReceivedNanos = 0;
+        Map<String, Object> attributes = null;
+        JsonNode data = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String fieldName = parser.currentName();
+            parser.nextToken();
+            switch (fieldName) {
+                case EVENT_TYPE:
+                    eventType = parser.getValueAsString();
+                    break;
+                case TIME_RECEIVED_SECONDS:
+                    timeReceivedSeconds = parser.getLongValue();
+                    break;
+                case TIME_RECEIVED_NANOS:
+                    timeReceivedNanos = parser.getIntValue();
+                    break;
+                case ATTRIBUTES:
+                    attributes = parser.readValueAs(ATTRIBUTES_TYPE_REFERENCE);
+                    break;
+                case DATA:
+                    data = parser.readValueAsTree();
+                    break;
+                default:
+                    parser.skipChildren();
+            }
+        }
+        if (eventType == null) {
+            throw new JsonParseException(parser, "Forwarded event is missing the event type.");
+        }
+
+        final DefaultEventMetadata eventMetadata = DefaultEventMetadata.builder()
+                .withEventType(eventType)
+                .withTimeReceived(timeReceivedSeconds != null ? Instant.ofEpochSecond(timeReceivedSeconds, timeReceivedNanos) : null)
+                .withAttributes(attributes)
+                .build();
+
+        if (eventType.equalsIgnoreCase(TRACE_EVENT_TYPE)) {
+            return JacksonSpan.builder()
+                    .withData(data)
+                    .withEventMetadata(eventMetadata)
+                    .build();
+        }
+        return JacksonEvent.builder()
+                .withData(data)
+                .withEventMetadata(eventMetadata)
+                .build();
+    }
+
+    private static void expectToken(final JsonParser parser, final JsonToken actual, final JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual + " in forwarded events.");
+        }
+    }
+}
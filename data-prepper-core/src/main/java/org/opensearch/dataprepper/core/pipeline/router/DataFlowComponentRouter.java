@@ -13,8 +13,10 @@ import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -51,4 +53,39 @@ class DataFlowComponentRouter {
         }
         componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
     }
+
+    /**
+     * Routes a batch which was evaluated by {@link RouteEventEvaluator#evaluateBatchRoutes(Collection)}.
+     *
+     * @param routedRecords The route membership of the batch
+     * @param dataFlowComponent The component to route to
+     * @param getRecordStrategy The strategy for getting records
+     * @param componentRecordsConsumer Accepts the component and its records
+     * @param <C> The type of component
+     * @return The positions of the records which were routed to the component
+     */
+    <C> BitSet route(final RoutedRecords routedRecords,
+                     final DataFlowComponent<C> dataFlowComponent,
+                     final RouterGetRecordStrategy getRecordStrategy,
+                     final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
+
+        final List<Record> allRecords = routedRecords.getRecords();
+        final Collection<Record> recordsForComponent;
+        final BitSet routedPositions;
+        final Set<String> dataFlowComponentRoutes = dataFlowComponent.getRoutes();
+
+        if (dataFlowComponentRoutes.isEmpty()) {
+            recordsForComponent = getRecordStrategy.getAllRecords(allRecords);
+            routedPositions = new BitSet(allRecords.size());
+            routedPositions.set(0, allRecords.size());
+        } else {
+            routedPositions = routedRecords.getRecordsMatchingAnyRoute(dataFlowComponentRoutes);
+            recordsForComponent = new ArrayList<>(routedPositions.cardinality());
+            for (int i = routedPositions.nextSetBit(0); i >= 0; i = routedPositions.nextSetBit(i + 1)) {
+                recordsForComponent.add(getRecordStrategy.getRecord(allRecords.get(i)));
+            }
+        }
+        componentRecordsConsumer.accept(dataFlowComponent.getComponent(), recordsForComponent);
+        return routedPositions;
+    }
 }
@@ -16,10 +16,14 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,10 +33,17 @@ class RouteEventEvaluator {
 
     private final ExpressionEvaluator evaluator;
     private final Collection<ConditionalRoute> routes;
+    private final Map<String, List<String>> conditionsToRouteNames;
 
     RouteEventEvaluator(final ExpressionEvaluator evaluator, final Collection<ConditionalRoute> routes) {
         this.evaluator = evaluator;
         this.routes = routes;
+
+        conditionsToRouteNames = new LinkedHashMap<>();
+        for (final ConditionalRoute route : routes) {
+            conditionsToRouteNames.computeIfAbsent(route.getCondition(), condition -> new ArrayList<>())
+                    .add(route.getName());
+        }
     }
 
     Map<Record, Set<String>> evaluateEventRoutes(final Collection<Record> records) {
@@ -61,6 +72,64 @@ class RouteEventEvaluator {
         return recordsToRoutes;
     }
 
+    /**
+     * Evaluates all routes over a batch of records. Each distinct route condition is evaluated once per event,
+     * so routes which share a condition share the result.
+     *
+     * @param records The records to evaluate
+     * @return The route membership of every record in the batch
+     */
+    RoutedRecords evaluateBatchRoutes(final Collection<Record> records) {
+        final List<Record> recordList = records instanceof List ? (List<Record>) records : new ArrayList<>(records);
+        final int numberOfRecords = recordList.size();
+
+        final Event[] events = new Event[numberOfRecords];
+        final BitSet recordsWithoutRoutes = new BitSet(numberOfRecords);
+        recordsWithoutRoutes.set(0, numberOfRecords);
+
+        int nonEventRecords = 0;
+        for (int i = 0; i < numberOfRecords; i++) {
+            final Object data = recordList.get(i).getData();
+            if (data instanceof Event) {
+                events[i] = (Event) data;
+            } else {
+                nonEventRecords++;
+            }
+        }
+
+        if (nonEventRecords > 0) {
+            LOG.warn("Received {} records which are not events. These will have no routes applied.", nonEventRecords);
+        }
+
+        final Map<String, BitSet> routeMembership = new HashMap<>();
+        for (final Map.Entry<String, List<String>> conditionEntry : conditionsToRouteNames.entrySet()) {
+            final BitSet matchingRecords = evaluateCondition(conditionEntry.getKey(), events);
+            recordsWithoutRoutes.andNot(matchingRecords);
+            for (final String routeName : conditionEntry.getValue()) {
+                routeMembership.put(routeName, matchingRecords);
+            }
+        }
+
+        return new RoutedRecords(recordList, routeMembership, recordsWithoutRoutes);
+    }
+
+    private BitSet evaluateCondition(final String condition, final Event[] events) {
+        final BitSet matchingRecords = new BitSet(events.length);
+        for (int i = 0; i < events.length; i++) {
+            if (events[i] == null) {
+                continue;
+            }
+            try {
+                if (evaluator.evaluateConditional(condition, events[i])) {
+                    matchingRecords.set(i);
+                }
+            } catch (final Exception ex) {
+                LOG.error("Failed to evaluate route. This route will not be applied to any events.", ex);
+            }
+        }
+        return matchingRecords;
+    }
+
     private Set<String> findMatchedRoutes(final Event event) {
         final Set<String> matchRoutes = new HashSet<>();
         for (ConditionalRoute route : routes) {
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.pipeline.router;
+
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Package-protected result of evaluating all routes over a batch of records. Route membership is held as one
+ * {@link BitSet} per route, indexed by the position of the record in the batch.
+ */
+class RoutedRecords {
+    private final List<Record> records;
+    private final Map<String, BitSet> routeMembership;
+    private final BitSet recordsWithoutRoutes;
+
+    RoutedRecords(final List<Record> records, final Map<String, BitSet> routeMembership, final BitSet recordsWithoutRoutes) {
+        this.records = records;
+        this.routeMembership = routeMembership;
+        this.recordsWithoutRoutes = recordsWithoutRoutes;
+    }
+
+    List<Record> getRecords() {
+        return records;
+    }
+
+    /**
+     * Gets the positions of the records which match any of the given routes. A record which matched no route at all
+     * is included when the routes contain {@link DataFlowComponentRouter#DEFAULT_ROUTE}.
+     *
+     * @param routes The route names
+     * @return A new {@link BitSet} of record positions
+     */
+    BitSet getRecordsMatchingAnyRoute(final Set<String> routes) {
+        final BitSet matchingRecords = new BitSet(records.size());
+        for (final String route : routes) {
+            final BitSet recordsForRoute = routeMembership.get(route);
+            if (recordsForRoute != null) {
+                matchingRecords.or(recordsForRoute);
+            }
+        }
+        if (routes.contains(DataFlowComponentRouter.DEFAULT_ROUTE)) {
+            matchingRecords.or(recordsWithoutRoutes);
+        }
+        return matchingRecords;
+    }
+}
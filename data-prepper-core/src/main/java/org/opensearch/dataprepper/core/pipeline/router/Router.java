@@ -13,8 +13,10 @@ import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -29,13 +31,27 @@ public class Router {
     private final RouteEventEvaluator routeEventEvaluator;
     private final DataFlowComponentRouter dataFlowComponentRouter;
     private final Consumer<Event> noRouteHandler;
+    private final boolean batchRouting;
 
     Router(final RouteEventEvaluator routeEventEvaluator, final DataFlowComponentRouter dataFlowComponentRouter, final Consumer<Event> noRouteHandler) {
+        this(routeEventEvaluator, dataFlowComponentRouter, noRouteHandler, false);
+    }
+
+    /**
+     * @param batchRouting When true, all routes are evaluated over the whole batch at once and route membership is
+     *                     tracked by record position rather than by a set of route names per record.
+     */
+    Router(final RouteEventEvaluator routeEventEvaluator, final DataFlowComponentRouter dataFlowComponentRouter, final Consumer<Event> noRouteHandler, final boolean batchRouting) {
         this.routeEventEvaluator = Objects.requireNonNull(routeEventEvaluator);
         this.dataFlowComponentRouter = dataFlowComponentRouter;
         this.noRouteHandler = noRouteHandler;
+        this.batchRouting = batchRouting;
     }
 
+    /**
+     * Routes the records to the components. The records of every component are collected before any of them is
+     * passed to the consumer, since {@link RouterCopyRecordStrategy} may mark an event as shared while it copies it.
+     */
     public <C> void route(
             final Collection<Record> allRecords,
             final Collection<DataFlowComponent<C>> dataFlowComponents,
@@ -46,6 +62,11 @@ public class Router {
         Objects.requireNonNull(dataFlowComponents);
         Objects.requireNonNull(componentRecordsConsumer);
 
+        if (batchRouting) {
+            routeBatch(allRecords, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
+            return;
+        }
+
         final Map<C, Collection<Record>> componentRecords = new LinkedHashMap<>();
 
         final Map<Record, Set<String>> recordsToRoutes = routeEventEvaluator.evaluateEventRoutes(allRecords);
@@ -84,4 +105,32 @@ public class Router {
             }
         }
     }
+
+    private <C> void routeBatch(
+            final Collection<Record> allRecords,
+            final Collection<DataFlowComponent<C>> dataFlowComponents,
+            final RouterGetRecordStrategy getRecordStrategy,
+            final BiConsumer<C, Collection<Record>> componentRecordsConsumer) {
+
+        final Map<C, Collection<Record>> componentRecords = new LinkedHashMap<>();
+
+        final RoutedRecords routedRecords = routeEventEvaluator.evaluateBatchRoutes(allRecords);
+        final List<Record> records = routedRecords.getRecords();
+        final BitSet routedPositions = new BitSet(records.size());
+
+        for (DataFlowComponent<C> dataFlowComponent : dataFlowComponents) {
+            routedPositions.or(dataFlowComponentRouter.route(routedRecords, dataFlowComponent, getRecordStrategy, componentRecords::put));
+        }
+
+        for (Map.Entry<C, Collection<Record>> entry : componentRecords.entrySet()) {
+            componentRecordsConsumer.accept(entry.getKey(), entry.getValue());
+        }
+
+        for (int i = routedPositions.nextClearBit(0); i < records.size(); i = routedPositions.nextClearBit(i + 1)) {
+            final Record record = records.get(i);
+            if (record.getData() instanceof Event) {
+                noRouteHandler.accept((Event) record.getData());
+            }
+        }
+    }
 }
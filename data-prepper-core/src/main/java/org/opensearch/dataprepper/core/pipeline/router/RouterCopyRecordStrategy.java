@@ -99,7 +99,18 @@ public class RouterCopyRecordStrategy implements RouterGetRecordStrategy {
                 JacksonEvent newRecordEvent;
                 Record newRecord;
                 InternalEventHandle internalHandle = (InternalEventHandle)recordEvent.getEventHandle();
-                if (internalHandle != null && internalHandle.hasAcknowledgementSet()) {
+                if (recordEvent instanceof JacksonEvent) {
+                    // The copy shares the event data and only clones what either event later modifies. The Router
+                    // gets the records of every component before it publishes any of them, so the original event
+                    // has not reached another thread yet when it is marked as shared.
+                    ((JacksonEvent) recordEvent).markDataShared();
+                    newRecordEvent = JacksonEvent.fromEventSharingData((JacksonEvent) recordEvent);
+                    newRecord = new Record<>(newRecordEvent);
+                    if (internalHandle != null && internalHandle.hasAcknowledgementSet()) {
+                        internalHandle.addEventHandle(newRecordEvent.getEventHandle());
+                        acquireEventReference(newRecord);
+                    }
+                } else if (internalHandle != null && internalHandle.hasAcknowledgementSet()) {
                     final EventMetadata eventMetadata = recordEvent.getMetadata();
                     final EventBuilder eventBuilder = (EventBuilder) eventFactory.eventBuilder(EventBuilder.class).withEventMetadata(eventMetadata).withData(recordEvent.toMap());
                     newRecordEvent = (JacksonEvent) eventBuilder.build();
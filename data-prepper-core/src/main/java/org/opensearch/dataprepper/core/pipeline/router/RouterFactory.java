@@ -30,6 +30,6 @@ public class RouterFactory {
     public Router createRouter(final Set<ConditionalRoute> routes) {
         final RouteEventEvaluator routeEventEvaluator = new RouteEventEvaluator(expressionEvaluator, routes);
         return new Router(routeEventEvaluator, dataFlowComponentRouter,
-                    RELEASE_EVENT_ON_NO_ROUTE);
+                    RELEASE_EVENT_ON_NO_ROUTE, true);
     }
 }
@@ -9,69 +9,148 @@
 
 package org.opensearch.dataprepper.core.acknowledgements;
 
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.opensearch.dataprepper.model.event.DefaultEventHandle;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
-import static org.mockito.Mockito.mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class AcknowledgementSetMonitorTests {
-    private static final int DEFAULT_WAIT_TIME_MS = 500;
+    private static final long START_MILLIS = 1_700_000_000_000L;
     @Mock
     DefaultAcknowledgementSet acknowledgementSet1;
     @Mock
     DefaultAcknowledgementSet acknowledgementSet2;
     @Mock
-    DefaultEventHandle eventHandle1;
+    private Clock clock;
+    @Mock
+    private Timer sweepLatencyTimer;
 
+    private long currentMillis;
     private AcknowledgementSetMonitor acknowledgementSetMonitor;
 
     AcknowledgementSetMonitor createObjectUnderTest() {
-        return new AcknowledgementSetMonitor();
+        return new AcknowledgementSetMonitor(clock, sweepLatencyTimer);
     }
 
     @BeforeEach
     void setup() {
-        acknowledgementSet1 = mock(DefaultAcknowledgementSet.class);
-        eventHandle1 = mock(DefaultEventHandle.class);
-        when(acknowledgementSet1.isDone()).thenReturn(true);
+        currentMillis = START_MILLIS;
+        when(clock.millis()).thenAnswer(a -> currentMillis);
         acknowledgementSetMonitor = createObjectUnderTest();
     }
 
+    private void advanceBy(final Duration duration) {
+        currentMillis += duration.toMillis();
+    }
+
     @Test
     public void testBasic() {
+        when(acknowledgementSet1.isDone()).thenReturn(true);
         acknowledgementSetMonitor.add(acknowledgementSet1);
-        Thread shutdownThread = new Thread(() -> {
-            try {
-                Thread.sleep(DEFAULT_WAIT_TIME_MS);
-            } catch (Exception e){}
-        });
-        shutdownThread.start();
+        advanceBy(AcknowledgementSetMonitor.TICK_DURATION);
         acknowledgementSetMonitor.run();
         assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+        verify(sweepLatencyTimer).record(any(Duration.class));
     }
 
     @Test
     public void testMultipleAcknowledgementSets() {
-        acknowledgementSet2 = mock(DefaultAcknowledgementSet.class);
+        when(acknowledgementSet1.isDone()).thenReturn(true);
         when(acknowledgementSet2.isDone()).thenReturn(false);
 
         acknowledgementSetMonitor.add(acknowledgementSet1);
         acknowledgementSetMonitor.add(acknowledgementSet2);
-        Thread shutdownThread = new Thread(() -> {
-            try {
-                Thread.sleep(DEFAULT_WAIT_TIME_MS);
-            } catch (Exception e){}
-        });
-        shutdownThread.start();
+        advanceBy(AcknowledgementSetMonitor.TICK_DURATION);
         acknowledgementSetMonitor.run();
         assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
     }
+
+    @Test
+    public void run_does_not_check_acknowledgement_sets_before_expiry() {
+        when(acknowledgementSet1.getExpiryTime()).thenReturn(Instant.ofEpochMilli(START_MILLIS).plusSeconds(10));
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+
+        advanceBy(Duration.ofSeconds(9));
+        acknowledgementSetMonitor.run();
+
+        verify(acknowledgementSet1, never()).isDone();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+
+        when(acknowledgementSet1.isDone()).thenReturn(true);
+        advanceBy(Duration.ofSeconds(2));
+        acknowledgementSetMonitor.run();
+
+        verify(acknowledgementSet1).isDone();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+    }
+
+    @Test
+    public void run_checks_acknowledgement_sets_with_expiry_beyond_one_turn_of_the_wheel() {
+        final Duration wheelTurn = AcknowledgementSetMonitor.TICK_DURATION.multipliedBy(AcknowledgementSetMonitor.WHEEL_SIZE);
+        when(acknowledgementSet1.getExpiryTime()).thenReturn(Instant.ofEpochMilli(START_MILLIS).plus(wheelTurn.multipliedBy(2)));
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+
+        advanceBy(wheelTurn);
+        acknowledgementSetMonitor.run();
+        verify(acknowledgementSet1, never()).isDone();
+
+        when(acknowledgementSet1.isDone()).thenReturn(true);
+        advanceBy(wheelTurn.plus(AcknowledgementSetMonitor.TICK_DURATION));
+        acknowledgementSetMonitor.run();
+
+        verify(acknowledgementSet1).isDone();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+    }
+
+    @Test
+    public void run_reschedules_acknowledgement_sets_with_increased_expiry() {
+        final Instant initialExpiry = Instant.ofEpochMilli(START_MILLIS).plusSeconds(1);
+        when(acknowledgementSet1.getExpiryTime()).thenReturn(initialExpiry, initialExpiry.plusSeconds(10));
+        when(acknowledgementSet1.isDone()).thenReturn(false);
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+
+        advanceBy(Duration.ofSeconds(2));
+        acknowledgementSetMonitor.run();
+        verify(acknowledgementSet1, times(1)).isDone();
+
+        advanceBy(Duration.ofSeconds(5));
+        acknowledgementSetMonitor.run();
+        verify(acknowledgementSet1, times(1)).isDone();
+
+        advanceBy(Duration.ofSeconds(5));
+        acknowledgementSetMonitor.run();
+        verify(acknowledgementSet1, times(2)).isDone();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+    }
+
+    @Test
+    public void complete_removes_acknowledgement_set_without_checking_it() {
+        acknowledgementSetMonitor.add(acknowledgementSet1);
+        acknowledgementSetMonitor.add(acknowledgementSet2);
+
+        acknowledgementSetMonitor.complete(acknowledgementSet1);
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(1));
+
+        when(acknowledgementSet2.isDone()).thenReturn(true);
+        advanceBy(AcknowledgementSetMonitor.TICK_DURATION);
+        acknowledgementSetMonitor.run();
+
+        verify(acknowledgementSet1, never()).isDone();
+        assertThat(acknowledgementSetMonitor.getSize(), equalTo(0));
+    }
 }
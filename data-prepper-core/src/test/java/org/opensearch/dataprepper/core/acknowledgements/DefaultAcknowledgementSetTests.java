@@ -22,11 +22,16 @@ import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import static org.awaitility.Awaitility.await;
@@ -350,4 +355,98 @@ class DefaultAcknowledgementSetTests {
                 .until(() -> defaultAcknowledgementSet.isDone());
         assertThat(acknowledgementSetResult, equalTo(null));
     }
+
+    @Test
+    void complete_is_idempotent_and_invokes_callback_once() {
+        final AtomicInteger callbackCount = new AtomicInteger(0);
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(flag -> callbackCount.incrementAndGet());
+
+        defaultAcknowledgementSet.complete();
+        defaultAcknowledgementSet.complete();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(defaultAcknowledgementSet.isDone(), equalTo(true)));
+        assertThat(callbackCount.get(), equalTo(1));
+    }
+
+    @Test
+    void release_before_complete_invokes_callback_on_complete() {
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(flag -> acknowledgementSetResult = flag);
+        defaultAcknowledgementSet.add(event);
+
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(false));
+        defaultAcknowledgementSet.complete();
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(acknowledgementSetResult, equalTo(true)));
+    }
+
+    @Test
+    void acquire_after_last_release_is_invalid() {
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+
+        defaultAcknowledgementSet.acquire(handle);
+
+        assertThat(invalidAcquiresCounter, equalTo(1));
+    }
+
+    @Test
+    void callback_completion_listener_is_invoked_after_callback() {
+        setupMetrics();
+        final List<DefaultAcknowledgementSet> completedSets = new ArrayList<>();
+        defaultAcknowledgementSet = new DefaultAcknowledgementSet(executor, flag -> acknowledgementSetResult = flag,
+                TEST_TIMEOUT, metrics, false, completedSets::add);
+        defaultAcknowledgementSet.add(event);
+        defaultAcknowledgementSet.complete();
+
+        assertThat(defaultAcknowledgementSet.release(handle, true), equalTo(true));
+
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(completedSets, equalTo(List.of(defaultAcknowledgementSet))));
+        assertThat(acknowledgementSetResult, equalTo(true));
+        verify(metrics).increment(DefaultAcknowledgementSetMetrics.COMPLETED_METRIC_NAME);
+    }
+
+    @Test
+    void concurrent_releases_invoke_callback_exactly_once() throws Exception {
+        final int numberOfHandles = 200;
+        final AtomicInteger callbackCount = new AtomicInteger(0);
+        defaultAcknowledgementSet = createObjectUnderTestWithCallback(flag -> callbackCount.incrementAndGet());
+        final List<DefaultEventHandle> handles = new ArrayList<>();
+        for (int i = 0; i < numberOfHandles; i++) {
+            final DefaultEventHandle eventHandle = mock(DefaultEventHandle.class);
+            defaultAcknowledgementSet.add(eventHandle);
+            defaultAcknowledgementSet.acquire(eventHandle);
+            handles.add(eventHandle);
+        }
+        defaultAcknowledgementSet.complete();
+
+        final ExecutorService releaseExecutor = Executors.newFixedThreadPool(4);
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        final AtomicInteger successfulReleases = new AtomicInteger(0);
+        final List<Future<?>> futures = new ArrayList<>();
+        for (final DefaultEventHandle eventHandle : handles) {
+            for (int i = 0; i < 3; i++) {
+                futures.add(releaseExecutor.submit(() -> {
+                    startLatch.await();
+                    if (defaultAcknowledgementSet.release(eventHandle, true)) {
+                        successfulReleases.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+        }
+        startLatch.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        releaseExecutor.shutdown();
+
+        assertThat(successfulReleases.get(), equalTo(1));
+        await().atMost(Duration.ofSeconds(5))
+                .untilAsserted(() -> assertThat(defaultAcknowledgementSet.isDone(), equalTo(true)));
+        assertThat(callbackCount.get(), equalTo(1));
+    }
 }
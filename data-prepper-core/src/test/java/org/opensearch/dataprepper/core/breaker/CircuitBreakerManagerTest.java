@@ -128,5 +128,15 @@ class CircuitBreakerManagerTest {
             final CircuitBreaker actualBreaker = optionalCircuitBreaker.get();
             assertThat(actualBreaker.isOpen(), equalTo(true));
         }
+
+        @Test
+        void getGlobalCircuitBreaker_returns_CircuitBreaker_where_getPressure_is_the_highest_pressure() {
+            when(innerCircuitBreakers.get(0).getPressure()).thenReturn(0.25);
+            when(innerCircuitBreakers.get(1).getPressure()).thenReturn(0.75);
+            when(innerCircuitBreakers.get(2).getPressure()).thenReturn(0.0);
+
+            final CircuitBreaker actualBreaker = createObjectUnderTest().getGlobalCircuitBreaker().get();
+            assertThat(actualBreaker.getPressure(), equalTo(0.75));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.breaker;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.management.NotificationEmitter;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+@ExtendWith(MockitoExtension.class)
+class GarbageCollectionMonitorTest {
+    private static final String EDEN = "G1 Eden Space";
+    private static final String OLD = "G1 Old Gen";
+    private static final String METASPACE = "Metaspace";
+    private static final String YOUNG_COLLECTOR = "G1 Young Generation";
+    private static final String OLD_COLLECTOR = "G1 Old Generation";
+    private static final String MAJOR_GC_ACTION = "end of major GC";
+
+    @Mock
+    private MemoryPoolMXBean edenPool;
+    @Mock
+    private MemoryPoolMXBean oldPool;
+    @Mock
+    private MemoryPoolMXBean metaspacePool;
+
+    private List<GarbageCollectorMXBean> garbageCollectorMXBeans;
+
+    @BeforeEach
+    void setUp() {
+        when(edenPool.getType()).thenReturn(MemoryType.HEAP);
+        when(edenPool.getName()).thenReturn(EDEN);
+        when(oldPool.getType()).thenReturn(MemoryType.HEAP);
+        when(oldPool.getName()).thenReturn(OLD);
+        when(metaspacePool.getType()).thenReturn(MemoryType.NON_HEAP);
+        garbageCollectorMXBeans = List.of();
+    }
+
+    private GarbageCollectionMonitor createObjectUnderTest() {
+        return new GarbageCollectionMonitor(garbageCollectorMXBeans, List.of(edenPool, oldPool, metaspacePool));
+    }
+
+    private static Map<String, MemoryUsage> usage(final long eden, final long old) {
+        return Map.of(
+                EDEN, new MemoryUsage(0, eden, eden, -1),
+                OLD, new MemoryUsage(0, old, old, -1),
+                METASPACE, new MemoryUsage(0, 1000, 1000, -1));
+    }
+
+    @Test
+    void values_are_unknown_before_first_gc() {
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+
+        assertThat(objectUnderTest.getOldGenerationUsedAfterGc(), equalTo(GarbageCollectionMonitor.UNKNOWN));
+        assertThat(objectUnderTest.getAllocationBytesPerSecond(), equalTo(0L));
+    }
+
+    @Test
+    void recordGc_tracks_old_generation_used_after_major_gc() {
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordGc(OLD_COLLECTOR, MAJOR_GC_ACTION, 100, 110, usage(500, 400), usage(0, 300));
+
+        assertThat(objectUnderTest.getOldGenerationUsedAfterGc(), equalTo(300L));
+        assertThat(objectUnderTest.getOldGenerationCollectionCount(), equalTo(1L));
+    }
+
+    @Test
+    void recordGc_ignores_old_generation_used_after_young_gc() {
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordGc(OLD_COLLECTOR, MAJOR_GC_ACTION, 100, 110, usage(500, 400), usage(0, 300));
+        objectUnderTest.recordGc(YOUNG_COLLECTOR, GarbageCollectionMonitor.MINOR_GC_ACTION, 610, 620, usage(1000, 300), usage(0, 350));
+
+        assertThat(objectUnderTest.getOldGenerationUsedAfterGc(), equalTo(300L));
+        assertThat(objectUnderTest.getOldGenerationCollectionCount(), equalTo(1L));
+    }
+
+    @Test
+    void recordGc_tracks_old_generation_used_after_mixed_gc() {
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordGc(YOUNG_COLLECTOR, GarbageCollectionMonitor.MINOR_GC_ACTION, 100, 110, usage(500, 400), usage(0, 250));
+
+        assertThat(objectUnderTest.getOldGenerationUsedAfterGc(), equalTo(250L));
+        assertThat(objectUnderTest.getOldGenerationCollectionCount(), equalTo(1L));
+    }
+
+    @Test
+    void recordGc_ignores_pauses_of_concurrent_collectors() {
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordGc("Shenandoah Pauses", "end of GC pause", 100, 110, usage(500, 400), usage(500, 300));
+
+        assertThat(objectUnderTest.getOldGenerationUsedAfterGc(), equalTo(GarbageCollectionMonitor.UNKNOWN));
+        assertThat(objectUnderTest.getOldGenerationCollectionCount(), equalTo(0L));
+    }
+
+    @Test
+    void recordGc_calculates_allocation_rate_between_collections() {
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordGc(YOUNG_COLLECTOR, GarbageCollectionMonitor.MINOR_GC_ACTION, 100, 110, usage(500, 200), usage(0, 300));
+        objectUnderTest.recordGc(YOUNG_COLLECTOR, GarbageCollectionMonitor.MINOR_GC_ACTION, 610, 620, usage(1000, 300), usage(0, 350));
+
+        assertThat(objectUnderTest.getAllocationBytesPerSecond(), equalTo(2000L));
+    }
+
+    @Test
+    void heap_is_the_old_generation_without_generational_pools() {
+        when(oldPool.getName()).thenReturn("ZHeap");
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+
+        objectUnderTest.recordGc("ZGC Cycles", "end of GC cycle", 100, 110, Map.of(), Map.of(EDEN, new MemoryUsage(0, 10, 10, -1), "ZHeap", new MemoryUsage(0, 20, 20, -1)));
+
+        assertThat(objectUnderTest.getOldGenerationUsedAfterGc(), equalTo(30L));
+    }
+
+    @Test
+    void listens_to_garbage_collector_notifications() throws Exception {
+        final GarbageCollectorMXBean garbageCollectorMXBean = mock(GarbageCollectorMXBean.class, withSettings().extraInterfaces(NotificationEmitter.class));
+        garbageCollectorMXBeans = List.of(garbageCollectorMXBean);
+
+        final GarbageCollectionMonitor objectUnderTest = createObjectUnderTest();
+        verify((NotificationEmitter) garbageCollectorMXBean).addNotificationListener(eq(objectUnderTest), any(), any());
+
+        objectUnderTest.close();
+        verify((NotificationEmitter) garbageCollectorMXBean).removeNotificationListener(objectUnderTest);
+    }
+}
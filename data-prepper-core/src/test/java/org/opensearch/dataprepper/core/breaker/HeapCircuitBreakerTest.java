@@ -21,17 +21,21 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.core.parser.model.HeapCircuitBreakerConfig;
 import org.opensearch.dataprepper.model.types.ByteCount;
 
+import java.lang.management.BufferPoolMXBean;
 import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryUsage;
 import java.time.Duration;
+import java.util.List;
 import java.util.Random;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -241,4 +245,175 @@ class HeapCircuitBreakerTest {
             assertThat(objectUnderTest.isOpen(), equalTo(false));
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class BackpressureConfig {
+        @Mock
+        private GarbageCollectionMonitor garbageCollectionMonitor;
+
+        @Mock
+        private BufferPoolMXBean directBufferPool;
+
+        @BeforeEach
+        void setUp() {
+            byteUsage = 2000;
+            final ByteCount usageByteCount = mock(ByteCount.class);
+            when(usageByteCount.getBytes()).thenReturn(byteUsage);
+            when(config.getUsage()).thenReturn(usageByteCount);
+            final ByteCount backpressureByteCount = mock(ByteCount.class);
+            when(backpressureByteCount.getBytes()).thenReturn(1000L);
+            when(config.getBackpressureUsage()).thenReturn(backpressureByteCount);
+            lenient().when(config.getReset()).thenReturn(SMALL_RESET_PERIOD);
+            lenient().when(config.getCheckInterval()).thenReturn(SMALL_CHECK_INTERVAL);
+
+            memoryUsage = mock(MemoryUsage.class);
+            lenient().when(memoryMXBean.getHeapMemoryUsage()).thenReturn(memoryUsage);
+            lenient().when(directBufferPool.getName()).thenReturn("direct");
+        }
+
+        private HeapCircuitBreaker createObjectUnderTest() {
+            return new HeapCircuitBreaker(config, memoryMXBean, garbageCollectionMonitor, List.of(directBufferPool));
+        }
+
+        @Test
+        void constructor_throws_if_backpressure_usage_is_greater_than_usage() {
+            final ByteCount backpressureByteCount = mock(ByteCount.class);
+            when(backpressureByteCount.getBytes()).thenReturn(byteUsage + 1);
+            when(config.getBackpressureUsage()).thenReturn(backpressureByteCount);
+            assertThrows(IllegalArgumentException.class, this::createObjectUnderTest);
+        }
+
+        @ParameterizedTest
+        @ValueSource(longs = {0, 500, 1000})
+        void getPressure_returns_zero_below_backpressure_usage(final long usedBytes) throws InterruptedException {
+            when(memoryUsage.getUsed()).thenReturn(usedBytes);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getPressure(), equalTo(0.0));
+        }
+
+        @Test
+        void getPressure_grows_between_backpressure_usage_and_usage() throws InterruptedException {
+            when(memoryUsage.getUsed()).thenReturn(1500L);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getPressure(), closeTo(0.5, 0.001));
+        }
+
+        @Test
+        void getPressure_includes_allocation_until_next_check() throws InterruptedException {
+            when(memoryUsage.getUsed()).thenReturn(1500L);
+            when(garbageCollectionMonitor.getAllocationBytesPerSecond()).thenReturn(5000L);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getPressure(), closeTo(0.75, 0.001));
+        }
+
+        @Test
+        void getPressure_returns_one_when_open() throws InterruptedException {
+            when(memoryUsage.getUsed()).thenReturn(byteUsage + 1);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+            assertThat(objectUnderTest.getPressure(), equalTo(1.0));
+        }
+
+        @Test
+        void isOpen_returns_true_if_direct_memory_is_greater_than_direct_usage() throws InterruptedException {
+            final ByteCount directByteCount = mock(ByteCount.class);
+            when(directByteCount.getBytes()).thenReturn(100L);
+            when(config.getDirectUsage()).thenReturn(directByteCount);
+            when(memoryUsage.getUsed()).thenReturn(0L);
+            when(directBufferPool.getMemoryUsed()).thenReturn(101L);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+        }
+
+        @Test
+        void getPressure_scales_direct_memory_with_the_backpressure_ratio() throws InterruptedException {
+            final ByteCount directByteCount = mock(ByteCount.class);
+            when(directByteCount.getBytes()).thenReturn(100L);
+            when(config.getDirectUsage()).thenReturn(directByteCount);
+            when(memoryUsage.getUsed()).thenReturn(0L);
+            when(directBufferPool.getMemoryUsed()).thenReturn(75L);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(false));
+            assertThat(objectUnderTest.getPressure(), closeTo(0.5, 0.001));
+        }
+
+        @Test
+        void post_gc_usage_uses_old_generation_after_gc() throws InterruptedException {
+            when(config.isPostGcUsage()).thenReturn(true);
+            when(garbageCollectionMonitor.getOldGenerationUsedAfterGc()).thenReturn(byteUsage + 1);
+            lenient().when(memoryUsage.getUsed()).thenReturn(0L);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+            verify(memoryMXBean, never()).getHeapMemoryUsage();
+        }
+
+        @Test
+        void post_gc_usage_does_not_request_collection_when_tripped() throws InterruptedException {
+            when(config.isPostGcUsage()).thenReturn(true);
+            when(config.getReset()).thenReturn(Duration.ofSeconds(10));
+            when(garbageCollectionMonitor.getOldGenerationUsedAfterGc()).thenReturn(byteUsage + 1);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+            verify(garbageCollectionMonitor, never()).requestCollection();
+        }
+
+        @Test
+        void post_gc_usage_requests_collection_while_open_without_old_generation_collection() throws InterruptedException {
+            when(config.isPostGcUsage()).thenReturn(true);
+            when(garbageCollectionMonitor.getOldGenerationUsedAfterGc()).thenReturn(byteUsage + 1);
+            when(garbageCollectionMonitor.getOldGenerationCollectionCount()).thenReturn(3L);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS * 4);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+            verify(garbageCollectionMonitor, atLeastOnce()).requestCollection();
+        }
+
+        @Test
+        void heap_usage_requests_collection_when_tripped() throws InterruptedException {
+            when(memoryUsage.getUsed()).thenReturn(byteUsage + 1);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+            verify(garbageCollectionMonitor, atLeastOnce()).requestCollection();
+        }
+
+        @Test
+        void post_gc_usage_uses_heap_usage_before_first_gc() throws InterruptedException {
+            when(config.isPostGcUsage()).thenReturn(true);
+            when(garbageCollectionMonitor.getOldGenerationUsedAfterGc()).thenReturn(GarbageCollectionMonitor.UNKNOWN);
+            when(memoryUsage.getUsed()).thenReturn(byteUsage + 1);
+
+            objectUnderTest = createObjectUnderTest();
+            Thread.sleep(SLEEP_MILLIS);
+            assertThat(objectUnderTest.isOpen(), equalTo(true));
+        }
+
+        @Test
+        void close_closes_the_garbage_collection_monitor() throws Exception {
+            lenient().when(memoryUsage.getUsed()).thenReturn(0L);
+            createObjectUnderTest().close();
+            verify(garbageCollectionMonitor).close();
+        }
+    }
+}
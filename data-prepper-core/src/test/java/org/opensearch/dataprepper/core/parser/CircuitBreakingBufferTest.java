@@ -30,9 +30,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
@@ -179,6 +184,36 @@ class CircuitBreakingBufferTest {
             verifyNoInteractions(buffer);
             verify(circuitBreaker).isOpen();
         }
+
+        @Test
+        void write_should_throw_if_CircuitBreaker_has_full_pressure() {
+            when(circuitBreaker.isOpen()).thenReturn(false);
+            when(circuitBreaker.getPressure()).thenReturn(1.0);
+
+            assertThrows(TimeoutException.class, () -> createObjectUnderTest().write(record, timeoutMillis));
+
+            verifyNoInteractions(buffer);
+        }
+
+        @Test
+        void writeAll_should_reject_a_fraction_of_writes_matching_the_CircuitBreaker_pressure() throws Exception {
+            when(circuitBreaker.isOpen()).thenReturn(false);
+            when(circuitBreaker.getPressure()).thenReturn(0.5);
+
+            final CircuitBreakingBuffer<Record<?>> objectUnderTest = createObjectUnderTest();
+            final List<Record<?>> records = Collections.singletonList(record);
+            int rejected = 0;
+            for (int i = 0; i < 1000; i++) {
+                try {
+                    objectUnderTest.writeAll(records, timeoutMillis);
+                } catch (final TimeoutException e) {
+                    rejected++;
+                }
+            }
+
+            assertThat(rejected, greaterThan(300));
+            assertThat(rejected, lessThan(700));
+        }
     }
 
     @Nested
@@ -213,5 +248,16 @@ class CircuitBreakingBufferTest {
             verifyNoInteractions(buffer);
             verify(circuitBreaker).isOpen();
         }
+
+        @Test
+        void writeBytesAsync_should_fail_with_TimeoutException_if_open() {
+            when(circuitBreaker.isOpen()).thenReturn(true);
+
+            final CompletableFuture<Void> writeFuture = createObjectUnderTest().writeBytesAsync(bytes, key, timeoutMillis);
+
+            final ExecutionException actualException = assertThrows(ExecutionException.class, writeFuture::get);
+            assertThat(actualException.getCause(), instanceOf(TimeoutException.class));
+            verifyNoInteractions(buffer);
+        }
     }
 }
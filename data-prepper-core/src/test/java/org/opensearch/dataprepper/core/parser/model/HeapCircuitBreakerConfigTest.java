@@ -24,6 +24,7 @@ import java.time.Duration;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class HeapCircuitBreakerConfigTest {
@@ -64,4 +65,28 @@ class HeapCircuitBreakerConfigTest {
         assertThat(config.getReset(), notNullValue());
         assertThat(config.getReset(), equalTo(HeapCircuitBreakerConfig.DEFAULT_RESET));
     }
-}
\ No newline at end of file
+
+    @Test
+    void deserialize_heap_with_backpressure() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("heap_with_backpressure.yaml");
+
+        final HeapCircuitBreakerConfig config = objectMapper.readValue(resourceStream, HeapCircuitBreakerConfig.class);
+
+        assertThat(config, notNullValue());
+        assertThat(config.getUsage().getBytes(), equalTo(24L));
+        assertThat(config.getBackpressureUsage().getBytes(), equalTo(16L));
+        assertThat(config.getDirectUsage().getBytes(), equalTo(12L));
+        assertThat(config.isPostGcUsage(), equalTo(true));
+    }
+
+    @Test
+    void deserialize_heap_without_backpressure_configured() throws IOException {
+        final InputStream resourceStream = this.getClass().getResourceAsStream("heap_without_reset.yaml");
+
+        final HeapCircuitBreakerConfig config = objectMapper.readValue(resourceStream, HeapCircuitBreakerConfig.class);
+
+        assertThat(config.getBackpressureUsage(), nullValue());
+        assertThat(config.getDirectUsage(), nullValue());
+        assertThat(config.isPostGcUsage(), equalTo(false));
+    }
+}
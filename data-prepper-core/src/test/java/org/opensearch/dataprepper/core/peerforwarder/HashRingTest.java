@@ -12,14 +12,21 @@ package org.opensearch.dataprepper.core.peerforwarder;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.PeerListProvider;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -125,6 +132,72 @@ class HashRingTest {
         Assertions.assertEquals(result1.get(), result2.get());
     }
 
+    @ParameterizedTest
+    @EnumSource(PeerHashStrategy.class)
+    void testGetServerIpEmptyMapWithStrategy(final PeerHashStrategy peerHashStrategy) {
+        when(peerListProvider.getPeerList()).thenReturn(Collections.emptyList());
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, peerHashStrategy);
+
+        Assertions.assertFalse(hashRing.getServerIp(IDENTIFICATION_KEY_LIST_1).isPresent());
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerHashStrategy.class)
+    void testGetServerIpIsIndependentOfPeerListOrder(final PeerHashStrategy peerHashStrategy) {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, peerHashStrategy);
+        final PeerListProvider reversedPeerListProvider = mock(PeerListProvider.class);
+        final List<String> reversedServerIps = new ArrayList<>(SERVER_IPS);
+        Collections.reverse(reversedServerIps);
+        when(reversedPeerListProvider.getPeerList()).thenReturn(reversedServerIps);
+        final HashRing reversedHashRing = new HashRing(reversedPeerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, peerHashStrategy);
+
+        for (int i = 0; i < 1000; i++) {
+            final List<String> identificationKeyValues = List.of("key" + i, "value" + i);
+            Assertions.assertEquals(hashRing.getServerIp(identificationKeyValues), reversedHashRing.getServerIp(identificationKeyValues));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerHashStrategy.class)
+    void testGetServerIpDistributesKeysAcrossAllServers(final PeerHashStrategy peerHashStrategy) {
+        hashRing = new HashRing(peerListProvider, PeerForwarderClientFactory.NUM_VIRTUAL_NODES, peerHashStrategy);
+
+        final Map<String, Integer> keysPerServer = new HashMap<>();
+        final int keyCount = 30_000;
+        for (int i = 0; i < keyCount; i++) {
+            keysPerServer.merge(hashRing.getServerIp(List.of(UUID.randomUUID().toString())).get(), 1, Integer::sum);
+        }
+
+        Assertions.assertEquals(new HashSet<>(SERVER_IPS), keysPerServer.keySet());
+        for (final int keys : keysPerServer.values()) {
+            Assertions.assertTrue(keys > keyCount / SERVER_IPS.size() / 2, "Unbalanced key distribution: " + keysPerServer);
+        }
+    }
+
+    @Test
+    void testRendezvousOnlyMovesKeysOfRemovedServer() {
+        hashRing = new HashRing(peerListProvider, MULTIPLE_VIRTUAL_NODE_COUNT, PeerHashStrategy.RENDEZVOUS);
+        final List<List<String>> identificationKeyValues = new ArrayList<>();
+        final List<Optional<String>> serverIpsBeforeChange = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            identificationKeyValues.add(List.of(UUID.randomUUID().toString()));
+            serverIpsBeforeChange.add(hashRing.getServerIp(identificationKeyValues.get(i)));
+        }
+
+        final String removedServerIp = SERVER_IPS.get(1);
+        when(peerListProvider.getPeerList()).thenReturn(List.of(SERVER_IPS.get(0), SERVER_IPS.get(2)));
+        hashRing.accept(Collections.emptyList());
+
+        for (int i = 0; i < identificationKeyValues.size(); i++) {
+            final Optional<String> serverIpAfterChange = hashRing.getServerIp(identificationKeyValues.get(i));
+            if (!serverIpsBeforeChange.get(i).get().equals(removedServerIp)) {
+                Assertions.assertEquals(serverIpsBeforeChange.get(i), serverIpAfterChange);
+            } else {
+                Assertions.assertNotEquals(removedServerIp, serverIpAfterChange.get());
+            }
+        }
+    }
+
     @Test
     void testEndpointChangeRebuildsMap() {
         hashRing = new HashRing(peerListProvider, SINGLE_VIRTUAL_NODE_COUNT);
@@ -0,0 +1,77 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class Murmur3Test {
+    @Test
+    void hash_matches_guava_murmur3_128_for_all_lengths() {
+        final Random random = new Random(42);
+        for (int length = 0; length < 100; length++) {
+            final byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+
+            assertThat(Murmur3.hash(bytes), equalTo(Hashing.murmur3_128().hashBytes(bytes).asLong()));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("identificationKeyValues")
+    void hashJoined_matches_hash_of_joined_utf8_bytes(final List<String> values) {
+        final byte[] joinedBytes = String.join(",", values).getBytes(StandardCharsets.UTF_8);
+
+        assertThat(Murmur3.hashJoined(values), equalTo(Murmur3.hash(joinedBytes)));
+        assertThat(Murmur3.hashJoined(new LinkedList<>(values)), equalTo(Murmur3.hash(joinedBytes)));
+    }
+
+    @Test
+    void hashJoined_matches_hash_of_joined_utf8_bytes_for_long_values() {
+        final List<String> values = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            values.add(UUID.randomUUID() + "\u00e9\u4e2d\ud83d\ude00" + i);
+            final byte[] joinedBytes = String.join(",", values).getBytes(StandardCharsets.UTF_8);
+
+            assertThat(Murmur3.hashJoined(values), equalTo(Murmur3.hash(joinedBytes)));
+        }
+    }
+
+    private static Stream<Arguments> identificationKeyValues() {
+        return Stream.of(
+                arguments(Collections.emptyList()),
+                arguments(List.of("")),
+                arguments(List.of("", "")),
+                arguments(List.of("key1")),
+                arguments(List.of("trace-id-0123456789abcdef", "service", "operation")),
+                arguments(Arrays.asList("a", null, "b")),
+                arguments(List.of("caf\u00e9", "\u4e2d\u6587", "emoji \ud83d\ude00")),
+                arguments(List.of("lone high \ud83d surrogate", "lone low \ude00 surrogate", "end high \ud83d")),
+                arguments(List.of("exactly sixteen!", "0123456789abcde"))
+        );
+    }
+}
@@ -54,13 +54,16 @@ class PeerForwarderClientFactoryTest {
         return new PeerForwarderClientFactory(peerForwarderConfiguration, peerClientPool, certificateProviderFactory, pluginMetrics);
     }
 
-    @Test
-    void testCreateHashRing_with_endpoints_should_return() {
+    @ParameterizedTest
+    @EnumSource(PeerHashStrategy.class)
+    void testCreateHashRing_with_endpoints_should_return(final PeerHashStrategy peerHashStrategy) {
         when(peerForwarderConfiguration.getDiscoveryMode()).thenReturn(DiscoveryMode.STATIC);
         when(peerForwarderConfiguration.getStaticEndpoints()).thenReturn(Collections.singletonList("10.10.0.1"));
+        when(peerForwarderConfiguration.getHashStrategy()).thenReturn(peerHashStrategy);
 
         HashRing hashRing = createObjectUnderTest().createHashRing();
         assertThat(hashRing, new IsInstanceOf(HashRing.class));
+        assertThat(hashRing.getServerIp(Collections.singletonList("key")).get(), equalTo("10.10.0.1"));
     }
 
     @Test
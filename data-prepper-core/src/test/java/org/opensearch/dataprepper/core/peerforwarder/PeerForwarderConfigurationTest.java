@@ -18,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.opensearch.dataprepper.TestDataProvider;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecCompression;
+import org.opensearch.dataprepper.core.peerforwarder.codec.PeerForwarderCodecType;
 import org.opensearch.dataprepper.core.peerforwarder.discovery.DiscoveryMode;
 import org.opensearch.dataprepper.pipeline.parser.DataPrepperDurationDeserializer;
 
@@ -71,6 +73,9 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(1));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(DEFAULT_FORWARDING_BATCH_TIMEOUT));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(true));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.JAVA));
+        assertThat(peerForwarderConfiguration.getCodecCompression(), equalTo(PeerForwarderCodecCompression.NONE));
+        assertThat(peerForwarderConfiguration.getHashStrategy(), equalTo(PeerHashStrategy.MD5));
     }
 
     @Test
@@ -104,6 +109,8 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getForwardingBatchQueueDepth(), equalTo(3));
         assertThat(peerForwarderConfiguration.getForwardingBatchTimeout(), equalTo(Duration.of(5, ChronoUnit.SECONDS)));
         assertThat(peerForwarderConfiguration.getBinaryCodec(), equalTo(false));
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.JSON));
+        assertThat(peerForwarderConfiguration.getHashStrategy(), equalTo(PeerHashStrategy.RENDEZVOUS));
     }
 
     @Test
@@ -161,6 +168,14 @@ class PeerForwarderConfigurationTest {
         assertThat(peerForwarderConfiguration.getDrainTimeout(), equalTo(Duration.ofSeconds(15)));
     }
 
+    @Test
+    void testValidPeerForwarderConfig_with_SmileCodec() throws IOException {
+        final PeerForwarderConfiguration peerForwarderConfiguration = makeConfig(TestDataProvider.VALID_PEER_FORWARDER_CONFIG_WITH_SMILE_CODEC_FILE);
+
+        assertThat(peerForwarderConfiguration.getCodec(), equalTo(PeerForwarderCodecType.SMILE));
+        assertThat(peerForwarderConfiguration.getCodecCompression(), equalTo(PeerForwarderCodecCompression.LZ4));
+    }
+
     @Test
     void testInvalidPeerForwarderConfig_with_bad_DrainTimeout() {
         assertThrows(JsonMappingException.class, () -> makeConfig(TestDataProvider.INVALID_PEER_FORWARDER_WITH_BAD_DRAIN_TIMEOUT));
@@ -199,6 +214,7 @@ class PeerForwarderConfigurationTest {
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_DNS_WITHOUT_DOMAIN_NAME_CONFIG_FILE,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_NEGATIVE_DRAIN_TIMEOUT,
             TestDataProvider.INVALID_PEER_FORWARDER_WITH_ZERO_LOCAL_WRITE_TIMEOUT,
+            TestDataProvider.INVALID_PEER_FORWARDER_WITH_CODEC_COMPRESSION_CONFIG_FILE,
             "src/test/resources/invalid_peer_forwarder_config_with_many_authentication.yml",
             "src/test/resources/invalid_peer_forwarder_config_with_mutual_tls_not_ssl.yml"
     })
@@ -616,7 +616,10 @@ class PeerForwarder_ClientServerIT {
                 null,
                 null,
                 null,
-                binaryCodec
+                binaryCodec,
+                null,
+                null,
+                null
         );
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.core.peerforwarder.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.opensearch.dataprepper.core.peerforwarder.model.PeerForwardingEvents;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.log.JacksonLog;
+import org.opensearch.dataprepper.model.trace.DefaultTraceGroupFields;
+import org.opensearch.dataprepper.model.trace.JacksonSpan;
+import org.opensearch.dataprepper.model.trace.Span;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SmilePeerForwarderCodecTest {
+    private static final ObjectMapper SMILE_OBJECT_MAPPER = new ObjectMapper(new SmileFactory()).registerModule(new JavaTimeModule());
+    private static final String PLUGIN_ID = "plugin_id";
+    private static final String PIPELINE_NAME = "pipeline_name";
+
+    private SmilePeerForwarderCodec createObjectUnderTest(final PeerForwarderCodecCompression compression) {
+        return new SmilePeerForwarderCodec(SMILE_OBJECT_MAPPER, compression);
+    }
+
+    @ParameterizedTest
+    @EnumSource(PeerForwarderCodecCompression.class)
+    void testCodec(final PeerForwarderCodecCompression compression) throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(compression);
+        final PeerForwardingEvents inputEvents = generatePeerForwardingEvents(3);
+
+        final byte[] bytes = objectUnderTest.serialize(inputEvents);
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(bytes);
+
+        assertThat(outputEvents.getDestinationPipelineName(), equalTo(PIPELINE_NAME));
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+        assertThat(outputEvents.getEvents().size(), equalTo(inputEvents.getEvents().size()));
+        for (int i = 0; i < inputEvents.getEvents().size(); i++) {
+            final Event inputEvent = inputEvents.getEvents().get(i);
+            final Event outputEvent = outputEvents.getEvents().get(i);
+            assertThat(outputEvent.toMap(), equalTo(inputEvent.toMap()));
+            assertThat(outputEvent.getMetadata().getEventType(), equalTo(inputEvent.getMetadata().getEventType()));
+            assertThat(outputEvent.getMetadata().getTimeReceived(), equalTo(inputEvent.getMetadata().getTimeReceived()));
+            assertThat(outputEvent.getMetadata().getAttributes(), equalTo(inputEvent.getMetadata().getAttributes()));
+        }
+    }
+
+    @Test
+    void testCodecWithTraceEvent() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+        final Span span = JacksonSpan.builder()
+                .withSpanId(UUID.randomUUID().toString())
+                .withTraceId(UUID.randomUUID().toString())
+                .withTraceState("")
+                .withParentSpanId("")
+                .withName("span")
+                .withServiceName("service")
+                .withKind("SPAN_KIND_SERVER")
+                .withStartTime("2024-01-01T00:00:00Z")
+                .withEndTime("2024-01-01T00:00:01Z")
+                .withTraceGroup("group")
+                .withDurationInNanos(1_000_000_000L)
+                .withTraceGroupFields(DefaultTraceGroupFields.builder()
+                        .withEndTime("2024-01-01T00:00:01Z")
+                        .withDurationInNanos(1_000_000_000L)
+                        .withStatusCode(1)
+                        .build())
+                .build();
+
+        final byte[] bytes = objectUnderTest.serialize(new PeerForwardingEvents(List.of(span), PLUGIN_ID, PIPELINE_NAME));
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(bytes);
+
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        final Event outputEvent = outputEvents.getEvents().get(0);
+        assertThat(outputEvent, instanceOf(JacksonSpan.class));
+        final Span outputSpan = (Span) outputEvent;
+        assertThat(outputSpan.getSpanId(), equalTo(span.getSpanId()));
+        assertThat(outputSpan.getTraceId(), equalTo(span.getTraceId()));
+        assertThat(outputSpan.getDurationInNanos(), equalTo(span.getDurationInNanos()));
+        assertThat(outputSpan.getTraceGroupFields(), equalTo(span.getTraceGroupFields()));
+        assertThat(outputEvent.toMap().keySet(), equalTo(span.toMap().keySet()));
+    }
+
+    @Test
+    void testCodecWithNullEvents() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+
+        final byte[] bytes = objectUnderTest.serialize(new PeerForwardingEvents(null, PLUGIN_ID, PIPELINE_NAME));
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(bytes);
+
+        assertThat(outputEvents.getEvents(), nullValue());
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+    }
+
+    @Test
+    void testSerializedBytesAreSmileDocument() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+
+        final byte[] bytes = objectUnderTest.serialize(generatePeerForwardingEvents(2));
+        final JsonNode document = SMILE_OBJECT_MAPPER.readTree(bytes);
+
+        assertThat(document.get(SmilePeerForwarderCodec.DESTINATION_PLUGIN_ID).asText(), equalTo(PLUGIN_ID));
+        assertThat(document.get(SmilePeerForwarderCodec.EVENTS).size(), equalTo(2));
+        assertThat(document.get(SmilePeerForwarderCodec.EVENTS).get(0).get(SmilePeerForwarderCodec.DATA).isObject(), equalTo(true));
+    }
+
+    @Test
+    void testCompressedBytesAreNotSmileDocument() throws IOException {
+        final byte[] uncompressed = createObjectUnderTest(PeerForwarderCodecCompression.NONE).serialize(generatePeerForwardingEvents(2));
+        final byte[] compressed = createObjectUnderTest(PeerForwarderCodecCompression.LZ4).serialize(generatePeerForwardingEvents(2));
+
+        assertThat(compressed[0], not(equalTo(uncompressed[0])));
+    }
+
+    @Test
+    void testDeserializeException() {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(new byte[0]));
+    }
+
+    @Test
+    void testDeserializeEventWithoutEventTypeThrows() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+        final byte[] bytes = SMILE_OBJECT_MAPPER.writeValueAsBytes(Map.of(
+                SmilePeerForwarderCodec.EVENTS, List.of(Map.of(SmilePeerForwarderCodec.DATA, Collections.emptyMap()))));
+
+        assertThrows(IOException.class, () -> objectUnderTest.deserialize(bytes));
+    }
+
+    @Test
+    void testDeserializeIgnoresUnknownFields() throws IOException {
+        final SmilePeerForwarderCodec objectUnderTest = createObjectUnderTest(PeerForwarderCodecCompression.NONE);
+        final byte[] bytes = SMILE_OBJECT_MAPPER.writeValueAsBytes(Map.of(
+                SmilePeerForwarderCodec.DESTINATION_PLUGIN_ID, PLUGIN_ID,
+                "unknown", Map.of("a", 1),
+                SmilePeerForwarderCodec.EVENTS, List.of(Map.of(
+                        SmilePeerForwarderCodec.EVENT_TYPE, "LOG",
+                        "unknown", List.of(1, 2),
+                        SmilePeerForwarderCodec.DATA, Map.of("key", "value")))));
+
+        final PeerForwardingEvents outputEvents = objectUnderTest.deserialize(bytes);
+
+        assertThat(outputEvents.getDestinationPluginId(), equalTo(PLUGIN_ID));
+        assertThat(outputEvents.getEvents().size(), equalTo(1));
+        assertThat(outputEvents.getEvents().get(0).get("key", String.class), equalTo("value"));
+    }
+
+    private PeerForwardingEvents generatePeerForwardingEvents(final int numEvents) {
+        final List<Event> events = new ArrayList<>();
+        for (int i = 0; i < numEvents; i++) {
+            final Event event = JacksonLog.builder()
+                    .withData(Map.of(
+                            "key1", "value",
+                            "number", i,
+                            "nested", Map.of("list", List.of(1, 2.5, "three"))))
+                    .withEventType("LOG")
+                    .withTimeReceived(Instant.ofEpochSecond(1_700_000_000L, 123_456_789L + i))
+                    .withEventMetadataAttributes(Map.of("attribute", "value" + i))
+                    .build();
+            events.add(event);
+        }
+        return new PeerForwardingEvents(events, PLUGIN_ID, PIPELINE_NAME);
+    }
+}
@@ -19,9 +19,11 @@ import org.opensearch.dataprepper.core.parser.DataFlowComponent;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -30,6 +32,8 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyCollection;
@@ -320,4 +324,69 @@ class DataFlowComponentRouterTest {
 
     }
 
+    @Nested
+    class BatchRouting {
+
+        private String knownRoute;
+        private List<Record> records;
+
+        @BeforeEach
+        void setUp() {
+            knownRoute = UUID.randomUUID().toString();
+            records = IntStream.range(0, 10)
+                    .mapToObj(i -> mock(Record.class))
+                    .collect(Collectors.toList());
+        }
+
+        @Test
+        void route_all_records_when_component_has_no_routes() {
+            when(dataFlowComponent.getRoutes()).thenReturn(Collections.emptySet());
+            final RoutedRecords routedRecords = new RoutedRecords(records, Collections.emptyMap(), new BitSet());
+
+            final BitSet routedPositions = createObjectUnderTest().route(routedRecords, dataFlowComponent, getRecordStrategy, componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(testComponent, records);
+            assertThat(routedPositions.cardinality(), equalTo(records.size()));
+        }
+
+        @Test
+        void route_matching_records_in_batch_order() {
+            when(dataFlowComponent.getRoutes()).thenReturn(Set.of(knownRoute, UUID.randomUUID().toString()));
+            final BitSet matchingRecords = new BitSet();
+            matchingRecords.set(1);
+            matchingRecords.set(4);
+            matchingRecords.set(7);
+            final RoutedRecords routedRecords = new RoutedRecords(records, Map.of(knownRoute, matchingRecords), new BitSet());
+
+            final BitSet routedPositions = createObjectUnderTest().route(routedRecords, dataFlowComponent, getRecordStrategy, componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(testComponent, List.of(records.get(1), records.get(4), records.get(7)));
+            assertThat(routedPositions, equalTo(matchingRecords));
+        }
+
+        @Test
+        void route_records_without_routes_to_default_route() {
+            when(dataFlowComponent.getRoutes()).thenReturn(Set.of(DataFlowComponentRouter.DEFAULT_ROUTE));
+            final BitSet matchingRecords = new BitSet();
+            matchingRecords.set(0, 5);
+            final BitSet recordsWithoutRoutes = new BitSet();
+            recordsWithoutRoutes.set(5, records.size());
+            final RoutedRecords routedRecords = new RoutedRecords(records, Map.of(knownRoute, matchingRecords), recordsWithoutRoutes);
+
+            createObjectUnderTest().route(routedRecords, dataFlowComponent, getRecordStrategy, componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(testComponent, records.subList(5, records.size()));
+        }
+
+        @Test
+        void route_no_records_when_none_match() {
+            when(dataFlowComponent.getRoutes()).thenReturn(Set.of(knownRoute));
+            final RoutedRecords routedRecords = new RoutedRecords(records, Collections.emptyMap(), new BitSet());
+
+            final BitSet routedPositions = createObjectUnderTest().route(routedRecords, dataFlowComponent, getRecordStrategy, componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(testComponent, Collections.emptyList());
+            assertThat(routedPositions.isEmpty(), equalTo(true));
+        }
+    }
 }
@@ -23,6 +23,7 @@ import org.opensearch.dataprepper.model.configuration.ConditionalRoute;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -41,6 +42,8 @@ import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasKey;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
@@ -241,6 +244,86 @@ class RouteEventEvaluatorTest {
 
     }
 
+    @Nested
+    @MockitoSettings(strictness = Strictness.LENIENT)
+    class WithBatchRouting {
+        private String sharedCondition;
+        private ConditionalRoute firstRoute;
+        private ConditionalRoute secondRoute;
+        private ConditionalRoute otherRoute;
+
+        @BeforeEach
+        void setUp() {
+            sharedCondition = UUID.randomUUID().toString();
+            firstRoute = createRoute(sharedCondition);
+            secondRoute = createRoute(sharedCondition);
+            otherRoute = createRoute(UUID.randomUUID().toString());
+            routes = List.of(firstRoute, secondRoute, otherRoute);
+        }
+
+        @Test
+        void evaluateBatchRoutes_with_empty_Records_returns_no_matches() {
+            final RoutedRecords routedRecords = createObjectUnderTest().evaluateBatchRoutes(Collections.emptyList());
+
+            assertThat(routedRecords.getRecords(), is(empty()));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(firstRoute.getName(), DataFlowComponentRouter.DEFAULT_ROUTE)).isEmpty(), equalTo(true));
+            verifyNoInteractions(evaluator);
+        }
+
+        @Test
+        void evaluateBatchRoutes_with_non_Event_Records_matches_only_default_route() {
+            final List<Record> records = createNonEventRecords();
+
+            final RoutedRecords routedRecords = createObjectUnderTest().evaluateBatchRoutes(Set.copyOf(records));
+
+            assertThat(routedRecords.getRecords().size(), equalTo(records.size()));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(firstRoute.getName(), otherRoute.getName())).isEmpty(), equalTo(true));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(DataFlowComponentRouter.DEFAULT_ROUTE)).cardinality(), equalTo(records.size()));
+            verifyNoInteractions(evaluator);
+        }
+
+        @Test
+        void evaluateBatchRoutes_evaluates_shared_condition_once_per_event() {
+            final List<Record> records = createEventRecords();
+            final Event firstEvent = (Event) records.get(0).getData();
+            final Event secondEvent = (Event) records.get(1).getData();
+            final Event thirdEvent = (Event) records.get(2).getData();
+            when(evaluator.evaluateConditional(sharedCondition, firstEvent)).thenReturn(true);
+            when(evaluator.evaluateConditional(otherRoute.getCondition(), secondEvent)).thenReturn(true);
+            when(evaluator.evaluateConditional(sharedCondition, thirdEvent)).thenThrow(RuntimeException.class);
+
+            final RoutedRecords routedRecords = createObjectUnderTest().evaluateBatchRoutes(records);
+
+            assertThat(routedRecords.getRecords(), equalTo(records));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(firstRoute.getName())), equalTo(bitSetOf(0)));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(secondRoute.getName())), equalTo(bitSetOf(0)));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(otherRoute.getName())), equalTo(bitSetOf(1)));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(firstRoute.getName(), otherRoute.getName())), equalTo(bitSetOf(0, 1)));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(DataFlowComponentRouter.DEFAULT_ROUTE)), equalTo(bitSetOf(2)));
+            assertThat(routedRecords.getRecordsMatchingAnyRoute(Set.of(UUID.randomUUID().toString())).isEmpty(), equalTo(true));
+
+            for (final Record record : records) {
+                verify(evaluator, times(1)).evaluateConditional(sharedCondition, (Event) record.getData());
+                verify(evaluator, times(1)).evaluateConditional(otherRoute.getCondition(), (Event) record.getData());
+            }
+        }
+
+        private ConditionalRoute createRoute(final String condition) {
+            final ConditionalRoute route = mock(ConditionalRoute.class);
+            when(route.getCondition()).thenReturn(condition);
+            when(route.getName()).thenReturn(UUID.randomUUID().toString());
+            return route;
+        }
+
+        private BitSet bitSetOf(final int... positions) {
+            final BitSet bitSet = new BitSet();
+            for (final int position : positions) {
+                bitSet.set(position);
+            }
+            return bitSet;
+        }
+    }
+
     private List<Record> createEventRecords() {
         return createRecords(() -> mock(Event.class));
     }
@@ -252,11 +252,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(EventHandle.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Record firstRecord = recordsIn.iterator().next();
         DefaultEventHandle firstHandle = (DefaultEventHandle)((Event)firstRecord.getData()).getEventHandle();
         Record recordOut = getRecordStrategy.getRecord(firstRecord);
@@ -271,6 +266,32 @@ public class RouterCopyRecordStrategyTests {
         assertFalse(handleRefCount.containsKey(newHandle));
     }
 
+    @Test
+    void test_copied_record_shares_data_until_modified() {
+        Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
+        when(pipelineDataFlowComponent.getComponent()).thenReturn(new PipelineConnector());
+        for (int i = 0; i < 2; i++) {
+            dataFlowComponents.add(pipelineDataFlowComponent);
+        }
+
+        final RouterCopyRecordStrategy getRecordStrategy = createObjectUnderTest(dataFlowComponents);
+        final Record firstRecord = recordsIn.iterator().next();
+        final JacksonEvent firstEvent = (JacksonEvent) firstRecord.getData();
+        getRecordStrategy.getRecord(firstRecord);
+        final Record recordOut = getRecordStrategy.getRecord(firstRecord);
+        final JacksonEvent copiedEvent = (JacksonEvent) recordOut.getData();
+
+        assertThat(copiedEvent, not(sameInstance(firstEvent)));
+        assertThat(copiedEvent.getJsonNode(), sameInstance(firstEvent.getJsonNode()));
+        assertThat(copiedEvent.getEventHandle(), not(sameInstance(firstEvent.getEventHandle())));
+
+        final String key = UUID.randomUUID().toString();
+        copiedEvent.put(key, "copy");
+        firstEvent.put(key, "original");
+        assertThat(copiedEvent.get(key, String.class), equalTo("copy"));
+        assertThat(firstEvent.get(key, String.class), equalTo("original"));
+    }
+
     @Test
     void test_multiple_records_with_acknowledgements_and_multi_components() {
         Collection<DataFlowComponent<PipelineConnector>> dataFlowComponents = new ArrayList<>();
@@ -290,11 +311,6 @@ public class RouterCopyRecordStrategyTests {
             }).when(acknowledgementSet1).add(any(EventHandle.class));
         } catch (Exception e){}
 
-        eventBuilder = mock(EventBuilder.class);
-        when(eventBuilder.withEventMetadata(any(EventMetadata.class))).thenReturn(eventBuilder);
-        when(eventBuilder.withData(any(Map.class))).thenReturn(eventBuilder);
-        when(eventBuilder.build()).thenReturn(JacksonEvent.fromEvent(event));
-        when(eventFactory.eventBuilder(EventBuilder.class)).thenReturn(eventBuilder);
         Collection<Record> recordsOut = getRecordStrategy.getAllRecords(recordsIn);
         assertThat(recordsOut.size(), equalTo(recordsIn.size()));
 
@@ -21,6 +21,7 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -331,4 +332,88 @@ class RouterTest {
             verify(dataFlowComponentRouter, times(5)).route(eq(recordsIn), eq(dataFlowComponent), eq(recordsToRoutes), eq(getRecordStrategy), any(BiConsumer.class));
         }
     }
+
+    @Nested
+    class WithBatchRouting {
+        private String knownRoute;
+        private Record routedRecord;
+        private Record unroutedRecord;
+        private Record nonEventRecord;
+        private Event unroutedEvent;
+        private List<Record> records;
+
+        @BeforeEach
+        void setUp() {
+            knownRoute = UUID.randomUUID().toString();
+            routedRecord = mock(Record.class);
+            unroutedRecord = mock(Record.class);
+            nonEventRecord = mock(Record.class);
+            unroutedEvent = mock(Event.class);
+            lenient().when(unroutedRecord.getData()).thenReturn(unroutedEvent);
+            lenient().when(nonEventRecord.getData()).thenReturn(UUID.randomUUID().toString());
+            records = List.of(routedRecord, unroutedRecord, nonEventRecord);
+
+            final BitSet matchingRecords = new BitSet();
+            matchingRecords.set(0);
+            final BitSet recordsWithoutRoutes = new BitSet();
+            recordsWithoutRoutes.set(1, 3);
+            when(routeEventEvaluator.evaluateBatchRoutes(records))
+                    .thenReturn(new RoutedRecords(records, Map.of(knownRoute, matchingRecords), recordsWithoutRoutes));
+            lenient().when(getRecordStrategy.getRecord(any())).thenAnswer(a -> a.getArgument(0));
+            lenient().when(getRecordStrategy.getAllRecords(any())).thenAnswer(a -> a.getArgument(0));
+        }
+
+        private Router createBatchRouter() {
+            noRouteHandler = mock(Consumer.class);
+            return new Router(routeEventEvaluator, new DataFlowComponentRouter(), noRouteHandler, true);
+        }
+
+        @Test
+        void route_sends_matching_records_to_component_and_unrouted_events_to_handler() {
+            final TestComponent component = new TestComponent();
+            final DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+            when(dataFlowComponent.getComponent()).thenReturn(component);
+            when(dataFlowComponent.getRoutes()).thenReturn(Set.of(knownRoute));
+            dataFlowComponents = List.of(dataFlowComponent);
+
+            createBatchRouter().route(records, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(component, List.of(routedRecord));
+            verify(noRouteHandler).accept(unroutedEvent);
+            verify(noRouteHandler, times(1)).accept(any());
+        }
+
+        @Test
+        void route_sends_unmatched_records_to_default_route() {
+            final TestComponent component = new TestComponent();
+            final TestComponent defaultComponent = new TestComponent();
+            final DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+            when(dataFlowComponent.getComponent()).thenReturn(component);
+            when(dataFlowComponent.getRoutes()).thenReturn(Set.of(knownRoute));
+            final DataFlowComponent<TestComponent> defaultDataFlowComponent = mock(DataFlowComponent.class);
+            when(defaultDataFlowComponent.getComponent()).thenReturn(defaultComponent);
+            when(defaultDataFlowComponent.getRoutes()).thenReturn(Set.of(DataFlowComponentRouter.DEFAULT_ROUTE));
+            dataFlowComponents = List.of(dataFlowComponent, defaultDataFlowComponent);
+
+            createBatchRouter().route(records, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(component, List.of(routedRecord));
+            verify(componentRecordsConsumer).accept(defaultComponent, List.of(unroutedRecord, nonEventRecord));
+            verify(noRouteHandler, times(0)).accept(any());
+        }
+
+        @Test
+        void route_with_component_without_routes_routes_all_records() {
+            final TestComponent component = new TestComponent();
+            final DataFlowComponent<TestComponent> dataFlowComponent = mock(DataFlowComponent.class);
+            when(dataFlowComponent.getComponent()).thenReturn(component);
+            when(dataFlowComponent.getRoutes()).thenReturn(Collections.emptySet());
+            dataFlowComponents = List.of(dataFlowComponent);
+
+            createBatchRouter().route(records, dataFlowComponents, getRecordStrategy, componentRecordsConsumer);
+
+            verify(componentRecordsConsumer).accept(component, records);
+            verify(noRouteHandler, times(0)).accept(any());
+        }
+    }
 }
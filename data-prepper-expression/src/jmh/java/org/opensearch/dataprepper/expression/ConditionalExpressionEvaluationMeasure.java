@@ -13,6 +13,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -45,8 +46,34 @@ public class ConditionalExpressionEvaluationMeasure {
         return evaluator.evaluate("/key == \"a\"", benchmarkState.event);
     }
 
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object evaluate_compound_conditional_expression(final BenchmarkState benchmarkState) {
+        final GenericExpressionEvaluator evaluator = benchmarkState.evaluator;
+        return evaluator.evaluate("(/status >= 400 and /status < 500) or /key =~ \"^this.*\" or /level in {\"ERROR\", \"WARN\"}",
+                benchmarkState.event);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5, time = 10)
+    public Object evaluate_arithmetic_expression(final BenchmarkState benchmarkState) {
+        final GenericExpressionEvaluator evaluator = benchmarkState.evaluator;
+        return evaluator.evaluate("(/status * 2 + 10) % 7", benchmarkState.event);
+    }
+
     @State(Scope.Benchmark)
     public static class BenchmarkState {
+        /**
+         * compiled evaluates statements through the default {@link CompiledParseTreeEvaluator}, while
+         * parse_tree_walk evaluates them by walking the parse tree for every event with {@link ParseTreeEvaluator}.
+         */
+        @Param({"compiled", "parse_tree_walk"})
+        private String engine;
+
         private GenericExpressionEvaluator evaluator;
         private Event event;
 
@@ -56,11 +83,19 @@ public class ConditionalExpressionEvaluationMeasure {
             applicationContext.scan("org.opensearch.dataprepper.expression");
             applicationContext.refresh();
 
-            evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+            if ("parse_tree_walk".equals(engine)) {
+                evaluator = new GenericExpressionEvaluator(
+                        applicationContext.getBean(Parser.class), applicationContext.getBean(ParseTreeEvaluator.class));
+            } else {
+                evaluator = applicationContext.getBean(GenericExpressionEvaluator.class);
+            }
 
             final EventFactory eventFactory = TestEventFactory.getTestEventFactory();
 
-            final Map<String, Object> eventData = Map.of("key", "this is a test string with more than 10 characters");
+            final Map<String, Object> eventData = Map.of(
+                    "key", "this is a test string with more than 10 characters",
+                    "status", 404,
+                    "level", "INFO");
 
             event = eventFactory.eventBuilder(LogEventBuilder.class)
                     .withData(eventData)
@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+
+/**
+ * @since 2.17
+ * A statement, or a part of a statement, which has been compiled from its {@link org.antlr.v4.runtime.tree.ParseTree}
+ * into a tree of evaluator nodes. Implementations are immutable and safe to share across threads.
+ */
+@FunctionalInterface
+interface CompiledExpression {
+    Object evaluate(final Event event);
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @since 2.17
+ * The node types produced by {@link ParseTreeCompilerListener}. Each node reproduces the evaluation of one part of a
+ * {@link org.antlr.v4.runtime.tree.ParseTree} by {@link ParseTreeEvaluatorListener}, with everything that does not
+ * depend on the event resolved ahead of time.
+ */
+final class CompiledExpressions {
+    private CompiledExpressions() {
+    }
+
+    static CompiledExpression constant(final Object value) {
+        return new Constant(value);
+    }
+
+    static CompiledExpression eventValue(final EventKey eventKey, final ParseTreeCoercionService coercionService) {
+        return new EventValue(eventKey, coercionService);
+    }
+
+    static CompiledExpression function(final String functionName,
+                                       final List<CompiledExpression> arguments,
+                                       final ParseTreeCoercionService coercionService) {
+        return new FunctionCall(functionName, arguments, coercionService);
+    }
+
+    static CompiledExpression operation(final Operator<?> operator,
+                                        final List<CompiledExpression> operands,
+                                        final String partialStatement) {
+        return new Operation(operator, operands, partialStatement);
+    }
+
+    static final class Constant implements CompiledExpression {
+        private final Object value;
+
+        private Constant(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            return value;
+        }
+    }
+
+    static final class EventValue implements CompiledExpression {
+        private final EventKey eventKey;
+        private final ParseTreeCoercionService coercionService;
+
+        private EventValue(final EventKey eventKey, final ParseTreeCoercionService coercionService) {
+            this.eventKey = eventKey;
+            this.coercionService = coercionService;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            return coercionService.resolveEventKeyValue(eventKey, event);
+        }
+    }
+
+    static final class FunctionCall implements CompiledExpression {
+        private final String functionName;
+        private final CompiledExpression[] arguments;
+        private final ParseTreeCoercionService coercionService;
+
+        private FunctionCall(final String functionName,
+                             final List<CompiledExpression> arguments,
+                             final ParseTreeCoercionService coercionService) {
+            this.functionName = functionName;
+            this.arguments = arguments.toArray(new CompiledExpression[0]);
+            this.coercionService = coercionService;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            final List<Object> argumentValues = new ArrayList<>(arguments.length);
+            for (final CompiledExpression argument : arguments) {
+                argumentValues.add(argument.evaluate(event));
+            }
+            return coercionService.evaluateFunction(functionName, argumentValues, event);
+        }
+    }
+
+    static final class Operation implements CompiledExpression {
+        private final Operator<?> operator;
+        private final CompiledExpression[] operands;
+        private final String partialStatement;
+
+        private Operation(final Operator<?> operator, final List<CompiledExpression> operands, final String partialStatement) {
+            this.operator = operator;
+            this.operands = operands.toArray(new CompiledExpression[0]);
+            this.partialStatement = partialStatement;
+        }
+
+        @Override
+        public Object evaluate(final Event event) {
+            final Object[] operandValues = new Object[operands.length];
+            for (int i = 0; i < operands.length; i++) {
+                operandValues[i] = operands[i].evaluate(event);
+            }
+            try {
+                return operator.evaluate(operandValues);
+            } catch (final Exception e) {
+                if (e instanceof IllegalArgumentException && operator.isBooleanOperator()) {
+                    return false;
+                }
+                throw new ExpressionEvaluationException("Unable to evaluate the part of input statement: "
+                        + partialStatement, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.ParseTreeWalker;
+import org.opensearch.dataprepper.model.event.Event;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Primary;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @since 2.17
+ * Evaluates a {@link ParseTree} by compiling it once into a {@link CompiledExpression} and evaluating the compiled
+ * expression for every event. Compiled expressions are cached by parse tree and shared across threads.
+ * <p>
+ * A parse tree which cannot be compiled, for example one which would fail on every event, is evaluated by
+ * {@link ParseTreeEvaluator} so that errors are reported the same way as before.
+ */
+@Named
+@Primary
+class CompiledParseTreeEvaluator implements Evaluator<ParseTree, Event> {
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledParseTreeEvaluator.class);
+    private static final CompiledExpression NOT_COMPILABLE = CompiledExpressions.constant(null);
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeWalker walker;
+    private final ParseTreeCoercionService coercionService;
+    private final ParseTreeEvaluator parseTreeEvaluator;
+    private final Map<ParseTree, CompiledExpression> compiledExpressions = new ConcurrentHashMap<>();
+
+    @Inject
+    public CompiledParseTreeEvaluator(final OperatorProvider operatorProvider, final ParseTreeWalker walker,
+                                      final ParseTreeCoercionService coercionService,
+                                      final ParseTreeEvaluator parseTreeEvaluator) {
+        this.operatorProvider = operatorProvider;
+        this.walker = walker;
+        this.coercionService = coercionService;
+        this.parseTreeEvaluator = parseTreeEvaluator;
+    }
+
+    @Override
+    public Object evaluate(final ParseTree parseTree, final Event event) {
+        CompiledExpression compiledExpression = compiledExpressions.get(parseTree);
+        if (compiledExpression == null) {
+            compiledExpression = compiledExpressions.computeIfAbsent(parseTree, this::compileOrFallBack);
+        }
+        if (compiledExpression == NOT_COMPILABLE) {
+            return parseTreeEvaluator.evaluate(parseTree, event);
+        }
+
+        try {
+            return compiledExpression.evaluate(event);
+        } catch (final Exception e) {
+            LOG.error(e.getMessage());
+            throw new ExpressionEvaluationException(e.getMessage(), e);
+        }
+    }
+
+    CompiledExpression compile(final ParseTree parseTree) {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(operatorProvider, coercionService);
+        walker.walk(listener, parseTree);
+        return listener.getResult();
+    }
+
+    private CompiledExpression compileOrFallBack(final ParseTree parseTree) {
+        try {
+            return compile(parseTree);
+        } catch (final Exception e) {
+            LOG.debug("Unable to compile expression, it will be evaluated by walking the parse tree.", e);
+            return NOT_COMPILABLE;
+        }
+    }
+}
@@ -100,6 +100,10 @@ class ParseTreeCoercionService {
 
     Object resolveJsonPointerValue(final String jsonPointer, final Event event) {
         EventKey eventKey = this.eventKeyFactory.createEventKey(jsonPointer);
+        return resolveEventKeyValue(eventKey, event);
+    }
+
+    Object resolveEventKeyValue(final EventKey eventKey, final Event event) {
         final Object value = event.get(eventKey, Object.class);
         return value != null ? convertLiteralType.apply(value) : null;
     }
@@ -0,0 +1,196 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.TerminalNode;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionBaseListener;
+import org.opensearch.dataprepper.expression.antlr.DataPrepperExpressionParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Stack;
+
+/**
+ * @since 2.17
+ * Walks a {@link org.antlr.v4.runtime.tree.ParseTree} once and builds a {@link CompiledExpression}. This listener
+ * follows the same operator and operand stack discipline as {@link ParseTreeEvaluatorListener}, but pushes
+ * {@link CompiledExpression} nodes rather than values. Literals, sets, {@link org.opensearch.dataprepper.model.event.EventKey}s
+ * and operator bindings are resolved here so that evaluating the result does not depend on the parse tree.
+ */
+class ParseTreeCompilerListener extends DataPrepperExpressionBaseListener {
+
+    private final OperatorProvider operatorProvider;
+    private final ParseTreeCoercionService coercionService;
+    private final Stack<Integer> operatorSymbolStack = new Stack<>();
+    private final Stack<CompiledExpression> operandStack = new Stack<>();
+    private final Stack<FunctionCompileContext> functionContextStack = new Stack<>();
+    private int functionArgDepth = 0;
+    private boolean listStart = false;
+    private Set<Object> setMembers;
+
+    ParseTreeCompilerListener(final OperatorProvider operatorProvider, final ParseTreeCoercionService coercionService) {
+        this.operatorProvider = operatorProvider;
+        this.coercionService = coercionService;
+    }
+
+    public CompiledExpression getResult() {
+        if (operandStack.size() != 1) {
+            throw new IllegalStateException("The ParseTreeCompilerListener has not been walked through exactly once by " +
+                    "a ParseTreeWalker.");
+        }
+        return operandStack.peek();
+    }
+
+    private void validateSetMembers(final Set<Object> setMembers) {
+        int numbers = 0;
+        int strings = 0;
+        int booleans = 0;
+        for (final Object member : setMembers) {
+            if (member instanceof Number) {
+                numbers++;
+            } else if (member instanceof String) {
+                strings++;
+            } else if (member instanceof Boolean) {
+                booleans++;
+            }
+        }
+        if (numbers != setMembers.size() && strings != setMembers.size() && booleans != setMembers.size()) {
+            throw new RuntimeException("All set members should be of same type");
+        }
+    }
+
+    @Override
+    public void enterFunction(final DataPrepperExpressionParser.FunctionContext ctx) {
+        functionContextStack.push(new FunctionCompileContext(ctx.Identifier().getText(), operandStack.size()));
+    }
+
+    @Override
+    public void exitFunction(final DataPrepperExpressionParser.FunctionContext ctx) {
+        final FunctionCompileContext functionContext = functionContextStack.pop();
+
+        final List<CompiledExpression> arguments = new ArrayList<>();
+        while (operandStack.size() > functionContext.stackSizeAtEntry) {
+            arguments.add(0, operandStack.pop());
+        }
+
+        operandStack.push(CompiledExpressions.function(functionContext.functionName, arguments, coercionService));
+    }
+
+    @Override
+    public void enterFunctionArg(final DataPrepperExpressionParser.FunctionArgContext ctx) {
+        functionArgDepth++;
+    }
+
+    @Override
+    public void exitFunctionArg(final DataPrepperExpressionParser.FunctionArgContext ctx) {
+        functionArgDepth--;
+    }
+
+    @Override
+    public void visitTerminal(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        if (nodeType == DataPrepperExpressionParser.EOF || nodeType == DataPrepperExpressionParser.Identifier) {
+            return;
+        }
+
+        if (!functionContextStack.isEmpty()) {
+            if (nodeType == DataPrepperExpressionParser.COMMA) {
+                return;
+            }
+            if (functionArgDepth > 0) {
+                if (nodeType == DataPrepperExpressionParser.JsonPointer) {
+                    operandStack.push(CompiledExpressions.constant(coercionService.createEventKey(node.getText())));
+                    return;
+                }
+                if (nodeType == DataPrepperExpressionParser.EscapedJsonPointer) {
+                    final String nodeStringValue = node.getText();
+                    operandStack.push(CompiledExpressions.constant(nodeStringValue.substring(1, nodeStringValue.length() - 1)));
+                    return;
+                }
+            }
+        }
+
+        if (operatorProvider.containsOperator(nodeType) || nodeType == DataPrepperExpressionParser.LPAREN) {
+            operatorSymbolStack.push(nodeType);
+        } else if (nodeType == DataPrepperExpressionParser.LBRACE) {
+            listStart = true;
+            setMembers = new HashSet<>();
+        } else if (nodeType == DataPrepperExpressionParser.RBRACE) {
+            listStart = false;
+            validateSetMembers(setMembers);
+            operandStack.push(CompiledExpressions.constant(Collections.unmodifiableSet(setMembers)));
+        } else if (nodeType == DataPrepperExpressionParser.RPAREN) {
+            operatorSymbolStack.pop();
+        } else if (listStart) {
+            final Object member = coercionService.coercePrimaryTerminalNode(node, null);
+            if (!(member instanceof Integer) || (((int) member) != DataPrepperExpressionParser.COMMA)) {
+                setMembers.add(member);
+            }
+        } else {
+            operandStack.push(compilePrimaryTerminalNode(node));
+        }
+    }
+
+    private CompiledExpression compilePrimaryTerminalNode(final TerminalNode node) {
+        final int nodeType = node.getSymbol().getType();
+        final String nodeStringValue = node.getText();
+        if (nodeType == DataPrepperExpressionParser.EscapedJsonPointer) {
+            return CompiledExpressions.eventValue(
+                    coercionService.createEventKey(nodeStringValue.substring(1, nodeStringValue.length() - 1)), coercionService);
+        } else if (nodeType == DataPrepperExpressionParser.JsonPointer) {
+            return CompiledExpressions.eventValue(coercionService.createEventKey(nodeStringValue), coercionService);
+        }
+        return CompiledExpressions.constant(coercionService.coercePrimaryTerminalNode(node, null));
+    }
+
+    @Override
+    public void visitErrorNode(final ErrorNode node) {
+        throw new RuntimeException("Hit error node in the parse tree: " + node.getText());
+    }
+
+    @Override
+    public void exitEveryRule(final ParserRuleContext ctx) {
+        if (!operatorSymbolStack.isEmpty()) {
+            final int operatorSymbol = operatorSymbolStack.peek();
+            if (operatorSymbol != DataPrepperExpressionParser.LPAREN) {
+                final Operator<?> operator = operatorProvider.getOperator(operatorSymbol);
+                if (operator.shouldEvaluate(ctx)) {
+                    operatorSymbolStack.pop();
+                    final int numOfArgs = operator.getNumberOfOperands(ctx);
+                    final CompiledExpression[] operands = new CompiledExpression[numOfArgs];
+                    for (int i = numOfArgs - 1; i >= 0; i--) {
+                        operands[i] = operandStack.pop();
+                    }
+                    operandStack.push(CompiledExpressions.operation(
+                            operator, List.of(operands), getPartialStatementFromContext(ctx)));
+                }
+            }
+        }
+    }
+
+    private String getPartialStatementFromContext(final ParserRuleContext ctx) {
+        final Token startToken = ctx.getStart();
+        final Token stopToken = ctx.getStop();
+        final String fullStatement = startToken.getInputStream().toString();
+        return fullStatement.substring(startToken.getStartIndex(), stopToken.getStopIndex() + 1);
+    }
+
+    private static final class FunctionCompileContext {
+        final String functionName;
+        final int stackSizeAtEntry;
+
+        FunctionCompileContext(final String functionName, final int stackSizeAtEntry) {
+            this.functionName = functionName;
+            this.stackSizeAtEntry = stackSizeAtEntry;
+        }
+    }
+}
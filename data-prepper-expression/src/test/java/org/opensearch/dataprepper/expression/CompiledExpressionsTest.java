@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.EventKey;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CompiledExpressionsTest {
+    @Mock
+    private ParseTreeCoercionService coercionService;
+    @Mock
+    private Operator<Object> operator;
+    @Mock
+    private Event event;
+
+    @Test
+    void testConstantReturnsValue() {
+        final Object value = UUID.randomUUID().toString();
+        assertThat(CompiledExpressions.constant(value).evaluate(event), sameInstance(value));
+    }
+
+    @Test
+    void testEventValueResolvesEventKey() {
+        final EventKey eventKey = mock(EventKey.class);
+        final Object value = UUID.randomUUID().toString();
+        when(coercionService.resolveEventKeyValue(eventKey, event)).thenReturn(value);
+
+        assertThat(CompiledExpressions.eventValue(eventKey, coercionService).evaluate(event), sameInstance(value));
+    }
+
+    @Test
+    void testFunctionEvaluatesArgumentsInOrder() {
+        final String functionName = UUID.randomUUID().toString();
+        final Object result = UUID.randomUUID().toString();
+        when(coercionService.evaluateFunction(eq(functionName), eq(List.of("a", 2)), eq(event))).thenReturn(result);
+
+        final CompiledExpression function = CompiledExpressions.function(functionName,
+                List.of(CompiledExpressions.constant("a"), CompiledExpressions.constant(2)), coercionService);
+
+        assertThat(function.evaluate(event), sameInstance(result));
+    }
+
+    @Test
+    void testOperationEvaluatesOperands() {
+        when(operator.evaluate(any(Object[].class))).thenAnswer(invocation -> (Integer) invocation.getArguments()[0] + (Integer) invocation.getArguments()[1]);
+
+        final CompiledExpression operation = CompiledExpressions.operation(operator,
+                List.of(CompiledExpressions.constant(2), CompiledExpressions.constant(3)), "2 + 3");
+
+        assertThat(operation.evaluate(event), equalTo(5));
+    }
+
+    @Test
+    void testBooleanOperationWithIllegalArgumentReturnsFalse() {
+        when(operator.evaluate(any(Object[].class))).thenThrow(IllegalArgumentException.class);
+        when(operator.isBooleanOperator()).thenReturn(true);
+
+        final CompiledExpression operation = CompiledExpressions.operation(operator,
+                List.of(CompiledExpressions.constant("a")), "not \"a\"");
+
+        assertThat(operation.evaluate(event), equalTo(false));
+    }
+
+    @Test
+    void testNonBooleanOperationWithIllegalArgumentThrows() {
+        when(operator.evaluate(any(Object[].class))).thenThrow(IllegalArgumentException.class);
+        when(operator.isBooleanOperator()).thenReturn(false);
+
+        final CompiledExpression operation = CompiledExpressions.operation(operator,
+                List.of(CompiledExpressions.constant("a"), CompiledExpressions.constant(1)), "\"a\" + 1");
+
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> operation.evaluate(event));
+        assertThat(exception.getMessage(), equalTo("Unable to evaluate the part of input statement: \"a\" + 1"));
+    }
+
+    @Test
+    void testBooleanOperationWithOtherExceptionThrows() {
+        when(operator.evaluate(any(Object[].class))).thenThrow(ClassCastException.class);
+
+        final CompiledExpression operation = CompiledExpressions.operation(operator,
+                List.of(CompiledExpressions.constant(true)), "not true");
+
+        assertThrows(ExpressionEvaluationException.class, () -> operation.evaluate(event));
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.expression;
+
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.Mockito.mock;
+
+class CompiledParseTreeEvaluatorIT extends BaseExpressionEvaluatorIT {
+
+    @Test
+    void testCompiledParseTreeEvaluatorIsPrimaryEvaluator() {
+        final Evaluator<?, ?> evaluator = applicationContext.getBean(Evaluator.class);
+        assertThat(evaluator, instanceOf(CompiledParseTreeEvaluator.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("expressionArguments")
+    void testCompiledEvaluationMatchesParseTreeWalk(final String statement, final String eventJson) {
+        final Parser<ParseTree> parser = applicationContext.getBean(Parser.class);
+        final CompiledParseTreeEvaluator compiledEvaluator = applicationContext.getBean(CompiledParseTreeEvaluator.class);
+        final ParseTreeEvaluator parseTreeEvaluator = applicationContext.getBean(ParseTreeEvaluator.class);
+        final ParseTree parseTree = parser.parse(statement);
+
+        final Object expected = evaluateOrReturnException(parseTreeEvaluator, parseTree, event(eventJson));
+        final Object actual = evaluateOrReturnException(compiledEvaluator, parseTree, event(eventJson));
+        final Object actualFromCache = evaluateOrReturnException(compiledEvaluator, parseTree, event(eventJson));
+
+        if (expected instanceof Exception) {
+            assertThat(actual, instanceOf(expected.getClass()));
+            assertThat(((Exception) actual).getMessage(), equalTo(((Exception) expected).getMessage()));
+            assertThat(actualFromCache, instanceOf(expected.getClass()));
+        } else {
+            assertThat(actual, equalTo(expected));
+            assertThat(actualFromCache, equalTo(expected));
+        }
+    }
+
+    @Test
+    void testStatementWhichCannotBeCompiledIsEvaluatedByWalkingParseTree() {
+        final Parser<ParseTree> parser = applicationContext.getBean(Parser.class);
+        final CompiledParseTreeEvaluator compiledEvaluator = applicationContext.getBean(CompiledParseTreeEvaluator.class);
+        final ParseTree parseTree = parser.parse("/status in {200, \"OK\"}");
+
+        assertThrows(RuntimeException.class, () -> compiledEvaluator.compile(parseTree));
+        final ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+                () -> compiledEvaluator.evaluate(parseTree, event("{\"status\": 200}")));
+        assertThat(exception.getMessage(), equalTo("All set members should be of same type"));
+    }
+
+    @Test
+    void testCompiledExpressionIsReusedForTheSameParseTree() {
+        final Parser<ParseTree> parser = applicationContext.getBean(Parser.class);
+        final CompiledParseTreeEvaluator compiledEvaluator = applicationContext.getBean(CompiledParseTreeEvaluator.class);
+        final ParseTree parseTree = parser.parse("/status == 200");
+
+        final CompiledExpression compiledExpression = compiledEvaluator.compile(parseTree);
+
+        assertThat(compiledExpression.evaluate(event("{\"status\": 200}")), equalTo(true));
+        assertThat(compiledExpression.evaluate(event("{\"status\": 500}")), equalTo(false));
+        assertThat(compiledEvaluator.evaluate(parseTree, event("{\"status\": 200}")), equalTo(true));
+        assertThat(compiledEvaluator.evaluate(parseTree, event("{\"status\": 200}")), sameInstance(Boolean.TRUE));
+    }
+
+    @Test
+    void testCompilerListenerResultBeforeWalkThrows() {
+        final ParseTreeCompilerListener listener = new ParseTreeCompilerListener(
+                applicationContext.getBean(OperatorProvider.class), applicationContext.getBean(ParseTreeCoercionService.class));
+
+        assertThrows(IllegalStateException.class, listener::getResult);
+        assertThrows(RuntimeException.class, () -> listener.visitErrorNode(mock(ErrorNode.class)));
+    }
+
+    private static Object evaluateOrReturnException(final Evaluator<ParseTree, Event> evaluator,
+                                                    final ParseTree parseTree,
+                                                    final Event event) {
+        try {
+            return evaluator.evaluate(parseTree, event);
+        } catch (final Exception e) {
+            return e;
+        }
+    }
+
+    private static Stream<Arguments> expressionArguments() {
+        return Stream.of(
+                arguments("true", "{}"),
+                arguments("/status == 200", "{\"status\": 200}"),
+                arguments("/status != 200", "{\"status\": 500}"),
+                arguments("/status >= 400 and /status < 500", "{\"status\": 404}"),
+                arguments("(/status >= 400) or (/missing == 15)", "{\"status\": 404}"),
+                arguments("not (/status >= 300)", "{\"status\": 200}"),
+                arguments("not /flag", "{\"flag\": true}"),
+                arguments("/status > \"abc\"", "{\"status\": 200}"),
+                arguments("/name > 10", "{\"name\": \"abc\"}"),
+                arguments("/status in {200, 201, 202}", "{\"status\": 201}"),
+                arguments("/status not in {200, 201, 202}", "{\"status\": 404}"),
+                arguments("/level in {\"ERROR\", \"WARN\"}", "{\"level\": \"WARN\"}"),
+                arguments("/status in {1, 2, 3, 4, 5, 6, 7, 8}", "{\"status\": 6}"),
+                arguments("/message =~ \"^GET .*\"", "{\"message\": \"GET /index.html\"}"),
+                arguments("/message !~ \"^GET .*\"", "{\"message\": \"POST /index.html\"}"),
+                arguments("/message =~ \"[\"", "{\"message\": \"GET /index.html\"}"),
+                arguments("/status typeof integer", "{\"status\": 200}"),
+                arguments("/status typeof string", "{\"status\": 200}"),
+                arguments("/a + /b", "{\"a\": 2, \"b\": 3}"),
+                arguments("/a + /b", "{\"a\": \"x\", \"b\": \"y\"}"),
+                arguments("/a + 1", "{\"a\": \"x\"}"),
+                arguments("/a - /b * 2", "{\"a\": 10, \"b\": 3}"),
+                arguments("(/a - /b) * 2", "{\"a\": 10, \"b\": 3}"),
+                arguments("/a % 3", "{\"a\": 10}"),
+                arguments("/a / 4", "{\"a\": 10.0}"),
+                arguments("-/a", "{\"a\": 10}"),
+                arguments("-(/a + 2)", "{\"a\": 10}"),
+                arguments("/a + 5000000000", "{\"a\": 10}"),
+                arguments("/a == 3.5", "{\"a\": 3.5}"),
+                arguments("/a == null", "{}"),
+                arguments("\"/a b\" == 1", "{\"a b\": 1}"),
+                arguments("length(/message) > 10", "{\"message\": \"a long message value\"}"),
+                arguments("length(\"abc\") == 3", "{}"),
+                arguments("contains(/message, \"long\")", "{\"message\": \"a long message value\"}"),
+                arguments("startsWith(/message, \"a \")", "{\"message\": \"a long message value\"}"),
+                arguments("getMetadata(\"key\") == null", "{}"),
+                arguments("hasTags(\"tag1\")", "{}"),
+                arguments("cidrContains(/ip, \"10.0.0.0/8\")", "{\"ip\": \"10.1.2.3\"}"),
+                arguments("length(substringAfter(/message, \"long \")) + 1", "{\"message\": \"a long message value\"}"),
+                arguments("join(\",\", /list)", "{\"list\": [\"a\", \"b\"]}"),
+                arguments("unknownFunction(/message)", "{\"message\": \"value\"}"),
+                arguments("/list", "{\"list\": [1, 2]}"),
+                arguments("/map", "{\"map\": {\"a\": 1}}"),
+                arguments("\"abc\" + /suffix", "{\"suffix\": \"def\"}")
+        );
+    }
+
+    private static Event event(final String data) {
+        return JacksonEvent.builder().withEventType("event").withData(data).build();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.aggregate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.configuration.PluginSetting;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.plugin.PluginFactory;
+import org.opensearch.dataprepper.model.record.Record;
+import org.opensearch.dataprepper.model.sink.SinkContext;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.CountAggregateActionConfig;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.HistogramAggregateAction;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.HistogramAggregateActionConfig;
+import org.opensearch.dataprepper.plugins.processor.aggregate.actions.RemoveDuplicatesAggregateAction;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Fork(2)
+@Threads(4)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class AggregateProcessorBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final int BATCH_COUNT = 64;
+
+    /**
+     * One processor shared by all benchmark threads, as the pipeline workers share an aggregate processor.
+     */
+    @State(Scope.Benchmark)
+    public static class BenchmarkState {
+        @Param({"count", "histogram", "remove_duplicates"})
+        private String action;
+
+        @Param({"100", "10000"})
+        private int groupCount;
+
+        private AggregateProcessor aggregateProcessor;
+        private List<List<Map<String, Object>>> batches;
+
+        @Setup
+        public void setUp() {
+            final ObjectMapper objectMapper = new ObjectMapper();
+            final AggregateAction aggregateAction = createAggregateAction(objectMapper);
+            final AggregateProcessorConfig aggregateProcessorConfig = objectMapper.convertValue(Map.of(
+                    "identification_keys", List.of("service", "status"),
+                    "action", Map.of(action, Map.of())), AggregateProcessorConfig.class);
+
+            aggregateProcessor = new AggregateProcessor(aggregateProcessorConfig, PluginMetrics.fromNames("aggregate", "benchmark"),
+                    new SingleActionPluginFactory(aggregateAction), null);
+
+            batches = new ArrayList<>(BATCH_COUNT);
+            int eventIndex = 0;
+            for (int i = 0; i < BATCH_COUNT; i++) {
+                final List<Map<String, Object>> batch = new ArrayList<>(BATCH_SIZE);
+                for (int j = 0; j < BATCH_SIZE; j++, eventIndex++) {
+                    final int group = eventIndex % groupCount;
+                    batch.add(Map.of(
+                            "service", "service-" + group / 5,
+                            "status", 200 + group % 5,
+                            "latency", eventIndex % 1000));
+                }
+                batches.add(batch);
+            }
+        }
+
+        private AggregateAction createAggregateAction(final ObjectMapper objectMapper) {
+            switch (action) {
+                case "count":
+                    return new CountAggregateAction(objectMapper.convertValue(Map.of(), CountAggregateActionConfig.class));
+                case "histogram":
+                    return new HistogramAggregateAction(objectMapper.convertValue(Map.of(
+                            "key", "latency",
+                            "buckets", List.of(10, 100, 500),
+                            "record_minmax", true), HistogramAggregateActionConfig.class));
+                case "remove_duplicates":
+                    return new RemoveDuplicatesAggregateAction();
+                default:
+                    throw new IllegalArgumentException("Unknown action: " + action);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+        private int batchIndex;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Collection<Record<Event>> benchmark_aggregate_batch(final BenchmarkState state, final ThreadState threadState) {
+        final List<Map<String, Object>> batch = state.batches.get(threadState.batchIndex++ % BATCH_COUNT);
+        final List<Record<Event>> records = new ArrayList<>(BATCH_SIZE);
+        for (final Map<String, Object> data : batch) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(data)
+                    .build()));
+        }
+        return state.aggregateProcessor.doExecute(records);
+    }
+
+    private static class SingleActionPluginFactory implements PluginFactory {
+        private final AggregateAction aggregateAction;
+
+        private SingleActionPluginFactory(final AggregateAction aggregateAction) {
+            this.aggregateAction = aggregateAction;
+        }
+
+        @Override
+        public <T> T loadPlugin(final Class<T> baseClass, final PluginSetting pluginSetting, final Object... args) {
+            return baseClass.cast(aggregateAction);
+        }
+
+        @Override
+        public <T> T loadPlugin(final Class<T> baseClass, final PluginSetting pluginSetting, final SinkContext sinkContext) {
+            return baseClass.cast(aggregateAction);
+        }
+
+        @Override
+        public <T> List<T> loadPlugins(final Class<T> baseClass, final PluginSetting pluginSetting,
+                                       final Function<Class<? extends T>, Integer> numberOfInstancesFunction) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
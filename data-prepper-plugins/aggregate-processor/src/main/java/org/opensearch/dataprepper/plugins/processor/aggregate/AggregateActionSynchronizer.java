@@ -88,30 +88,35 @@ class AggregateActionSynchronizer {
     }
 
     AggregateActionResponse handleEventForGroup(final Event event, final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
-        final Lock concludeGroupLock = aggregateGroup.getConcludeGroupLock();
-        final Lock handleEventForGroupLock = aggregateGroup.getHandleEventForGroupLock();
+        AggregateGroup currentGroup = aggregateGroup;
+        while (true) {
+            final AggregateGroup group = currentGroup;
+            final Lock concludeGroupLock = group.getConcludeGroupLock();
+            final Lock handleEventForGroupLock = group.getHandleEventForGroupLock();
 
-        concludeGroupLock.lock();
-        concludeGroupLock.unlock();
+            concludeGroupLock.lock();
+            concludeGroupLock.unlock();
 
-        AggregateActionResponse handleEventResponse;
-        handleEventForGroupLock.lock();
-        try {
-            LOG.debug("Start critical section in handleEventForGroup");
-            if (!disableGroupAcknowledgments) {
-                aggregateGroup.attachToEventAcknowledgementSet(event);
+            handleEventForGroupLock.lock();
+            try {
+                // The group may have been concluded and replaced after it was looked up
+                currentGroup = aggregateGroupManager.putGroupIfAbsent(hash, group);
+                if (currentGroup != group) {
+                    continue;
+                }
+                LOG.debug("Start critical section in handleEventForGroup");
+                if (!disableGroupAcknowledgments) {
+                    group.attachToEventAcknowledgementSet(event);
+                }
+                return aggregateAction.handleEvent(event, group);
+            } catch (final Exception e) {
+                LOG.error(NOISY, "Error while handling event, event will be processed by remainder of the pipeline: ", e);
+                actionHandleEventsProcessingErrors.increment();
+                return new AggregateActionResponse(event);
+            } finally {
+                handleEventForGroupLock.unlock();
             }
-            handleEventResponse = aggregateAction.handleEvent(event, aggregateGroup);
-            aggregateGroupManager.putGroupWithHash(hash, aggregateGroup);
-        } catch (final Exception e) {
-            LOG.error(NOISY, "Error while handling event, event will be processed by remainder of the pipeline: ", e);
-            actionHandleEventsProcessingErrors.increment();
-            handleEventResponse = new AggregateActionResponse(event);
-        } finally {
-            handleEventForGroupLock.unlock();
         }
-
-        return handleEventResponse;
     }
 
     static class AggregateActionSynchronizerProvider {
@@ -23,11 +23,12 @@ import java.util.concurrent.locks.ReentrantLock;
 
 class AggregateGroup implements AggregateActionInput {
     private final GroupState groupState;
-    private Instant groupStart;
+    private volatile Instant groupStart;
+    private volatile long generation;
     private final Lock concludeGroupLock;
     private final Lock handleEventForGroupLock;
     private final Map<Object, Object> identificationKeys;
-    private Function<Duration, Boolean> customShouldConclude;
+    private volatile Function<Duration, Boolean> customShouldConclude;
     private EventHandle groupEventHandle;
 
     AggregateGroup(final Map<Object, Object> identificationKeys) {
@@ -62,6 +63,14 @@ class AggregateGroup implements AggregateActionInput {
         return groupStart;
     }
 
+    /**
+     * The number of times this group has been concluded and reset. A group which is reused after it was concluded
+     * has a new generation, which lets the {@link AggregateGroupManager} discard schedule entries from the old one.
+     */
+    long getGeneration() {
+        return generation;
+    }
+
     Lock getConcludeGroupLock() {
         return concludeGroupLock;
     }
@@ -82,7 +91,21 @@ class AggregateGroup implements AggregateActionInput {
         return Duration.between(groupStart, Instant.now()).compareTo(groupDuration) >= 0;
     }
 
+    /**
+     * Gets the time at which {@link #shouldConcludeGroup(Duration)} becomes true, if it is known in advance.
+     *
+     * @param groupDuration the group duration
+     * @return the deadline, or null if a custom conclude condition decides when the group concludes
+     */
+    Instant getConcludeDeadline(final Duration groupDuration) {
+        if (customShouldConclude != null) {
+            return null;
+        }
+        return groupStart.plus(groupDuration);
+    }
+
     void resetGroup() {
+        generation++;
         groupStart = Instant.now();
         groupState.clear();
         this.groupEventHandle = new AggregateEventHandle(groupStart);
@@ -14,31 +14,66 @@ import org.opensearch.dataprepper.model.event.EventHandle;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+/**
+ * Holds the {@link AggregateGroup}s of an aggregate processor. Groups are kept in a concurrent map keyed by the
+ * {@link IdentificationKeysHasher.IdentificationKeysMap}, so worker threads only contend when they touch the same
+ * bin of the map. Groups which may need to conclude are found through a schedule of time buckets ordered by their
+ * conclude deadline, so {@link #getGroupsToConclude(boolean)} only looks at the groups which are due.
+ */
 class AggregateGroupManager {
+    static final int TICKS_PER_GROUP_DURATION = 32;
+    static final long MAX_TICK_MILLIS = 1000;
 
     private final Map<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> allGroups = Maps.newConcurrentMap();
+    private final ConcurrentSkipListMap<Long, ScheduleBucket> concludeSchedule = new ConcurrentSkipListMap<>();
     private final Duration groupDuration;
     private final boolean acknowledgeOnConclude;
+    private final long tickMillis;
 
     AggregateGroupManager(final Duration groupDuration, final boolean acknowledgeOnConclude) {
         this.groupDuration = groupDuration;
         this.acknowledgeOnConclude = acknowledgeOnConclude;
+        this.tickMillis = Math.max(1, Math.min(MAX_TICK_MILLIS, groupDuration.toMillis() / TICKS_PER_GROUP_DURATION));
     }
 
     AggregateGroup getAggregateGroup(final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap) {
-        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> new AggregateGroup(identificationKeysMap.getKeyMap()));
+        return allGroups.computeIfAbsent(identificationKeysMap, (hash) -> {
+            final AggregateGroup aggregateGroup = new AggregateGroup(identificationKeysMap.getKeyMap());
+            scheduleNewGroup(hash, aggregateGroup);
+            return aggregateGroup;
+        });
     }
 
+    /**
+     * Indicates whether groups are scheduled to be checked by {@link #getGroupsToConclude(boolean)}. This does not check
+     * the groups themselves, so a group may have been concluded already or still not be ready to conclude.
+     *
+     * @return true if any groups are due to be checked
+     */
+    boolean hasGroupsToConclude() {
+        final Map.Entry<Long, ScheduleBucket> firstBucket = concludeSchedule.firstEntry();
+        return firstBucket != null && firstBucket.getKey() <= currentTick();
+    }
 
     List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> getGroupsToConclude(final boolean forceConclude) {
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = new ArrayList<>();
-        for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : allGroups.entrySet()) {
-            if (groupEntry.getValue().shouldConcludeGroup(groupDuration) || forceConclude) {
-                groupsToConclude.add(groupEntry);
+        if (forceConclude) {
+            groupsToConclude.addAll(allGroups.entrySet());
+            return groupsToConclude;
+        }
+
+        final long currentTick = currentTick();
+        Map.Entry<Long, ScheduleBucket> dueBucket;
+        while ((dueBucket = concludeSchedule.firstEntry()) != null && dueBucket.getKey() <= currentTick) {
+            if (concludeSchedule.remove(dueBucket.getKey(), dueBucket.getValue())) {
+                addGroupsToConclude(dueBucket.getValue(), currentTick, groupsToConclude);
             }
         }
         return groupsToConclude;
@@ -56,8 +91,21 @@ class AggregateGroupManager {
         group.resetGroup();
     }
 
-    void putGroupWithHash(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
-        allGroups.put(hashKeyMap, group);
+    /**
+     * Adds a group unless the map already has a group for the hash. A worker which looked up a group before another
+     * thread concluded it uses this to either put the group back or to find the group which replaced it.
+     *
+     * @param hashKeyMap the identification keys of the group
+     * @param group the group to add
+     * @return the group which is in the map for the hash after the call
+     */
+    AggregateGroup putGroupIfAbsent(final IdentificationKeysHasher.IdentificationKeysMap hashKeyMap, final AggregateGroup group) {
+        final AggregateGroup existingGroup = allGroups.putIfAbsent(hashKeyMap, group);
+        if (existingGroup != null) {
+            return existingGroup;
+        }
+        scheduleNewGroup(hashKeyMap, group);
+        return group;
     }
 
     long getAllGroupsSize() {
@@ -67,4 +115,91 @@ class AggregateGroupManager {
     Duration getGroupDuration() {
         return this.groupDuration;
     }
+
+    long getTickMillis() {
+        return tickMillis;
+    }
+
+    long getScheduledBucketCount() {
+        return concludeSchedule.size();
+    }
+
+    private void addGroupsToConclude(final ScheduleBucket dueBucket,
+                                     final long currentTick,
+                                     final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude) {
+        for (final ScheduledGroup scheduledGroup : dueBucket.close()) {
+            final AggregateGroup aggregateGroup = scheduledGroup.aggregateGroup;
+            if (allGroups.get(scheduledGroup.hash) != aggregateGroup || aggregateGroup.getGeneration() != scheduledGroup.generation) {
+                // The group was concluded since it was scheduled
+                continue;
+            }
+            if (aggregateGroup.shouldConcludeGroup(groupDuration)) {
+                groupsToConclude.add(new AbstractMap.SimpleImmutableEntry<>(scheduledGroup.hash, aggregateGroup));
+                // Checked again on the next tick in case the group is not closed, for example when another thread is concluding it
+                schedule(scheduledGroup, currentTick + 1);
+            } else {
+                schedule(scheduledGroup, Math.max(currentTick + 1, deadlineTick(aggregateGroup, currentTick + 1)));
+            }
+        }
+    }
+
+    private void scheduleNewGroup(final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup) {
+        final long currentTick = currentTick();
+        final ScheduledGroup scheduledGroup = new ScheduledGroup(hash, aggregateGroup, aggregateGroup.getGeneration());
+        schedule(scheduledGroup, deadlineTick(aggregateGroup, currentTick));
+    }
+
+    private void schedule(final ScheduledGroup scheduledGroup, final long tick) {
+        // A bucket which getGroupsToConclude took after it was looked up rejects the group, which then goes into a new bucket
+        ScheduleBucket bucket;
+        do {
+            bucket = concludeSchedule.computeIfAbsent(tick, (key) -> new ScheduleBucket());
+        } while (!bucket.add(scheduledGroup));
+    }
+
+    private long deadlineTick(final AggregateGroup aggregateGroup, final long unknownDeadlineTick) {
+        final Instant deadline = aggregateGroup.getConcludeDeadline(groupDuration);
+        if (deadline == null) {
+            return unknownDeadlineTick;
+        }
+        return Math.floorDiv(deadline.toEpochMilli() + tickMillis - 1, tickMillis);
+    }
+
+    private long currentTick() {
+        return Math.floorDiv(System.currentTimeMillis(), tickMillis);
+    }
+
+    static class ScheduledGroup {
+        private final IdentificationKeysHasher.IdentificationKeysMap hash;
+        private final AggregateGroup aggregateGroup;
+        private final long generation;
+
+        ScheduledGroup(final IdentificationKeysHasher.IdentificationKeysMap hash, final AggregateGroup aggregateGroup, final long generation) {
+            this.hash = hash;
+            this.aggregateGroup = aggregateGroup;
+            this.generation = generation;
+        }
+    }
+
+    /**
+     * The groups scheduled for one tick. Once a bucket is closed it rejects new groups, which are then scheduled
+     * into a new bucket for the same tick.
+     */
+    static class ScheduleBucket {
+        private List<ScheduledGroup> scheduledGroups = new ArrayList<>();
+
+        synchronized boolean add(final ScheduledGroup scheduledGroup) {
+            if (scheduledGroups == null) {
+                return false;
+            }
+            scheduledGroups.add(scheduledGroup);
+            return true;
+        }
+
+        synchronized List<ScheduledGroup> close() {
+            final List<ScheduledGroup> closedGroups = scheduledGroups;
+            scheduledGroups = null;
+            return closedGroups;
+        }
+    }
 }
@@ -30,6 +30,8 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.time.Instant;
 
 @DataPrepperPlugin(name = "aggregate", pluginType = Processor.class, pluginConfigurationType = AggregateProcessorConfig.class)
@@ -51,7 +53,8 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     private final IdentificationKeysHasher identificationKeysHasher;
     private final AggregateAction aggregateAction;
 
-    private boolean forceConclude = false;
+    private final ReadWriteLock concludeLock = new ReentrantReadWriteLock();
+    private volatile boolean forceConclude = false;
     private boolean localMode = false;
     private final String whenCondition;
     private final ExpressionEvaluator expressionEvaluator;
@@ -105,56 +108,63 @@ public class AggregateProcessor extends AbstractProcessor<Record<Event>, Record<
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
         final List<Record<Event>> recordsOut = new LinkedList<>();
 
-        synchronized (this) {
-            final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
-            for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
-                final AggregateActionOutput actionOutput = aggregateActionSynchronizer.concludeGroup(groupEntry.getKey(), groupEntry.getValue(), forceConclude);
-
-                final List<Event> concludeGroupEvents = actionOutput != null ? actionOutput.getEvents() : null;
-                if (concludeGroupEvents != null && !concludeGroupEvents.isEmpty()) {
-                    concludeGroupEvents.stream().forEach((event) -> {
-                        if (aggregatedEventsTag != null) {
-                            event.getMetadata().addTags(List.of(aggregatedEventsTag));
-                        }
-                        recordsOut.add(new Record(event));
-                        actionConcludeGroupEventsOutCounter.increment();
-                    });
-                } else {
-                    actionConcludeGroupEventsDroppedCounter.increment();
+        // Due groups are concluded before any worker adds events to them. Workers only take the shared lock while handling their batch.
+        if (forceConclude || aggregateGroupManager.hasGroupsToConclude()) {
+            concludeLock.writeLock().lock();
+            try {
+                final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(forceConclude);
+                for (final Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup> groupEntry : groupsToConclude) {
+                    final AggregateActionOutput actionOutput = aggregateActionSynchronizer.concludeGroup(groupEntry.getKey(), groupEntry.getValue(), forceConclude);
+
+                    final List<Event> concludeGroupEvents = actionOutput != null ? actionOutput.getEvents() : null;
+                    if (concludeGroupEvents != null && !concludeGroupEvents.isEmpty()) {
+                        concludeGroupEvents.stream().forEach((event) -> {
+                            if (aggregatedEventsTag != null) {
+                                event.getMetadata().addTags(List.of(aggregatedEventsTag));
+                            }
+                            recordsOut.add(new Record(event));
+                            actionConcludeGroupEventsOutCounter.increment();
+                        });
+                    } else {
+                        actionConcludeGroupEventsDroppedCounter.increment();
+                    }
                 }
+            } finally {
+                concludeLock.writeLock().unlock();
             }
         }
 
         int handleEventsOut = 0;
         int handleEventsDropped = 0;
-        for (final Record<Event> record : records) {
-            final Event event = record.getData();
-            if (whenCondition != null && !expressionEvaluator.evaluateConditional(whenCondition, event)) {
-                handleEventsDropped++;
-                continue;
-            }
-            final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
-            final AggregateActionResponse handleEventResponse;
-            synchronized (this) {
+        concludeLock.readLock().lock();
+        try {
+            for (final Record<Event> record : records) {
+                final Event event = record.getData();
+                if (whenCondition != null && !expressionEvaluator.evaluateConditional(whenCondition, event)) {
+                    handleEventsDropped++;
+                    continue;
+                }
+                final IdentificationKeysHasher.IdentificationKeysMap identificationKeysMap = identificationKeysHasher.createIdentificationKeysMapFromEvent(event);
                 final AggregateGroup aggregateGroupForEvent = getAggregateGroupForEvent(identificationKeysMap);
+                final AggregateActionResponse handleEventResponse = aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroupForEvent);
 
-                handleEventResponse = aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroupForEvent);
-            }
-
-            final Event aggregateActionResponseEvent = handleEventResponse.getEvent();
+                final Event aggregateActionResponseEvent = handleEventResponse.getEvent();
 
-            if (aggregateActionResponseEvent != null) {
-                if (aggregatedEventsTag != null) {
-                    aggregateActionResponseEvent.getMetadata().addTags(List.of(aggregatedEventsTag));
+                if (aggregateActionResponseEvent != null) {
+                    if (aggregatedEventsTag != null) {
+                        aggregateActionResponseEvent.getMetadata().addTags(List.of(aggregatedEventsTag));
+                    }
+                    recordsOut.add(new Record<>(aggregateActionResponseEvent, record.getMetadata()));
+                    handleEventsOut++;
+                } else {
+                    handleEventsDropped++;
+                }
+                if (outputUnaggregatedEvents) {
+                    recordsOut.add(record);
                 }
-                recordsOut.add(new Record<>(aggregateActionResponseEvent, record.getMetadata()));
-                handleEventsOut++;
-            } else {
-                handleEventsDropped++;
-            }
-            if (outputUnaggregatedEvents) {
-                recordsOut.add(record);
             }
+        } finally {
+            concludeLock.readLock().unlock();
         }
 
         actionHandleEventsOutCounter.increment(handleEventsOut);
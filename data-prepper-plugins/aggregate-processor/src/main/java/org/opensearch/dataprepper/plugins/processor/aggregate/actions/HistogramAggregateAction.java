@@ -61,14 +61,14 @@ public class HistogramAggregateAction implements AggregateAction {
     private final String key;
     private final String units;
     private final boolean recordMinMax;
-    private Event minEvent;
-    private Event maxEvent;
-    private double minValue;
-    private double maxValue;
     private final String metricName;
 
     private double[] buckets;
 
+    // Exemplars are kept in the group state, under keys which cannot collide with the output keys, because groups are handled concurrently
+    private static final Object MIN_EXEMPLAR_KEY = new Object();
+    private static final Object MAX_EXEMPLAR_KEY = new Object();
+
     @DataPrepperPluginConstructor
     public HistogramAggregateAction(final HistogramAggregateActionConfig histogramAggregateActionConfig) {
         this.key = histogramAggregateActionConfig.getKey();
@@ -171,10 +171,8 @@ public class HistogramAggregateAction implements AggregateAction {
             if (this.recordMinMax) {
                 groupState.put(minKey, doubleValue);
                 groupState.put(maxKey, doubleValue);
-                minEvent = event;
-                maxEvent = event;
-                minValue = doubleValue;
-                maxValue = doubleValue;
+                groupState.put(MIN_EXEMPLAR_KEY, new ExemplarCandidate(event, doubleValue));
+                groupState.put(MAX_EXEMPLAR_KEY, new ExemplarCandidate(event, doubleValue));
             }
         } else {
             Integer v = (Integer)groupState.get(countKey) + 1;
@@ -187,14 +185,12 @@ public class HistogramAggregateAction implements AggregateAction {
                 double min = (double)groupState.get(minKey);
                 if (doubleValue < min) {
                     groupState.put(minKey, doubleValue);
-                    minEvent = event;
-                    minValue = doubleValue;
+                    groupState.put(MIN_EXEMPLAR_KEY, new ExemplarCandidate(event, doubleValue));
                 }
                 double max = (double)groupState.get(maxKey);
                 if (doubleValue > max) {
                     groupState.put(maxKey, doubleValue);
-                    maxEvent = event;
-                    maxValue = doubleValue;
+                    groupState.put(MAX_EXEMPLAR_KEY, new ExemplarCandidate(event, doubleValue));
                 }
             }
             final Instant groupStartTime = (Instant)groupState.get(startTimeKey);
@@ -217,14 +213,16 @@ public class HistogramAggregateAction implements AggregateAction {
         }
 
         Event event;
+        final ExemplarCandidate minExemplar = (ExemplarCandidate)groupState.remove(MIN_EXEMPLAR_KEY);
+        final ExemplarCandidate maxExemplar = (ExemplarCandidate)groupState.remove(MAX_EXEMPLAR_KEY);
         Instant startTime = (Instant)groupState.get(startTimeKey);
         Instant endTime = (Instant)groupState.get(endTimeKey);
         long startTimeNanos = getTimeNanos(startTime);
         long endTimeNanos = getTimeNanos(endTime);
         String histogramKey = this.metricName + "_key";
         List<Exemplar> exemplarList = new ArrayList<>();
-        exemplarList.add(createExemplar("min", minEvent, minValue));
-        exemplarList.add(createExemplar("max", maxEvent, maxValue));
+        exemplarList.add(createExemplar("min", minExemplar.event, minExemplar.value));
+        exemplarList.add(createExemplar("max", maxExemplar.event, maxExemplar.value));
         if (outputFormat == OutputFormat.RAW) {
             groupState.put(histogramKey, key);
             groupState.put(durationKey, endTimeNanos-startTimeNanos);
@@ -278,4 +276,14 @@ public class HistogramAggregateAction implements AggregateAction {
 
         return new AggregateActionOutput(List.of(event));
     }
+
+    private static class ExemplarCandidate {
+        private final Event event;
+        private final double value;
+
+        private ExemplarCandidate(final Event event, final double value) {
+            this.event = event;
+            this.value = value;
+        }
+    }
 }
@@ -33,6 +33,8 @@ import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -84,7 +86,7 @@ public class AggregateActionSynchronizerTest {
         doNothing().when(handleEventForGroupLock).lock();
         doNothing().when(handleEventForGroupLock).unlock();
         doNothing().when(concludeGroupLock).unlock();
-        doNothing().when(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
+        when(aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, aggregateGroup)).thenReturn(aggregateGroup);
         doNothing().when(aggregateGroupManager).closeGroup(identificationKeysMap, aggregateGroup);
         when(aggregateGroupManager.getGroupDuration()).thenReturn(Duration.ZERO);
         when(aggregateGroup.getConcludeGroupLock()).thenReturn(concludeGroupLock);
@@ -166,9 +168,9 @@ public class AggregateActionSynchronizerTest {
         inOrder.verify(concludeGroupLock).lock();
         inOrder.verify(concludeGroupLock).unlock();
         inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).putGroupIfAbsent(identificationKeysMap, aggregateGroup);
         inOrder.verify(aggregateGroup).attachToEventAcknowledgementSet(event);
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
-        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
         inOrder.verify(handleEventForGroupLock).unlock();
 
         assertThat(handleEventResponse, equalTo(aggregateActionResponse));
@@ -189,14 +191,45 @@ public class AggregateActionSynchronizerTest {
         inOrder.verify(concludeGroupLock).lock();
         inOrder.verify(concludeGroupLock).unlock();
         inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).putGroupIfAbsent(identificationKeysMap, aggregateGroup);
         inOrder.verify(aggregateAction).handleEvent(event, aggregateGroup);
-        inOrder.verify(aggregateGroupManager).putGroupWithHash(identificationKeysMap, aggregateGroup);
         inOrder.verify(handleEventForGroupLock).unlock();
 
         verifyNoMoreInteractions(aggregateGroup);
         assertThat(handleEventResponse, equalTo(aggregateActionResponse));
     }
 
+    @Test
+    void handleEventForGroup_with_group_replaced_after_lookup_handles_event_with_current_group() {
+        final AggregateGroup currentGroup = mock(AggregateGroup.class);
+        final Lock currentConcludeGroupLock = mock(Lock.class);
+        final Lock currentHandleEventForGroupLock = mock(Lock.class);
+        when(currentGroup.getConcludeGroupLock()).thenReturn(currentConcludeGroupLock);
+        when(currentGroup.getHandleEventForGroupLock()).thenReturn(currentHandleEventForGroupLock);
+        when(aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, aggregateGroup)).thenReturn(currentGroup);
+        when(aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, currentGroup)).thenReturn(currentGroup);
+
+        final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
+        when(aggregateAction.handleEvent(event, currentGroup)).thenReturn(aggregateActionResponse);
+
+        final AggregateActionResponse handleEventResponse = objectUnderTest.handleEventForGroup(event, identificationKeysMap, aggregateGroup);
+
+        final InOrder inOrder = Mockito.inOrder(handleEventForGroupLock, currentConcludeGroupLock, currentHandleEventForGroupLock, aggregateGroupManager, aggregateAction);
+        inOrder.verify(handleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).putGroupIfAbsent(identificationKeysMap, aggregateGroup);
+        inOrder.verify(handleEventForGroupLock).unlock();
+        inOrder.verify(currentConcludeGroupLock).lock();
+        inOrder.verify(currentConcludeGroupLock).unlock();
+        inOrder.verify(currentHandleEventForGroupLock).lock();
+        inOrder.verify(aggregateGroupManager).putGroupIfAbsent(identificationKeysMap, currentGroup);
+        inOrder.verify(aggregateAction).handleEvent(event, currentGroup);
+        inOrder.verify(currentHandleEventForGroupLock).unlock();
+
+        verify(aggregateGroup, never()).attachToEventAcknowledgementSet(event);
+        verify(aggregateAction, never()).handleEvent(event, aggregateGroup);
+        assertThat(handleEventResponse, equalTo(aggregateActionResponse));
+    }
+
     @Test
     void locks_are_unlocked_and_event_returned_when_aggregateAction_handleEvent_throws_exception() {
         final AggregateActionSynchronizer objectUnderTest = createObjectUnderTest();
@@ -12,9 +12,12 @@ package org.opensearch.dataprepper.plugins.processor.aggregate;
 import org.opensearch.dataprepper.model.event.EventHandle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -28,6 +31,7 @@ import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,18 +83,18 @@ public class AggregateGroupManagerTest {
     }
 
     @Test
-    void putGroupWithHash_overwrites_old_group() {
+    void putGroupIfAbsent_adds_group_when_absent_and_returns_existing_group_otherwise() {
         aggregateGroupManager = createObjectUnderTest();
 
         final AggregateGroup expectedOldGroup = mock(AggregateGroup.class);
-        aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedOldGroup);
+        assertThat(aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, expectedOldGroup), sameInstance(expectedOldGroup));
         final AggregateGroup oldGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
         assertThat(oldGroup, equalTo(expectedOldGroup));
 
-        final AggregateGroup expectedNewGroup = mock(AggregateGroup.class);
-        aggregateGroupManager.putGroupWithHash(identificationKeysMap, expectedNewGroup);
-        final AggregateGroup newGroup = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
-        assertThat(newGroup, equalTo(expectedNewGroup));
+        final AggregateGroup newGroup = mock(AggregateGroup.class);
+        assertThat(aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, newGroup), sameInstance(expectedOldGroup));
+        assertThat(aggregateGroupManager.getAggregateGroup(identificationKeysMap), sameInstance(expectedOldGroup));
+        assertThat(aggregateGroupManager.getAllGroupsSize(), equalTo(1L));
     }
 
     @Test
@@ -105,8 +109,8 @@ public class AggregateGroupManagerTest {
         when(groupToNotConclude.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(false);
         final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToNotConclude = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
 
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude, groupToConclude);
-        aggregateGroupManager.putGroupWithHash(hashForGroupToNotConclude, groupToNotConclude);
+        aggregateGroupManager.putGroupIfAbsent(hashForGroupToConclude, groupToConclude);
+        aggregateGroupManager.putGroupIfAbsent(hashForGroupToNotConclude, groupToNotConclude);
 
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
 
@@ -126,8 +130,8 @@ public class AggregateGroupManagerTest {
         final AggregateGroup groupToConclude2 = mock(AggregateGroup.class);
         final IdentificationKeysHasher.IdentificationKeysMap hashForGroupToConclude2 = mock(IdentificationKeysHasher.IdentificationKeysMap.class);
 
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude1, groupToConclude1);
-        aggregateGroupManager.putGroupWithHash(hashForGroupToConclude2, groupToConclude2);
+        aggregateGroupManager.putGroupIfAbsent(hashForGroupToConclude1, groupToConclude1);
+        aggregateGroupManager.putGroupIfAbsent(hashForGroupToConclude2, groupToConclude2);
 
         final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(true);
 
@@ -172,4 +176,127 @@ public class AggregateGroupManagerTest {
 
         verify(group).resetGroup();
     }
+
+    @Test
+    void hasGroupsToConclude_returns_false_without_groups() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        assertThat(aggregateGroupManager.hasGroupsToConclude(), equalTo(false));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_check_groups_before_their_deadline() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup group = mock(AggregateGroup.class);
+        when(group.getConcludeDeadline(TEST_GROUP_DURATION)).thenReturn(Instant.now().plus(Duration.ofHours(1)));
+        aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.hasGroupsToConclude(), equalTo(false));
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(group, never()).shouldConcludeGroup(TEST_GROUP_DURATION);
+        assertThat(aggregateGroupManager.getScheduledBucketCount(), equalTo(1L));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_group_past_its_deadline() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup group = mock(AggregateGroup.class);
+        when(group.getConcludeDeadline(TEST_GROUP_DURATION)).thenReturn(Instant.now().minus(TEST_GROUP_DURATION));
+        when(group.shouldConcludeGroup(TEST_GROUP_DURATION)).thenReturn(true);
+        aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, group);
+        assertThat(aggregateGroupManager.hasGroupsToConclude(), equalTo(true));
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getKey(), equalTo(identificationKeysMap));
+        assertThat(groupsToConclude.get(0).getValue(), sameInstance(group));
+        assertThat(aggregateGroupManager.getScheduledBucketCount(), equalTo(1L));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_closed_group() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup group = mock(AggregateGroup.class);
+        aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, group);
+        aggregateGroupManager.closeGroup(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(group, never()).shouldConcludeGroup(TEST_GROUP_DURATION);
+        assertThat(aggregateGroupManager.getScheduledBucketCount(), equalTo(0L));
+    }
+
+    @Test
+    void getGroupsToConclude_does_not_return_group_reset_after_it_was_scheduled() {
+        aggregateGroupManager = createObjectUnderTest();
+
+        final AggregateGroup group = mock(AggregateGroup.class);
+        when(group.getGeneration()).thenReturn(0L, 1L);
+        aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        verify(group, never()).shouldConcludeGroup(TEST_GROUP_DURATION);
+    }
+
+    @Test
+    void getGroupsToConclude_checks_group_again_after_it_was_not_ready_to_conclude() throws InterruptedException {
+        final Duration groupDuration = Duration.ofMillis(64);
+        aggregateGroupManager = new AggregateGroupManager(groupDuration, false);
+
+        final AggregateGroup group = mock(AggregateGroup.class);
+        when(group.shouldConcludeGroup(groupDuration)).thenReturn(false, true);
+        aggregateGroupManager.putGroupIfAbsent(identificationKeysMap, group);
+
+        assertThat(aggregateGroupManager.getGroupsToConclude(false), equalTo(Collections.emptyList()));
+
+        Thread.sleep(aggregateGroupManager.getTickMillis() * 2);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), sameInstance(group));
+    }
+
+    @Test
+    void getGroupsToConclude_returns_new_group_once_group_duration_is_over() throws InterruptedException {
+        final Duration groupDuration = Duration.ofMillis(32);
+        aggregateGroupManager = new AggregateGroupManager(groupDuration, false);
+
+        final AggregateGroup group = aggregateGroupManager.getAggregateGroup(identificationKeysMap);
+
+        Thread.sleep(groupDuration.toMillis() * 2);
+
+        final List<Map.Entry<IdentificationKeysHasher.IdentificationKeysMap, AggregateGroup>> groupsToConclude = aggregateGroupManager.getGroupsToConclude(false);
+        assertThat(groupsToConclude.size(), equalTo(1));
+        assertThat(groupsToConclude.get(0).getValue(), sameInstance(group));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "0, 1",
+            "10, 1",
+            "3200, 100",
+            "32000, 1000",
+            "3600000, 1000"
+    })
+    void getTickMillis_is_a_fraction_of_the_group_duration(final long groupDurationMillis, final long expectedTickMillis) {
+        aggregateGroupManager = new AggregateGroupManager(Duration.ofMillis(groupDurationMillis), false);
+
+        assertThat(aggregateGroupManager.getTickMillis(), equalTo(expectedTickMillis));
+    }
+
+    @Test
+    void ScheduleBucket_rejects_groups_after_it_is_closed() {
+        final AggregateGroupManager.ScheduleBucket scheduleBucket = new AggregateGroupManager.ScheduleBucket();
+        final AggregateGroupManager.ScheduledGroup scheduledGroup = new AggregateGroupManager.ScheduledGroup(identificationKeysMap, mock(AggregateGroup.class), 0);
+
+        assertThat(scheduleBucket.add(scheduledGroup), equalTo(true));
+        assertThat(scheduleBucket.close(), equalTo(List.of(scheduledGroup)));
+        assertThat(scheduleBucket.add(scheduledGroup), equalTo(false));
+    }
 }
@@ -20,6 +20,7 @@ import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
 
 public class AggregateGroupTest {
 
@@ -54,6 +55,33 @@ public class AggregateGroupTest {
         assertThat(aggregateGroup.shouldConcludeGroup(TEST_GROUP_DURATION), equalTo(false));
     }
 
+    @Test
+    void getConcludeDeadline_returns_group_start_plus_group_duration() throws NoSuchFieldException, IllegalAccessException {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final Instant groupStart = Instant.now();
+        reflectivelySetField(aggregateGroup, "groupStart", groupStart);
+
+        assertThat(aggregateGroup.getConcludeDeadline(TEST_GROUP_DURATION), equalTo(groupStart.plus(TEST_GROUP_DURATION)));
+    }
+
+    @Test
+    void getConcludeDeadline_returns_null_with_custom_should_conclude() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        aggregateGroup.setCustomShouldConclude(duration -> false);
+
+        assertThat(aggregateGroup.getConcludeDeadline(TEST_GROUP_DURATION), nullValue());
+    }
+
+    @Test
+    void resetGroup_increments_generation() {
+        final AggregateGroup aggregateGroup = new AggregateGroup(null);
+        final long generation = aggregateGroup.getGeneration();
+
+        aggregateGroup.resetGroup();
+
+        assertThat(aggregateGroup.getGeneration(), equalTo(generation + 1));
+    }
+
     private void reflectivelySetField(final AggregateGroup aggregateGroup, final String fieldName, final Object value) throws NoSuchFieldException, IllegalAccessException {
         final Field field = AggregateGroup.class.getDeclaredField(fieldName);
         try {
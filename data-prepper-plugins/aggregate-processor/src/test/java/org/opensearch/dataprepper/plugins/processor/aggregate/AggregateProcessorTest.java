@@ -50,7 +50,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
@@ -193,6 +195,20 @@ public class AggregateProcessorTest {
                     .thenReturn(identificationKeysMap);
             when(aggregateGroupManager.getAggregateGroup(identificationKeysMap)).thenReturn(aggregateGroup);
             when(aggregateActionSynchronizer.handleEventForGroup(event, identificationKeysMap, aggregateGroup)).thenReturn(aggregateActionResponse);
+            lenient().when(aggregateGroupManager.hasGroupsToConclude()).thenReturn(true);
+        }
+
+        @Test
+        void doExecute_without_groups_to_conclude_does_not_get_groups_to_conclude() {
+            final AggregateProcessor objectUnderTest = createObjectUnderTest();
+            when(aggregateGroupManager.hasGroupsToConclude()).thenReturn(false);
+            when(aggregateActionResponse.getEvent()).thenReturn(event);
+
+            final List<Record<Event>> recordsOut = (List<Record<Event>>) objectUnderTest.doExecute(Collections.singletonList(new Record<>(event)));
+
+            assertThat(recordsOut.size(), equalTo(1));
+            verify(aggregateGroupManager, never()).getGroupsToConclude(anyBoolean());
+            verify(aggregateActionSynchronizer, never()).concludeGroup(any(), any(), anyBoolean());
         }
 
         @Test
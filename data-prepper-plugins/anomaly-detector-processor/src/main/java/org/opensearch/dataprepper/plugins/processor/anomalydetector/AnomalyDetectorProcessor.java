@@ -25,6 +25,8 @@ import org.opensearch.dataprepper.plugins.hasher.IdentificationKeysHasher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collection;
@@ -32,6 +34,9 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 @DataPrepperPlugin(name = "anomaly_detector", pluginType = Processor.class, pluginConfigurationType = AnomalyDetectorProcessorConfig.class)
@@ -51,6 +56,8 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
     private final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig;
     private static final Logger LOG = LoggerFactory.getLogger(AnomalyDetectorProcessor.class);
     private final Counter cardinalityOverflowCounter;
+    private final ShardedAnomalyDetector shardedAnomalyDetector;
+    private final ScheduledExecutorService snapshotExecutor;
     Instant nextWarnTime = Instant.MIN;
     @DataPrepperPluginConstructor
     public AnomalyDetectorProcessor(final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig, final PluginMetrics pluginMetrics, final PluginFactory pluginFactory) {
@@ -64,6 +71,39 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
         this.cardinalityLimit = anomalyDetectorProcessorConfig.getCardinalityLimit();
         this.cardinalityOverflowCounter = pluginMetrics.counter(CARDINALITY_OVERFLOW);
         forestMap = new HashMap<>();
+        final Path snapshotDirectory = anomalyDetectorProcessorConfig.getParallelism() > 0
+                && anomalyDetectorProcessorConfig.getSnapshotDirectory() != null && supportsSnapshots(pluginFactory)
+                ? Paths.get(anomalyDetectorProcessorConfig.getSnapshotDirectory()) : null;
+        if (anomalyDetectorProcessorConfig.getParallelism() > 0) {
+            shardedAnomalyDetector = new ShardedAnomalyDetector(anomalyDetectorProcessorConfig.getParallelism(),
+                    this::createAnomalyDetectorMode, cardinalityLimit, snapshotDirectory);
+        } else {
+            shardedAnomalyDetector = null;
+        }
+        if (snapshotDirectory != null) {
+            shardedAnomalyDetector.loadSnapshots();
+            cardinality.set(shardedAnomalyDetector.size());
+            final long snapshotIntervalMillis = anomalyDetectorProcessorConfig.getSnapshotInterval().toMillis();
+            snapshotExecutor = Executors.newSingleThreadScheduledExecutor();
+            snapshotExecutor.scheduleAtFixedRate(shardedAnomalyDetector::saveSnapshots, snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+        } else {
+            snapshotExecutor = null;
+        }
+    }
+
+    private AnomalyDetectorMode createAnomalyDetectorMode() {
+        final AnomalyDetectorMode mode = loadAnomalyDetectorMode(pluginFactory);
+        mode.initialize(keys, verbose);
+        return mode;
+    }
+
+    private boolean supportsSnapshots(final PluginFactory pluginFactory) {
+        if (loadAnomalyDetectorMode(pluginFactory) instanceof SnapshottableAnomalyDetectorMode) {
+            return true;
+        }
+        LOG.warn("The {} anomaly detector mode does not support snapshots, snapshot_directory is ignored",
+                anomalyDetectorProcessorConfig.getDetectorMode().getPluginName());
+        return false;
     }
 
     private AnomalyDetectorMode loadAnomalyDetectorMode(final PluginFactory pluginFactory) {
@@ -74,6 +114,9 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
 
     @Override
     public Collection<Record<Event>> doExecute(Collection<Record<Event>> records) {
+        if (shardedAnomalyDetector != null) {
+            return doExecuteSharded(records);
+        }
         final List<Record<Event>> recordsOut = new LinkedList<>();
 
         for (final Record<Event> record : records) {
@@ -91,10 +134,7 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
                 forestMap.put(identificationKeysMap.hashCode(), forest);
                 recordsOut.addAll(forest.handleEvents(List.of(record)));
             } else {
-                if (Instant.now().isAfter(nextWarnTime)) {
-                    LOG.warn("Cardinality limit reached, see cardinalityOverflow metric for count of skipped records");
-                    nextWarnTime = Instant.now().plus(5, ChronoUnit.MINUTES);
-                }
+                warnCardinalityLimit();
                 cardinalityOverflowCounter.increment();
             }
         }
@@ -102,6 +142,26 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
         return recordsOut;
     }
 
+    private Collection<Record<Event>> doExecuteSharded(final Collection<Record<Event>> records) {
+        final List<Record<Event>> overflowRecords = new LinkedList<>();
+        final List<Record<Event>> recordsOut = shardedAnomalyDetector.handleEvents(records,
+                record -> identificationKeysHasher.createIdentificationKeysMapFromEvent(record.getData()).hashCode(),
+                overflowRecords);
+        if (!overflowRecords.isEmpty()) {
+            warnCardinalityLimit();
+            cardinalityOverflowCounter.increment(overflowRecords.size());
+        }
+        cardinality.set(shardedAnomalyDetector.size());
+        return recordsOut;
+    }
+
+    private void warnCardinalityLimit() {
+        if (Instant.now().isAfter(nextWarnTime)) {
+            LOG.warn("Cardinality limit reached, see cardinalityOverflow metric for count of skipped records");
+            nextWarnTime = Instant.now().plus(5, ChronoUnit.MINUTES);
+        }
+    }
+
 
     @Override
     public void prepareForShutdown() {
@@ -115,6 +175,12 @@ public class AnomalyDetectorProcessor extends AbstractProcessor<Record<Event>, R
 
     @Override
     public void shutdown() {
-
+        if (snapshotExecutor != null) {
+            snapshotExecutor.shutdownNow();
+        }
+        if (shardedAnomalyDetector != null) {
+            shardedAnomalyDetector.shutdown();
+            shardedAnomalyDetector.saveSnapshots();
+        }
     }
 }
@@ -17,9 +17,12 @@ import org.opensearch.dataprepper.model.annotations.UsesDataPrepperPlugin;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
@@ -53,6 +56,19 @@ public class AnomalyDetectorProcessorConfig {
     @JsonProperty(value = "cardinality_limit", defaultValue = "5000")
     private int cardinalityLimit = 5000;
 
+    @JsonPropertyDescription("When greater than 0, models are partitioned into shards by the identification keys and the events of each shard are processed as a batch on a dedicated pool with this many threads. This lets detection over many identification key values use multiple cores. Default is 0, which processes events in the calling thread.")
+    @JsonProperty(value = "parallelism", defaultValue = "0")
+    @Min(0)
+    private int parallelism = 0;
+
+    @JsonPropertyDescription("A local directory in which the state of the models is saved periodically and on shutdown. Saved models are loaded on startup so that detection does not need to train again. Requires parallelism to be greater than 0.")
+    @JsonProperty("snapshot_directory")
+    private String snapshotDirectory;
+
+    @JsonPropertyDescription("How often the models of a shard are saved to the snapshot_directory. Default is 5 minutes.")
+    @JsonProperty(value = "snapshot_interval", defaultValue = "PT5M")
+    private Duration snapshotInterval = Duration.ofMinutes(5);
+
     public PluginModel getDetectorMode() { 
         return detectorMode;
     }
@@ -76,5 +92,22 @@ public class AnomalyDetectorProcessorConfig {
         return cardinalityLimit;
     }
 
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public String getSnapshotDirectory() {
+        return snapshotDirectory;
+    }
+
+    public Duration getSnapshotInterval() {
+        return snapshotInterval;
+    }
+
+    @AssertTrue(message = "snapshot_directory requires parallelism to be greater than 0.")
+    boolean isSnapshotDirectoryValid() {
+        return snapshotDirectory == null || parallelism > 0;
+    }
+
 
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Partitions the anomaly detector modes into shards by the hash of the identification keys. The records of each
+ * shard are processed as one batch on a dedicated {@link ForkJoinPool}, so that independent series use all cores
+ * while every mode is still only updated by one thread at a time.
+ */
+class ShardedAnomalyDetector {
+    private static final Logger LOG = LoggerFactory.getLogger(ShardedAnomalyDetector.class);
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<Integer, byte[]>> SNAPSHOT_TYPE = new TypeReference<>() {};
+    static final String SNAPSHOT_FILE_PREFIX = "anomaly-detector-shard-";
+    static final String SNAPSHOT_FILE_SUFFIX = ".json";
+
+    private final Shard[] shards;
+    private final ForkJoinPool pool;
+    private final Supplier<AnomalyDetectorMode> modeSupplier;
+    private final int cardinalityLimit;
+    private final AtomicInteger cardinality;
+    private final Path snapshotDirectory;
+
+    ShardedAnomalyDetector(final int parallelism,
+                           final Supplier<AnomalyDetectorMode> modeSupplier,
+                           final int cardinalityLimit,
+                           final Path snapshotDirectory) {
+        this.shards = new Shard[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            shards[i] = new Shard();
+        }
+        this.pool = new ForkJoinPool(parallelism);
+        this.modeSupplier = modeSupplier;
+        this.cardinalityLimit = cardinalityLimit;
+        this.cardinality = new AtomicInteger();
+        this.snapshotDirectory = snapshotDirectory;
+    }
+
+    /**
+     * Processes the records with the mode of their identification key hash.
+     *
+     * @param records The records to process
+     * @param keyHash Returns the identification key hash of a record
+     * @param overflowRecords Receives the records whose mode could not be created because of the cardinality limit
+     * @return The records output by the modes
+     */
+    List<Record<Event>> handleEvents(final Collection<Record<Event>> records,
+                                     final ToIntFunction<Record<Event>> keyHash,
+                                     final List<Record<Event>> overflowRecords) {
+        final List<Map<Integer, List<Record<Event>>>> recordsByShard = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            recordsByShard.add(new LinkedHashMap<>());
+        }
+        for (final Record<Event> record : records) {
+            final int hash = keyHash.applyAsInt(record);
+            recordsByShard.get(shardIndex(hash))
+                    .computeIfAbsent(hash, ignored -> new ArrayList<>())
+                    .add(record);
+        }
+
+        final List<ForkJoinTask<ShardResult>> tasks = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            final Map<Integer, List<Record<Event>>> shardRecords = recordsByShard.get(i);
+            if (shardRecords.isEmpty()) {
+                continue;
+            }
+            final Shard shard = shards[i];
+            tasks.add(pool.submit(() -> shard.handleEvents(shardRecords)));
+        }
+
+        final List<Record<Event>> recordsOut = new ArrayList<>();
+        for (final ForkJoinTask<ShardResult> task : tasks) {
+            final ShardResult result = task.join();
+            recordsOut.addAll(result.recordsOut);
+            overflowRecords.addAll(result.overflowRecords);
+        }
+        return recordsOut;
+    }
+
+    /**
+     * @return The number of modes across all shards
+     */
+    int size() {
+        return cardinality.get();
+    }
+
+    /**
+     * Loads the modes saved by {@link #saveSnapshots()}. Snapshots written with a different number of shards are
+     * redistributed, and entries which cannot be restored are skipped so that their series train again.
+     */
+    void loadSnapshots() {
+        if (snapshotDirectory == null || !Files.isDirectory(snapshotDirectory)) {
+            return;
+        }
+        try (final DirectoryStream<Path> snapshotFiles = Files.newDirectoryStream(snapshotDirectory, SNAPSHOT_FILE_PREFIX + "*" + SNAPSHOT_FILE_SUFFIX)) {
+            for (final Path snapshotFile : snapshotFiles) {
+                loadSnapshot(snapshotFile);
+            }
+        } catch (final IOException e) {
+            LOG.warn("Unable to list anomaly detector snapshots in {}", snapshotDirectory, e);
+        }
+        LOG.info("Restored {} anomaly detector models from {}", cardinality.get(), snapshotDirectory);
+    }
+
+    private void loadSnapshot(final Path snapshotFile) {
+        final Map<Integer, byte[]> states;
+        try {
+            states = OBJECT_MAPPER.readValue(snapshotFile.toFile(), SNAPSHOT_TYPE);
+        } catch (final IOException e) {
+            LOG.warn("Unable to read anomaly detector snapshot {}", snapshotFile, e);
+            return;
+        }
+        for (final Map.Entry<Integer, byte[]> entry : states.entrySet()) {
+            final Shard shard = shards[shardIndex(entry.getKey())];
+            if (shard.modes.containsKey(entry.getKey()) || !reserveCardinality()) {
+                continue;
+            }
+            try {
+                final AnomalyDetectorMode mode = modeSupplier.get();
+                if (!(mode instanceof SnapshottableAnomalyDetectorMode)) {
+                    throw new IllegalArgumentException("The anomaly detector mode does not support snapshots");
+                }
+                ((SnapshottableAnomalyDetectorMode) mode).restoreState(entry.getValue());
+                shard.modes.put(entry.getKey(), mode);
+            } catch (final RuntimeException e) {
+                cardinality.decrementAndGet();
+                LOG.warn("Unable to restore anomaly detector model from {}, it will be trained again", snapshotFile, e);
+            }
+        }
+        if (!isCurrentSnapshotFile(snapshotFile)) {
+            try {
+                Files.delete(snapshotFile);
+            } catch (final IOException e) {
+                LOG.warn("Unable to delete stale anomaly detector snapshot {}", snapshotFile, e);
+            }
+        }
+    }
+
+    /**
+     * Writes the state of every mode, one file per shard. Each file is replaced atomically so that a crash while
+     * saving leaves the previous snapshot in place.
+     */
+    void saveSnapshots() {
+        if (snapshotDirectory == null) {
+            return;
+        }
+        try {
+            Files.createDirectories(snapshotDirectory);
+        } catch (final IOException e) {
+            LOG.error("Unable to create anomaly detector snapshot directory {}", snapshotDirectory, e);
+            return;
+        }
+        for (int i = 0; i < shards.length; i++) {
+            final Map<Integer, byte[]> states = new HashMap<>();
+            shards[i].modes.forEach((hash, mode) -> {
+                if (mode instanceof SnapshottableAnomalyDetectorMode) {
+                    states.put(hash, ((SnapshottableAnomalyDetectorMode) mode).saveState());
+                }
+            });
+            final Path snapshotFile = snapshotFile(i);
+            final Path temporaryFile = snapshotDirectory.resolve(snapshotFile.getFileName() + ".tmp");
+            try {
+                OBJECT_MAPPER.writeValue(temporaryFile.toFile(), states);
+                Files.move(temporaryFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final IOException e) {
+                LOG.error("Unable to write anomaly detector snapshot {}", snapshotFile, e);
+            }
+        }
+    }
+
+    void shutdown() {
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(30, TimeUnit.SECONDS)) {
+                pool.shutdownNow();
+            }
+        } catch (final InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private int shardIndex(final int hash) {
+        return Math.floorMod(hash, shards.length);
+    }
+
+    private Path snapshotFile(final int shardIndex) {
+        return snapshotDirectory.resolve(SNAPSHOT_FILE_PREFIX + shardIndex + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    private boolean isCurrentSnapshotFile(final Path snapshotFile) {
+        for (int i = 0; i < shards.length; i++) {
+            if (snapshotFile(i).getFileName().equals(snapshotFile.getFileName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean reserveCardinality() {
+        int current;
+        do {
+            current = cardinality.get();
+            if (current >= cardinalityLimit) {
+                return false;
+            }
+        } while (!cardinality.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private class Shard {
+        private final Map<Integer, AnomalyDetectorMode> modes = new ConcurrentHashMap<>();
+        private final Lock shardLock = new ReentrantLock();
+
+        private ShardResult handleEvents(final Map<Integer, List<Record<Event>>> recordsByHash) {
+            final ShardResult result = new ShardResult();
+            // Several processor workers may submit records of the same shard, the lock keeps one batch at a time
+            shardLock.lock();
+            try {
+                for (final Map.Entry<Integer, List<Record<Event>>> entry : recordsByHash.entrySet()) {
+                    AnomalyDetectorMode mode = modes.get(entry.getKey());
+                    if (mode == null) {
+                        if (!reserveCardinality()) {
+                            result.overflowRecords.addAll(entry.getValue());
+                            continue;
+                        }
+                        mode = modeSupplier.get();
+                        modes.put(entry.getKey(), mode);
+                    }
+                    result.recordsOut.addAll(mode.handleEvents(entry.getValue()));
+                }
+            } finally {
+                shardLock.unlock();
+            }
+            return result;
+        }
+    }
+
+    private static class ShardResult {
+        private final List<Record<Event>> recordsOut = new ArrayList<>();
+        private final Collection<Record<Event>> overflowRecords = new ArrayList<>();
+    }
+}
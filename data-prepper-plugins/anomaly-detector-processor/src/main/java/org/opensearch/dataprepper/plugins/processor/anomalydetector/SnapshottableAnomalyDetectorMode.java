@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.anomalydetector;
+
+/**
+ * An {@link AnomalyDetectorMode} which can save its trained state and restore it, so that the
+ * {@link AnomalyDetectorProcessor} can snapshot its models to the snapshot_directory. Modes which
+ * do not implement this interface are trained from scratch after every restart.
+ * @since 2.17
+ */
+public interface SnapshottableAnomalyDetectorMode extends AnomalyDetectorMode {
+    /**
+     * Serializes the trained state of the mode, so that a new instance can continue from it after a restart.
+     *
+     * @return The serialized state
+     * @since 2.17
+     */
+    byte[] saveState();
+
+    /**
+     * Replaces the state of an initialized mode with state returned by {@link #saveState()}.
+     *
+     * @param state The serialized state
+     * @throws IllegalArgumentException if the state cannot be restored for the keys this mode was initialized with
+     * @since 2.17
+     */
+    void restoreState(byte[] state);
+}
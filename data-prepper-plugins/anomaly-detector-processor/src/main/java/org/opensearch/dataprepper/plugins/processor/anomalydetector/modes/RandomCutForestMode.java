@@ -22,10 +22,16 @@ import com.amazon.randomcutforest.config.Precision;
 import com.amazon.randomcutforest.config.TransformMethod;
 import com.amazon.randomcutforest.parkservices.AnomalyDescriptor;
 import com.amazon.randomcutforest.parkservices.ThresholdedRandomCutForest;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestMapper;
+import com.amazon.randomcutforest.parkservices.state.ThresholdedRandomCutForestState;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorMode;
+import org.opensearch.dataprepper.plugins.processor.anomalydetector.SnapshottableAnomalyDetectorMode;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.DEVIATION_KEY;
 import static org.opensearch.dataprepper.plugins.processor.anomalydetector.AnomalyDetectorProcessor.GRADE_KEY;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collection;
 import java.util.List;
 import java.util.ArrayList;
@@ -34,12 +40,14 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 @DataPrepperPlugin(name = "random_cut_forest", pluginType = AnomalyDetectorMode.class, pluginConfigurationType = RandomCutForestModeConfig.class)
-public class RandomCutForestMode implements AnomalyDetectorMode {
+public class RandomCutForestMode implements SnapshottableAnomalyDetectorMode {
     private static final int NUMBER_OF_TREES = 50;
     private static final double ANOMALY_RATE = 0.01;
     private static final double INITIAL_ACCEPT_FRACTION = 0.125;
     private static final double LOWER_THRESHOLD = 1.1;
     private static final double HORIZON_VALUE = 0.75;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final ThresholdedRandomCutForestMapper FOREST_MAPPER = new ThresholdedRandomCutForestMapper();
     
     private ThresholdedRandomCutForest forest;
     private int baseDimensions;
@@ -93,62 +101,101 @@ public class RandomCutForestMode implements AnomalyDetectorMode {
     public Collection<Record<Event>> handleEvents(Collection<Record<Event>> records) {
         int timeStamp = (int)Instant.now().getEpochSecond();
         List<Record<Event>> recordsOut = new ArrayList<>();
-        for(final Record<Event> record : records) {
-            Event event = record.getData();
-            boolean notFound = false;
-            double[] points = new double[keys.size()];
-            int index = 0;
-            for (final String key: keys) {
-                Number value = event.get(key, Number.class);
-                if (value == null) {
-                    notFound = true;
-                    break;
-                }
-                if (value instanceof Long) {
-                    points[index] = (double)value.longValue();
-                } else if (value instanceof Integer) {
-                    points[index] = (double)value.intValue();
-                } else if (value instanceof Short) {
-                    points[index] = (double)value.shortValue();
-                } else if (value instanceof Byte) {
-                    points[index] = (double)value.byteValue();
-                } else if (value instanceof Float) {
-                    points[index] = (double)value.floatValue();
-                } else {
-                    points[index] = value.doubleValue();
-                }
-                index++;
-            }
-            if (notFound) {
-                continue;
+        // Lock once for the batch, callers which shard forests hand over all records of a forest together
+        processLock.lock();
+        try {
+            for (final Record<Event> record : records) {
+                handleEvent(record, timeStamp, recordsOut);
             }
-            AnomalyDescriptor result = null;
+        } finally {
+            processLock.unlock();
+        }
+        return recordsOut;
+    }
 
-            processLock.lock();
-            try {
-                result = forest.process(points, timeStamp);
-            } catch (final Exception e) {
-                LOG.debug("Error while processing the event in RCF: ", e);
-            } finally {
-                processLock.unlock();
+    private void handleEvent(final Record<Event> record, final int timeStamp, final List<Record<Event>> recordsOut) {
+        Event event = record.getData();
+        boolean notFound = false;
+        double[] points = new double[keys.size()];
+        int index = 0;
+        for (final String key: keys) {
+            Number value = event.get(key, Number.class);
+            if (value == null) {
+                notFound = true;
+                break;
             }
-            if ((result != null) && (result.getAnomalyGrade() != 0) && (result.isExpectedValuesPresent())) {
-                double deviations[] = new double[keys.size()];
-                if (result.getRelativeIndex() != 0 && result.isStartOfAnomaly()) {
-                    for (int i = 0; i < keys.size(); i++) {
-                        deviations[i] = result.getPastValues()[i];
-                    }
-                } else {
-                    for (int i = 0; i < keys.size(); i++) {
-                        deviations[i] = result.getCurrentInput()[i] - result.getExpectedValuesList()[0][i];
-                    }
+            if (value instanceof Long) {
+                points[index] = (double)value.longValue();
+            } else if (value instanceof Integer) {
+                points[index] = (double)value.intValue();
+            } else if (value instanceof Short) {
+                points[index] = (double)value.shortValue();
+            } else if (value instanceof Byte) {
+                points[index] = (double)value.byteValue();
+            } else if (value instanceof Float) {
+                points[index] = (double)value.floatValue();
+            } else {
+                points[index] = value.doubleValue();
+            }
+            index++;
+        }
+        if (notFound) {
+            return;
+        }
+        AnomalyDescriptor result = null;
+
+        try {
+            result = forest.process(points, timeStamp);
+        } catch (final Exception e) {
+            LOG.debug("Error while processing the event in RCF: ", e);
+        }
+        if ((result != null) && (result.getAnomalyGrade() != 0) && (result.isExpectedValuesPresent())) {
+            double deviations[] = new double[keys.size()];
+            if (result.getRelativeIndex() != 0 && result.isStartOfAnomaly()) {
+                for (int i = 0; i < keys.size(); i++) {
+                    deviations[i] = result.getPastValues()[i];
+                }
+            } else {
+                for (int i = 0; i < keys.size(); i++) {
+                    deviations[i] = result.getCurrentInput()[i] - result.getExpectedValuesList()[0][i];
                 }
-                event.put(DEVIATION_KEY, deviations);
-                event.put(GRADE_KEY, result.getAnomalyGrade());
-                recordsOut.add(record);
             }
+            event.put(DEVIATION_KEY, deviations);
+            event.put(GRADE_KEY, result.getAnomalyGrade());
+            recordsOut.add(record);
+        }
+    }
+
+    @Override
+    public byte[] saveState() {
+        processLock.lock();
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(FOREST_MAPPER.toState(forest));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            processLock.unlock();
+        }
+    }
+
+    @Override
+    public void restoreState(final byte[] state) {
+        final ThresholdedRandomCutForest restoredForest;
+        try {
+            restoredForest = FOREST_MAPPER.toModel(OBJECT_MAPPER.readValue(state, ThresholdedRandomCutForestState.class));
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Unable to read random cut forest state", e);
+        }
+        if (restoredForest.getForest().getDimensions() != baseDimensions * shingleSize) {
+            throw new IllegalArgumentException("Random cut forest state has " + restoredForest.getForest().getDimensions() +
+                    " dimensions, but the keys and shingle size require " + baseDimensions * shingleSize);
+        }
+        processLock.lock();
+        try {
+            forest = restoredForest;
+        } finally {
+            processLock.unlock();
         }
-        return recordsOut;
     }
 }
 
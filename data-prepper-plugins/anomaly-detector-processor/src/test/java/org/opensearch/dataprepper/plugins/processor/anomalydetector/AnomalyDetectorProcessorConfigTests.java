@@ -53,4 +53,15 @@ public class AnomalyDetectorProcessorConfigTests {
         assertThrows(IllegalArgumentException.class, () -> anomalyDetectorProcessorConfig.getKeys());
     }
 
+    @Test
+    public void testSnapshotDirectoryRequiresParallelism() throws NoSuchFieldException, IllegalAccessException {
+        final AnomalyDetectorProcessorConfig anomalyDetectorProcessorConfig = new AnomalyDetectorProcessorConfig();
+        assertThat(anomalyDetectorProcessorConfig.getParallelism(), equalTo(0));
+        assertThat(anomalyDetectorProcessorConfig.isSnapshotDirectoryValid(), equalTo(true));
+        setField(AnomalyDetectorProcessorConfig.class, anomalyDetectorProcessorConfig, "snapshotDirectory", UUID.randomUUID().toString());
+        assertThat(anomalyDetectorProcessorConfig.isSnapshotDirectoryValid(), equalTo(false));
+        setField(AnomalyDetectorProcessorConfig.class, anomalyDetectorProcessorConfig, "parallelism", 2);
+        assertThat(anomalyDetectorProcessorConfig.isSnapshotDirectoryValid(), equalTo(true));
+    }
+
 }
@@ -22,12 +22,16 @@ import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.model.plugin.PluginFactory;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -36,11 +40,14 @@ import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -259,6 +266,95 @@ public class AnomalyDetectorProcessorTests {
 
     }
 
+    @Test
+    void testShardedAnomalyDetectorCardinality() {
+        List<String> identificationKeyList = new ArrayList<String>();
+        identificationKeyList.add("ip");
+        when(mockConfig.getIdentificationKeys()).thenReturn(identificationKeyList);
+        when(mockConfig.getParallelism()).thenReturn(4);
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            if (i % 2 == 0) {
+                records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6), ThreadLocalRandom.current().nextLong(100, 110), "1.1.1.1"));
+            } else {
+                records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.6), ThreadLocalRandom.current().nextLong(1000, 1110), "255.255.255.255"));
+            }
+        }
+
+        anomalyDetectorProcessor.doExecute(records);
+
+        final List<Record<Event>> slowRecordFromFastIp = (List<Record<Event>>) anomalyDetectorProcessor.doExecute(Collections.singletonList(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.8), ThreadLocalRandom.current().nextLong(1000, 1110), "1.1.1.1")));
+        assertThat(slowRecordFromFastIp.size(), equalTo(1));
+
+        final List<Record<Event>> slowRecordFromSlowIp = (List<Record<Event>>) anomalyDetectorProcessor.doExecute(Collections.singletonList(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(15.5, 15.6), ThreadLocalRandom.current().nextLong(1000, 1110), "255.255.255.255")));
+        assertThat(slowRecordFromSlowIp.size(), equalTo(0));
+
+        anomalyDetectorProcessor.shutdown();
+    }
+
+    @Test
+    void testShardedAnomalyDetectorMaxCardinality() {
+        List<String> identificationKeyList = new ArrayList<String>();
+        identificationKeyList.add("ip");
+        when(mockConfig.getIdentificationKeys()).thenReturn(identificationKeyList);
+        when(mockConfig.getCardinalityLimit()).thenReturn(2);
+        when(mockConfig.getParallelism()).thenReturn(2);
+        when(pluginMetrics.counter(AnomalyDetectorProcessor.CARDINALITY_OVERFLOW)).thenReturn(cardinalityOverflow);
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (final String ip : List.of("1.1.1.1", "2.2.2.2", "3.3.3.3")) {
+            records.add(getLatencyBytesMessageWithIp(UUID.randomUUID().toString(), 0.5, 100, ip));
+        }
+
+        anomalyDetectorProcessor.doExecute(records);
+
+        verify(cardinalityOverflow).increment(1);
+        verify(numberRCFInstances).set(2);
+        anomalyDetectorProcessor.shutdown();
+    }
+
+    @Test
+    void testShardedAnomalyDetectorRestoresSnapshot(@TempDir final Path snapshotDirectory) {
+        when(mockConfig.getParallelism()).thenReturn(2);
+        when(mockConfig.getSnapshotDirectory()).thenReturn(snapshotDirectory.toString());
+        when(mockConfig.getSnapshotInterval()).thenReturn(Duration.ofHours(1));
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        final int numSamples = 1024;
+        final List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6)));
+        }
+        anomalyDetectorProcessor.doExecute(records);
+        anomalyDetectorProcessor.shutdown();
+        assertThat(Files.exists(snapshotDirectory.resolve(ShardedAnomalyDetector.SNAPSHOT_FILE_PREFIX + "0" + ShardedAnomalyDetector.SNAPSHOT_FILE_SUFFIX)), equalTo(true));
+
+        final AnomalyDetectorProcessor restoredProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        final List<Record<Event>> recordsWithAnomaly = (List<Record<Event>>) restoredProcessor.doExecute(Collections.singletonList(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(10.5, 10.8))));
+        assertThat(recordsWithAnomaly.size(), equalTo(1));
+        restoredProcessor.shutdown();
+    }
+
+    @Test
+    void testShardedAnomalyDetectorIgnoresSnapshotDirectoryForModeWithoutSnapshots(@TempDir final Path snapshotDirectory) throws Exception {
+        when(mockConfig.getParallelism()).thenReturn(2);
+        when(mockConfig.getSnapshotDirectory()).thenReturn(snapshotDirectory.toString());
+        when(pluginFactory.loadPlugin(eq(AnomalyDetectorMode.class), any(PluginSetting.class)))
+            .thenAnswer(invocation -> mock(AnomalyDetectorMode.class));
+
+        anomalyDetectorProcessor = new AnomalyDetectorProcessor(mockConfig, pluginMetrics, pluginFactory);
+        anomalyDetectorProcessor.doExecute(Collections.singletonList(getLatencyMessage(UUID.randomUUID().toString(), 0.5)));
+        anomalyDetectorProcessor.shutdown();
+
+        try (final Stream<Path> snapshotFiles = Files.list(snapshotDirectory)) {
+            assertThat(snapshotFiles.count(), equalTo(0L));
+        }
+    }
+
     static Record<Event> buildRecordWithEvent(final Map<String, Object> data) {
         return new Record<>(JacksonEvent.builder()
             .withData(data)
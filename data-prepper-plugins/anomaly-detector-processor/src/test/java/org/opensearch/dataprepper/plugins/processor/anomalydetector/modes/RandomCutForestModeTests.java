@@ -27,6 +27,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.BeforeEach;
@@ -215,4 +216,43 @@ public class RandomCutForestModeTests {
         // Due to inherent variance in the RCF algorithm, 1-3 anomalies will be detected after the level shift.
         assertThat(anomalyRecords.size(), both(greaterThanOrEqualTo(1)).and(lessThanOrEqualTo(3)));
     }
+
+    @Test
+    void testRandomCutForestModeRestoresSavedState() {
+        randomCutForestMode = createObjectUnderTest();
+        List<String> keys = new ArrayList<String>(Collections.singleton("latency"));
+        randomCutForestMode.initialize(keys, false);
+        final int numSamples = 1024;
+        List<Record<Event>> records = new ArrayList<Record<Event>>();
+        for (int i = 0; i < numSamples; i++) {
+            records.add(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(0.5, 0.6)));
+        }
+        randomCutForestMode.handleEvents(records);
+
+        final RandomCutForestMode restoredMode = createObjectUnderTest();
+        restoredMode.initialize(keys, false);
+        restoredMode.restoreState(randomCutForestMode.saveState());
+        final List<Record<Event>> recordsWithAnomaly = new ArrayList<Record<Event>>();
+        recordsWithAnomaly.add(getLatencyMessage(UUID.randomUUID().toString(), ThreadLocalRandom.current().nextDouble(10.4, 10.8)));
+        final List<Record<Event>> anomalyRecords = restoredMode.handleEvents(recordsWithAnomaly).stream().collect(toList());
+        assertThat(anomalyRecords.size(), equalTo(1));
+    }
+
+    @Test
+    void testRandomCutForestModeRejectsStateWithDifferentKeys() {
+        randomCutForestMode = createObjectUnderTest();
+        randomCutForestMode.initialize(new ArrayList<String>(Collections.singleton("latency")), false);
+        final byte[] state = randomCutForestMode.saveState();
+
+        final RandomCutForestMode restoredMode = createObjectUnderTest();
+        restoredMode.initialize(List.of("latency", "bytes"), false);
+        assertThrows(IllegalArgumentException.class, () -> restoredMode.restoreState(state));
+    }
+
+    @Test
+    void testRandomCutForestModeRejectsInvalidState() {
+        randomCutForestMode = createObjectUnderTest();
+        randomCutForestMode.initialize(new ArrayList<String>(Collections.singleton("latency")), false);
+        assertThrows(IllegalArgumentException.class, () -> randomCutForestMode.restoreState(new byte[] {1, 2, 3}));
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A preallocated, bounded, multi-producer/multi-consumer ring of elements. Every slot carries a sequence number
+ * which tells producers and consumers whether the slot is free to be written or holds a published element.
+ * Producers claim a contiguous range of sequences with a single atomic add and publish each slot once its element
+ * is stored. Consumers claim the longest contiguous run of published slots with a single compare-and-set.
+ * <p>
+ * The ring does not enforce capacity on its own. Callers must reserve capacity before calling
+ * {@link #publishAll(Collection)} so that the number of unconsumed elements never exceeds {@link #getSlotCount()}.
+ *
+ * @param <E> the type of element stored in the ring
+ */
+class MultiProducerMultiConsumerRing<E> {
+    private final int slotCount;
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private final AtomicLong consumerSequence = new AtomicLong();
+
+    MultiProducerMultiConsumerRing(final int minimumCapacity) {
+        if (minimumCapacity <= 0) {
+            throw new IllegalArgumentException("Ring capacity must be greater than 0");
+        }
+        this.slotCount = nextPowerOfTwo(minimumCapacity);
+        this.mask = slotCount - 1;
+        this.slots = new AtomicReferenceArray<>(slotCount);
+        this.sequences = new AtomicLongArray(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Claims one sequence per element and publishes the elements in order.
+     *
+     * @param elements the elements to publish
+     */
+    void publishAll(final Collection<E> elements) {
+        final int count = elements.size();
+        if (count == 0) {
+            return;
+        }
+        long sequence = producerSequence.getAndAdd(count);
+        final Iterator<E> iterator = elements.iterator();
+        while (iterator.hasNext()) {
+            publish(sequence++, iterator.next());
+        }
+    }
+
+    /**
+     * Claims one sequence and publishes the element.
+     *
+     * @param element the element to publish
+     */
+    void publish(final E element) {
+        publish(producerSequence.getAndIncrement(), element);
+    }
+
+    private void publish(final long sequence, final E element) {
+        final int index = (int) (sequence & mask);
+        // A consumer may have claimed the previous lap of this slot without having released it yet.
+        while (sequences.get(index) != sequence) {
+            Thread.onSpinWait();
+        }
+        slots.lazySet(index, element);
+        sequences.set(index, sequence + 1);
+    }
+
+    /**
+     * Claims up to maxElements published elements and adds them to the destination list.
+     *
+     * @param destination the list to add the claimed elements to
+     * @param maxElements the maximum number of elements to claim
+     * @return the number of elements added to the destination
+     */
+    int drainTo(final List<E> destination, final int maxElements) {
+        if (maxElements <= 0) {
+            return 0;
+        }
+        while (true) {
+            final long start = consumerSequence.get();
+            int available = 0;
+            while (available < maxElements) {
+                final long sequence = start + available;
+                if (sequences.get((int) (sequence & mask)) != sequence + 1) {
+                    break;
+                }
+                available++;
+            }
+            if (available == 0) {
+                return 0;
+            }
+            if (consumerSequence.compareAndSet(start, start + available)) {
+                for (int i = 0; i < available; i++) {
+                    final long sequence = start + i;
+                    final int index = (int) (sequence & mask);
+                    destination.add(slots.get(index));
+                    slots.lazySet(index, null);
+                    sequences.set(index, sequence + slotCount);
+                }
+                return available;
+            }
+        }
+    }
+
+    /**
+     * Returns true when every claimed producer sequence has been consumed. Elements which are claimed but not
+     * yet published count as present.
+     *
+     * @return whether the ring holds no elements
+     */
+    boolean isEmpty() {
+        return consumerSequence.get() >= producerSequence.get();
+    }
+
+    int size() {
+        final long size = producerSequence.get() - consumerSequence.get();
+        return (int) Math.max(0, size);
+    }
+
+    private static int nextPowerOfTwo(final int value) {
+        final int highestOneBit = Integer.highestOneBit(value);
+        if (highestOneBit == value) {
+            return value;
+        }
+        if (highestOneBit >= (1 << 30)) {
+            throw new IllegalArgumentException("Ring capacity is too large: " + value);
+        }
+        return highestOneBit << 1;
+    }
+}
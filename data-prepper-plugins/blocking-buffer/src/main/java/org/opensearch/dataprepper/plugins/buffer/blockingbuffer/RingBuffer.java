@@ -0,0 +1,205 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
+import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
+import org.opensearch.dataprepper.model.buffer.AbstractBuffer;
+import org.opensearch.dataprepper.model.buffer.Buffer;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * A bounded buffer backed by a preallocated multi-producer/multi-consumer array ring. Unlike {@link BlockingBuffer},
+ * writers and readers never take a lock: writers reserve capacity and claim ring slots for a whole batch with atomic
+ * operations, and readers claim a contiguous run of published records with a single compare-and-set.
+ * <p>
+ * Capacity follows the same contract as {@link BlockingBuffer}. A record holds capacity from the moment it is
+ * written until the read batch containing it is checkpointed.
+ */
+@DataPrepperPlugin(name = "ring_buffer", pluginType = Buffer.class, pluginConfigurationType = RingBufferConfig.class)
+public class RingBuffer<T extends Record<?>> extends AbstractBuffer<T> {
+    private static final Logger LOG = LoggerFactory.getLogger(RingBuffer.class);
+    private static final String RING_BUFFER = "RingBuffer";
+    private static final String BUFFER_USAGE_METRIC = "bufferUsage";
+    public static final String CAPACITY_USED_METRIC = "capacityUsed";
+    static final long ZERO_TIMEOUT_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final int SPIN_TRIES = 64;
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(10);
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final int bufferCapacity;
+    private final int batchSize;
+    private final String pipelineName;
+    private final MultiProducerMultiConsumerRing<T> ring;
+    private final AtomicInteger capacityUsed = new AtomicInteger();
+
+    /**
+     * Creates a RingBuffer with the given (fixed) capacity.
+     *
+     * @param bufferCapacity the capacity of the buffer
+     * @param batchSize      the batch size for {@link #read(int)}
+     * @param pipelineName   the name of the associated Pipeline
+     */
+    public RingBuffer(final int bufferCapacity, final int batchSize, final String pipelineName) {
+        super(RING_BUFFER, pipelineName);
+        this.bufferCapacity = bufferCapacity;
+        this.batchSize = batchSize;
+        this.pipelineName = pipelineName;
+        this.ring = new MultiProducerMultiConsumerRing<>(bufferCapacity);
+
+        final PluginMetrics pluginMetrics = PluginMetrics.fromNames(RING_BUFFER, pipelineName);
+
+        pluginMetrics.gauge(CAPACITY_USED_METRIC, capacityUsed, AtomicInteger::get);
+        pluginMetrics.gauge(BUFFER_USAGE_METRIC, capacityUsed, used -> (double) used.get() / bufferCapacity * 100);
+    }
+
+    @DataPrepperPluginConstructor
+    public RingBuffer(final RingBufferConfig ringBufferConfig, final PipelineDescription pipelineDescription) {
+        this(checkNotNull(ringBufferConfig, "RingBufferConfig cannot be null").getBufferSize(),
+                ringBufferConfig.getBatchSize(),
+                pipelineDescription.getPipelineName());
+    }
+
+    @Override
+    public void doWrite(final T record, final int timeoutInMillis) throws TimeoutException {
+        checkNotNull(record, "record cannot be null");
+        if (!reserveCapacity(1, timeoutInMillis)) {
+            throw new TimeoutException(format("Pipeline [%s] - Buffer is full, timed out waiting for a slot",
+                    pipelineName));
+        }
+        ring.publish(record);
+    }
+
+    @Override
+    public void doWriteAll(final Collection<T> records, final int timeoutInMillis) throws Exception {
+        final int size = records.size();
+        if (size > bufferCapacity) {
+            throw new SizeOverflowException(format("Buffer capacity too small for the number of records: %d", size));
+        }
+        for (final T record : records) {
+            checkNotNull(record, "record cannot be null");
+        }
+        if (!reserveCapacity(size, timeoutInMillis)) {
+            throw new TimeoutException(
+                    format("Pipeline [%s] - Buffer does not have enough capacity left for the number of records: %d, " +
+                                    "timed out waiting for slots.",
+                            pipelineName, size));
+        }
+        ring.publishAll(records);
+    }
+
+    /**
+     * Retrieves and removes the batch of records from the head of the ring. The batch size is defined by the
+     * configured batch_size or limited by timeoutInMillis.
+     *
+     * @param timeoutInMillis how long to wait before giving up
+     * @return The earliest batch of records in the buffer which are still not read.
+     */
+    @Override
+    public Map.Entry<Collection<T>, CheckpointState> doRead(final int timeoutInMillis) {
+        final List<T> records = new ArrayList<>(batchSize);
+
+        if (timeoutInMillis == 0) {
+            final long deadline = System.nanoTime() + ZERO_TIMEOUT_POLL_NANOS;
+            int idleCount = 0;
+            while (ring.drainTo(records, batchSize) == 0 && System.nanoTime() - deadline < 0) {
+                idleCount = idle(idleCount, deadline);
+                checkReadInterrupted();
+            }
+        } else {
+            final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+            int idleCount = 0;
+            while (records.size() < batchSize && System.nanoTime() - deadline < 0) {
+                if (ring.drainTo(records, batchSize - records.size()) == 0) {
+                    idleCount = idle(idleCount, deadline);
+                    checkReadInterrupted();
+                } else {
+                    idleCount = 0;
+                }
+            }
+        }
+
+        updateLatency(records);
+        final CheckpointState checkpointState = new CheckpointState(records.size());
+        return new AbstractMap.SimpleEntry<>(records, checkpointState);
+    }
+
+    @Override
+    public void doCheckpoint(final CheckpointState checkpointState) {
+        capacityUsed.addAndGet(-checkpointState.getNumRecordsToBeChecked());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ring.isEmpty() && getRecordsInFlight() == 0;
+    }
+
+    private boolean reserveCapacity(final int count, final int timeoutInMillis) {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutInMillis);
+        int idleCount = 0;
+        while (true) {
+            final int used = capacityUsed.get();
+            if (used + count <= bufferCapacity) {
+                if (capacityUsed.compareAndSet(used, used + count)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            idleCount = idle(idleCount, deadline);
+            if (Thread.interrupted()) {
+                LOG.error("Pipeline [{}] - Buffer is full, interrupted while waiting to write {} record(s)", pipelineName, count);
+                return false;
+            }
+        }
+    }
+
+    private void checkReadInterrupted() {
+        if (Thread.interrupted()) {
+            LOG.info("Pipeline [{}] - Interrupt received while reading from buffer", pipelineName);
+            throw new RuntimeException(new InterruptedException());
+        }
+    }
+
+    /**
+     * Backs off while waiting on another thread: spins briefly, then parks with an exponentially growing delay
+     * which never passes the deadline.
+     */
+    private int idle(final int idleCount, final long deadline) {
+        if (idleCount < SPIN_TRIES) {
+            Thread.onSpinWait();
+        } else {
+            final long parkNanos = Math.min(MIN_PARK_NANOS << Math.min(idleCount - SPIN_TRIES, 7), MAX_PARK_NANOS);
+            LockSupport.parkNanos(this, Math.min(parkNanos, Math.max(0, deadline - System.nanoTime())));
+        }
+        return idleCount + 1;
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+
+public class RingBufferConfig {
+    public static final int DEFAULT_BUFFER_CAPACITY = BlockingBufferConfig.DEFAULT_BUFFER_CAPACITY;
+    public static final int DEFAULT_BATCH_SIZE = BlockingBufferConfig.DEFAULT_BATCH_SIZE;
+
+    @JsonProperty("buffer_size")
+    @Min(1)
+    private int bufferSize = DEFAULT_BUFFER_CAPACITY;
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    @JsonProperty("batch_size")
+    @Min(1)
+    private int batchSize = DEFAULT_BATCH_SIZE;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.buffer.blockingbuffer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.opensearch.dataprepper.metrics.MetricNames;
+import org.opensearch.dataprepper.model.CheckpointState;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
+import org.opensearch.dataprepper.model.configuration.PipelineDescription;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RingBufferTests {
+    private static final String TEST_PIPELINE_NAME = "test-pipeline";
+    private static final String PLUGIN_NAME = "RingBuffer";
+    private static final int TEST_BATCH_SIZE = 3;
+    private static final int TEST_BUFFER_SIZE = 13;
+    private static final int TEST_WRITE_TIMEOUT = 10;
+    private static final int TEST_BATCH_READ_TIMEOUT = 500;
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+    @BeforeEach
+    void setup() {
+        Metrics.globalRegistry.getRegistries().forEach(Metrics.globalRegistry::remove);
+        Metrics.globalRegistry.getMeters().forEach(Metrics.globalRegistry::remove);
+        Metrics.addRegistry(new SimpleMeterRegistry());
+    }
+
+    @AfterAll
+    static void shutdownExecutor() {
+        EXECUTOR.shutdownNow();
+    }
+
+    @Test
+    void testCreationUsingRingBufferConfig() throws JsonProcessingException {
+        final RingBuffer<Record<String>> ringBuffer = createObjectUnderTest(
+                new ObjectMapper().readValue("{\"buffer_size\": 13, \"batch_size\": 3}", RingBufferConfig.class));
+        assertThat(ringBuffer, notNullValue());
+    }
+
+    @Test
+    void testCreationUsingNullRingBufferConfig() {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        final NullPointerException exception = assertThrows(NullPointerException.class,
+                () -> new RingBuffer<Record<String>>(null, pipelineDescription));
+        assertThat(exception.getMessage(), is(equalTo("RingBufferConfig cannot be null")));
+    }
+
+    @Test
+    void testDefaultRingBufferConfig() throws JsonProcessingException {
+        final RingBufferConfig config = new ObjectMapper().readValue("{}", RingBufferConfig.class);
+        assertThat(config.getBufferSize(), equalTo(RingBufferConfig.DEFAULT_BUFFER_CAPACITY));
+        assertThat(config.getBatchSize(), equalTo(RingBufferConfig.DEFAULT_BATCH_SIZE));
+    }
+
+    @Test
+    void testInsertNull() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertThrows(NullPointerException.class, () -> ringBuffer.write(null, TEST_WRITE_TIMEOUT));
+        assertThrows(NullPointerException.class,
+                () -> ringBuffer.writeAll(Collections.singletonList(null), TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    void testWriteAllSizeOverflow() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(TEST_BUFFER_SIZE + 1);
+        assertThrows(SizeOverflowException.class, () -> ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT));
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    void testNoEmptySpaceWriteOnly() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(new Record<>("TIMEOUT"), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoAvailSpaceWriteAllOnly() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        assertThrows(TimeoutException.class, () -> ringBuffer.writeAll(generateBatchRecords(2), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testNoEmptySpaceAfterUncheckedRead() throws TimeoutException {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+
+        ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Record<String> timeoutRecord = new Record<>("TIMEOUT");
+        assertThrows(TimeoutException.class, () -> ringBuffer.write(timeoutRecord, TEST_WRITE_TIMEOUT));
+        assertThrows(TimeoutException.class,
+                () -> ringBuffer.writeAll(Collections.singletonList(timeoutRecord), TEST_WRITE_TIMEOUT));
+    }
+
+    @Test
+    void testWriteAllIntoEmptySpaceAfterCheckedRead() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(2, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Collection<Record<String>> testRecords = generateBatchRecords(2);
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+        verifyCapacityUsedMetric(2.0);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        verifyBufferUsageMetric(100.0);
+        ringBuffer.checkpoint(readResult.getValue());
+        verifyBufferUsageMetric(0.0);
+        verifyCapacityUsedMetric(0.0);
+
+        ringBuffer.writeAll(testRecords, TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readCheckResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readCheckResult.getKey().size(), equalTo(2));
+    }
+
+    @Test
+    void testReadEmptyBuffer() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(0));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, TEST_BATCH_READ_TIMEOUT})
+    void testBatchReadPreservesOrder(final int readTimeout) throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        final int testSize = 5;
+        for (int i = 0; i < testSize; i++) {
+            ringBuffer.write(new Record<>("TEST" + i), TEST_WRITE_TIMEOUT);
+        }
+        verifyBufferUsageMetric(38.46153846153847);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> partialReadResult = ringBuffer.read(readTimeout);
+        assertThat(partialReadResult.getKey().size(), is(TEST_BATCH_SIZE));
+        assertThat(partialReadResult.getValue().getNumRecordsToBeChecked(), is(TEST_BATCH_SIZE));
+        int i = 0;
+        for (final Record<String> record : partialReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i++));
+        }
+        ringBuffer.checkpoint(partialReadResult.getValue());
+        verifyBufferUsageMetric(15.384615384615385);
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> finalReadResult = ringBuffer.read(readTimeout);
+        assertThat(finalReadResult.getKey().size(), is(testSize - TEST_BATCH_SIZE));
+        for (final Record<String> record : finalReadResult.getKey()) {
+            assertThat(record.getData(), equalTo("TEST" + i++));
+        }
+        ringBuffer.checkpoint(finalReadResult.getValue());
+        verifyBufferUsageMetric(0.0);
+    }
+
+    @Test
+    void testBufferIsEmpty() {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testBufferIsNotEmptyUntilCheckpoint() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("TEST"), TEST_WRITE_TIMEOUT);
+        assertFalse(ringBuffer.isEmpty());
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertFalse(ringBuffer.isEmpty());
+
+        ringBuffer.checkpoint(readResult.getValue());
+        assertTrue(ringBuffer.isEmpty());
+    }
+
+    @Test
+    void testNonZeroBatchDelayReturnsAllRecords() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(TEST_BUFFER_SIZE, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT);
+
+        EXECUTOR.submit(() -> {
+            Thread.sleep(TEST_BATCH_READ_TIMEOUT / 2);
+            ringBuffer.writeAll(generateBatchRecords(1), TEST_WRITE_TIMEOUT);
+            return null;
+        });
+
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+        assertThat(readResult.getKey().size(), is(2));
+        assertThat(readResult.getValue().getNumRecordsToBeChecked(), is(2));
+    }
+
+    @Test
+    void testWriterWaitsForCheckpointToReleaseCapacity() throws Exception {
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(1, TEST_BATCH_SIZE, TEST_PIPELINE_NAME);
+        ringBuffer.write(new Record<>("FILL_THE_BUFFER"), TEST_WRITE_TIMEOUT);
+        final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(TEST_BATCH_READ_TIMEOUT);
+
+        final Future<?> blockedWrite = EXECUTOR.submit(() -> {
+            ringBuffer.write(new Record<>("WAITING"), 5_000);
+            return null;
+        });
+        Thread.sleep(50);
+        assertFalse(blockedWrite.isDone());
+
+        ringBuffer.checkpoint(readResult.getValue());
+        blockedWrite.get(5, TimeUnit.SECONDS);
+        assertThat(ringBuffer.read(TEST_BATCH_READ_TIMEOUT).getKey().iterator().next().getData(), equalTo("WAITING"));
+    }
+
+    @Test
+    void testConcurrentWritersAndReadersDeliverEveryRecordOnce() throws Exception {
+        final int writers = 2;
+        final int recordsPerWriter = 5_000;
+        final RingBuffer<Record<String>> ringBuffer = new RingBuffer<>(64, 16, TEST_PIPELINE_NAME);
+
+        final List<Future<?>> writerFutures = new ArrayList<>();
+        for (int writer = 0; writer < writers; writer++) {
+            final int writerId = writer;
+            writerFutures.add(EXECUTOR.submit(() -> {
+                for (int i = 0; i < recordsPerWriter; i += 4) {
+                    final List<Record<String>> batch = new ArrayList<>();
+                    for (int j = i; j < i + 4; j++) {
+                        batch.add(new Record<>(writerId + "-" + j));
+                    }
+                    ringBuffer.writeAll(batch, 10_000);
+                }
+                return null;
+            }));
+        }
+
+        final List<Future<Set<String>>> readerFutures = new ArrayList<>();
+        for (int reader = 0; reader < 2; reader++) {
+            readerFutures.add(EXECUTOR.submit(() -> {
+                final Set<String> seen = new HashSet<>();
+                while (!writerFutures.stream().allMatch(Future::isDone) || !ringBuffer.isEmpty()) {
+                    final Map.Entry<Collection<Record<String>>, CheckpointState> readResult = ringBuffer.read(10);
+                    readResult.getKey().forEach(record -> assertTrue(seen.add(record.getData())));
+                    ringBuffer.checkpoint(readResult.getValue());
+                }
+                return seen;
+            }));
+        }
+
+        for (final Future<?> writerFuture : writerFutures) {
+            writerFuture.get(30, TimeUnit.SECONDS);
+        }
+        final Set<String> allSeen = new HashSet<>();
+        for (final Future<Set<String>> readerFuture : readerFutures) {
+            for (final String value : readerFuture.get(30, TimeUnit.SECONDS)) {
+                assertTrue(allSeen.add(value));
+            }
+        }
+        assertThat(allSeen.size(), equalTo(writers * recordsPerWriter));
+        assertTrue(ringBuffer.isEmpty());
+        verifyCapacityUsedMetric(0.0);
+    }
+
+    private RingBuffer<Record<String>> createObjectUnderTest(final RingBufferConfig ringBufferConfig) {
+        final PipelineDescription pipelineDescription = mock(PipelineDescription.class);
+        when(pipelineDescription.getPipelineName()).thenReturn(TEST_PIPELINE_NAME);
+        return new RingBuffer<>(ringBufferConfig, pipelineDescription);
+    }
+
+    private Collection<Record<String>> generateBatchRecords(final int numRecords) {
+        final Collection<Record<String>> results = new ArrayList<>();
+        for (int i = 0; i < numRecords; i++) {
+            results.add(new Record<>(UUID.randomUUID().toString()));
+        }
+        return results;
+    }
+
+    private void verifyBufferUsageMetric(final double expectedBufferUsage) {
+        assertThat(getGauge("bufferUsage").value(), is(expectedBufferUsage));
+    }
+
+    private void verifyCapacityUsedMetric(final double expectedCapacityUsed) {
+        assertThat(getGauge(RingBuffer.CAPACITY_USED_METRIC).value(), is(expectedCapacityUsed));
+    }
+
+    private Gauge getGauge(final String metricName) {
+        final Gauge gauge = Metrics.globalRegistry.get(new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME)
+                .add(metricName).toString()).gauge();
+        assertThat(gauge, is(notNullValue()));
+        return gauge;
+    }
+}
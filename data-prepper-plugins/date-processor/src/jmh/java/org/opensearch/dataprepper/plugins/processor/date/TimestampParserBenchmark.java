@@ -0,0 +1,126 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TimestampParserBenchmark {
+    private static final int TIMESTAMP_COUNT = 10_000;
+    private static final ZoneId SOURCE_ZONE_ID = ZoneId.of("America/New_York");
+    private static final List<String> PATTERNS = List.of(
+            "epoch_milli", "yyyy-MM-dd'T'HH:mm:ss.SSSXXX", "MMM dd HH:mm:ss", "dd/MMM/yyyy:HH:mm:ss Z");
+    private static final DateTimeFormatter[] INPUT_FORMATTERS = {
+            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSXXX", Locale.ROOT),
+            DateTimeFormatter.ofPattern("MMM dd HH:mm:ss", Locale.ROOT),
+            DateTimeFormatter.ofPattern("dd/MMM/yyyy:HH:mm:ss Z", Locale.ROOT)
+    };
+
+    /**
+     * The share of timestamps in percent which are not ISO-8601 timestamps, spread evenly over epoch millis,
+     * syslog and Apache access log timestamps
+     */
+    @Param({"0", "50", "100"})
+    private int mixedPercent;
+
+    private TimestampParser timestampParser;
+    private List<DateTimeFormatter> sourceFormatters;
+    private String[] timestamps;
+
+    @Setup
+    public void setUp() {
+        timestampParser = new TimestampParser(PATTERNS, SOURCE_ZONE_ID, Locale.ROOT);
+        final LocalDate localDateForDefaultValues = LocalDate.now(SOURCE_ZONE_ID);
+        sourceFormatters = PATTERNS.stream()
+                .filter(pattern -> !pattern.contains("epoch"))
+                .map(pattern -> TimestampParser.createSourceFormatter(pattern, SOURCE_ZONE_ID, Locale.ROOT, localDateForDefaultValues))
+                .collect(Collectors.toList());
+        timestamps = createTimestamps(mixedPercent);
+    }
+
+    @Benchmark
+    public long parse_with_timestamp_parser() {
+        long sum = 0;
+        for (final String timestamp : timestamps) {
+            sum += timestampParser.parse(timestamp).getEpochSecond();
+        }
+        return sum;
+    }
+
+    /**
+     * Parses the timestamps as the date processor did before it had a timestamp parser, trying each formatter in
+     * order and catching the exception of each formatter which does not parse a timestamp.
+     */
+    @Benchmark
+    public long parse_with_formatters() {
+        long sum = 0;
+        for (final String timestamp : timestamps) {
+            sum += parseWithFormatters(timestamp).getEpochSecond();
+        }
+        return sum;
+    }
+
+    private Instant parseWithFormatters(final String timestamp) {
+        try {
+            return Instant.ofEpochMilli(Long.parseLong(timestamp));
+        } catch (final NumberFormatException e) {
+            // Not an epoch
+        }
+        for (final DateTimeFormatter formatter : sourceFormatters) {
+            try {
+                return ZonedDateTime.parse(timestamp, formatter).toInstant();
+            } catch (final Exception ignored) {
+            }
+        }
+        return null;
+    }
+
+    private static String[] createTimestamps(final int mixedPercent) {
+        final Random random = new Random(42);
+        final Instant start = Instant.parse("2024-01-01T00:00:00Z");
+        final String[] timestamps = new String[TIMESTAMP_COUNT];
+        for (int i = 0; i < timestamps.length; i++) {
+            final ZonedDateTime dateTime = start.plusMillis(random.nextInt(Integer.MAX_VALUE))
+                    .atZone(ZoneOffset.ofHours(random.nextInt(25) - 12));
+            final int layout = random.nextInt(100) < mixedPercent ? 1 + random.nextInt(3) : 0;
+            timestamps[i] = layout == 3
+                    ? Long.toString(dateTime.toInstant().toEpochMilli())
+                    : dateTime.format(INPUT_FORMATTERS[layout]);
+        }
+        return timestamps;
+    }
+}
@@ -25,32 +25,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
-import java.time.temporal.ChronoField;
 import java.util.Collection;
-import java.util.List;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @DataPrepperPlugin(name = "date", pluginType = Processor.class, pluginConfigurationType = DateProcessorConfig.class)
 public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
     private static final Logger LOG = LoggerFactory.getLogger(DateProcessor.class);
     private static final String OUTPUT_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
-    private static final int LENGTH_OF_EPOCH_IN_MILLIS = 13;
-    private static final int LENGTH_OF_EPOCH_SECONDS = 10;
-    private static final int LENGTH_OF_EPOCH_MICROSECONDS = 16;
     static final String DATE_PROCESSING_MATCH_SUCCESS = "dateProcessingMatchSuccess";
     static final String DATE_PROCESSING_MATCH_FAILURE = "dateProcessingMatchFailure";
 
     private String keyToParse;
-    private List<DateTimeFormatter> dateTimeFormatters;
-    private Set<String> epochFormatters;
+    private TimestampParser timestampParser;
     private String outputFormat;
+    private final DateTimeFormatter outputFormatter;
     private final DateProcessorConfig dateProcessorConfig;
     private final ExpressionEvaluator expressionEvaluator;
 
@@ -63,6 +53,7 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
         this.dateProcessorConfig = dateProcessorConfig;
         this.expressionEvaluator = expressionEvaluator;
         this.outputFormat = dateProcessorConfig.getOutputFormat();
+        this.outputFormatter = createOutputFormatter(dateProcessorConfig.getDestinationZoneId());
 
         dateProcessingMatchSuccessCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_SUCCESS);
         dateProcessingMatchFailureCounter = pluginMetrics.counter(DATE_PROCESSING_MATCH_FAILURE);
@@ -126,35 +117,16 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     private void extractKeyAndFormatters() {
         for (DateProcessorConfig.DateMatch entry: dateProcessorConfig.getMatch()) {
             keyToParse = entry.getKey();
-            epochFormatters = entry.getPatterns().stream().filter(pattern -> pattern.contains("epoch")).collect(Collectors.toSet());
-            dateTimeFormatters = entry.getPatterns().stream().filter(pattern -> !pattern.contains("epoch")).map(this::getSourceFormatter).collect(Collectors.toList());
+            timestampParser = new TimestampParser(entry.getPatterns(), dateProcessorConfig.getSourceZoneId(), dateProcessorConfig.getSourceLocale());
         }
     }
 
-    private DateTimeFormatter getSourceFormatter(final String pattern) {
-        final LocalDate localDateForDefaultValues = LocalDate.now(dateProcessorConfig.getSourceZoneId());
-
-        final DateTimeFormatterBuilder dateTimeFormatterBuilder = new DateTimeFormatterBuilder()
-                .appendPattern(pattern)
-                .parseDefaulting(ChronoField.MONTH_OF_YEAR, localDateForDefaultValues.getMonthValue())
-                .parseDefaulting(ChronoField.DAY_OF_MONTH, localDateForDefaultValues.getDayOfMonth())
-                .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
-                .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0);
-
-        if(!pattern.contains("a") && !pattern.contains("k"))
-            dateTimeFormatterBuilder.parseDefaulting(ChronoField.HOUR_OF_DAY, 0);
-
-        if (!(pattern.contains("y") || pattern.contains("u")))
-            dateTimeFormatterBuilder.parseDefaulting(ChronoField.YEAR_OF_ERA, localDateForDefaultValues.getYear());
-
-        return dateTimeFormatterBuilder
-                .toFormatter(dateProcessorConfig.getSourceLocale())
-                .withZone(dateProcessorConfig.getSourceZoneId());
-    }
-
     private String getDateTimeFromTimeReceived(final Record<Event> record) {
         final Instant timeReceived = record.getData().getMetadata().getTimeReceived();
-        return timeReceived.atZone(dateProcessorConfig.getDestinationZoneId()).format(getOutputFormatter());
+        if (outputFormatter == null) {
+            return getEpochFormatOutput(timeReceived).getLeft();
+        }
+        return outputFormatter.format(timeReceived);
     }
 
     private Pair<String, Instant> getDateTimeFromMatch(final Record<Event> record) {
@@ -190,75 +162,24 @@ public class DateProcessor extends AbstractProcessor<Record<Event>, Record<Event
     }
 
     private Pair<String, Instant> getFormattedDateTimeString(final String sourceTimestamp) {
-        ZoneId srcZoneId = dateProcessorConfig.getSourceZoneId();
-        ZoneId dstZoneId = dateProcessorConfig.getDestinationZoneId();
-        Long numberValue = null;
-        Instant epochTime;
-        
-        if (epochFormatters.size() > 0) {
-            try {
-                numberValue = Long.parseLong(sourceTimestamp);
-            } catch (NumberFormatException e) {
-                numberValue = null;
-            }
-        }
-        if (numberValue != null) {
-            int timestampLength = sourceTimestamp.length();
-            if (timestampLength > LENGTH_OF_EPOCH_MICROSECONDS) {
-                if (epochFormatters.contains("epoch_nano")) {
-                    epochTime = Instant.ofEpochSecond(numberValue/1000_000_000, numberValue % 1000_000_000);
-                } else {
-                    LOG.warn("Source time value is larger than epoch pattern configured. epoch_nano is expected but not present in the patterns list");
-                    return null;
-                }
-            } else if (timestampLength > LENGTH_OF_EPOCH_IN_MILLIS) {
-                if (epochFormatters.contains("epoch_micro")) {
-                    epochTime = Instant.ofEpochSecond(numberValue/1000_000, (numberValue % 1000_000) * 1000);
-                } else {
-                    LOG.warn("Source time value is larger than epoch pattern configured. epoch_micro is expected but not present in the patterns list");
-                    return null;
-                }
-            } else if (timestampLength > LENGTH_OF_EPOCH_SECONDS) {
-                if (epochFormatters.contains("epoch_milli")) {
-                    epochTime = Instant.ofEpochMilli(numberValue);
-                } else {
-                    LOG.warn("Source time value is larger than epoch pattern configured. epoch_milli is expected but not present in the patterns list");
-                    return null;
-                }
-            } else {
-                epochTime = Instant.ofEpochSecond(numberValue);
-            }
-            // Epochs are always UTC zone
-            srcZoneId = ZoneId.of("UTC");
-            try {
-                if (outputFormat.startsWith("epoch_")) {
-                    return getEpochFormatOutput(epochTime);
-                } else {
-                    DateTimeFormatter outputFormatter = getOutputFormatter().withZone(dstZoneId);
-                    ZonedDateTime tmp = ZonedDateTime.ofInstant(epochTime, srcZoneId);
-                    return Pair.of(tmp.format(outputFormatter.withZone(dstZoneId)), tmp.toInstant());
-                }
-            } catch (Exception ignored) {
-            }
-        }
+        final Instant timestamp = timestampParser.parse(sourceTimestamp);
+        if (timestamp == null)
+            return null;
 
-        for (DateTimeFormatter formatter : dateTimeFormatters) {
-            try {
-                ZonedDateTime tmp = ZonedDateTime.parse(sourceTimestamp, formatter);
-                if (outputFormat.startsWith("epoch_")) {
-                    return getEpochFormatOutput(tmp.toInstant());
-                }
-                return Pair.of(tmp.format(getOutputFormatter().withZone(dstZoneId)), tmp.toInstant());
-            } catch (Exception ignored) {
-            }
+        if (outputFormatter == null) {
+            return getEpochFormatOutput(timestamp);
         }
-
-        LOG.debug("Unable to parse {} with any of the provided patterns", sourceTimestamp);
-        return null;
+        return Pair.of(outputFormatter.format(timestamp), timestamp);
     }
 
-    private DateTimeFormatter getOutputFormatter() {
-        return DateTimeFormatter.ofPattern(outputFormat);
+    /**
+     * Creates the formatter of the output format once, in the destination zone, or returns null for epoch output formats.
+     */
+    private DateTimeFormatter createOutputFormatter(final ZoneId destinationZoneId) {
+        if (outputFormat.startsWith("epoch_")) {
+            return null;
+        }
+        return DateTimeFormatter.ofPattern(outputFormat).withZone(destinationZoneId);
     }
 
     @Override
@@ -0,0 +1,600 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.TextStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Parses the source timestamps of a match entry with its patterns, returning the instant of the first pattern which
+ * parses a timestamp. Patterns are compiled once, common layouts are parsed without a {@link DateTimeFormatter},
+ * and patterns which do not fit a timestamp are skipped without throwing an exception.
+ * <p>
+ * The parser remembers which pattern parsed each timestamp layout, where a layout is the timestamp with its ASCII
+ * digits replaced by zeros, so that timestamps with a known layout start at the pattern which parsed them before.
+ */
+class TimestampParser {
+    private static final Logger LOG = LoggerFactory.getLogger(TimestampParser.class);
+    private static final int LENGTH_OF_EPOCH_IN_MILLIS = 13;
+    private static final int LENGTH_OF_EPOCH_SECONDS = 10;
+    private static final int LENGTH_OF_EPOCH_MICROSECONDS = 16;
+    /**
+     * Longest number of digits which always fits into a long
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+    static final int MAX_REMEMBERED_LAYOUTS = 1024;
+    static final int MAX_LAYOUT_LENGTH = 64;
+
+    private final Set<String> epochPatterns;
+    private final SourcePattern[] sourcePatterns;
+    private final Map<String, Integer> rememberedPatterns = new ConcurrentHashMap<>();
+
+    TimestampParser(final List<String> patterns, final ZoneId sourceZoneId, final Locale sourceLocale) {
+        epochPatterns = patterns.stream().filter(pattern -> pattern.contains("epoch")).collect(Collectors.toSet());
+
+        final List<String> formatterPatterns = patterns.stream().filter(pattern -> !pattern.contains("epoch")).collect(Collectors.toList());
+        sourcePatterns = new SourcePattern[formatterPatterns.size()];
+        if (!formatterPatterns.isEmpty()) {
+            final LocalDate localDateForDefaultValues = LocalDate.now(sourceZoneId);
+            for (int i = 0; i < sourcePatterns.length; i++) {
+                sourcePatterns[i] = new SourcePattern(formatterPatterns.get(i), sourceZoneId, sourceLocale, localDateForDefaultValues);
+            }
+        }
+    }
+
+    /**
+     * Parses a source timestamp. Numeric timestamps are parsed as epochs if there are epoch patterns, and are not
+     * parsed with the other patterns if their length requires an epoch pattern which is not configured.
+     *
+     * @param timestamp the source timestamp
+     * @return the instant of the timestamp, or null if no pattern parses it
+     */
+    Instant parse(final String timestamp) {
+        if (!epochPatterns.isEmpty()) {
+            final Long epochValue = parseEpochValue(timestamp);
+            if (epochValue != null) {
+                return toEpochInstant(timestamp.length(), epochValue);
+            }
+        }
+
+        final String layout = layoutOf(timestamp);
+        if (layout != null) {
+            final Integer rememberedPattern = rememberedPatterns.get(layout);
+            if (rememberedPattern != null) {
+                final Instant instant = sourcePatterns[rememberedPattern].parse(timestamp);
+                if (instant != null) {
+                    return instant;
+                }
+            }
+        }
+
+        boolean earlierPatternsRejectLayout = true;
+        for (int i = 0; i < sourcePatterns.length; i++) {
+            final SourcePattern sourcePattern = sourcePatterns[i];
+            Instant instant = sourcePattern.parseWithFastPath(timestamp);
+            if (instant == null) {
+                if (!sourcePattern.matchesLayout(timestamp)) {
+                    earlierPatternsRejectLayout &= sourcePattern.rejectsByLayout;
+                    continue;
+                }
+                instant = sourcePattern.parseWithFormatter(timestamp);
+            }
+            if (instant != null) {
+                if (layout != null && earlierPatternsRejectLayout && rememberedPatterns.size() < MAX_REMEMBERED_LAYOUTS) {
+                    rememberedPatterns.putIfAbsent(layout, i);
+                }
+                return instant;
+            }
+            earlierPatternsRejectLayout = false;
+        }
+
+        LOG.debug("Unable to parse {} with any of the provided patterns", timestamp);
+        return null;
+    }
+
+    int rememberedLayoutCount() {
+        return rememberedPatterns.size();
+    }
+
+    private Instant toEpochInstant(final int timestampLength, final long numberValue) {
+        if (timestampLength > LENGTH_OF_EPOCH_MICROSECONDS) {
+            if (epochPatterns.contains("epoch_nano")) {
+                return Instant.ofEpochSecond(numberValue / 1000_000_000, numberValue % 1000_000_000);
+            }
+            LOG.warn("Source time value is larger than epoch pattern configured. epoch_nano is expected but not present in the patterns list");
+            return null;
+        } else if (timestampLength > LENGTH_OF_EPOCH_IN_MILLIS) {
+            if (epochPatterns.contains("epoch_micro")) {
+                return Instant.ofEpochSecond(numberValue / 1000_000, (numberValue % 1000_000) * 1000);
+            }
+            LOG.warn("Source time value is larger than epoch pattern configured. epoch_micro is expected but not present in the patterns list");
+            return null;
+        } else if (timestampLength > LENGTH_OF_EPOCH_SECONDS) {
+            if (epochPatterns.contains("epoch_milli")) {
+                return Instant.ofEpochMilli(numberValue);
+            }
+            LOG.warn("Source time value is larger than epoch pattern configured. epoch_milli is expected but not present in the patterns list");
+            return null;
+        }
+        return Instant.ofEpochSecond(numberValue);
+    }
+
+    /**
+     * Parses a timestamp as {@link Long#parseLong(String)} would, without throwing an exception for the common
+     * case of a timestamp which is not a number.
+     *
+     * @return the value, or null if the timestamp is not a long
+     */
+    static Long parseEpochValue(final String timestamp) {
+        final int length = timestamp.length();
+        final int digitsStart = length > 0 && (timestamp.charAt(0) == '-' || timestamp.charAt(0) == '+') ? 1 : 0;
+        if (digitsStart == length) {
+            return null;
+        }
+        long value = 0;
+        for (int i = digitsStart; i < length; i++) {
+            final char c = timestamp.charAt(i);
+            if (c < '0' || c > '9') {
+                // Long#parseLong also accepts digits outside of ASCII
+                return c < 0x80 ? null : parseLongOrNull(timestamp);
+            }
+            value = value * 10 + (c - '0');
+        }
+        if (length - digitsStart > MAX_LONG_DIGITS) {
+            return parseLongOrNull(timestamp);
+        }
+        return timestamp.charAt(0) == '-' ? -value : value;
+    }
+
+    private static Long parseLongOrNull(final String timestamp) {
+        try {
+            return Long.parseLong(timestamp);
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static String layoutOf(final String timestamp) {
+        final int length = timestamp.length();
+        if (length > MAX_LAYOUT_LENGTH) {
+            return null;
+        }
+        final char[] layout = new char[length];
+        for (int i = 0; i < length; i++) {
+            final char c = timestamp.charAt(i);
+            layout[i] = c >= '0' && c <= '9' ? '0' : c;
+        }
+        return new String(layout);
+    }
+
+    static DateTimeFormatter createSourceFormatter(final String pattern, final ZoneId sourceZoneId, final Locale sourceLocale,
+                                                   final LocalDate localDateForDefaultValues) {
+        final DateTimeFormatterBuilder dateTimeFormatterBuilder = new DateTimeFormatterBuilder()
+                .appendPattern(pattern)
+                .parseDefaulting(ChronoField.MONTH_OF_YEAR, localDateForDefaultValues.getMonthValue())
+                .parseDefaulting(ChronoField.DAY_OF_MONTH, localDateForDefaultValues.getDayOfMonth())
+                .parseDefaulting(ChronoField.MINUTE_OF_HOUR, 0)
+                .parseDefaulting(ChronoField.SECOND_OF_MINUTE, 0);
+
+        if(!pattern.contains("a") && !pattern.contains("k"))
+            dateTimeFormatterBuilder.parseDefaulting(ChronoField.HOUR_OF_DAY, 0);
+
+        if (!(pattern.contains("y") || pattern.contains("u")))
+            dateTimeFormatterBuilder.parseDefaulting(ChronoField.YEAR_OF_ERA, localDateForDefaultValues.getYear());
+
+        return dateTimeFormatterBuilder
+                .toFormatter(sourceLocale)
+                .withZone(sourceZoneId);
+    }
+
+    /**
+     * Whether a pattern accepts or rejects the layout of a timestamp regardless of the values of its digits. Only
+     * then can a pattern be skipped for a timestamp because it rejected an earlier timestamp with the same layout.
+     * Offsets and zones are not, since they reject some of their digits, and neither are literal digits.
+     */
+    static boolean rejectsByLayout(final String pattern, final Locale sourceLocale) {
+        boolean inQuote = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char c = pattern.charAt(i);
+            if (c >= '0' && c <= '9') {
+                return false;
+            }
+            if (c == '\'') {
+                inQuote = !inQuote;
+                i++;
+                continue;
+            }
+            int end = i + 1;
+            if (!inQuote && ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z'))) {
+                while (end < pattern.length() && pattern.charAt(end) == c) {
+                    end++;
+                }
+                if (!hasLayoutOnlyValues(pattern.substring(i, end), sourceLocale)) {
+                    return false;
+                }
+            }
+            i = end;
+        }
+        return true;
+    }
+
+    private static boolean hasLayoutOnlyValues(final String letters, final Locale sourceLocale) {
+        switch (letters.charAt(0)) {
+            case 'y': case 'u': case 'd': case 'D': case 'H': case 'h': case 'K': case 'k': case 'm': case 's':
+            case 'S': case 'n': case 'N':
+                return true;
+            case 'M': case 'L':
+                return letters.length() < 3 || hasTextWithoutDigits(letters, sourceLocale,
+                        Month.values().length, i -> LocalDate.of(2000, i + 1, 1));
+            case 'E':
+                return hasTextWithoutDigits(letters, sourceLocale,
+                        DayOfWeek.values().length, i -> LocalDate.of(2000, 1, 3 + i));
+            case 'a':
+                return hasTextWithoutDigits(letters, sourceLocale, 2, i -> LocalTime.of(12 * i, 0));
+            default:
+                return false;
+        }
+    }
+
+    private static boolean hasTextWithoutDigits(final String letters, final Locale sourceLocale, final int count,
+                                                final IntFunction<TemporalAccessor> values) {
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(letters, sourceLocale);
+        for (int i = 0; i < count; i++) {
+            if (formatter.format(values.apply(i)).chars().anyMatch(c -> c >= '0' && c <= '9')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class SourcePattern {
+        private final DateTimeFormatter formatter;
+        private final FastPath fastPath;
+        private final boolean rejectsByLayout;
+
+        private SourcePattern(final String pattern, final ZoneId sourceZoneId, final Locale sourceLocale,
+                              final LocalDate localDateForDefaultValues) {
+            formatter = createSourceFormatter(pattern, sourceZoneId, sourceLocale, localDateForDefaultValues);
+            fastPath = FastPath.compile(pattern, sourceZoneId, sourceLocale, localDateForDefaultValues);
+            rejectsByLayout = rejectsByLayout(pattern, sourceLocale);
+        }
+
+        private Instant parse(final String timestamp) {
+            final Instant instant = parseWithFastPath(timestamp);
+            return instant != null ? instant : parseWithFormatter(timestamp);
+        }
+
+        private Instant parseWithFastPath(final String timestamp) {
+            return fastPath != null ? fastPath.parse(timestamp) : null;
+        }
+
+        /**
+         * Checks that the whole timestamp fits the pattern without resolving its fields, which unlike parsing
+         * does not throw an exception if it does not. Only offsets out of range still throw while parsing.
+         */
+        private boolean matchesLayout(final String timestamp) {
+            final ParsePosition position = new ParsePosition(0);
+            try {
+                return formatter.parseUnresolved(timestamp, position) != null && position.getIndex() == timestamp.length();
+            } catch (final DateTimeException e) {
+                return false;
+            }
+        }
+
+        private Instant parseWithFormatter(final String timestamp) {
+            try {
+                return ZonedDateTime.parse(timestamp, formatter).toInstant();
+            } catch (final DateTimeException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Parses timestamps of patterns built from numeric date and time fields, short month names, fractions of a second,
+     * offsets and literals, such as ISO-8601 and syslog timestamps, without a {@link DateTimeFormatter}. A fast path
+     * only returns an instant when the formatter of its pattern would parse the same instant, and otherwise returns
+     * null so that the formatter decides, for example for days which the formatter moves to the end of the month.
+     */
+    static final class FastPath {
+        private static final int LITERAL = 0;
+        private static final int YEAR = 1;
+        private static final int MONTH = 2;
+        private static final int MONTH_NAME = 3;
+        private static final int DAY = 4;
+        private static final int DAY_TWO_DIGITS = 5;
+        private static final int HOUR = 6;
+        private static final int MINUTE = 7;
+        private static final int SECOND = 8;
+        private static final int FRACTION = 9;
+        private static final int OFFSET_WITH_COLON = 10;
+        private static final int OFFSET = 11;
+        private static final int[] POWERS_OF_TEN = {1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000};
+        private static final int MAX_OFFSET_MINUTES = 18 * 60;
+
+        private final int[] tokens;
+        private final char[] literals;
+        private final int[] widths;
+        private final String[] monthNames;
+        private final ZoneId sourceZoneId;
+        private final int defaultYear;
+        private final int defaultMonth;
+        private final int defaultDay;
+
+        private FastPath(final List<int[]> tokens, final String[] monthNames, final ZoneId sourceZoneId,
+                         final LocalDate localDateForDefaultValues) {
+            this.tokens = new int[tokens.size()];
+            this.literals = new char[tokens.size()];
+            this.widths = new int[tokens.size()];
+            for (int i = 0; i < tokens.size(); i++) {
+                this.tokens[i] = tokens.get(i)[0];
+                this.literals[i] = (char) tokens.get(i)[1];
+                this.widths[i] = tokens.get(i)[1];
+            }
+            this.monthNames = monthNames;
+            this.sourceZoneId = sourceZoneId;
+            this.defaultYear = localDateForDefaultValues.getYear();
+            this.defaultMonth = localDateForDefaultValues.getMonthValue();
+            this.defaultDay = localDateForDefaultValues.getDayOfMonth();
+        }
+
+        /**
+         * @return the fast path of a pattern, or null if the pattern has fields without a fast path
+         */
+        static FastPath compile(final String pattern, final ZoneId sourceZoneId, final Locale sourceLocale,
+                                final LocalDate localDateForDefaultValues) {
+            final List<int[]> tokens = new ArrayList<>();
+            final Set<Integer> fields = new HashSet<>();
+            int i = 0;
+            while (i < pattern.length()) {
+                final char c = pattern.charAt(i);
+                if (c == '\'') {
+                    final int closingQuote = pattern.indexOf('\'', i + 1);
+                    if (closingQuote <= i + 1) {
+                        return null;
+                    }
+                    for (int j = i + 1; j < closingQuote; j++) {
+                        tokens.add(new int[]{LITERAL, pattern.charAt(j)});
+                    }
+                    i = closingQuote + 1;
+                } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                    int end = i + 1;
+                    while (end < pattern.length() && pattern.charAt(end) == c) {
+                        end++;
+                    }
+                    final int[] token = fieldToken(c, end - i);
+                    if (token == null || !fields.add(token[0] == DAY_TWO_DIGITS ? DAY : token[0] == MONTH_NAME ? MONTH : token[0])) {
+                        return null;
+                    }
+                    tokens.add(token);
+                    i = end;
+                } else if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                    return null;
+                } else {
+                    tokens.add(new int[]{LITERAL, c});
+                    i++;
+                }
+            }
+
+            // Adjacent numbers are parsed with reserved widths, and fields which are not parsed are only defaulted as below
+            for (int j = 1; j < tokens.size(); j++) {
+                if (isNumber(tokens.get(j - 1)[0]) && isNumber(tokens.get(j)[0])) {
+                    return null;
+                }
+            }
+            if ((!fields.contains(HOUR) && (pattern.contains("a") || pattern.contains("k")))
+                    || (!fields.contains(YEAR) && (pattern.contains("y") || pattern.contains("u")))) {
+                return null;
+            }
+
+            String[] monthNames = null;
+            if (fields.contains(MONTH) && tokens.stream().anyMatch(token -> token[0] == MONTH_NAME)) {
+                monthNames = new String[Month.values().length];
+                for (final Month month : Month.values()) {
+                    monthNames[month.ordinal()] = month.getDisplayName(TextStyle.SHORT, sourceLocale);
+                }
+                final Set<String> distinctMonthNames = new HashSet<>(List.of(monthNames));
+                if (distinctMonthNames.size() != monthNames.length || distinctMonthNames.contains("")) {
+                    return null;
+                }
+            }
+            return new FastPath(tokens, monthNames, sourceZoneId, localDateForDefaultValues);
+        }
+
+        private static int[] fieldToken(final char letter, final int count) {
+            switch (letter) {
+                case 'y':
+                    return count == 4 ? new int[]{YEAR, 4} : null;
+                case 'M':
+                    return count == 2 ? new int[]{MONTH, 2} : count == 3 ? new int[]{MONTH_NAME, 0} : null;
+                case 'd':
+                    return count == 1 ? new int[]{DAY, 1} : count == 2 ? new int[]{DAY_TWO_DIGITS, 2} : null;
+                case 'H':
+                    return count == 2 ? new int[]{HOUR, 2} : null;
+                case 'm':
+                    return count == 2 ? new int[]{MINUTE, 2} : null;
+                case 's':
+                    return count == 2 ? new int[]{SECOND, 2} : null;
+                case 'S':
+                    return count <= 9 ? new int[]{FRACTION, count} : null;
+                case 'X':
+                    return count == 3 ? new int[]{OFFSET_WITH_COLON, 0} : null;
+                case 'Z':
+                    return count <= 3 ? new int[]{OFFSET, 0} : null;
+                default:
+                    return null;
+            }
+        }
+
+        private static boolean isNumber(final int token) {
+            return token != LITERAL && token != MONTH_NAME && token != OFFSET_WITH_COLON && token != OFFSET;
+        }
+
+        /**
+         * @return the instant of the timestamp, or null if the formatter of the pattern has to parse it
+         */
+        Instant parse(final String timestamp) {
+            final int length = timestamp.length();
+            int year = defaultYear;
+            int month = defaultMonth;
+            int day = defaultDay;
+            int hour = 0;
+            int minute = 0;
+            int second = 0;
+            int nano = 0;
+            ZoneOffset offset = null;
+
+            int position = 0;
+            for (int i = 0; i < tokens.length; i++) {
+                switch (tokens[i]) {
+                    case LITERAL:
+                        if (position >= length || timestamp.charAt(position) != literals[i]) {
+                            return null;
+                        }
+                        position++;
+                        break;
+                    case MONTH_NAME:
+                        month = monthAt(timestamp, position);
+                        if (month < 0) {
+                            return null;
+                        }
+                        position += monthNames[month - 1].length();
+                        break;
+                    case OFFSET_WITH_COLON:
+                        if (position < length && timestamp.charAt(position) == 'Z') {
+                            offset = ZoneOffset.UTC;
+                            position++;
+                        } else {
+                            if (position + 6 > length || timestamp.charAt(position + 3) != ':') {
+                                return null;
+                            }
+                            offset = offsetOf(timestamp.charAt(position), digits(timestamp, position + 1, 2), digits(timestamp, position + 4, 2));
+                            position += 6;
+                        }
+                        if (offset == null) {
+                            return null;
+                        }
+                        break;
+                    case OFFSET:
+                        if (position + 5 > length) {
+                            return null;
+                        }
+                        offset = offsetOf(timestamp.charAt(position), digits(timestamp, position + 1, 2), digits(timestamp, position + 3, 2));
+                        if (offset == null) {
+                            return null;
+                        }
+                        position += 5;
+                        break;
+                    default:
+                        int width = widths[i];
+                        if (tokens[i] == DAY && isDigitAt(timestamp, position + 1)) {
+                            width = 2;
+                        }
+                        final int value = digits(timestamp, position, width);
+                        position += width;
+                        // Years and days without a fixed width take all of the following digits
+                        if (value < 0 || ((tokens[i] == YEAR || tokens[i] == DAY) && isDigitAt(timestamp, position))) {
+                            return null;
+                        }
+                        switch (tokens[i]) {
+                            case YEAR: year = value; break;
+                            case MONTH: month = value; break;
+                            case DAY: case DAY_TWO_DIGITS: day = value; break;
+                            case HOUR: hour = value; break;
+                            case MINUTE: minute = value; break;
+                            case SECOND: second = value; break;
+                            default: nano = value * POWERS_OF_TEN[9 - width]; break;
+                        }
+                }
+            }
+
+            if (position != length || year < 1 || month < 1 || month > 12 || day < 1
+                    || day > Month.of(month).length(Year.isLeap(year)) || hour > 23 || minute > 59 || second > 59) {
+                return null;
+            }
+            final LocalDateTime localDateTime = LocalDateTime.of(year, month, day, hour, minute, second, nano);
+            return offset != null ? localDateTime.toInstant(offset) : localDateTime.atZone(sourceZoneId).toInstant();
+        }
+
+        /**
+         * Finds the longest month name at the position, as the formatter does.
+         */
+        private int monthAt(final String timestamp, final int position) {
+            int month = -1;
+            int matchedLength = 0;
+            for (int i = 0; i < monthNames.length; i++) {
+                final String monthName = monthNames[i];
+                if (monthName.length() > matchedLength && timestamp.startsWith(monthName, position)) {
+                    month = i + 1;
+                    matchedLength = monthName.length();
+                }
+            }
+            return month;
+        }
+
+        private static ZoneOffset offsetOf(final char sign, final int hours, final int minutes) {
+            if ((sign != '+' && sign != '-') || hours < 0 || minutes < 0 || minutes > 59 || hours * 60 + minutes > MAX_OFFSET_MINUTES) {
+                return null;
+            }
+            final int totalSeconds = (hours * 60 + minutes) * 60;
+            return ZoneOffset.ofTotalSeconds(sign == '-' ? -totalSeconds : totalSeconds);
+        }
+
+        private static boolean isDigitAt(final String timestamp, final int position) {
+            return position < timestamp.length() && timestamp.charAt(position) >= '0' && timestamp.charAt(position) <= '9';
+        }
+
+        /**
+         * @return the value of the ASCII digits, or -1 if there are fewer digits
+         */
+        private static int digits(final String timestamp, final int position, final int width) {
+            if (position + width > timestamp.length()) {
+                return -1;
+            }
+            int value = 0;
+            for (int i = position; i < position + width; i++) {
+                final char c = timestamp.charAt(i);
+                if (c < '0' || c > '9') {
+                    return -1;
+                }
+                value = value * 10 + (c - '0');
+            }
+            return value;
+        }
+    }
+}
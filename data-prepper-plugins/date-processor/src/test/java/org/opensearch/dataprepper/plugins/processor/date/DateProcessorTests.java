@@ -44,6 +44,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -241,6 +242,56 @@ class DateProcessorTests {
         verify(dateProcessingMatchSuccessCounter, times(1)).increment();
     }
 
+    @Test
+    void match_with_mixed_patterns_test() {
+        when(mockDateMatch.getKey()).thenReturn("logDate");
+        when(mockDateMatch.getPatterns()).thenReturn(List.of(pattern3, "epoch_milli", pattern2));
+
+        List<DateProcessorConfig.DateMatch> dateMatches = Collections.singletonList(mockDateMatch);
+        when(mockDateProcessorConfig.getMatch()).thenReturn(dateMatches);
+        when(mockDateProcessorConfig.getSourceZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getDestinationZoneId()).thenReturn(ZoneId.systemDefault());
+        when(mockDateProcessorConfig.getSourceLocale()).thenReturn(Locale.ROOT);
+
+        dateProcessor = createObjectUnderTest();
+
+        final List<Record<Event>> records = Stream.of(
+                expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2)),
+                Long.toString(expectedInstant.toEpochMilli()),
+                expectedDateTime.format(DateTimeFormatter.ofPattern(pattern3)),
+                expectedDateTime.format(DateTimeFormatter.ofPattern(pattern2)))
+                .map(logDate -> {
+                    testData = getTestData();
+                    testData.put("logDate", logDate);
+                    return buildRecordWithEvent(testData);
+                })
+                .collect(Collectors.toList());
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(records);
+
+        for (final Record<Event> processedRecord : processedRecords) {
+            assertTimestampsAreEqual(processedRecord, mockDateProcessorConfig.getSourceZoneId(), TIMESTAMP_KEY);
+        }
+        verify(dateProcessingMatchSuccessCounter, times(4)).increment();
+    }
+
+    @Test
+    void from_time_received_with_epoch_output_format_test() {
+        when(mockDateProcessorConfig.getFromTimeReceived()).thenReturn(true);
+        when(mockDateProcessorConfig.getOutputFormat()).thenReturn("epoch_milli");
+
+        dateProcessor = createObjectUnderTest();
+
+        final Record<Event> record = new Record<>(JacksonEvent.builder()
+                .withData(getTestData())
+                .withEventType("event")
+                .withTimeReceived(expectedInstant)
+                .build());
+
+        final List<Record<Event>> processedRecords = (List<Record<Event>>) dateProcessor.doExecute(Collections.singletonList(record));
+
+        assertThat(processedRecords.get(0).getData().get(TIMESTAMP_KEY, String.class), equalTo(Long.toString(expectedInstant.toEpochMilli())));
+    }
+
     @Test
     void match_with_epoch_second_pattern() {
         when(mockDateMatch.getKey()).thenReturn("logDate");
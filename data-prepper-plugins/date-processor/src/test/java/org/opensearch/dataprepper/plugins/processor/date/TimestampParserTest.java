@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.processor.date;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+class TimestampParserTest {
+    private static final String ISO_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+    private static final String SYSLOG_PATTERN = "MMM dd HH:mm:ss";
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    private static Stream<Arguments> getPatternsAndTimestamps() {
+        return Stream.of(
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.123+05:30", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.123Z", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.123-00:00", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.123+18:00", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.123+19:00", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.123+0530", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.123z", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-03-10T02:30:00.12Z", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-02-30T00:00:00.000Z", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-13-01T00:00:00.000Z", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-01-01T24:00:00.000Z", Locale.ROOT),
+                arguments(ISO_PATTERN, "2024-01-01T23:59:60.000Z", Locale.ROOT),
+                arguments(ISO_PATTERN, "20240-01-01T00:00:00.000Z", Locale.ROOT),
+                arguments(ISO_PATTERN, "0000-01-01T00:00:00.000Z", Locale.ROOT),
+                arguments("yyyy-MM-dd HH:mm:ss", "2024-03-10 02:30:00", Locale.ROOT),
+                arguments("yyyy-MM-dd HH:mm:ss", "2024-11-03 01:30:00", Locale.ROOT),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSSZ", "2024-01-01T00:00:00.123456789+0100", Locale.ROOT),
+                arguments("yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSSZ", "2024-01-01T00:00:00.123456789Z", Locale.ROOT),
+                arguments("yyyy-MM-dd'T'HH:mm:ss'Z'", "2024-01-01T00:00:00Z", Locale.ROOT),
+                arguments(SYSLOG_PATTERN, "Oct 11 22:14:15", Locale.ROOT),
+                arguments(SYSLOG_PATTERN, "Oct  1 22:14:15", Locale.ROOT),
+                arguments(SYSLOG_PATTERN, "oct 11 22:14:15", Locale.ROOT),
+                arguments(SYSLOG_PATTERN, "Feb 29 00:00:00", Locale.ROOT),
+                arguments(SYSLOG_PATTERN, "Sep 11 22:14:15", Locale.UK),
+                arguments(SYSLOG_PATTERN, "Sept 11 22:14:15", Locale.UK),
+                arguments(SYSLOG_PATTERN, "oct. 11 22:14:15", Locale.FRANCE),
+                arguments(SYSLOG_PATTERN, "10月 11 22:14:15", Locale.CHINA),
+                arguments("MMM d HH:mm:ss", "Oct 1 22:14:15", Locale.ROOT),
+                arguments("MMM d HH:mm:ss", "Oct 011 22:14:15", Locale.ROOT),
+                arguments("MMM  d HH:mm:ss", "Oct  1 22:14:15", Locale.ROOT),
+                arguments("dd/MMM/yyyy:HH:mm:ss Z", "10/Oct/2000:13:55:36 -0700", Locale.ROOT),
+                arguments("yyyy-MM-dd", "2024-01-01", Locale.ROOT),
+                arguments("HH:mm:ss", "13:55:36", Locale.ROOT),
+                arguments("hh:mm a", "01:55 PM", Locale.US)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("getPatternsAndTimestamps")
+    void parse_returns_same_instant_as_source_formatter(final String pattern, final String timestamp, final Locale locale) {
+        final TimestampParser timestampParser = new TimestampParser(List.of(pattern), NEW_YORK, locale);
+
+        assertThat(timestampParser.parse(timestamp), equalTo(parseWithSourceFormatter(pattern, timestamp, locale)));
+    }
+
+    @Test
+    void parse_uses_first_pattern_which_parses_timestamp() {
+        final TimestampParser timestampParser = new TimestampParser(List.of("MM/dd/yyyy", "dd/MM/yyyy"), NEW_YORK, Locale.ROOT);
+
+        assertThat(timestampParser.parse("13/02/2024"), equalTo(LocalDate.of(2024, 2, 13).atStartOfDay(NEW_YORK).toInstant()));
+        assertThat(timestampParser.parse("01/02/2024"), equalTo(LocalDate.of(2024, 1, 2).atStartOfDay(NEW_YORK).toInstant()));
+        assertThat(timestampParser.rememberedLayoutCount(), equalTo(1));
+    }
+
+    @Test
+    void parse_remembers_pattern_of_layout() {
+        final TimestampParser timestampParser = new TimestampParser(List.of("yyyy-MM-dd HH:mm:ss", SYSLOG_PATTERN), NEW_YORK, Locale.ROOT);
+
+        assertThat(timestampParser.parse("Oct 11 22:14:15"), equalTo(parseWithSourceFormatter(SYSLOG_PATTERN, "Oct 11 22:14:15", Locale.ROOT)));
+        assertThat(timestampParser.parse("Nov 12 23:15:16"), equalTo(parseWithSourceFormatter(SYSLOG_PATTERN, "Nov 12 23:15:16", Locale.ROOT)));
+        assertThat(timestampParser.parse("2024-01-01 00:00:00"), equalTo(LocalDate.of(2024, 1, 1).atStartOfDay(NEW_YORK).toInstant()));
+        assertThat(timestampParser.rememberedLayoutCount(), equalTo(3));
+    }
+
+    @Test
+    void parse_does_not_remember_layout_after_pattern_with_offset() {
+        final TimestampParser timestampParser = new TimestampParser(List.of(ISO_PATTERN, SYSLOG_PATTERN), NEW_YORK, Locale.ROOT);
+
+        assertThat(timestampParser.parse("Oct 11 22:14:15"), equalTo(parseWithSourceFormatter(SYSLOG_PATTERN, "Oct 11 22:14:15", Locale.ROOT)));
+        assertThat(timestampParser.rememberedLayoutCount(), equalTo(0));
+    }
+
+    @Test
+    void parse_returns_null_if_no_pattern_parses_timestamp() {
+        final TimestampParser timestampParser = new TimestampParser(List.of(ISO_PATTERN, SYSLOG_PATTERN), NEW_YORK, Locale.ROOT);
+
+        assertThat(timestampParser.parse("not a timestamp"), nullValue());
+        assertThat(timestampParser.parse("2024-01-01T00:00:00.000+75:00"), nullValue());
+        assertThat(timestampParser.parse("2024-01-01T00:00:00.000+05:00"), equalTo(Instant.parse("2023-12-31T19:00:00Z")));
+        assertThat(timestampParser.rememberedLayoutCount(), equalTo(1));
+    }
+
+    @Test
+    void parse_parses_epochs_by_length() {
+        final TimestampParser timestampParser = new TimestampParser(List.of("epoch_milli", "yyyy-MM-dd"), NEW_YORK, Locale.ROOT);
+
+        assertThat(timestampParser.parse("1700000000"), equalTo(Instant.ofEpochSecond(1700000000L)));
+        assertThat(timestampParser.parse("1700000000123"), equalTo(Instant.ofEpochMilli(1700000000123L)));
+        assertThat(timestampParser.parse("+170000000"), equalTo(Instant.ofEpochSecond(170000000L)));
+        assertThat(timestampParser.parse("1700000000123456"), nullValue());
+        assertThat(timestampParser.parse("2024-01-01"), equalTo(LocalDate.of(2024, 1, 1).atStartOfDay(NEW_YORK).toInstant()));
+    }
+
+    @Test
+    void parse_parses_epoch_micros_and_nanos() {
+        final TimestampParser microParser = new TimestampParser(List.of("epoch_micro"), NEW_YORK, Locale.ROOT);
+        final TimestampParser nanoParser = new TimestampParser(List.of("epoch_nano"), NEW_YORK, Locale.ROOT);
+
+        assertThat(microParser.parse("1700000000123456"), equalTo(Instant.ofEpochSecond(1700000000L, 123456000)));
+        assertThat(microParser.parse("1700000000123456789"), nullValue());
+        assertThat(nanoParser.parse("1700000000123456789"), equalTo(Instant.ofEpochSecond(1700000000L, 123456789)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "-5", "+5", "1700000000", "9223372036854775807", "-9223372036854775808", "9223372036854775808",
+            "12345678901234567890", "", "-", "+", "12a", "1 2", "١٢٣", "2024-01-01"})
+    void parseEpochValue_returns_same_value_as_parseLong(final String timestamp) {
+        Long expected;
+        try {
+            expected = Long.parseLong(timestamp);
+        } catch (final NumberFormatException e) {
+            expected = null;
+        }
+
+        assertThat(TimestampParser.parseEpochValue(timestamp), equalTo(expected));
+    }
+
+    @Test
+    void rejectsByLayout_is_false_for_offsets_zones_and_literal_digits() {
+        assertThat(TimestampParser.rejectsByLayout("yyyy-MM-dd'T'HH:mm:ss.SSS", Locale.ROOT), equalTo(true));
+        assertThat(TimestampParser.rejectsByLayout(SYSLOG_PATTERN, Locale.ROOT), equalTo(true));
+        assertThat(TimestampParser.rejectsByLayout("EEE, dd MMM yyyy hh:mm a", Locale.US), equalTo(true));
+        assertThat(TimestampParser.rejectsByLayout(ISO_PATTERN, Locale.ROOT), equalTo(false));
+        assertThat(TimestampParser.rejectsByLayout("yyyy-MM-dd HH:mm:ss z", Locale.ROOT), equalTo(false));
+        assertThat(TimestampParser.rejectsByLayout("'2024'-MM-dd", Locale.ROOT), equalTo(false));
+        assertThat(TimestampParser.rejectsByLayout(SYSLOG_PATTERN, Locale.CHINA), equalTo(false));
+    }
+
+    @Test
+    void layoutOf_replaces_ascii_digits() {
+        assertThat(TimestampParser.layoutOf("Oct 11 22:14:15"), equalTo("Oct 00 00:00:00"));
+        assertThat(TimestampParser.layoutOf("١"), equalTo("١"));
+        assertThat(TimestampParser.layoutOf("1".repeat(TimestampParser.MAX_LAYOUT_LENGTH + 1)), nullValue());
+    }
+
+    private static Instant parseWithSourceFormatter(final String pattern, final String timestamp, final Locale locale) {
+        try {
+            return ZonedDateTime.parse(timestamp,
+                    TimestampParser.createSourceFormatter(pattern, NEW_YORK, locale, LocalDate.now(NEW_YORK))).toInstant();
+        } catch (final Exception e) {
+            return null;
+        }
+    }
+}
@@ -7,6 +7,8 @@ package org.opensearch.dataprepper.plugins.source.dynamodb.configuration;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import software.amazon.awssdk.arns.Arn;
 import software.amazon.awssdk.regions.Region;
@@ -25,6 +27,22 @@ public class ExportConfig {
     @JsonProperty("s3_sse_kms_key_id")
     private String s3SseKmsKeyId;
 
+    /**
+     * Checkpoints the positions of gzip members in the data files, so that a data file is read from
+     * the last checkpointed member instead of from the beginning after a restart.
+     */
+    @JsonProperty("data_file_offset_checkpoints")
+    private boolean dataFileOffsetCheckpoints = false;
+
+    /**
+     * Number of threads per data file which parse the exported items, while the loader thread reads the
+     * data file and writes the parsed items to the buffer in order.
+     */
+    @JsonProperty("data_file_decode_workers")
+    @Min(1)
+    @Max(16)
+    private int dataFileDecodeWorkers = 1;
+
     public String getS3Bucket() {
         return s3Bucket;
     }
@@ -41,6 +59,14 @@ public class ExportConfig {
         return s3SseKmsKeyId;
     }
 
+    public boolean isDataFileOffsetCheckpoints() {
+        return dataFileOffsetCheckpoints;
+    }
+
+    public int getDataFileDecodeWorkers() {
+        return dataFileDecodeWorkers;
+    }
+
     @AssertTrue(message = "KMS Key ID must be a valid one.")
     boolean isKmsKeyIdValid() {
         // If key id is provided, it should be in a format like
@@ -6,6 +6,7 @@
 package org.opensearch.dataprepper.plugins.source.dynamodb.configuration;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
 import software.amazon.awssdk.services.dynamodb.model.StreamViewType;
 
 public class StreamConfig {
@@ -19,6 +20,14 @@ public class StreamConfig {
     @JsonProperty("disable_checkpointing")
     private boolean disableCheckpointing = false;
 
+    /**
+     * Number of threads shared by all shards which convert the records of GetRecords responses and write them
+     * to the buffer. With 0, each shard consumer converts its records on its own thread.
+     */
+    @JsonProperty("record_processing_threads")
+    @Min(0)
+    private int recordProcessingThreads = 0;
+
     public StreamStartPosition getStartPosition() {
         return startPosition;
     }
@@ -29,4 +38,8 @@ public class StreamConfig {
 
     public boolean isDisableCheckpointing() { return disableCheckpointing; }
 
+    public int getRecordProcessingThreads() {
+        return recordProcessingThreads;
+    }
+
 }
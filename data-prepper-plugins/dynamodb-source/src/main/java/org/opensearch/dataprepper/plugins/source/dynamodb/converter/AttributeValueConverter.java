@@ -0,0 +1,154 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.dynamodb.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DecimalNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts DynamoDB attribute values straight into the JSON tree of an event.
+ * Numbers become exact decimal nodes, binary values become Base64 strings and sets become arrays.
+ */
+class AttributeValueConverter {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
+
+    /**
+     * Longest number of digits which always fits into a long
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int CACHED_NUMBER_COUNT = 1024;
+    private static final DecimalNode[] CACHED_NUMBERS = new DecimalNode[CACHED_NUMBER_COUNT];
+
+    static {
+        for (int i = 0; i < CACHED_NUMBER_COUNT; i++) {
+            CACHED_NUMBERS[i] = DecimalNode.valueOf(BigDecimal.valueOf(i));
+        }
+    }
+
+    private AttributeValueConverter() {
+    }
+
+    /**
+     * Converts a DynamoDB item into a JSON object.
+     *
+     * @param item The attributes of the item
+     * @return A new JSON object
+     */
+    static ObjectNode toObjectNode(final Map<String, AttributeValue> item) {
+        final ObjectNode objectNode = NODE_FACTORY.objectNode();
+        for (final Map.Entry<String, AttributeValue> entry : item.entrySet()) {
+            objectNode.set(entry.getKey(), toJsonNode(entry.getValue()));
+        }
+        return objectNode;
+    }
+
+    /**
+     * Converts a key attribute into the string used in the event metadata.
+     *
+     * @param attributeValue The key attribute, which can only be a number, binary or string
+     * @return The string of the key, or null if there is no such key attribute
+     */
+    static String toKeyString(final AttributeValue attributeValue) {
+        if (attributeValue == null) {
+            return null;
+        }
+        if (attributeValue.type() == AttributeValue.Type.N) {
+            return attributeValue.n();
+        } else if (attributeValue.type() == AttributeValue.Type.B) {
+            return attributeValue.b().toString();
+        }
+        return attributeValue.s();
+    }
+
+    private static JsonNode toJsonNode(final AttributeValue attributeValue) {
+        switch (attributeValue.type()) {
+            case N:
+                return toNumberNode(attributeValue.n());
+            case B:
+                return NODE_FACTORY.textNode(toBase64(attributeValue.b()));
+            case S:
+                return NODE_FACTORY.textNode(attributeValue.s());
+            case BOOL:
+                return NODE_FACTORY.booleanNode(attributeValue.bool());
+            case NS:
+                final ArrayNode numbers = NODE_FACTORY.arrayNode(attributeValue.ns().size());
+                for (final String number : attributeValue.ns()) {
+                    numbers.add(toNumberNode(number));
+                }
+                return numbers;
+            case BS:
+                final ArrayNode binaries = NODE_FACTORY.arrayNode(attributeValue.bs().size());
+                for (final SdkBytes binary : attributeValue.bs()) {
+                    binaries.add(toBase64(binary));
+                }
+                return binaries;
+            case SS:
+                final ArrayNode strings = NODE_FACTORY.arrayNode(attributeValue.ss().size());
+                for (final String string : attributeValue.ss()) {
+                    strings.add(string);
+                }
+                return strings;
+            case L:
+                final List<AttributeValue> list = attributeValue.l();
+                final ArrayNode arrayNode = NODE_FACTORY.arrayNode(list.size());
+                for (final AttributeValue element : list) {
+                    arrayNode.add(toJsonNode(element));
+                }
+                return arrayNode;
+            case M:
+                return toObjectNode(attributeValue.m());
+            case NUL:
+                return NODE_FACTORY.nullNode();
+            default:
+                throw new IllegalArgumentException("Unsupported attribute type: " + attributeValue.type());
+        }
+    }
+
+    /**
+     * Creates the same decimal node as a {@link BigDecimal} parsed from the number would give, but without
+     * parsing integers through {@link BigDecimal} and with shared nodes for small integers.
+     */
+    static DecimalNode toNumberNode(final String number) {
+        if (isLongInteger(number)) {
+            final long value = Long.parseLong(number);
+            if (value >= 0 && value < CACHED_NUMBER_COUNT) {
+                return CACHED_NUMBERS[(int) value];
+            }
+            return DecimalNode.valueOf(BigDecimal.valueOf(value));
+        }
+        return DecimalNode.valueOf(new BigDecimal(number));
+    }
+
+    private static boolean isLongInteger(final String number) {
+        final int start = number.startsWith("-") ? 1 : 0;
+        final int digits = number.length() - start;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return false;
+        }
+        for (int i = start; i < number.length(); i++) {
+            final char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String toBase64(final SdkBytes bytes) {
+        return BASE64_ENCODER.encodeToString(bytes.asByteArrayUnsafe());
+    }
+}
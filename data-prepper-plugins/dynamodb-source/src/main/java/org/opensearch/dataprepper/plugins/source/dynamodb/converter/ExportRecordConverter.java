@@ -19,6 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
@@ -74,12 +75,40 @@ public class ExportRecordConverter extends RecordConverter {
 
     public void writeToBuffer(final AcknowledgementSet acknowledgementSet,
                               final List<String> lines) {
+        writeToBuffer(acknowledgementSet, lines, parseItems(lines));
+    }
 
-        int eventCount = 0;
+    /**
+     * Parses the items of exported lines. This does not touch the buffer, so batches of lines can be
+     * parsed on several threads at once.
+     *
+     * @param lines The lines of a data file
+     * @return The item of each line
+     */
+    public List<Map<String, Object>> parseItems(final List<String> lines) {
+        final List<Map<String, Object>> items = new ArrayList<>(lines.size());
         for (String line : lines) {
-            final long bytes = line.getBytes().length;
+            items.add((Map<String, Object>) convertToMap(line).get(ITEM_KEY));
+        }
+        return items;
+    }
+
+    /**
+     * Writes parsed items to the buffer.
+     *
+     * @param acknowledgementSet The acknowledgement set of the data file, or null
+     * @param lines The lines of a data file
+     * @param items The items parsed from the lines by {@link #parseItems(List)}
+     */
+    public void writeToBuffer(final AcknowledgementSet acknowledgementSet,
+                              final List<String> lines,
+                              final List<Map<String, Object>> items) {
+
+        int eventCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            final long bytes = lines.get(i).getBytes().length;
             bytesReceivedSummary.record(bytes);
-            Map data = (Map<String, Object>) convertToMap(line).get(ITEM_KEY);
+            Map data = items.get(i);
             try {
                 // The version number is the export time minus some overlap to ensure new stream events still get priority
                 final long eventVersionNumber = (exportStartTime - VERSION_OVERLAP_TIME_FOR_EXPORT.toMillis()) * 1_000;
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.dynamodb.converter;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSet;
 import org.opensearch.dataprepper.model.event.Event;
@@ -52,6 +53,10 @@ public abstract class RecordConverter {
 
     abstract String getEventType();
 
+    TableInfo getTableInfo() {
+        return tableInfo;
+    }
+
     /**
      * Extract the value based on attribute map
      *
@@ -98,6 +103,49 @@ public abstract class RecordConverter {
                 .withData(data)
                 .build();
 
+        addToBuffer(acknowledgementSet, event,
+                getAttributeValue(keys, tableInfo.getMetadata().getPartitionKeyAttributeName()),
+                getAttributeValue(keys, tableInfo.getMetadata().getSortKeyAttributeName()),
+                eventCreationTimeMillis, eventVersionNumber, eventName, userIdentity);
+    }
+
+    /**
+     * Add event record to buffer, taking ownership of the event data without copying it
+     *
+     * @param acknowledgementSet      acknowledgement set
+     * @param data                    The event data, note that it may be empty.
+     * @param partitionKey            The partition key
+     * @param sortKey                 The sort key, or null if the table has no sort key
+     * @param eventCreationTimeMillis Creation timestamp of the event
+     * @param eventVersionNumber      Event version number
+     * @param eventName               Event name
+     * @param userIdentity            UserIdentity for TTL based deletes
+     * @throws Exception Exception if failed to write to buffer.
+     */
+    public void addToBuffer(final AcknowledgementSet acknowledgementSet,
+                            final ObjectNode data,
+                            final String partitionKey,
+                            final String sortKey,
+                            final long eventCreationTimeMillis,
+                            final long eventVersionNumber,
+                            final String eventName,
+                            final Identity userIdentity) throws Exception {
+        Event event = JacksonEvent.builder()
+                .withEventType(getEventType())
+                .withJsonNode(data)
+                .build();
+
+        addToBuffer(acknowledgementSet, event, partitionKey, sortKey, eventCreationTimeMillis, eventVersionNumber, eventName, userIdentity);
+    }
+
+    private void addToBuffer(final AcknowledgementSet acknowledgementSet,
+                             final Event event,
+                             final String partitionKey,
+                             final String sortKey,
+                             final long eventCreationTimeMillis,
+                             final long eventVersionNumber,
+                             final String eventName,
+                             final Identity userIdentity) throws Exception {
         // Only set external origination time for stream events, not export
         if (eventName != null) {
             final Instant externalOriginationTime = Instant.ofEpochMilli(eventCreationTimeMillis);
@@ -120,10 +168,8 @@ public abstract class RecordConverter {
                 TTL_USER_TYPE.equals(userIdentity.type());
         eventMetadata.setAttribute(DDB_STREAM_EVENT_IS_TTL_DELETE, isTtlDelete);
 
-        String partitionKey = getAttributeValue(keys, tableInfo.getMetadata().getPartitionKeyAttributeName());
         eventMetadata.setAttribute(PARTITION_KEY_METADATA_ATTRIBUTE, partitionKey);
 
-        String sortKey = getAttributeValue(keys, tableInfo.getMetadata().getSortKeyAttributeName());
         if (sortKey != null) {
             eventMetadata.setAttribute(SORT_KEY_METADATA_ATTRIBUTE, sortKey);
             eventMetadata.setAttribute(PRIMARY_KEY_DOCUMENT_ID_METADATA_ATTRIBUTE, partitionKey + "|" + sortKey);
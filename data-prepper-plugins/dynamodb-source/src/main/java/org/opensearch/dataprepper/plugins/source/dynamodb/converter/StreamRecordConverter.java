@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.dynamodb.converter;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import org.opensearch.dataprepper.buffer.common.BufferAccumulator;
@@ -20,13 +21,9 @@ import software.amazon.awssdk.services.dynamodb.model.OperationType;
 import software.amazon.awssdk.services.dynamodb.model.Record;
 import software.amazon.awssdk.services.dynamodb.model.StreamViewType;
 
-import java.math.BigDecimal;
 import java.time.Instant;
-import java.util.Base64;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 public class StreamRecordConverter extends RecordConverter {
     private static final Logger LOG = LoggerFactory.getLogger(StreamRecordConverter.class);
@@ -37,8 +34,6 @@ public class StreamRecordConverter extends RecordConverter {
     static final String BYTES_RECEIVED = "bytesReceived";
     static final String BYTES_PROCESSED = "bytesProcessed";
 
-    private static final Base64.Encoder BASE64_ENCODER = Base64.getEncoder();
-
     private final StreamConfig streamConfig;
 
     private final PluginMetrics pluginMetrics;
@@ -73,18 +68,23 @@ public class StreamRecordConverter extends RecordConverter {
 
     public void writeToBuffer(final AcknowledgementSet acknowledgementSet, List<Record> records) {
 
+        final String partitionKeyAttributeName = getTableInfo().getMetadata().getPartitionKeyAttributeName();
+        final String sortKeyAttributeName = getTableInfo().getMetadata().getSortKeyAttributeName();
         int eventCount = 0;
         for (Record record : records) {
             final long bytes = record.dynamodb().sizeBytes();
-            Map<String, Object> data;
-            Map<String, Object> keys;
+            ObjectNode data;
+            String partitionKey;
+            String sortKey;
             try {
                 final Map<String, AttributeValue> streamRecord = getStreamRecordFromImage(record);
 
                 // NewImage may be empty
-                data = convertData(streamRecord);
+                data = AttributeValueConverter.toObjectNode(streamRecord);
                 // Always get keys from dynamodb().keys()
-                keys = convertKeys(record.dynamodb().keys());
+                final Map<String, AttributeValue> keys = record.dynamodb().keys();
+                partitionKey = AttributeValueConverter.toKeyString(keys.get(partitionKeyAttributeName));
+                sortKey = sortKeyAttributeName == null ? null : AttributeValueConverter.toKeyString(keys.get(sortKeyAttributeName));
             } catch (final Exception e) {
                 LOG.error("Failed to parse and convert data from stream due to {}", e.getMessage());
                 changeEventErrorCounter.increment();
@@ -94,7 +94,7 @@ public class StreamRecordConverter extends RecordConverter {
             try {
                 bytesReceivedSummary.record(bytes);
                 final long eventCreationTimeMillis = calculateTieBreakingVersionFromTimestamp(record.dynamodb().approximateCreationDateTime());
-                addToBuffer(acknowledgementSet, data, keys, record.dynamodb().approximateCreationDateTime().toEpochMilli(), eventCreationTimeMillis, record.eventNameAsString(), record.userIdentity());
+                addToBuffer(acknowledgementSet, data, partitionKey, sortKey, record.dynamodb().approximateCreationDateTime().toEpochMilli(), eventCreationTimeMillis, record.eventNameAsString(), record.userIdentity());
                 bytesProcessedSummary.record(bytes);
                 eventCount++;
             } catch (Exception e) {
@@ -113,80 +113,6 @@ public class StreamRecordConverter extends RecordConverter {
         }
     }
 
-    /**
-     * Process the DynamoDB attributes to be formatted correctly
-     */
-    private Object processAttributeValue(AttributeValue attributeValue){
-        switch (attributeValue.type()){
-            case N:     // N for number
-                return new BigDecimal(attributeValue.n());
-            case B:     // B for Binary
-                return BASE64_ENCODER.encodeToString(attributeValue.b().asByteArray());
-            case S:     // S for String
-                return attributeValue.s();
-            case BOOL:  // BOOL for Boolean
-                return attributeValue.bool();
-            case NS:    // NS for Number Set
-                return attributeValue.ns().stream()
-                        .map(BigDecimal::new).collect(Collectors.toSet());
-            case BS:    // BS for Binary Set
-                return attributeValue.bs().stream()
-                        .map(buffer -> BASE64_ENCODER.encodeToString(buffer.asByteArray()))
-                        .collect(Collectors.toSet());
-            case SS:    // SS for String Set
-                return attributeValue.ss();
-            case L:     // L for List
-                return convertListData(attributeValue.l());
-            case M:     // M for Map
-                return convertData(attributeValue.m());
-            case NUL:  // NUL for Null
-                return null;
-            default:
-                throw new IllegalArgumentException("Unsupported attribute type: " + attributeValue.type());
-        }
-    }
-
-    /**
-     * Convert the DynamoDB attribute map to a normal map for data
-     */
-    private Map<String, Object> convertData(Map<String, AttributeValue> data) {
-        return data.entrySet().stream()
-                .collect(HashMap::new,
-                        (map, entry) -> map.put(entry.getKey(), processAttributeValue(entry.getValue())),
-                        HashMap::putAll);
-    }
-
-    /**
-     * Convert the DynamoDB attribute List to a normal list for data
-     */
-    private List<Object> convertListData(List<AttributeValue> data) {
-        return data.stream()
-                .map(this::processAttributeValue)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * Convert the DynamoDB attribute map to a normal map for keys
-     * This method may not be necessary, can use convertData() alternatively
-     */
-    private Map<String, Object> convertKeys(Map<String, AttributeValue> keys) {
-        Map<String, Object> result = new HashMap<>();
-        // The attribute type for key can only be N, B or S
-        keys.forEach(((attributeName, attributeValue) -> {
-            if (attributeValue.type() == AttributeValue.Type.N) {
-                // N for number
-                result.put(attributeName, attributeValue.n());
-            } else if (attributeValue.type() == AttributeValue.Type.B) {
-                // B for Binary
-                result.put(attributeName, attributeValue.b().toString());
-            } else {
-                result.put(attributeName, attributeValue.s());
-            }
-        }));
-        return result;
-
-    }
-
     private long calculateTieBreakingVersionFromTimestamp(final Instant eventTimeInSeconds) {
         if (currentSecond == null) {
             currentSecond = eventTimeInSeconds;
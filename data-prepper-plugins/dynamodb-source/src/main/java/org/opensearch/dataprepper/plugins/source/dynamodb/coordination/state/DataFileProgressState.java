@@ -19,6 +19,12 @@ public class DataFileProgressState {
     @JsonProperty("exportStartTime")
     private long startTime;
 
+    @JsonProperty("resumeOffset")
+    private long resumeOffset;
+
+    @JsonProperty("resumeLine")
+    private int resumeLine;
+
     public int getTotal() {
         return total;
     }
@@ -42,4 +48,26 @@ public class DataFileProgressState {
     public long getStartTime() {
         return startTime;
     }
+
+    /**
+     * @return The offset in the compressed data file of a gzip member from which loading can resume
+     */
+    public long getResumeOffset() {
+        return resumeOffset;
+    }
+
+    public void setResumeOffset(long resumeOffset) {
+        this.resumeOffset = resumeOffset;
+    }
+
+    /**
+     * @return The number of lines in the data file before the resume offset
+     */
+    public int getResumeLine() {
+        return resumeLine;
+    }
+
+    public void setResumeLine(int resumeLine) {
+        this.resumeLine = resumeLine;
+    }
 }
@@ -52,6 +52,23 @@ public class DataFileCheckpointer {
         enhancedSourceCoordinator.saveProgressStateForPartition(dataFilePartition, CHECKPOINT_OWNERSHIP_TIMEOUT_INCREASE);
     }
 
+    /**
+     * This method is to do a checkpoint with latest line processed, together with a position in the compressed
+     * data file from which loading can resume.
+     *
+     * @param lineNumber The last line number
+     * @param resumeOffset The offset of a gzip member which starts at or before the last line number
+     * @param resumeLine The number of lines before the gzip member
+     */
+    public void checkpoint(int lineNumber, long resumeOffset, int resumeLine) {
+        LOG.debug("Checkpoint data file " + dataFilePartition.getKey() + " with line number " + lineNumber + " and resume offset " + resumeOffset);
+        setProgressState(lineNumber);
+        final DataFileProgressState progressState = dataFilePartition.getProgressState().get();
+        progressState.setResumeOffset(resumeOffset);
+        progressState.setResumeLine(resumeLine);
+        enhancedSourceCoordinator.saveProgressStateForPartition(dataFilePartition, CHECKPOINT_OWNERSHIP_TIMEOUT_INCREASE);
+    }
+
     /**
      * This method is to mark the shard partition as COMPLETED with the final sequence number
      * Note that this should be called when reaching the end of shard.
@@ -17,15 +17,28 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.time.Duration;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.zip.GZIPInputStream;
 
 /**
  * One loader per file.
+ * <p>
+ * With offset checkpoints, the data file is decompressed member by member and each checkpoint also records the
+ * last gzip member which starts a line, so that loading resumes from that member with a ranged read. With more
+ * than one decode worker, batches of lines are parsed on a small pool while this thread keeps reading the file
+ * and writes the parsed batches to the buffer in order.
  */
 public class DataFileLoader implements Runnable {
 
@@ -68,6 +81,19 @@ public class DataFileLoader implements Runnable {
 
     private final Duration dataFileAcknowledgmentTimeout;
 
+    private final boolean offsetCheckpoints;
+
+    /**
+     * The offset of the gzip member to start reading from, and the number of lines before it
+     */
+    private final long resumeOffset;
+
+    private final int resumeLine;
+
+    private final int decodeWorkers;
+
+    private GzipMemberInputStream memberInputStream;
+
     private DataFileLoader(Builder builder) {
         this.objectReader = builder.objectReader;
         this.bucketName = builder.bucketName;
@@ -78,6 +104,10 @@ public class DataFileLoader implements Runnable {
         recordConverter = new ExportRecordConverter(bufferAccumulator, builder.tableInfo, builder.pluginMetrics, builder.exportStartTime);
         this.acknowledgementSet = builder.acknowledgementSet;
         this.dataFileAcknowledgmentTimeout = builder.dataFileAcknowledgmentTimeout;
+        this.offsetCheckpoints = builder.offsetCheckpoints;
+        this.resumeOffset = builder.offsetCheckpoints ? builder.resumeOffset : 0;
+        this.resumeLine = builder.offsetCheckpoints ? builder.resumeLine : 0;
+        this.decodeWorkers = builder.decodeWorkers;
     }
 
     public static Builder builder(final S3ObjectReader s3ObjectReader, final PluginMetrics pluginMetrics, final Buffer<Record<Event>> buffer) {
@@ -113,6 +143,14 @@ public class DataFileLoader implements Runnable {
 
         private long exportStartTime;
 
+        private boolean offsetCheckpoints;
+
+        private long resumeOffset;
+
+        private int resumeLine;
+
+        private int decodeWorkers = 1;
+
         public Builder(final S3ObjectReader objectReader, final PluginMetrics pluginMetrics, final Buffer<Record<Event>> buffer) {
             this.objectReader = objectReader;
             this.pluginMetrics = pluginMetrics;
@@ -159,6 +197,22 @@ public class DataFileLoader implements Runnable {
             return this;
         }
 
+        public Builder offsetCheckpoints(boolean offsetCheckpoints) {
+            this.offsetCheckpoints = offsetCheckpoints;
+            return this;
+        }
+
+        public Builder resumeFrom(long resumeOffset, int resumeLine) {
+            this.resumeOffset = resumeOffset;
+            this.resumeLine = resumeLine;
+            return this;
+        }
+
+        public Builder decodeWorkers(int decodeWorkers) {
+            this.decodeWorkers = decodeWorkers;
+            return this;
+        }
+
         public DataFileLoader build() {
             return new DataFileLoader(this);
         }
@@ -173,17 +227,20 @@ public class DataFileLoader implements Runnable {
         List<String> lines = new ArrayList<>();
 
         // line count regardless the start line number
-        int lineCount = 0;
+        int lineCount = resumeLine;
         int lastLineProcessed = 0;
 
-        try (InputStream inputStream = objectReader.readFile(bucketName, key);
-             GZIPInputStream gzipInputStream = new GZIPInputStream(inputStream);
-             BufferedReader reader = new BufferedReader(new InputStreamReader(gzipInputStream))) {
+        final ExecutorService decodeExecutor = decodeWorkers > 1 ? Executors.newFixedThreadPool(decodeWorkers) : null;
+        final Deque<DecodedBatch> decodedBatches = new ArrayDeque<>();
+
+        try (InputStream inputStream = readDataFile();
+             InputStream decompressedStream = decompress(inputStream);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(decompressedStream))) {
 
             String line;
             while ((line = reader.readLine()) != null) {
                 if (shouldStop) {
-                    checkpointer.checkpoint(lastLineProcessed);
+                    checkpoint(lastLineProcessed);
                     LOG.warn("Loading data file s3://{}/{} was interrupted by a shutdown signal, giving up ownership of data file", bucketName, key);
                     throw new RuntimeException("Loading data file interrupted");
                 }
@@ -198,9 +255,21 @@ public class DataFileLoader implements Runnable {
 
                 if ((lineCount - startLine) % DEFAULT_BATCH_SIZE == 0) {
                     // LOG.debug("Write to buffer for line " + (lineCount - DEFAULT_BATCH_SIZE) + " to " + lineCount);
-                    recordConverter.writeToBuffer(acknowledgementSet, lines);
-                    lines.clear();
-                    lastLineProcessed = lineCount;
+                    if (decodeExecutor == null) {
+                        recordConverter.writeToBuffer(acknowledgementSet, lines);
+                        lines.clear();
+                        lastLineProcessed = lineCount;
+                    } else {
+                        final List<String> batchLines = lines;
+                        decodedBatches.addLast(new DecodedBatch(batchLines, lineCount,
+                                decodeExecutor.submit(() -> recordConverter.parseItems(batchLines))));
+                        lines = new ArrayList<>();
+                        // Write the batches which are parsed already, and wait when too many are pending
+                        while (!decodedBatches.isEmpty() &&
+                                (decodedBatches.size() > decodeWorkers * 2 || decodedBatches.peekFirst().items.isDone())) {
+                            lastLineProcessed = writeToBuffer(decodedBatches.pollFirst());
+                        }
+                    }
                 }
 
                 if (System.currentTimeMillis() - lastCheckpointTime > DEFAULT_CHECKPOINT_INTERVAL_MILLS) {
@@ -208,17 +277,20 @@ public class DataFileLoader implements Runnable {
                     if (acknowledgementSet != null) {
                         checkpointer.updateDatafileForAcknowledgmentWait(dataFileAcknowledgmentTimeout);
                     } else {
-                        checkpointer.checkpoint(lastLineProcessed);
+                        checkpoint(lastLineProcessed);
                     }
                     lastCheckpointTime = System.currentTimeMillis();
 
                 }
 
             }
+            while (!decodedBatches.isEmpty()) {
+                lastLineProcessed = writeToBuffer(decodedBatches.pollFirst());
+            }
             if (!lines.isEmpty()) {
                 // Do final checkpoint.
                 recordConverter.writeToBuffer(acknowledgementSet, lines);
-                checkpointer.checkpoint(lineCount);
+                checkpoint(lineCount);
             }
             LOG.info("Completed loading {} lines from s3://{}/{} to buffer", lines.size(), bucketName, key);
 
@@ -233,9 +305,47 @@ public class DataFileLoader implements Runnable {
             if (acknowledgementSet != null) {
                 acknowledgementSet.cancel();
             }
-            checkpointer.checkpoint(lineCount);
+            checkpoint(lineCount);
             String errorMessage = String.format("Loading of s3://%s/%s completed with Exception: %s", bucketName, key, e.getMessage());
             throw new RuntimeException(errorMessage);
+        } finally {
+            if (decodeExecutor != null) {
+                decodeExecutor.shutdownNow();
+            }
+        }
+    }
+
+    private InputStream readDataFile() {
+        if (resumeOffset > 0) {
+            LOG.info("Resume loading s3://{}/{} from offset {} after line {}", bucketName, key, resumeOffset, resumeLine);
+            return objectReader.readFile(bucketName, key, resumeOffset);
+        }
+        return objectReader.readFile(bucketName, key);
+    }
+
+    private InputStream decompress(final InputStream inputStream) throws IOException {
+        if (offsetCheckpoints) {
+            memberInputStream = new GzipMemberInputStream(inputStream, resumeOffset, resumeLine);
+            return memberInputStream;
+        }
+        return new GZIPInputStream(inputStream);
+    }
+
+    private int writeToBuffer(final DecodedBatch decodedBatch) throws ExecutionException, InterruptedException {
+        recordConverter.writeToBuffer(acknowledgementSet, decodedBatch.lines, decodedBatch.items.get());
+        return decodedBatch.lastLine;
+    }
+
+    /**
+     * Checkpoints the line number, together with the last gzip member which starts at or before it if there is one.
+     */
+    private void checkpoint(final int lineNumber) {
+        final GzipMemberInputStream.ResumePosition resumePosition =
+                memberInputStream != null ? memberInputStream.getResumePosition(lineNumber) : null;
+        if (resumePosition != null) {
+            checkpointer.checkpoint(lineNumber, resumePosition.getOffset(), resumePosition.getLine());
+        } else {
+            checkpointer.checkpoint(lineNumber);
         }
     }
 
@@ -245,4 +355,19 @@ public class DataFileLoader implements Runnable {
     public static void stopAll() {
         shouldStop = true;
     }
+
+    /**
+     * A batch of lines whose items are parsed by a decode worker.
+     */
+    private static class DecodedBatch {
+        private final List<String> lines;
+        private final int lastLine;
+        private final Future<List<Map<String, Object>>> items;
+
+        private DecodedBatch(final List<String> lines, final int lastLine, final Future<List<Map<String, Object>>> items) {
+            this.lines = lines;
+            this.lastLine = lastLine;
+            this.items = items;
+        }
+    }
 }
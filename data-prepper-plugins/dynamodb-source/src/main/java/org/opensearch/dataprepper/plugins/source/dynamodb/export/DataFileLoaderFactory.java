@@ -11,7 +11,9 @@ import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.source.coordinator.enhanced.EnhancedSourceCoordinator;
+import org.opensearch.dataprepper.plugins.source.dynamodb.configuration.ExportConfig;
 import org.opensearch.dataprepper.plugins.source.dynamodb.coordination.partition.DataFilePartition;
+import org.opensearch.dataprepper.plugins.source.dynamodb.coordination.state.DataFileProgressState;
 import org.opensearch.dataprepper.plugins.source.dynamodb.model.TableInfo;
 import software.amazon.awssdk.services.s3.S3Client;
 
@@ -31,14 +33,26 @@ public class DataFileLoaderFactory {
     private final S3ObjectReader objectReader;
     private final PluginMetrics pluginMetrics;
     private final Buffer<Record<Event>> buffer;
+    private final boolean offsetCheckpoints;
+    private final int decodeWorkers;
 
     public DataFileLoaderFactory(final EnhancedSourceCoordinator coordinator,
                                  final S3Client s3Client,
                                  final PluginMetrics pluginMetrics,
                                  final Buffer<Record<Event>> buffer) {
+        this(coordinator, s3Client, pluginMetrics, buffer, null);
+    }
+
+    public DataFileLoaderFactory(final EnhancedSourceCoordinator coordinator,
+                                 final S3Client s3Client,
+                                 final PluginMetrics pluginMetrics,
+                                 final Buffer<Record<Event>> buffer,
+                                 final ExportConfig exportConfig) {
         this.coordinator = coordinator;
         this.pluginMetrics = pluginMetrics;
         this.buffer = buffer;
+        this.offsetCheckpoints = exportConfig != null && exportConfig.isDataFileOffsetCheckpoints();
+        this.decodeWorkers = exportConfig != null ? exportConfig.getDataFileDecodeWorkers() : 1;
         objectReader = new S3ObjectReader(s3Client);
     }
 
@@ -53,17 +67,25 @@ public class DataFileLoaderFactory {
             addProgressCheck(acknowledgementSet);
         }
 
+        final DataFileProgressState progressState = dataFilePartition.getProgressState().get();
+        // We can't checkpoint with acks enabled yet
+        final int startLine = acknowledgementSet == null ? progressState.getLoaded() : 0;
+        // The resume position is only valid if it was checkpointed with the loaded lines
+        final boolean resume = startLine > 0 && progressState.getResumeLine() <= startLine;
+
         // Start a data loader thread.
         return DataFileLoader.builder(objectReader, pluginMetrics, buffer)
                 .bucketName(dataFilePartition.getBucket())
                 .key(dataFilePartition.getKey())
                 .tableInfo(tableInfo)
-                .exportStartTime(dataFilePartition.getProgressState().get().getStartTime())
+                .exportStartTime(progressState.getStartTime())
                 .checkpointer(checkpointer)
                 .acknowledgmentSet(acknowledgementSet)
                 .acknowledgmentSetTimeout(acknowledgmentTimeout)
-                // We can't checkpoint with acks enabled yet
-                .startLine(acknowledgementSet == null ? dataFilePartition.getProgressState().get().getLoaded() : 0)
+                .startLine(startLine)
+                .offsetCheckpoints(offsetCheckpoints)
+                .resumeFrom(resume ? progressState.getResumeOffset() : 0, resume ? progressState.getResumeLine() : 0)
+                .decodeWorkers(decodeWorkers)
                 .build();
     }
 
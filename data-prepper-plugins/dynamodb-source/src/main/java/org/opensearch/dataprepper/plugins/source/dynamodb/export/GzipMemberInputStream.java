@@ -0,0 +1,258 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.dynamodb.export;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Decompresses a gzip file which may consist of several concatenated gzip members, like {@link java.util.zip.GZIPInputStream}.
+ * It also records where in the compressed file each member starts which begins a new line. Decompression can be
+ * resumed from such a position with a ranged read, without decompressing the file from the beginning again.
+ */
+class GzipMemberInputStream extends InputStream {
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int DEFLATE = 8;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+    private static final int INPUT_BUFFER_SIZE = 64 * 1024;
+
+    private final InputStream inputStream;
+    private final Inflater inflater = new Inflater(true);
+    private final CRC32 crc = new CRC32();
+    private final byte[] inputBuffer = new byte[INPUT_BUFFER_SIZE];
+    private final Deque<ResumePosition> resumePositions = new ArrayDeque<>();
+    private final int startLine;
+
+    /**
+     * The offset in the compressed file of the first byte in the input buffer
+     */
+    private long inputBufferOffset;
+    private int inputPosition;
+    private int inputLength;
+    private boolean inMember;
+    private boolean endOfStream;
+    private boolean firstMember = true;
+    private long newLines;
+    private int lastByte = '\n';
+
+    /**
+     * @param inputStream The compressed data, starting at the beginning of a gzip member
+     * @param startOffset The offset of the compressed data in the file
+     * @param startLine The number of lines in the file before the compressed data
+     */
+    GzipMemberInputStream(final InputStream inputStream, final long startOffset, final int startLine) {
+        this.inputStream = inputStream;
+        this.inputBufferOffset = startOffset;
+        this.startLine = startLine;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] singleByte = new byte[1];
+        final int read = read(singleByte, 0, 1);
+        return read == -1 ? -1 : singleByte[0] & 0xff;
+    }
+
+    @Override
+    public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        while (!endOfStream) {
+            if (!inMember) {
+                startMember();
+                continue;
+            }
+            if (inflater.needsInput()) {
+                if (!fillInputBuffer()) {
+                    throw new EOFException("Unexpected end of gzip data");
+                }
+                inflater.setInput(inputBuffer, inputPosition, inputLength - inputPosition);
+            }
+            final int inflated;
+            try {
+                inflated = inflater.inflate(buffer, offset, length);
+            } catch (final DataFormatException e) {
+                throw new ZipException(e.getMessage());
+            }
+            inputPosition = inputLength - inflater.getRemaining();
+            if (inflated > 0) {
+                crc.update(buffer, offset, inflated);
+                for (int i = offset; i < offset + inflated; i++) {
+                    if (buffer[i] == '\n') {
+                        newLines++;
+                    }
+                }
+                lastByte = buffer[offset + inflated - 1];
+                return inflated;
+            }
+            if (inflater.finished()) {
+                finishMember();
+            } else if (inflater.needsDictionary()) {
+                throw new ZipException("Unsupported gzip data with a preset dictionary");
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the last position from which decompression can be resumed without reading past a line.
+     *
+     * @param maximumLine The number of lines which have been processed
+     * @return The latest member start which begins a line, but not after the given line
+     */
+    ResumePosition getResumePosition(final int maximumLine) {
+        ResumePosition resumePosition = null;
+        while (!resumePositions.isEmpty() && resumePositions.peekFirst().getLine() <= maximumLine) {
+            resumePosition = resumePositions.pollFirst();
+        }
+        if (resumePosition != null) {
+            // Keep it for later calls with the same line
+            resumePositions.addFirst(resumePosition);
+        }
+        return resumePosition;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        inputStream.close();
+    }
+
+    private void startMember() throws IOException {
+        if (inputPosition == inputLength && !fillInputBuffer()) {
+            endOfStream = true;
+            return;
+        }
+        final long memberOffset = inputBufferOffset + inputPosition;
+        final int magic = readUnsignedByte() | (readUnsignedByte() << 8);
+        if (magic != GZIP_MAGIC) {
+            if (firstMember) {
+                throw new ZipException("Not in gzip format");
+            }
+            // Like GZIPInputStream, trailing data after the last member is ignored
+            endOfStream = true;
+            return;
+        }
+        if (readUnsignedByte() != DEFLATE) {
+            throw new ZipException("Unsupported gzip compression method");
+        }
+        final int flags = readUnsignedByte();
+        // Modification time, extra flags and operating system
+        skipBytes(6);
+        if ((flags & FEXTRA) == FEXTRA) {
+            skipBytes(readUnsignedByte() | (readUnsignedByte() << 8));
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipZeroTerminatedString();
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipZeroTerminatedString();
+        }
+        if ((flags & FHCRC) == FHCRC) {
+            skipBytes(2);
+        }
+
+        if (lastByte == '\n') {
+            resumePositions.addLast(new ResumePosition(memberOffset, startLine + Math.toIntExact(newLines)));
+        }
+        firstMember = false;
+        inflater.reset();
+        crc.reset();
+        if (inputPosition < inputLength) {
+            inflater.setInput(inputBuffer, inputPosition, inputLength - inputPosition);
+        }
+        inMember = true;
+    }
+
+    private void finishMember() throws IOException {
+        final long expectedCrc = readUnsignedInt();
+        final long expectedSize = readUnsignedInt();
+        if (expectedCrc != crc.getValue()) {
+            throw new ZipException("Corrupt gzip trailer, the CRC does not match");
+        }
+        if (expectedSize != (inflater.getBytesWritten() & 0xffffffffL)) {
+            throw new ZipException("Corrupt gzip trailer, the size does not match");
+        }
+        inMember = false;
+    }
+
+    private boolean fillInputBuffer() throws IOException {
+        inputBufferOffset += inputLength;
+        inputPosition = 0;
+        inputLength = 0;
+        final int read = inputStream.read(inputBuffer, 0, inputBuffer.length);
+        if (read <= 0) {
+            return false;
+        }
+        inputLength = read;
+        return true;
+    }
+
+    private int readUnsignedByte() throws IOException {
+        if (inputPosition == inputLength && !fillInputBuffer()) {
+            throw new EOFException("Unexpected end of gzip data");
+        }
+        return inputBuffer[inputPosition++] & 0xff;
+    }
+
+    private long readUnsignedInt() throws IOException {
+        long value = 0;
+        for (int i = 0; i < 4; i++) {
+            value |= ((long) readUnsignedByte()) << (8 * i);
+        }
+        return value;
+    }
+
+    private void skipBytes(final int count) throws IOException {
+        for (int i = 0; i < count; i++) {
+            readUnsignedByte();
+        }
+    }
+
+    private void skipZeroTerminatedString() throws IOException {
+        while (readUnsignedByte() != 0) {
+            // Skip until the terminating zero
+        }
+    }
+
+    /**
+     * A position in a gzip file at which a member and a line start.
+     */
+    static class ResumePosition {
+        private final long offset;
+        private final int line;
+
+        ResumePosition(final long offset, final int line) {
+            this.offset = offset;
+            this.line = line;
+        }
+
+        /**
+         * @return The offset of the member in the compressed file
+         */
+        long getOffset() {
+            return offset;
+        }
+
+        /**
+         * @return The number of lines in the file before the member
+         */
+        int getLine() {
+            return line;
+        }
+    }
+}
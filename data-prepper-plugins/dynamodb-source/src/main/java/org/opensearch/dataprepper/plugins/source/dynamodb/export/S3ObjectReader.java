@@ -38,4 +38,25 @@ public class S3ObjectReader {
         return object;
     }
 
+    /**
+     * Reads a file from an offset until its end.
+     *
+     * @param bucketName The bucket of the file
+     * @param s3Key The key of the file
+     * @param offset The offset of the first byte to read
+     * @return The content of the file from the offset
+     */
+    public InputStream readFile(String bucketName, String s3Key, long offset) {
+        LOG.debug("Read file from s3://" + bucketName + "/" + s3Key + " from offset " + offset);
+
+        GetObjectRequest objectRequest = GetObjectRequest
+                .builder()
+                .bucket(bucketName)
+                .key(s3Key)
+                .range("bytes=" + offset + "-")
+                .build();
+
+        return s3Client.getObject(objectRequest);
+    }
+
 }
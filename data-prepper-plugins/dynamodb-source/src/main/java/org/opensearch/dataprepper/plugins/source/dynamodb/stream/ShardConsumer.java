@@ -27,10 +27,17 @@ import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /**
  * A basic data consumer to read from one shard
+ * <p>
+ * With a record processing executor, the records of a GetRecords response are converted and written to the
+ * buffer on that executor while this consumer gets the next response. At most one response per shard is
+ * processed at a time, so the records of a shard are still written in order.
  */
 public class ShardConsumer implements Runnable {
 
@@ -113,6 +120,10 @@ public class ShardConsumer implements Runnable {
 
     private long recordsWrittenToBuffer;
 
+    private final ExecutorService recordProcessingExecutor;
+
+    private CompletableFuture<Void> pendingRecordProcessing = CompletableFuture.completedFuture(null);
+
     private ShardConsumer(Builder builder) {
         this.shardProgress = builder.pluginMetrics.counter(SHARD_PROGRESS);
         this.dynamoDbStreamsClient = builder.dynamoDbStreamsClient;
@@ -129,6 +140,7 @@ public class ShardConsumer implements Runnable {
         this.shardId = builder.shardId;
         this.recordsWrittenToBuffer = 0;
         this.dynamoDBSourceAggregateMetrics = builder.dynamoDBSourceAggregateMetrics;
+        this.recordProcessingExecutor = builder.recordProcessingExecutor;
     }
 
     public static Builder builder(final DynamoDbStreamsClient dynamoDbStreamsClient,
@@ -170,6 +182,8 @@ public class ShardConsumer implements Runnable {
 
         private StreamConfig streamConfig;
 
+        private ExecutorService recordProcessingExecutor;
+
         public Builder(final DynamoDbStreamsClient dynamoDbStreamsClient,
                        final PluginMetrics pluginMetrics,
                        final DynamoDBSourceAggregateMetrics dynamoDBSourceAggregateMetrics,
@@ -227,6 +241,11 @@ public class ShardConsumer implements Runnable {
             return this;
         }
 
+        public Builder recordProcessingExecutor(ExecutorService recordProcessingExecutor) {
+            this.recordProcessingExecutor = recordProcessingExecutor;
+            return this;
+        }
+
         public ShardConsumer build() {
             return new ShardConsumer(this);
         }
@@ -253,85 +272,89 @@ public class ShardConsumer implements Runnable {
         int interval;
         List<software.amazon.awssdk.services.dynamodb.model.Record> records;
         boolean createdFinalAcknowledgmentSetForShard = false;
-        while (!shouldStop) {
-            if (shardIterator == null) {
-                // End of Shard
-                if (shardAcknowledgementManager != null && !createdFinalAcknowledgmentSetForShard) {
-                    final AcknowledgementSet finalAcknowledgmentSet = shardAcknowledgementManager.createAcknowledgmentSet(streamPartition, END_OF_SHARD, true);
-                    finalAcknowledgmentSet.complete();
+        try {
+            while (!shouldStop) {
+                if (shardIterator == null) {
+                    // End of Shard
+                    awaitRecordProcessing();
+                    if (shardAcknowledgementManager != null && !createdFinalAcknowledgmentSetForShard) {
+                        final AcknowledgementSet finalAcknowledgmentSet = shardAcknowledgementManager.createAcknowledgmentSet(streamPartition, END_OF_SHARD, true);
+                        finalAcknowledgmentSet.complete();
+                    }
+                    LOG.debug("Reached end of shard");
+                    break;
                 }
-                LOG.debug("Reached end of shard");
-                break;
-            }
 
-            if (System.currentTimeMillis() - lastCheckpointTime > DEFAULT_CHECKPOINT_INTERVAL_MILLS) {
-                LOG.debug("{} records written to buffer for shard {}", recordsWrittenToBuffer, shardId);
-                if (shardAcknowledgementManager == null) {
-                    checkpointer.checkpoint(sequenceNumber);
+                if (System.currentTimeMillis() - lastCheckpointTime > DEFAULT_CHECKPOINT_INTERVAL_MILLS) {
+                    LOG.debug("{} records written to buffer for shard {}", recordsWrittenToBuffer, shardId);
+                    if (shardAcknowledgementManager == null) {
+                        // Only checkpoint records which are written to the buffer
+                        awaitRecordProcessing();
+                        checkpointer.checkpoint(sequenceNumber);
+                    }
+                    lastCheckpointTime = System.currentTimeMillis();
                 }
-                lastCheckpointTime = System.currentTimeMillis();
-            }
-
-            if (shardAcknowledgementManager != null && !shardAcknowledgementManager.isStillTrackingShard(streamPartition)) {
-                LOG.warn("Shard {} is no longer being tracked by the acknowledgment manager, exiting", streamPartition.getShardId());
-                break;
-            }
 
-            GetRecordsResponse response = callGetRecords(shardIterator);
-            shardIterator = response.nextShardIterator();
-            if (!response.records().isEmpty()) {
-                // Always use the last sequence number for checkpoint
-                sequenceNumber = response.records().get(response.records().size() - 1).dynamodb().sequenceNumber();
-                Instant lastEventTime = response.records().get(response.records().size() - 1).dynamodb().approximateCreationDateTime();
-
-                if (lastEventTime.isBefore(startTime)) {
-                    LOG.debug("Get {} events before start time, ignore...", response.records().size());
-                    continue;
-                }
-                if (waitForExport) {
-                    waitForExport();
-                    waitForExport = false;
+                if (shardAcknowledgementManager != null && !shardAcknowledgementManager.isStillTrackingShard(streamPartition)) {
+                    LOG.warn("Shard {} is no longer being tracked by the acknowledgment manager, exiting", streamPartition.getShardId());
+                    break;
                 }
 
-                AcknowledgementSet acknowledgementSet = null;
-                if (shardAcknowledgementManager != null) {
-                    try {
-                        acknowledgementSet = shardAcknowledgementManager.createAcknowledgmentSet(streamPartition, sequenceNumber, shardIterator == null);
-                    } catch (final ShardNotTrackedException e) {
-                        LOG.warn("Not creating acknowledgment set since shard is not tracked: {}", e.getMessage());
-                        break;
+                GetRecordsResponse response = callGetRecords(shardIterator);
+                shardIterator = response.nextShardIterator();
+                if (!response.records().isEmpty()) {
+                    // Always use the last sequence number for checkpoint
+                    sequenceNumber = response.records().get(response.records().size() - 1).dynamodb().sequenceNumber();
+                    Instant lastEventTime = response.records().get(response.records().size() - 1).dynamodb().approximateCreationDateTime();
+
+                    if (lastEventTime.isBefore(startTime)) {
+                        LOG.debug("Get {} events before start time, ignore...", response.records().size());
+                        continue;
+                    }
+                    if (waitForExport) {
+                        waitForExport();
+                        waitForExport = false;
                     }
 
-                    if (shardIterator == null) {
-                        createdFinalAcknowledgmentSetForShard = true;
+                    AcknowledgementSet acknowledgementSet = null;
+                    if (shardAcknowledgementManager != null) {
+                        try {
+                            acknowledgementSet = shardAcknowledgementManager.createAcknowledgmentSet(streamPartition, sequenceNumber, shardIterator == null);
+                        } catch (final ShardNotTrackedException e) {
+                            LOG.warn("Not creating acknowledgment set since shard is not tracked: {}", e.getMessage());
+                            break;
+                        }
+
+                        if (shardIterator == null) {
+                            createdFinalAcknowledgmentSetForShard = true;
+                        }
                     }
-                }
 
-                records = response.records().stream()
-                        .filter(record -> record.dynamodb().approximateCreationDateTime().isAfter(startTime))
-                        .collect(Collectors.toList());
+                    records = response.records().stream()
+                            .filter(record -> record.dynamodb().approximateCreationDateTime().isAfter(startTime))
+                            .collect(Collectors.toList());
 
-                recordConverter.writeToBuffer(acknowledgementSet, records);
-                if (acknowledgementSet != null) {
-                    acknowledgementSet.complete();
-                }
+                    processRecords(acknowledgementSet, records);
 
-                shardProgress.increment();
-                recordsWrittenToBuffer += records.size();
-                long delay = System.currentTimeMillis() - lastEventTime.toEpochMilli();
-                interval = delay > GET_RECORD_DELAY_THRESHOLD_MILLS ? MINIMUM_GET_RECORD_INTERVAL_MILLS : GET_RECORD_INTERVAL_MILLS;
+                    shardProgress.increment();
+                    recordsWrittenToBuffer += records.size();
+                    long delay = System.currentTimeMillis() - lastEventTime.toEpochMilli();
+                    interval = delay > GET_RECORD_DELAY_THRESHOLD_MILLS ? MINIMUM_GET_RECORD_INTERVAL_MILLS : GET_RECORD_INTERVAL_MILLS;
 
-            } else {
-                interval = GET_RECORD_INTERVAL_MILLS;
-                shardProgress.increment();
-            }
+                } else {
+                    interval = GET_RECORD_INTERVAL_MILLS;
+                    shardProgress.increment();
+                }
 
-            try {
-                // Idle between get records call.
-                Thread.sleep(interval);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
+                try {
+                    // Idle between get records call.
+                    Thread.sleep(interval);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
             }
+        } finally {
+            awaitRecordProcessing();
         }
 
         // interrupted
@@ -342,6 +365,33 @@ public class ShardConsumer implements Runnable {
         }
     }
 
+    private void processRecords(final AcknowledgementSet acknowledgementSet,
+                                final List<software.amazon.awssdk.services.dynamodb.model.Record> records) {
+        final Runnable writeRecords = () -> {
+            recordConverter.writeToBuffer(acknowledgementSet, records);
+            if (acknowledgementSet != null) {
+                acknowledgementSet.complete();
+            }
+        };
+        if (recordProcessingExecutor == null) {
+            writeRecords.run();
+        } else {
+            // The converter is not thread safe and the records must be written in order
+            awaitRecordProcessing();
+            pendingRecordProcessing = CompletableFuture.runAsync(writeRecords, recordProcessingExecutor);
+        }
+    }
+
+    private void awaitRecordProcessing() {
+        try {
+            pendingRecordProcessing.join();
+        } catch (final CompletionException e) {
+            throw new RuntimeException("Failed to process records of shard " + shardId, e.getCause());
+        } finally {
+            pendingRecordProcessing = CompletableFuture.completedFuture(null);
+        }
+    }
+
     /**
      * Wrap of GetRecords call
      */
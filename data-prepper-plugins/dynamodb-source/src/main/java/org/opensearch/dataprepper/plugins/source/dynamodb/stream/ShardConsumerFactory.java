@@ -30,6 +30,8 @@ import software.amazon.awssdk.services.dynamodb.streams.DynamoDbStreamsClient;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Factory class to create shard consumers
@@ -47,6 +49,11 @@ public class ShardConsumerFactory {
 
     private final StreamConfig streamConfig;
 
+    /**
+     * Converts the records of all shards, or null to convert them on the thread of each shard consumer
+     */
+    private final ExecutorService recordProcessingExecutor;
+
 
     public ShardConsumerFactory(final EnhancedSourceCoordinator enhancedSourceCoordinator,
                                 final DynamoDbStreamsClient streamsClient,
@@ -60,6 +67,8 @@ public class ShardConsumerFactory {
         this.dynamoDBSourceAggregateMetrics = dynamoDBSourceAggregateMetrics;
         this.buffer = buffer;
         this.streamConfig = streamConfig;
+        this.recordProcessingExecutor = streamConfig != null && streamConfig.getRecordProcessingThreads() > 0 ?
+                Executors.newFixedThreadPool(streamConfig.getRecordProcessingThreads()) : null;
     }
 
     public Runnable createConsumer(final StreamPartition streamPartition,
@@ -112,10 +121,20 @@ public class ShardConsumerFactory {
                 .lastShardIterator(lastShardIterator)
                 .startTime(startTime)
                 .waitForExport(waitForExport)
+                .recordProcessingExecutor(recordProcessingExecutor)
                 .build();
         return shardConsumer;
     }
 
+    /**
+     * Stops the threads which convert records once the running shard consumers are done with them.
+     */
+    public void shutdown() {
+        if (recordProcessingExecutor != null) {
+            recordProcessingExecutor.shutdown();
+        }
+    }
+
     private TableInfo getTableInfo(String tableArn) {
         GlobalState tableState = (GlobalState) enhancedSourceCoordinator.getPartition(tableArn).get();
         TableInfo tableInfo = new TableInfo(tableArn, TableMetadata.fromMap(tableState.getProgressState().get()));
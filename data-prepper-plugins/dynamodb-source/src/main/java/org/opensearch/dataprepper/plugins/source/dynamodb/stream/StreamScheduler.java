@@ -140,6 +140,7 @@ public class StreamScheduler implements Runnable {
         // Otherwise the final checkpoint will fail due to SDK interruption.
         ShardConsumer.stopAll();
         executor.shutdown();
+        consumerFactory.shutdown();
     }
 
     private BiConsumer completeConsumer(StreamPartition streamPartition) {
@@ -0,0 +1,87 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.dynamodb.converter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.SdkBytes;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AttributeValueConverterTest {
+    private static final ObjectMapper OBJECT_MAPPER = JsonMapper.builder()
+            .disable(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)
+            .build();
+
+    @ParameterizedTest
+    @ValueSource(strings = {"0", "7", "1023", "1024", "-5", "-0", "007", "123456789012345678", "1234567890123456789012",
+            "1.50", "-3.25", "1E+3", "0.000001"})
+    void toNumberNode_matches_parsed_big_decimal(final String number) {
+        final JsonNode numberNode = AttributeValueConverter.toNumberNode(number);
+
+        assertThat(numberNode.decimalValue(), equalTo(new BigDecimal(number)));
+        assertThat(numberNode, equalTo(OBJECT_MAPPER.valueToTree(new BigDecimal(number))));
+    }
+
+    @Test
+    void toObjectNode_converts_nested_attributes() {
+        final Map<String, AttributeValue> item = Map.of(
+                "name", AttributeValue.builder().s("item").build(),
+                "count", AttributeValue.builder().n("12").build(),
+                "active", AttributeValue.builder().bool(true).build(),
+                "missing", AttributeValue.builder().nul(true).build(),
+                "data", AttributeValue.builder().b(SdkBytes.fromUtf8String("abc")).build(),
+                "tags", AttributeValue.builder().ss("a", "b").build(),
+                "sizes", AttributeValue.builder().ns("1", "2.5").build(),
+                "nested", AttributeValue.builder().m(Map.of(
+                        "list", AttributeValue.builder().l(
+                                AttributeValue.builder().s("x").build(),
+                                AttributeValue.builder().n("3").build()).build())).build());
+
+        final Map<String, Object> expected = new HashMap<>();
+        expected.put("name", "item");
+        expected.put("count", new BigDecimal("12"));
+        expected.put("active", true);
+        expected.put("missing", null);
+        expected.put("data", "YWJj");
+        expected.put("tags", List.of("a", "b"));
+        expected.put("sizes", List.of(new BigDecimal("1"), new BigDecimal("2.5")));
+        expected.put("nested", Map.of("list", List.of("x", new BigDecimal("3"))));
+
+        final ObjectNode objectNode = AttributeValueConverter.toObjectNode(item);
+
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.valueToTree(expected)));
+    }
+
+    @Test
+    void toObjectNode_throws_for_unknown_attribute_type() {
+        final Map<String, AttributeValue> item = Map.of("bad", AttributeValue.builder().build());
+
+        assertThrows(IllegalArgumentException.class, () -> AttributeValueConverter.toObjectNode(item));
+    }
+
+    @Test
+    void toKeyString_returns_string_of_key_attribute() {
+        assertThat(AttributeValueConverter.toKeyString(AttributeValue.builder().s("key").build()), equalTo("key"));
+        assertThat(AttributeValueConverter.toKeyString(AttributeValue.builder().n("1.50").build()), equalTo("1.50"));
+        assertThat(AttributeValueConverter.toKeyString(null), nullValue());
+    }
+}
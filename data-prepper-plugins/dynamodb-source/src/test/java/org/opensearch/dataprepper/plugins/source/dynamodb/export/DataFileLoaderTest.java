@@ -8,6 +8,8 @@ package org.opensearch.dataprepper.plugins.source.dynamodb.export;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockedConstruction;
 import org.mockito.MockedStatic;
@@ -35,20 +37,29 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.zip.GZIPOutputStream;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.dataprepper.plugins.source.dynamodb.export.DataFileLoader.BUFFER_TIMEOUT;
@@ -214,6 +225,98 @@ class DataFileLoaderTest {
         verify(acknowledgementSet).complete();
     }
 
+    private static byte[] generateGzipMember(final int numberOfRecords) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < numberOfRecords; i++) {
+            sb.append(" $ion_1_0 {Item:{PK:\"" + UUID.randomUUID() + "\"}}\n");
+        }
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOut = new GZIPOutputStream(byteOut)) {
+            gzipOut.write(sb.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return byteOut.toByteArray();
+    }
+
+    private static ResponseInputStream<GetObjectResponse> toResponseInputStream(final byte[] bytes) {
+        return new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) bytes.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(bytes)));
+    }
+
+    private DataFileLoader createLoader(final Consumer<DataFileLoader.Builder> configurer) {
+        try (
+                final MockedStatic<BufferAccumulator> bufferAccumulatorMockedStatic = mockStatic(BufferAccumulator.class);
+                final MockedConstruction<ExportRecordConverter> recordConverterMockedConstruction = mockConstruction(ExportRecordConverter.class, (mock, context) -> {
+                    exportRecordConverter = mock;
+                })) {
+            bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, DEFAULT_BUFFER_BATCH_SIZE, BUFFER_TIMEOUT)).thenReturn(bufferAccumulator);
+            final DataFileLoader.Builder builder = DataFileLoader.builder(objectReader, pluginMetrics, buffer)
+                    .bucketName(bucketName)
+                    .key(manifestKey)
+                    .checkpointer(checkpointer)
+                    .tableInfo(tableInfo);
+            configurer.accept(builder);
+            return builder.build();
+        }
+    }
+
+    @Test
+    void run_with_offset_checkpoints_checkpoints_last_member_offset() throws IOException {
+        final byte[] firstMember = generateGzipMember(3);
+        final byte[] secondMember = generateGzipMember(total);
+        final ByteArrayOutputStream data = new ByteArrayOutputStream();
+        data.write(firstMember);
+        data.write(secondMember);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(toResponseInputStream(data.toByteArray()));
+
+        final DataFileLoader loader = createLoader(builder -> builder.offsetCheckpoints(true));
+
+        loader.run();
+
+        verify(exportRecordConverter).writeToBuffer(eq(null), argThat(lines -> lines.size() == total + 3));
+        verify(checkpointer).checkpoint(total + 3, firstMember.length, 3);
+    }
+
+    @Test
+    void run_with_resume_offset_reads_data_file_from_offset() throws IOException {
+        final byte[] firstMember = generateGzipMember(3);
+        final byte[] secondMember = generateGzipMember(4);
+        final byte[] thirdMember = generateGzipMember(5);
+        final ByteArrayOutputStream remainingData = new ByteArrayOutputStream();
+        remainingData.write(secondMember);
+        remainingData.write(thirdMember);
+        final ArgumentCaptor<GetObjectRequest> requestArgumentCaptor = ArgumentCaptor.forClass(GetObjectRequest.class);
+        when(s3Client.getObject(requestArgumentCaptor.capture())).thenReturn(toResponseInputStream(remainingData.toByteArray()));
+
+        final DataFileLoader loader = createLoader(builder -> builder
+                .offsetCheckpoints(true)
+                .startLine(4)
+                .resumeFrom(firstMember.length, 3));
+
+        loader.run();
+
+        assertThat(requestArgumentCaptor.getValue().range(), equalTo("bytes=" + firstMember.length + "-"));
+        verify(exportRecordConverter).writeToBuffer(eq(null), argThat(lines -> lines.size() == 8));
+        verify(checkpointer).checkpoint(12, firstMember.length + secondMember.length, 7);
+    }
+
+    @Test
+    void run_with_decode_workers_writes_parsed_batches_in_order() throws IOException {
+        final int numberOfRecords = 2500;
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(generateGzipInputStream(numberOfRecords));
+
+        final DataFileLoader loader = createLoader(builder -> builder.decodeWorkers(2));
+        final List<Map<String, Object>> items = Collections.emptyList();
+        when(exportRecordConverter.parseItems(anyList())).thenReturn(items);
+
+        loader.run();
+
+        final InOrder inOrder = inOrder(exportRecordConverter, checkpointer);
+        inOrder.verify(exportRecordConverter, times(2)).writeToBuffer(eq(null), argThat(lines -> lines.size() == 1000), eq(items));
+        inOrder.verify(exportRecordConverter).writeToBuffer(eq(null), argThat(lines -> lines.size() == 500));
+        inOrder.verify(checkpointer).checkpoint(numberOfRecords);
+    }
+
     @Test
     void run_loadFile_with_acknowledgments_and_error_cancels_acknowledgment_set() {
 
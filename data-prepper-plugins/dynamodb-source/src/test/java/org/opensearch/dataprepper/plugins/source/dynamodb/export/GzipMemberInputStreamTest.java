@@ -0,0 +1,115 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.source.dynamodb.export;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GzipMemberInputStreamTest {
+
+    private static byte[] gzip(final String data) throws IOException {
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOut = new GZIPOutputStream(byteOut)) {
+            gzipOut.write(data.getBytes(StandardCharsets.UTF_8));
+        }
+        return byteOut.toByteArray();
+    }
+
+    private static byte[] concat(final byte[]... parts) {
+        final ByteArrayOutputStream byteOut = new ByteArrayOutputStream();
+        for (final byte[] part : parts) {
+            byteOut.write(part, 0, part.length);
+        }
+        return byteOut.toByteArray();
+    }
+
+    private static String readAll(final InputStream inputStream) throws IOException {
+        return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void read_decompresses_all_members() throws IOException {
+        final byte[] data = concat(gzip("a\nb\n"), gzip("c\n"), gzip(""), gzip("d\n"));
+
+        try (final GzipMemberInputStream objectUnderTest = new GzipMemberInputStream(new ByteArrayInputStream(data), 0, 0)) {
+            assertThat(readAll(objectUnderTest), equalTo("a\nb\nc\nd\n"));
+        }
+    }
+
+    @Test
+    void getResumePosition_returns_last_member_starting_a_line_before_the_given_line() throws IOException {
+        final byte[] first = gzip("a\nb\n");
+        final byte[] second = gzip("c\nd");
+        final byte[] third = gzip("\ne\n");
+        final byte[] data = concat(first, second, third);
+
+        try (final GzipMemberInputStream objectUnderTest = new GzipMemberInputStream(new ByteArrayInputStream(data), 0, 0)) {
+            readAll(objectUnderTest);
+
+            assertThat(objectUnderTest.getResumePosition(1).getOffset(), equalTo(0L));
+            assertThat(objectUnderTest.getResumePosition(2).getOffset(), equalTo((long) first.length));
+            assertThat(objectUnderTest.getResumePosition(2).getLine(), equalTo(2));
+            // The third member starts within the fourth line
+            assertThat(objectUnderTest.getResumePosition(5).getOffset(), equalTo((long) first.length));
+        }
+    }
+
+    @Test
+    void read_from_resume_offset_continues_line_count() throws IOException {
+        final byte[] first = gzip("a\nb\n");
+        final byte[] second = gzip("c\nd\n");
+        final byte[] data = concat(first, second);
+        final byte[] remaining = Arrays.copyOfRange(data, first.length, data.length);
+
+        try (final GzipMemberInputStream objectUnderTest = new GzipMemberInputStream(new ByteArrayInputStream(remaining), first.length, 2)) {
+            assertThat(readAll(objectUnderTest), equalTo("c\nd\n"));
+            assertThat(objectUnderTest.getResumePosition(1), nullValue());
+            assertThat(objectUnderTest.getResumePosition(4).getOffset(), equalTo((long) first.length));
+            assertThat(objectUnderTest.getResumePosition(4).getLine(), equalTo(2));
+        }
+    }
+
+    @Test
+    void read_ignores_trailing_data_after_last_member() throws IOException {
+        final byte[] data = concat(gzip("a\n"), new byte[] {0, 0, 0});
+
+        try (final GzipMemberInputStream objectUnderTest = new GzipMemberInputStream(new ByteArrayInputStream(data), 0, 0)) {
+            assertThat(readAll(objectUnderTest), equalTo("a\n"));
+        }
+    }
+
+    @Test
+    void read_throws_for_non_gzip_data() {
+        final byte[] data = "not gzip".getBytes(StandardCharsets.UTF_8);
+
+        final GzipMemberInputStream objectUnderTest = new GzipMemberInputStream(new ByteArrayInputStream(data), 0, 0);
+
+        assertThrows(ZipException.class, () -> readAll(objectUnderTest));
+    }
+
+    @Test
+    void read_throws_for_corrupt_trailer() throws IOException {
+        final byte[] data = gzip("a\n");
+        data[data.length - 8] ^= 0x1;
+
+        final GzipMemberInputStream objectUnderTest = new GzipMemberInputStream(new ByteArrayInputStream(data), 0, 0);
+
+        assertThrows(ZipException.class, () -> readAll(objectUnderTest));
+    }
+}
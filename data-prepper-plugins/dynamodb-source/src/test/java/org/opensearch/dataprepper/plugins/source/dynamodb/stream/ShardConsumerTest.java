@@ -46,6 +46,8 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -216,6 +218,42 @@ class ShardConsumerTest {
         }
     }
 
+    @Test
+    void test_run_shardConsumer_with_record_processing_executor_writes_records() throws Exception {
+        final ExecutorService recordProcessingExecutor = Executors.newSingleThreadExecutor();
+        // Disable the static shouldStop flag to prevent early exit
+        try (MockedStatic<ShardConsumer> shardConsumerMockedStatic = mockStatic(ShardConsumer.class, invocation -> {
+            if (invocation.getMethod().getName().equals("stopAll")) {
+                return null;
+            } else if (invocation.getMethod().getName().equals("shouldStop")) {
+                return false;
+            }
+            return invocation.callRealMethod();
+        })) {
+            ShardConsumer shardConsumer;
+            try (final MockedStatic<BufferAccumulator> bufferAccumulatorMockedStatic = mockStatic(BufferAccumulator.class)) {
+                bufferAccumulatorMockedStatic.when(() -> BufferAccumulator.create(buffer, DEFAULT_BUFFER_BATCH_SIZE, BUFFER_TIMEOUT)).thenReturn(bufferAccumulator);
+                shardConsumer = ShardConsumer.builder(dynamoDbStreamsClient, pluginMetrics, aggregateMetrics, buffer, streamConfig)
+                        .shardIterator(shardIterator)
+                        .shardAcknowledgementManager(shardAcknowledgementManager)
+                        .streamPartition(streamPartition)
+                        .tableInfo(tableInfo)
+                        .startTime(null)
+                        .waitForExport(false)
+                        .recordProcessingExecutor(recordProcessingExecutor)
+                        .build();
+            }
+
+            shardConsumer.run();
+
+            // The records are written before the consumer returns
+            verify(bufferAccumulator, times(total)).add(any(org.opensearch.dataprepper.model.record.Record.class));
+            verify(bufferAccumulator).flush();
+        } finally {
+            recordProcessingExecutor.shutdown();
+        }
+    }
+
     @Test
     void test_run_shardConsumer_with_acknowledgments_correctly() throws Exception {
         final AcknowledgementSet acknowledgementSet = mock(AcknowledgementSet.class);
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Fork(2)
+@Threads(4)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 5, time = 10)
+public class GrokProcessorBenchmark {
+    private static final int BATCH_SIZE = 100;
+    private static final String MESSAGE =
+            "127.0.0.1 - frank [10/Oct/2000:13:55:36 -0700] \"GET /apache_pb.gif HTTP/1.0\" 200 2326";
+
+    /**
+     * One processor per benchmark thread, as each pipeline worker has its own grok processor.
+     */
+    @State(Scope.Thread)
+    public static class BenchmarkState {
+        @Param({"none", "executor", "deadline"})
+        private String timeoutMode;
+
+        private GrokProcessor grokProcessor;
+        private List<Map<String, Object>> batchData;
+
+        @Setup
+        public void setUp() {
+            final Map<String, Object> configuration = new HashMap<>();
+            configuration.put(GrokProcessorConfig.MATCH, Map.of("message", List.of("%{COMMONAPACHELOG}")));
+            if ("none".equals(timeoutMode)) {
+                configuration.put(GrokProcessorConfig.TIMEOUT_MILLIS, 0);
+            } else {
+                configuration.put(GrokProcessorConfig.TIMEOUT_MODE, timeoutMode);
+            }
+            final GrokProcessorConfig grokProcessorConfig = new ObjectMapper().convertValue(configuration, GrokProcessorConfig.class);
+            grokProcessor = new GrokProcessor(PluginMetrics.fromNames("grok", "benchmark"), grokProcessorConfig, null);
+
+            batchData = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batchData.add(Map.of("message", MESSAGE));
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            grokProcessor.shutdown();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public Collection<Record<Event>> benchmark_grok_batch(final BenchmarkState state) {
+        final List<Record<Event>> records = new ArrayList<>(BATCH_SIZE);
+        for (final Map<String, Object> data : state.batchData) {
+            records.add(new Record<>(JacksonEvent.builder()
+                    .withEventType("event")
+                    .withData(data)
+                    .build()));
+        }
+        return state.grokProcessor.doExecute(records);
+    }
+}
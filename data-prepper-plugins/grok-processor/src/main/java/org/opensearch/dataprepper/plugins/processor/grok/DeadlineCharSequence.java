@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+/**
+ * A {@link CharSequence} over a {@link String} which fails once a deadline has passed. The regular expression
+ * engine reads its input through {@link #charAt(int)}, so a match on this sequence is abandoned on the calling
+ * thread instead of needing a separate thread which can be cancelled. The clock is only read once every
+ * {@link #CHECK_INTERVAL} characters.
+ */
+class DeadlineCharSequence implements CharSequence {
+    static final int CHECK_INTERVAL = 1024;
+
+    private final String value;
+    private final long deadlineNanos;
+    private int readsUntilCheck = CHECK_INTERVAL;
+
+    /**
+     * @param value The characters to match on
+     * @param deadlineNanos The deadline as a {@link System#nanoTime()} value
+     */
+    DeadlineCharSequence(final String value, final long deadlineNanos) {
+        this.value = value;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    @Override
+    public int length() {
+        return value.length();
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (--readsUntilCheck <= 0) {
+            readsUntilCheck = CHECK_INTERVAL;
+            if (System.nanoTime() - deadlineNanos > 0) {
+                throw new DeadlineExceededException();
+            }
+        }
+        return value.charAt(index);
+    }
+
+    /**
+     * Returns a plain {@link String} so that captures read after the match do not check the deadline.
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        return value.substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+
+    static class DeadlineExceededException extends RuntimeException {
+        DeadlineExceededException() {
+            super("The deadline for matching passed", null, false, false);
+        }
+    }
+}
@@ -38,7 +38,6 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.NotDirectoryException;
 import java.nio.file.Path;
-import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -55,6 +54,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
@@ -140,7 +140,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
         for (final Record<Event> record : records) {
 
-            final Instant startTime = Instant.now();
+            final long startTime = System.nanoTime();
             final Event event = record.getData();
             try {
                 if (Objects.nonNull(grokProcessorConfig.getGrokWhen()) && !expressionEvaluator.evaluateConditional(grokProcessorConfig.getGrokWhen(), event)) {
@@ -148,9 +148,11 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                 }
 
                 if (grokProcessorConfig.getTimeoutMillis() == 0) {
-                    grokProcessingTime.record(() -> matchAndMerge(event));
+                    grokProcessingTime.record(() -> matchAndMerge(event, value -> value));
+                } else if (grokProcessorConfig.getTimeoutMode() == GrokTimeoutMode.DEADLINE) {
+                    runWithDeadline(event);
                 } else {
-                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event)));
+                    runWithTimeout(() -> grokProcessingTime.record(() -> matchAndMerge(event, value -> value)));
                 }
 
             } catch (final TimeoutException e) {
@@ -177,15 +179,13 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
                 grokProcessingErrorsCounter.increment();
             }
 
-            final Instant endTime = Instant.now();
-
             if (grokProcessorConfig.getIncludePerformanceMetadata()) {
                 Long totalEventTimeInGrok = (Long) event.getMetadata().getAttribute(TOTAL_TIME_SPENT_IN_GROK_METADATA_KEY);
                 if (totalEventTimeInGrok == null) {
                     totalEventTimeInGrok = 0L;
                 }
 
-                final long timeSpentInThisGrok = endTime.toEpochMilli() - startTime.toEpochMilli();
+                final long timeSpentInThisGrok = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
                 event.getMetadata().setAttribute(TOTAL_TIME_SPENT_IN_GROK_METADATA_KEY, totalEventTimeInGrok + timeSpentInThisGrok);
             }
          }
@@ -280,7 +280,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         }
     }
 
-    private void matchAndMerge(final Event event) {
+    private void matchAndMerge(final Event event, final Function<String, CharSequence> subjectFunction) {
         final Map<String, Object> grokkedCaptures = new HashMap<>();
 
         int patternsAttempted = 0;
@@ -289,7 +289,7 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
             for (final Grok grok : entry.getValue()) {
                 final String value = event.get(entry.getKey(), String.class);
                 if (value != null && !value.isEmpty()) {
-                    final Match match = grok.match(value);
+                    final Match match = grok.match(subjectFunction.apply(value));
                     match.setKeepEmptyCaptures(grokProcessorConfig.isKeepEmptyCaptures());
 
                     final Map<String, Object> captures = match.capture();
@@ -382,6 +382,15 @@ public class GrokProcessor extends AbstractProcessor<Record<Event>, Record<Event
         return captures.size() > 0 && grokProcessorConfig.isBreakOnMatch();
     }
 
+    private void runWithDeadline(final Event event) throws TimeoutException {
+        final long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(grokProcessorConfig.getTimeoutMillis());
+        try {
+            grokProcessingTime.record(() -> matchAndMerge(event, value -> new DeadlineCharSequence(value, deadlineNanos)));
+        } catch (final DeadlineCharSequence.DeadlineExceededException exception) {
+            throw new TimeoutException(exception.getMessage());
+        }
+    }
+
     private void runWithTimeout(final Runnable runnable) throws TimeoutException, ExecutionException, InterruptedException {
         final Future<?> task = executorService.submit(runnable);
         try {
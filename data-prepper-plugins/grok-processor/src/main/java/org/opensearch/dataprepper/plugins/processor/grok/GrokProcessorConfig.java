@@ -36,6 +36,7 @@ public class GrokProcessorConfig {
     static final String PATTERNS_DIRECTORIES = "patterns_directories";
     static final String PATTERNS_FILES_GLOB = "patterns_files_glob";
     static final String TIMEOUT_MILLIS = "timeout_millis";
+    static final String TIMEOUT_MODE = "timeout_mode";
     static final String TARGET_KEY = "target_key";
     static final String GROK_WHEN = "grok_when";
     static final String TAGS_ON_MATCH_FAILURE = "tags_on_match_failure";
@@ -103,6 +104,13 @@ public class GrokProcessorConfig {
             "Setting to <code>0</code> prevents any matching from occurring. Default is <code>30000</code>.")
     private int timeoutMillis = DEFAULT_TIMEOUT_MILLIS;
 
+    @JsonProperty(value = TIMEOUT_MODE, defaultValue = "executor")
+    @JsonPropertyDescription("How <code>timeout_millis</code> is enforced. With <code>executor</code>, each event is matched on a " +
+            "separate thread which is cancelled when the timeout is reached. With <code>deadline</code>, each event is matched on " +
+            "the pipeline worker thread and the match is abandoned once the timeout is reached, which avoids a thread handoff per event. " +
+            "Default is <code>executor</code>.")
+    private GrokTimeoutMode timeoutMode = GrokTimeoutMode.EXECUTOR;
+
     @JsonProperty(TAGS_ON_MATCH_FAILURE)
     @JsonPropertyDescription("A <code>List</code> of <code>String</code>s that specifies the tags to be set in the event when grok fails to " +
             "match or an unknown exception occurs while matching. This tag may be used in conditional expressions in " +
@@ -166,6 +174,10 @@ public class GrokProcessorConfig {
         return timeoutMillis;
     }
 
+    public GrokTimeoutMode getTimeoutMode() {
+        return timeoutMode;
+    }
+
     public String getTargetKey() {
         return targetKey;
     }
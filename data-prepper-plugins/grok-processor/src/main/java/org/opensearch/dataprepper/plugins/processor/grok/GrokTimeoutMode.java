@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * How the <code>timeout_millis</code> of the grok processor is enforced.
+ */
+public enum GrokTimeoutMode {
+    /**
+     * Each match runs on a separate thread and is cancelled when it does not complete in time.
+     */
+    EXECUTOR("executor"),
+    /**
+     * Each match runs on the calling thread and is abandoned by the regular expression engine once the
+     * deadline passes.
+     */
+    DEADLINE("deadline");
+
+    private static final Map<String, GrokTimeoutMode> OPTIONS_MAP = Arrays.stream(GrokTimeoutMode.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    GrokTimeoutMode(final String option) {
+        this.option = option;
+    }
+
+    @JsonCreator
+    static GrokTimeoutMode fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option.toLowerCase());
+    }
+
+    @JsonValue
+    public String getOptionValue() {
+        return option;
+    }
+}
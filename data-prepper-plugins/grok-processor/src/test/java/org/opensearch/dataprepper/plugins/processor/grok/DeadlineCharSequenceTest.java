@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.grok;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeadlineCharSequenceTest {
+
+    @Test
+    void sequence_reads_the_wrapped_value_before_the_deadline() {
+        final String value = UUID.randomUUID().toString();
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence(value, System.nanoTime() + TimeUnit.MINUTES.toNanos(1));
+
+        assertThat(objectUnderTest.length(), equalTo(value.length()));
+        assertThat(objectUnderTest.toString(), equalTo(value));
+        for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL * 2; i++) {
+            assertThat(objectUnderTest.charAt(i % value.length()), equalTo(value.charAt(i % value.length())));
+        }
+    }
+
+    @Test
+    void subSequence_returns_a_String() {
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence("abcdef", System.nanoTime() - 1);
+
+        final CharSequence subSequence = objectUnderTest.subSequence(1, 4);
+
+        assertThat(subSequence, instanceOf(String.class));
+        assertThat(subSequence, equalTo("bcd"));
+    }
+
+    @Test
+    void charAt_throws_within_the_check_interval_once_the_deadline_has_passed() {
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence("abc", System.nanoTime() - 1);
+
+        for (int i = 0; i < DeadlineCharSequence.CHECK_INTERVAL - 1; i++) {
+            objectUnderTest.charAt(i % 3);
+        }
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> objectUnderTest.charAt(0));
+    }
+
+    @Test
+    void matching_a_catastrophic_pattern_is_abandoned_once_the_deadline_has_passed() {
+        final Pattern pattern = Pattern.compile("(.*a){21}b");
+        final DeadlineCharSequence objectUnderTest = new DeadlineCharSequence("a".repeat(40), System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(10));
+
+        assertThrows(DeadlineCharSequence.DeadlineExceededException.class, () -> pattern.matcher(objectUnderTest).find());
+    }
+}
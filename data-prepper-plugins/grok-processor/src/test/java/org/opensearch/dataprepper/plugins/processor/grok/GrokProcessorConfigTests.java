@@ -9,6 +9,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -77,6 +79,7 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getTargetKey(), equalTo(DEFAULT_TARGET_KEY));
         assertThat(grokProcessorConfig.isNamedCapturesOnly(), equalTo(DEFAULT_NAMED_CAPTURES_ONLY));
         assertThat(grokProcessorConfig.getTimeoutMillis(), equalTo(DEFAULT_TIMEOUT_MILLIS));
+        assertThat(grokProcessorConfig.getTimeoutMode(), equalTo(GrokTimeoutMode.EXECUTOR));
         assertThat(grokProcessorConfig.getGrokWhen(), equalTo(null));
         assertThat(grokProcessorConfig.getTagsOnMatchFailure(), equalTo(Collections.emptyList()));
         assertThat(grokProcessorConfig.getTagsOnTimeout(), equalTo(Collections.emptyList()));
@@ -114,6 +117,15 @@ public class GrokProcessorConfigTests {
         assertThat(grokProcessorConfig.getIncludePerformanceMetadata(), equalTo(true));
     }
 
+    @ParameterizedTest
+    @EnumSource(GrokTimeoutMode.class)
+    public void testTimeoutMode(final GrokTimeoutMode timeoutMode) {
+        final GrokProcessorConfig grokProcessorConfig = OBJECT_MAPPER.convertValue(
+                Map.of(GrokProcessorConfig.TIMEOUT_MODE, timeoutMode.getOptionValue().toUpperCase()), GrokProcessorConfig.class);
+
+        assertThat(grokProcessorConfig.getTimeoutMode(), equalTo(timeoutMode));
+    }
+
     @Test
     public void testInvalidConfig() {
         final PluginSetting invalidPluginSetting = completePluginSettingForGrokProcessor(
@@ -43,6 +43,7 @@ import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
@@ -460,6 +461,68 @@ public class GrokProcessorTests {
     }
 
 
+    @Test
+    public void testThatProcessingWithDeadlineTimeoutModeDoesNotInteractWithExecutorServiceAndReturnsCorrectResult() throws JsonProcessingException {
+        when(grokProcessorConfig.getTimeoutMode()).thenReturn(GrokTimeoutMode.DEADLINE);
+        when(grok.match(any(CharSequence.class))).thenAnswer(invocation -> {
+            final CharSequence subject = invocation.getArgument(0);
+            assertThat(subject, instanceOf(DeadlineCharSequence.class));
+            assertThat(subject.toString(), equalTo(messageInput));
+            return match;
+        });
+        grokProcessor = createObjectUnderTest();
+
+        capture.put("key_capture_1", "value_capture_1");
+        capture.put("key_capture_2", "value_capture_2");
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final Map<String, Object> resultData = new HashMap<>();
+        resultData.put("message", messageInput);
+        resultData.put("key_capture_1", "value_capture_1");
+        resultData.put("key_capture_2", "value_capture_2");
+        final Record<Event> resultRecord = buildRecordWithEvent(resultData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        verifyNoInteractions(executorService);
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertRecordsAreEqual(grokkedRecords.get(0), resultRecord);
+        verify(grokProcessingMatchCounter, times(1)).increment();
+        verify(grokProcessingTime, times(1)).record(any(Runnable.class));
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMismatchCounter, grokProcessingTimeoutsCounter);
+    }
+
+    @Test
+    public void testThatDeadlineTimeoutModeAbandonsMatchAndTagsEventWhenDeadlinePasses() throws JsonProcessingException {
+        final String tagOnTimeout = UUID.randomUUID().toString();
+        when(grokProcessorConfig.getTimeoutMode()).thenReturn(GrokTimeoutMode.DEADLINE);
+        when(grokProcessorConfig.getTimeoutMillis()).thenReturn(1);
+        when(grokProcessorConfig.getTagsOnTimeout()).thenReturn(List.of(tagOnTimeout));
+        when(grok.match(any(CharSequence.class))).thenAnswer(invocation -> {
+            final CharSequence subject = invocation.getArgument(0);
+            for (int i = 0; ; i = (i + 1) % subject.length()) {
+                subject.charAt(i);
+            }
+        });
+        grokProcessor = createObjectUnderTest();
+
+        final Map<String, Object> testData = new HashMap();
+        testData.put("message", messageInput);
+        final Record<Event> record = buildRecordWithEvent(testData);
+
+        final List<Record<Event>> grokkedRecords = (List<Record<Event>>) grokProcessor.doExecute(Collections.singletonList(record));
+
+        verifyNoInteractions(executorService);
+        assertThat(grokkedRecords.size(), equalTo(1));
+        assertRecordsAreEqual(grokkedRecords.get(0), record);
+        assertThat(grokkedRecords.get(0).getData().getMetadata().getTags(), hasItem(tagOnTimeout));
+        verify(grokProcessingTimeoutsCounter, times(1)).increment();
+        verifyNoInteractions(grokProcessingErrorsCounter, grokProcessingMatchCounter, grokProcessingMismatchCounter);
+    }
+
     @Test
     public void testPrepareForShutdown() {
         grokProcessor = createObjectUnderTest();
@@ -8,141 +8,180 @@ package org.opensearch.dataprepper.http.codec;
 import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.io.CountingOutputStream;
 import com.linecorp.armeria.common.HttpData;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 
 /**
  * JsonCodec parses the json array format HTTP data into List&lt;{@link String}&gt;.
- * TODO: replace output List&lt;String&gt; with List&lt;InternalModel&gt; type
+ * The request body is read with a single streaming parser which also validates that
+ * it is an array of JSON objects.
  */
 public class JsonCodec implements Codec<List<String>> {
     private static final ObjectMapper mapper = new ObjectMapper();
-    private static final TypeReference<List<Map<String, Object>>> LIST_OF_MAP_TYPE_REFERENCE =
-            new TypeReference<List<Map<String, Object>>>() {
-            };
-    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final JsonFactory JSON_FACTORY = mapper.getFactory();
 
 
     @Override
     public List<String> parse(final HttpData httpData) throws IOException {
         final List<String> jsonList = new ArrayList<>();
-        final List<Map<String, Object>> logList = mapper.readValue(httpData.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
-        for (final Map<String, Object> log : logList) {
-            final String recordString = mapper.writeValueAsString(log);
-            jsonList.add(recordString);
+        for (final JsonNode log : parseJsonNodes(httpData)) {
+            jsonList.add(mapper.writeValueAsString(log));
         }
 
         return jsonList;
     }
 
+    /**
+     * Parses the json array format HTTP data into one {@link JsonNode} per array element in a single pass.
+     *
+     * @param httpData The content of the original HTTP request
+     * @return the JSON object of each array element
+     * @throws IOException if the content is not a JSON array of JSON objects
+     * @since 2.17
+     */
+    public List<JsonNode> parseJsonNodes(final HttpData httpData) throws IOException {
+        final List<JsonNode> jsonNodes = new ArrayList<>();
+        try (final JsonParser jsonParser = createParser(httpData)) {
+            expectStartArray(jsonParser);
+            while (nextArrayElement(jsonParser)) {
+                jsonNodes.add(jsonParser.readValueAsTree());
+            }
+        }
+        return jsonNodes;
+    }
+
     @Override
     public void validate(final HttpData content) throws IOException {
-        mapper.readValue(content.toInputStream(),
-                LIST_OF_MAP_TYPE_REFERENCE);
+        try (final JsonParser jsonParser = createParser(content)) {
+            expectStartArray(jsonParser);
+            while (nextArrayElement(jsonParser)) {
+                jsonParser.skipChildren();
+            }
+        }
     }
 
     @Override
     public void serializeSplit(final HttpData content, final Consumer<String> serializedBodyConsumer, final int splitLength) throws IOException {
-        final InputStream contentInputStream = content.toInputStream();
+        if (splitLength < 0) {
+            throw new IllegalArgumentException("The split length must not be negative.");
+        }
         if (splitLength == 0) {
-            performSerialization(contentInputStream, serializedBodyConsumer, Integer.MAX_VALUE);
+            performSerialization(content, serializedBodyConsumer, Integer.MAX_VALUE);
         } else {
-            performSerialization(contentInputStream, serializedBodyConsumer, splitLength);
+            performSerialization(content, serializedBodyConsumer, splitLength);
         }
     }
 
 
-    private void performSerialization(final InputStream inputStream,
+    private void performSerialization(final HttpData content,
                                       final Consumer<String> serializedBodyConsumer,
                                       final int splitLength) throws IOException {
 
-        try (final JsonParser jsonParser = JSON_FACTORY.createParser(inputStream)) {
+        try (final JsonParser jsonParser = createParser(content)) {
             if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
                 throw new RuntimeException("Input is not a valid JSON array.");
             }
 
-            JsonArrayWriter jsonArrayWriter = new JsonArrayWriter(splitLength, serializedBodyConsumer);
-
-            while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
-                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-                final JsonGenerator objectJsonGenerator = JSON_FACTORY
-                        .createGenerator(outputStream, JsonEncoding.UTF8);
-                objectJsonGenerator.copyCurrentStructure(jsonParser);
-                objectJsonGenerator.close();
-
-
-                if (jsonArrayWriter.willExceedByWriting(outputStream)) {
-                    jsonArrayWriter.close();
-
-                    jsonArrayWriter = new JsonArrayWriter(splitLength, serializedBodyConsumer);
-
+            final JsonArrayWriter jsonArrayWriter = new JsonArrayWriter(splitLength, serializedBodyConsumer);
+            // A single generator writes every element into the same reusable buffer
+            final ByteArrayOutputStream elementOutputStream = new ByteArrayOutputStream();
+            try (final JsonGenerator elementGenerator = JSON_FACTORY.createGenerator(elementOutputStream, JsonEncoding.UTF8)) {
+                elementGenerator.setRootValueSeparator(null);
+                while (jsonParser.nextToken() != JsonToken.END_ARRAY) {
+                    elementOutputStream.reset();
+                    elementGenerator.copyCurrentStructure(jsonParser);
+                    elementGenerator.flush();
+
+                    if (jsonArrayWriter.willExceedByWriting(elementOutputStream)) {
+                        jsonArrayWriter.close();
+                    }
+                    jsonArrayWriter.write(elementOutputStream);
                 }
-                jsonArrayWriter.write(outputStream);
             }
 
             jsonArrayWriter.close();
         }
     }
 
+    private static JsonParser createParser(final HttpData httpData) throws IOException {
+        return JSON_FACTORY.createParser(httpData.toInputStream());
+    }
+
+    private static void expectStartArray(final JsonParser jsonParser) throws IOException {
+        final JsonToken token = jsonParser.nextToken();
+        if (token != JsonToken.START_ARRAY) {
+            throw new JsonParseException(jsonParser, "Expected a JSON array but found " + token + ".");
+        }
+    }
+
+    /**
+     * Moves the parser to the next element of the array.
+     *
+     * @return true if the parser is at the start of a JSON object, false at the end of the array
+     */
+    private static boolean nextArrayElement(final JsonParser jsonParser) throws IOException {
+        final JsonToken token = jsonParser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            return false;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new JsonParseException(jsonParser, "Expected a JSON object in the array but found " + token + ".");
+        }
+        return true;
+    }
+
 
+    /**
+     * Collects serialized array elements into one JSON array until writing another element would exceed the
+     * split length. The buffer is reused for every body.
+     */
     private static class JsonArrayWriter {
-        private static final JsonFactory JSON_FACTORY = new JsonFactory().setCodec(mapper);
         private static final int BUFFER_SIZE = 16 * 1024;
         private static final String NECESSARY_CHARACTERS_TO_WRITE = ",]";
-        private final CountingOutputStream countingOutputStream;
         private final ByteArrayOutputStream outputStream;
         private final int splitLength;
         private final Consumer<String> serializedBodyConsumer;
-        private final JsonGenerator generator;
         private boolean hasItem = false;
 
-        JsonArrayWriter(final int splitLength, final Consumer<String> serializedBodyConsumer) throws IOException {
+        JsonArrayWriter(final int splitLength, final Consumer<String> serializedBodyConsumer) {
             outputStream = new ByteArrayOutputStream(Math.min(splitLength, BUFFER_SIZE));
-            countingOutputStream = new CountingOutputStream(outputStream);
             this.splitLength = splitLength;
             this.serializedBodyConsumer = serializedBodyConsumer;
-            generator = JSON_FACTORY.createGenerator(countingOutputStream, JsonEncoding.UTF8);
-            generator.writeStartArray();
         }
 
         boolean willExceedByWriting(final ByteArrayOutputStream byteArrayOutputStream) {
+            if (!hasItem) {
+                return false;
+            }
             final int lengthToWrite = byteArrayOutputStream.size();
-            final long lengthOfDataWritten = countingOutputStream.getCount();
+            final long lengthOfDataWritten = outputStream.size();
             return lengthToWrite + lengthOfDataWritten + NECESSARY_CHARACTERS_TO_WRITE.length() > splitLength;
         }
 
         void write(final ByteArrayOutputStream individualJsonLine) throws IOException {
-            final String jsonLineString = individualJsonLine.toString(Charset.defaultCharset());
-            generator.writeRawValue(jsonLineString);
-            generator.flush();
+            outputStream.write(hasItem ? ',' : '[');
+            individualJsonLine.writeTo(outputStream);
             hasItem = true;
         }
 
-        void close() throws IOException {
+        void close() {
             if (hasItem) {
-                generator.writeEndArray();
-                generator.flush();
-                final String resultJson = outputStream.toString(Charset.defaultCharset());
-
-                serializedBodyConsumer.accept(resultJson);
+                outputStream.write(']');
+                serializedBodyConsumer.accept(outputStream.toString(StandardCharsets.UTF_8));
             }
-
-            generator.close();
-            outputStream.close();
+            outputStream.reset();
+            hasItem = false;
         }
     }
 }
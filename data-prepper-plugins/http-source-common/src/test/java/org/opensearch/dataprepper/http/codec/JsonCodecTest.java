@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.http.codec;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.HttpData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -213,6 +214,47 @@ class JsonCodecTest {
         }
     }
 
+    @Test
+    public void parseJsonNodes_returns_one_object_per_array_element() throws IOException {
+        final List<JsonNode> jsonNodes = objectUnderTest.parseJsonNodes(GOOD_LARGE_TEST_DATA);
+
+        assertThat(jsonNodes.size(), equalTo(5));
+        for (int i = 0; i < jsonNodes.size(); i++) {
+            assertThat(jsonNodes.get(i).isObject(), equalTo(true));
+            assertThat(jsonNodes.get(i).get("a" + (i + 1)).asText(), equalTo("b" + (i + 1)));
+        }
+    }
+
+    @Test
+    public void parseJsonNodes_keeps_nested_values() throws IOException {
+        final List<JsonNode> jsonNodes = objectUnderTest.parseJsonNodes(
+                HttpData.ofUtf8("[{\"a\":{\"b\":[1,2.5,\"c\"]},\"d\":null,\"e\":true}]"));
+
+        assertThat(jsonNodes.size(), equalTo(1));
+        assertThat(jsonNodes.get(0).get("a").get("b").size(), equalTo(3));
+        assertThat(jsonNodes.get(0).get("a").get("b").get(1).asDouble(), equalTo(2.5));
+        assertThat(jsonNodes.get(0).get("d").isNull(), equalTo(true));
+        assertThat(jsonNodes.get(0).get("e").asBoolean(), equalTo(true));
+    }
+
+    @Test
+    public void parseJsonNodes_with_empty_array_returns_empty_list() throws IOException {
+        assertThat(objectUnderTest.parseJsonNodes(HttpData.ofUtf8("[]")).size(), equalTo(0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[1]", "[\"a\"]", "[null]", "[[{\"a\":\"b\"}]]", "[{\"a\":\"b\"}, 2]"})
+    void parseJsonNodes_and_validate_with_array_elements_that_are_not_objects_should_throw(final String content) {
+        assertThrows(IOException.class, () -> objectUnderTest.parseJsonNodes(HttpData.ofUtf8(content)));
+        assertThrows(IOException.class, () -> objectUnderTest.validate(HttpData.ofUtf8(content)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[{\"a\":\"b\"}", "[{\"a\":}]", "{\"a\":\"b\"}", ""})
+    void parseJsonNodes_with_malformed_content_should_throw(final String content) {
+        assertThrows(IOException.class, () -> objectUnderTest.parseJsonNodes(HttpData.ofUtf8(content)));
+    }
+
     @Test
     public void testParseJsonLineFailure() {
         assertThrows(IOException.class, () -> objectUnderTest.parse(badTestDataJsonLine));
@@ -15,6 +15,7 @@ import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -34,6 +35,9 @@ public class LogHTTPServiceMeasure {
 
     @State(Scope.Benchmark)
     public static class BenchmarkState {
+        @Param({"true", "false"})
+        private boolean byteBuffer;
+
         private HttpData httpData;
         private Buffer buffer;
         private LogHTTPService logHTTPService;
@@ -46,7 +50,7 @@ public class LogHTTPServiceMeasure {
             httpData = HttpData.ofUtf8(new String(jsonContent));
 
             buffer = mock(Buffer.class, withSettings().stubOnly());
-            when(buffer.isByteBuffer()).thenReturn(true);
+            when(buffer.isByteBuffer()).thenReturn(byteBuffer);
             when(buffer.getMaxRequestSize()).thenReturn(Optional.of(512 * 1024));
             when(buffer.getOptimalRequestSize()).thenReturn(Optional.of(256 * 1024));
 
@@ -5,6 +5,7 @@
 
 package org.opensearch.dataprepper.plugins.source.loghttp;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.linecorp.armeria.common.AggregatedHttpRequest;
 import com.linecorp.armeria.common.HttpData;
 import com.linecorp.armeria.common.HttpResponse;
@@ -31,6 +32,9 @@ import java.util.List;
 import java.util.Collections;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /*
@@ -99,10 +103,27 @@ public class LogHTTPService {
             return HttpResponse.of(HttpStatus.REQUEST_TIMEOUT);
         }
 
-        return requestProcessDuration.recordCallable(() -> processRequest(aggregatedHttpRequest));
+        return processRequest(aggregatedHttpRequest);
     }
 
     HttpResponse processRequest(final AggregatedHttpRequest aggregatedHttpRequest) throws Exception {
+        final long startTime = System.nanoTime();
+        final CompletableFuture<HttpResponse> response;
+        try {
+            response = writeRequest(aggregatedHttpRequest);
+        } catch (final Exception e) {
+            recordProcessDuration(startTime);
+            throw e;
+        }
+        // The buffer may store the request after this returns, so the duration is recorded once it has
+        return HttpResponse.of(response.whenComplete((ignored, e) -> recordProcessDuration(startTime)));
+    }
+
+    private void recordProcessDuration(final long startTime) {
+        requestProcessDuration.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private CompletableFuture<HttpResponse> writeRequest(final AggregatedHttpRequest aggregatedHttpRequest) throws Exception {
         final HttpData content = aggregatedHttpRequest.content();
         final Map<String, Object> extractedHeaders = Collections.unmodifiableMap(httpHeaderExtractor.extractHeaders(aggregatedHttpRequest));
 
@@ -117,15 +138,20 @@ public class LogHTTPService {
                     throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
                 }
 
-                try {
-                    buffer.writeBytes(content.array(), null, bufferWriteTimeoutInMillis);
-                } catch (Exception e) {
-                    LOG.error("Failed to write the request of size {} due to: {}", content.length(), e.getMessage());
-                    throw e;
-                }
+                // Respond once the buffer has stored the request, without holding this thread until then
+                return buffer.writeBytesAsync(content.array(), null, bufferWriteTimeoutInMillis)
+                        .handle((ignored, e) -> {
+                            if (e != null) {
+                                final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                                LOG.error("Failed to write the request of size {} due to: {}", content.length(), cause.getMessage());
+                                throw new CompletionException(cause);
+                            }
+                            successRequestsCounter.increment();
+                            return HttpResponse.of(HttpStatus.OK);
+                        });
             }
         } else {
-            final List<String> jsonList;
+            final List<JsonNode> jsonList;
             final List<Record<Log>> records = new ArrayList<>();
 
             if (codec != null) {
@@ -140,7 +166,7 @@ public class LogHTTPService {
             } else {
 
                 try {
-                    jsonList = jsonCodec.parse(content);
+                    jsonList = jsonCodec.parseJsonNodes(content);
                 } catch (IOException e) {
                     LOG.error("Failed to parse the request of size {} due to: {}", content.length(), e.getMessage());
                     throw new IOException("Bad request data format. Needs to be json array.", e.getCause());
@@ -168,7 +194,7 @@ public class LogHTTPService {
         }
 
         successRequestsCounter.increment();
-        return HttpResponse.of(HttpStatus.OK);
+        return CompletableFuture.completedFuture(HttpResponse.of(HttpStatus.OK));
     }
 
     private void writeChunkedBody(final String chunk) {
@@ -190,9 +216,9 @@ public class LogHTTPService {
         }
     }
 
-    private Record<Log> buildRecordLog(final String json) {
+    private Record<Log> buildRecordLog(final JsonNode json) {
         final JacksonLog.Builder builder = JacksonLog.builder()
-                .withData(json)
+                .withJsonNode(json)
                 .getThis();
         return new Record<>(builder.build());
     }
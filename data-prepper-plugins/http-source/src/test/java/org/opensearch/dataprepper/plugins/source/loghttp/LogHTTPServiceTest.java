@@ -26,10 +26,8 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.mockito.stubbing.Answer;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.buffer.Buffer;
 import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
@@ -50,8 +48,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 
@@ -61,6 +60,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -117,14 +118,6 @@ class LogHTTPServiceTest {
         when(pluginMetrics.summary(LogHTTPService.PAYLOAD_SIZE)).thenReturn(payloadSizeSummary);
         when(pluginMetrics.timer(LogHTTPService.REQUEST_PROCESS_DURATION)).thenReturn(requestProcessDuration);
         lenient().when(serviceRequestContext.isTimedOut()).thenReturn(false);
-        lenient().when(requestProcessDuration.recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any())).thenAnswer(
-                (Answer<HttpResponse>) invocation -> {
-                    final Object[] args = invocation.getArguments();
-                    @SuppressWarnings("unchecked")
-                    final Callable<HttpResponse> callable = (Callable<HttpResponse>) args[0];
-                    return callable.call();
-                }
-        );
 
         Buffer<Record<Log>> blockingBuffer = new BlockingBuffer<>(TEST_BUFFER_CAPACITY, 8, "test-pipeline");
         logHTTPService = new LogHTTPService(TEST_TIMEOUT_IN_MILLIS, blockingBuffer, pluginMetrics, null);
@@ -145,7 +138,7 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(1)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
@@ -162,7 +155,7 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testBadRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(1)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
@@ -182,7 +175,7 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(1)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
@@ -199,7 +192,7 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(1)).record(payloadLengthCaptor.capture());
         assertEquals(testTooLargeRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(1)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
+        verify(requestProcessDuration, times(1)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Test
@@ -219,7 +212,7 @@ class LogHTTPServiceTest {
         final ArgumentCaptor<Double> payloadLengthCaptor = ArgumentCaptor.forClass(Double.class);
         verify(payloadSizeSummary, times(2)).record(payloadLengthCaptor.capture());
         assertEquals(timeoutRequest.content().length(), Math.round(payloadLengthCaptor.getValue()));
-        verify(requestProcessDuration, times(2)).recordCallable(ArgumentMatchers.<Callable<HttpResponse>>any());
+        verify(requestProcessDuration, times(2)).record(anyLong(), eq(TimeUnit.NANOSECONDS));
     }
 
     @Nested
@@ -235,6 +228,7 @@ class LogHTTPServiceTest {
             when(byteBuffer.isByteBuffer()).thenReturn(true);
             when(byteBuffer.getMaxRequestSize()).thenReturn(Optional.of(4 * 1024 * 1024));
             when(byteBuffer.getOptimalRequestSize()).thenReturn(Optional.of(1024 * 1024));
+            lenient().when(byteBuffer.writeBytesAsync(any(), any(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
 
             aggregatedHttpRequest = mock(AggregatedHttpRequest.class);
             httpData = mock(HttpData.class);
@@ -273,7 +267,7 @@ class LogHTTPServiceTest {
 
             when(aggregatedHttpRequest.content()).thenReturn(httpData);
             logHTTPService.processRequest(aggregatedHttpRequest);
-            verify(byteBuffer, times(1)).writeBytes(any(), (String) isNull(), eq(TEST_TIMEOUT_IN_MILLIS));
+            verify(byteBuffer, times(1)).writeBytesAsync(any(), (String) isNull(), eq(TEST_TIMEOUT_IN_MILLIS));
         }
 
         @Test
@@ -334,6 +328,7 @@ class LogHTTPServiceTest {
         void setUp() {
             byteBuffer = mock(Buffer.class);
             when(byteBuffer.isByteBuffer()).thenReturn(true);
+            lenient().when(byteBuffer.writeBytesAsync(any(), any(), anyInt())).thenReturn(CompletableFuture.completedFuture(null));
 
             aggregatedHttpRequest = mock(AggregatedHttpRequest.class);
             httpData = mock(HttpData.class);
@@ -374,7 +369,7 @@ class LogHTTPServiceTest {
             when(aggregatedHttpRequest.content()).thenReturn(httpData);
             logHTTPService.processRequest(aggregatedHttpRequest);
             ArgumentCaptor<byte[]> byteContentCaptor = ArgumentCaptor.forClass(byte[].class);
-            verify(byteBuffer).writeBytes(byteContentCaptor.capture(), isNull(), eq(TEST_TIMEOUT_IN_MILLIS));
+            verify(byteBuffer).writeBytesAsync(byteContentCaptor.capture(), isNull(), eq(TEST_TIMEOUT_IN_MILLIS));
 
             final byte[] actualBytesWritten = byteContentCaptor.getValue();
             assertThat(actualBytesWritten.length, equalTo(bytes.length));
@@ -393,12 +388,46 @@ class LogHTTPServiceTest {
             when(aggregatedHttpRequest.content()).thenReturn(httpData);
             logHTTPService.processRequest(aggregatedHttpRequest);
             ArgumentCaptor<byte[]> byteContentCaptor = ArgumentCaptor.forClass(byte[].class);
-            verify(byteBuffer).writeBytes(byteContentCaptor.capture(), isNull(), eq(TEST_TIMEOUT_IN_MILLIS));
+            verify(byteBuffer).writeBytesAsync(byteContentCaptor.capture(), isNull(), eq(TEST_TIMEOUT_IN_MILLIS));
 
             final byte[] actualBytesWritten = byteContentCaptor.getValue();
             assertThat(actualBytesWritten.length, equalTo(bytes.length));
             assertThat(actualBytesWritten, equalTo(bytes));
         }
+
+        @Test
+        void failed_write_fails_the_response() throws Exception {
+            String exampleString = "[" + testString + "]";
+            when(httpData.array()).thenReturn(exampleString.getBytes());
+            when(httpData.toInputStream()).thenReturn(new ByteArrayInputStream(exampleString.getBytes(StandardCharsets.UTF_8)));
+            when(aggregatedHttpRequest.content()).thenReturn(httpData);
+            final TimeoutException timeoutException = new TimeoutException();
+            when(byteBuffer.writeBytesAsync(any(), isNull(), eq(TEST_TIMEOUT_IN_MILLIS))).thenReturn(CompletableFuture.failedFuture(timeoutException));
+
+            final HttpResponse httpResponse = logHTTPService.processRequest(aggregatedHttpRequest);
+
+            final ExecutionException actualException = assertThrows(ExecutionException.class, () -> httpResponse.aggregate().get());
+            assertThat(actualException.getCause(), equalTo(timeoutException));
+            verify(requestProcessDuration).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        }
+
+        @Test
+        void request_process_duration_is_recorded_when_the_write_completes() throws Exception {
+            String exampleString = "[" + testString + "]";
+            when(httpData.array()).thenReturn(exampleString.getBytes());
+            when(httpData.toInputStream()).thenReturn(new ByteArrayInputStream(exampleString.getBytes(StandardCharsets.UTF_8)));
+            when(aggregatedHttpRequest.content()).thenReturn(httpData);
+            final CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+            when(byteBuffer.writeBytesAsync(any(), isNull(), eq(TEST_TIMEOUT_IN_MILLIS))).thenReturn(writeFuture);
+
+            final HttpResponse httpResponse = logHTTPService.processRequest(aggregatedHttpRequest);
+            verify(requestProcessDuration, never()).record(anyLong(), any(TimeUnit.class));
+
+            writeFuture.complete(null);
+
+            assertThat(httpResponse.aggregate().get().status(), equalTo(HttpStatus.OK));
+            verify(requestProcessDuration).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        }
     }
 
     
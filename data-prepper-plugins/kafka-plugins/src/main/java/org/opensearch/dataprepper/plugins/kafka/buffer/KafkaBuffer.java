@@ -49,8 +49,10 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -70,6 +72,7 @@ public class KafkaBuffer extends AbstractBuffer<Record<Event>> {
     private final AbstractBuffer<Record<Event>> innerBuffer;
     private final ExecutorService executorService;
     private final Duration drainTimeout;
+    private final Semaphore inFlightWrites;
 
     private final List<KafkaCustomConsumer> consumers;
     private AtomicBoolean shutdownInProgress;
@@ -111,6 +114,7 @@ public class KafkaBuffer extends AbstractBuffer<Record<Event>> {
         this.executorService = Executors.newFixedThreadPool(consumers.size(), KafkaPluginThreadFactory.defaultExecutorThreadFactory(MDC_KAFKA_PLUGIN_VALUE));
         consumers.forEach(this.executorService::submit);
         this.drainTimeout = kafkaBufferConfig.getDrainTimeout();
+        this.inFlightWrites = kafkaBufferConfig.getMaxInFlightWrites() > 0 ? new Semaphore(kafkaBufferConfig.getMaxInFlightWrites()) : null;
     }
 
     @Override
@@ -145,6 +149,40 @@ public class KafkaBuffer extends AbstractBuffer<Record<Event>> {
         }
     }
 
+    @Override
+    public CompletableFuture<Void> doWriteBytesAsync(final byte[] bytes, final String key, final int timeoutInMillis) throws Exception {
+        if (inFlightWrites == null) {
+            return super.doWriteBytesAsync(bytes, key, timeoutInMillis);
+        }
+        // Bounding the writes waiting for the broker applies back pressure to the source
+        if (!inFlightWrites.tryAcquire(timeoutInMillis, TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("Timed out waiting for in-flight writes to the Kafka buffer to complete.");
+        }
+        final CompletableFuture<Void> produceFuture;
+        try {
+            setMdc();
+            produceFuture = producer.produceRawDataAsync(bytes, key);
+        } catch (final RuntimeException e) {
+            inFlightWrites.release();
+            throw e;
+        } finally {
+            resetMdc();
+        }
+
+        final CompletableFuture<Void> writeFuture = new CompletableFuture<>();
+        produceFuture.whenComplete((ignored, e) -> {
+            inFlightWrites.release();
+            if (e == null) {
+                writeFuture.complete(null);
+            } else if (e instanceof RecordTooLargeException || e instanceof RecordBatchTooLargeException) {
+                writeFuture.completeExceptionally(new SizeOverflowException(e.getMessage()));
+            } else {
+                writeFuture.completeExceptionally(e);
+            }
+        });
+        return writeFuture;
+    }
+
     @Override
     public void doWrite(Record<Event> record, int timeoutInMillis) throws TimeoutException {
         try {
@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.kafka.buffer;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import org.opensearch.dataprepper.model.configuration.PluginModel;
@@ -66,6 +67,10 @@ class KafkaBufferConfig implements KafkaProducerConfig, KafkaConsumerConfig {
     @JsonProperty("custom_metric_prefix")
     private String customMetricPrefix;
 
+    @JsonProperty("max_in_flight_writes")
+    @Min(0)
+    private int maxInFlightWrites = 0;
+
     public List<String> getBootstrapServers() {
         if (Objects.nonNull(bootstrapServers)) {
             return bootstrapServers;
@@ -163,4 +168,14 @@ class KafkaBufferConfig implements KafkaProducerConfig, KafkaConsumerConfig {
         return Optional.ofNullable(customMetricPrefix);
     }
 
+    /**
+     * The number of byte writes which may wait for the broker at the same time. With 0, each write waits for
+     * the broker before returning.
+     *
+     * @return The maximum number of in-flight writes
+     */
+    public int getMaxInFlightWrites() {
+        return maxInFlightWrites;
+    }
+
 }
@@ -14,6 +14,7 @@ import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.commons.lang3.Range;
@@ -74,6 +75,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private static final Logger LOG = LoggerFactory.getLogger(KafkaCustomConsumer.class);
     private static final Long COMMIT_OFFSET_INTERVAL_MS = 300000L;
     private static final int RETRY_ON_EXCEPTION_SLEEP_MS = 1000;
+    static final long MAX_THROTTLE_MS = 1000;
     static final Duration INITIAL_BACKOFF = Duration.ofSeconds(10);
     static final Duration MAX_BACKOFF = Duration.ofMinutes(10);
     private static final int BUFFER_WRITE_TIMEOUT = 2000;
@@ -89,6 +91,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private final Buffer<Record<Event>> buffer;
     private static final ObjectMapper objectMapper = new ObjectMapper();
     private final JsonFactory jsonFactory = new JsonFactory();
+    private final RecordValueConverter recordValueConverter = new RecordValueConverter();
     private Map<TopicPartition, OffsetAndMetadata> offsetsToCommit;
     private Map<TopicPartition, Long> ownedPartitionsEpoch;
     private Set<TopicPartition> partitionsToReset;
@@ -229,6 +232,19 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
             return records;
     }
 
+    /**
+     * Waits before the next poll in proportion to the pressure of the {@link PauseConsumePredicate},
+     * so that consumption slows down gradually before it has to pause.
+     */
+    void throttleConsuming() throws InterruptedException {
+        final double pressure = pauseConsumePredicate.getPressure();
+        if (pressure > 0.0) {
+            final long throttleMs = (long) (Math.min(pressure, 1.0) * MAX_THROTTLE_MS);
+            LOG.debug("Throttle consuming from Kafka topic for {} ms due to an external condition: {}", throttleMs, pauseConsumePredicate);
+            Thread.sleep(throttleMs);
+        }
+    }
+
     <T> void consumeRecords() throws Exception {
         try {
             ConsumerRecords<String, T> records = doPoll();
@@ -432,6 +448,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
                     paused = false;
                     consumer.resume(consumer.assignment());
                 }
+                throttleConsuming();
                 LOG.debug("Still running Kafka consumer preparing to commit offsets and consume records");
                 synchronized(this) {
                     commitOffsets(false);
@@ -459,6 +476,7 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
     private <T> Record<Event> getRecord(ConsumerRecord<String, T> consumerRecord, int partition) {
         Instant now = Instant.now();
         Map<String, Object> data = new HashMap<>();
+        ObjectNode jsonData = null;
         Event event;
         Object value = consumerRecord.value();
         String key = (String)consumerRecord.key();
@@ -467,21 +485,32 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
         try {
             if (value instanceof JsonDataWithSchema) {
                 JsonDataWithSchema j = (JsonDataWithSchema)consumerRecord.value();
-                value = objectMapper.readValue(j.getPayload(), Map.class);
-            } else if (schema == MessageFormat.AVRO || value instanceof GenericRecord) {
+                final JsonNode payload = objectMapper.readTree(j.getPayload());
+                jsonData = RecordValueConverter.toObjectNode(payload);
+                value = jsonData != null ? null : payload;
+            } else if (value instanceof GenericRecord) {
+                jsonData = recordValueConverter.convertRecord((GenericRecord) value);
+            } else if (schema == MessageFormat.AVRO) {
                 final JsonParser jsonParser = jsonFactory.createParser((String)consumerRecord.value().toString());
                 value = objectMapper.readValue(jsonParser, Map.class);
             } else if (schema == MessageFormat.PLAINTEXT) {
                 value = (String)consumerRecord.value();
                 plainTextMode = true;
             } else if (schema == MessageFormat.JSON) {
-                value = objectMapper.convertValue(value, Map.class);
+                jsonData = RecordValueConverter.toObjectNode(value);
+                if (jsonData == null) {
+                    value = objectMapper.convertValue(value, Map.class);
+                }
             }
         } catch (Exception e){
             LOG.error("Failed to parse JSON or AVRO record", e);
             topicMetrics.getNumberOfRecordsFailedToParse().increment();
         }
-        if (!plainTextMode) {
+        if (jsonData != null) {
+            if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_FIELD) {
+                jsonData.put("kafka_key", key);
+            }
+        } else if (!plainTextMode) {
             if (!(value instanceof Map)) {
                 data.put(key, value);
             } else {
@@ -497,7 +526,9 @@ public class KafkaCustomConsumer implements Runnable, ConsumerRebalanceListener
             }
             data.put(key, value);
         }
-        event = JacksonLog.builder().withData(data).build();
+        event = jsonData != null
+                ? JacksonLog.builder().withJsonNode(jsonData).build()
+                : JacksonLog.builder().withData(data).build();
         EventMetadata eventMetadata = event.getMetadata();
         if (kafkaKeyMode == KafkaKeyMode.INCLUDE_AS_METADATA) {
             eventMetadata.setAttribute("kafka_key", key);
@@ -20,6 +20,15 @@ public interface PauseConsumePredicate {
      */
     boolean pauseConsuming();
 
+    /**
+     * Returns how much the consumer should slow down while it is not paused.
+     *
+     * @return A value from 0.0, to consume at full rate, to 1.0, to consume at the lowest rate.
+     */
+    default double getPressure() {
+        return 0.0;
+    }
+
     /**
      * Returns a {@link PauseConsumePredicate} from a {@link CircuitBreaker}. This value may
      * be null, in which case, it will not pause.
@@ -36,6 +45,11 @@ public interface PauseConsumePredicate {
                 return circuitBreaker.isOpen();
             }
 
+            @Override
+            public double getPressure() {
+                return circuitBreaker.getPressure();
+            }
+
             @Override
             public String toString() {
                 return "Circuit Breaker";
@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericFixed;
+import org.apache.avro.generic.GenericRecord;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Converts Kafka record values straight into the JSON tree of an event. Avro records are walked along their
+ * schema instead of being printed as JSON and parsed again. The values are the same as those of
+ * {@link GenericRecord#toString()}, except that fixed values are strings like bytes values.
+ */
+class RecordValueConverter {
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    /**
+     * The deserializers share one {@link Schema} instance per registry schema id, so this holds one plan per id.
+     */
+    private final Map<Schema, RecordPlan> recordPlans = new ConcurrentHashMap<>();
+
+    /**
+     * Converts an Avro record into a JSON object.
+     *
+     * @param record The Avro record
+     * @return The JSON object
+     */
+    ObjectNode convertRecord(final GenericRecord record) {
+        final RecordPlan plan = recordPlans.computeIfAbsent(record.getSchema(), this::createRecordPlan);
+        final ObjectNode objectNode = NODE_FACTORY.objectNode();
+        for (int i = 0; i < plan.fieldNames.length; i++) {
+            objectNode.set(plan.fieldNames[i], plan.fieldConverters[i].convert(record.get(i)));
+        }
+        return objectNode;
+    }
+
+    /**
+     * Gets the JSON object of a JSON record value.
+     *
+     * @param value The value deserialized from a JSON record
+     * @return The JSON object, or null if the value is not a JSON object
+     */
+    static ObjectNode toObjectNode(final Object value) {
+        if (value instanceof ObjectNode) {
+            // Each Kafka record is deserialized into a new tree, so the event can take ownership of it
+            return (ObjectNode) value;
+        }
+        return null;
+    }
+
+    private RecordPlan createRecordPlan(final Schema schema) {
+        final List<Schema.Field> fields = schema.getFields();
+        final String[] fieldNames = new String[fields.size()];
+        final ValueConverter[] fieldConverters = new ValueConverter[fields.size()];
+        for (final Schema.Field field : fields) {
+            fieldNames[field.pos()] = field.name();
+            fieldConverters[field.pos()] = createValueConverter(field.schema());
+        }
+        return new RecordPlan(fieldNames, fieldConverters);
+    }
+
+    private ValueConverter createValueConverter(final Schema schema) {
+        switch (schema.getType()) {
+            case RECORD:
+                // Resolved per value so that recursive schemas do not recurse while planning
+                return value -> value == null ? NODE_FACTORY.nullNode() : convertRecord((GenericRecord) value);
+            case STRING:
+            case ENUM:
+                return value -> value == null ? NODE_FACTORY.nullNode() : NODE_FACTORY.textNode(value.toString());
+            case INT:
+                return value -> value instanceof Integer ? NODE_FACTORY.numberNode((Integer) value) : convertValue(value);
+            case LONG:
+                return value -> value instanceof Long ? NODE_FACTORY.numberNode((Long) value) : convertValue(value);
+            case BOOLEAN:
+                return value -> value instanceof Boolean ? NODE_FACTORY.booleanNode((Boolean) value) : convertValue(value);
+            case ARRAY:
+                final ValueConverter elementConverter = createValueConverter(schema.getElementType());
+                return value -> {
+                    if (!(value instanceof Collection)) {
+                        return convertValue(value);
+                    }
+                    final ArrayNode arrayNode = NODE_FACTORY.arrayNode(((Collection<?>) value).size());
+                    for (final Object element : (Collection<?>) value) {
+                        arrayNode.add(elementConverter.convert(element));
+                    }
+                    return arrayNode;
+                };
+            case MAP:
+                final ValueConverter mapValueConverter = createValueConverter(schema.getValueType());
+                return value -> {
+                    if (!(value instanceof Map)) {
+                        return convertValue(value);
+                    }
+                    final ObjectNode objectNode = NODE_FACTORY.objectNode();
+                    for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                        objectNode.set(entry.getKey().toString(), mapValueConverter.convert(entry.getValue()));
+                    }
+                    return objectNode;
+                };
+            case NULL:
+                return value -> NODE_FACTORY.nullNode();
+            default:
+                // Unions, floating point numbers, bytes, fixed and logical types depend on the runtime value
+                return this::convertValue;
+        }
+    }
+
+    private JsonNode convertValue(final Object value) {
+        if (value == null) {
+            return NODE_FACTORY.nullNode();
+        } else if (value instanceof GenericRecord) {
+            return convertRecord((GenericRecord) value);
+        } else if (value instanceof CharSequence) {
+            return NODE_FACTORY.textNode(value.toString());
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return NODE_FACTORY.numberNode(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            return NODE_FACTORY.numberNode((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            final double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue)) {
+                return NODE_FACTORY.textNode(value.toString());
+            }
+            return value instanceof Float ? NODE_FACTORY.numberNode((Float) value) : NODE_FACTORY.numberNode(doubleValue);
+        } else if (value instanceof BigDecimal) {
+            return NODE_FACTORY.numberNode((BigDecimal) value);
+        } else if (value instanceof BigInteger) {
+            return NODE_FACTORY.numberNode((BigInteger) value);
+        } else if (value instanceof Boolean) {
+            return NODE_FACTORY.booleanNode((Boolean) value);
+        } else if (value instanceof ByteBuffer) {
+            return NODE_FACTORY.textNode(StandardCharsets.ISO_8859_1.decode(((ByteBuffer) value).duplicate()).toString());
+        } else if (value instanceof GenericFixed) {
+            return NODE_FACTORY.textNode(new String(((GenericFixed) value).bytes(), StandardCharsets.ISO_8859_1));
+        } else if (value instanceof Collection) {
+            final ArrayNode arrayNode = NODE_FACTORY.arrayNode(((Collection<?>) value).size());
+            for (final Object element : (Collection<?>) value) {
+                arrayNode.add(convertValue(element));
+            }
+            return arrayNode;
+        } else if (value instanceof Map) {
+            final ObjectNode objectNode = NODE_FACTORY.objectNode();
+            for (final Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                objectNode.set(entry.getKey().toString(), convertValue(entry.getValue()));
+            }
+            return objectNode;
+        }
+        // Enum symbols and logical type values such as dates
+        return NODE_FACTORY.textNode(value.toString());
+    }
+
+    @FunctionalInterface
+    private interface ValueConverter {
+        JsonNode convert(Object value);
+    }
+
+    private static class RecordPlan {
+        private final String[] fieldNames;
+        private final ValueConverter[] fieldConverters;
+
+        private RecordPlan(final String[] fieldNames, final ValueConverter[] fieldConverters) {
+            this.fieldNames = fieldNames;
+            this.fieldConverters = fieldConverters;
+        }
+    }
+}
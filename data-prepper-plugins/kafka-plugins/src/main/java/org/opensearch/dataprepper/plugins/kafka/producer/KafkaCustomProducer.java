@@ -42,6 +42,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
@@ -55,6 +56,10 @@ public class KafkaCustomProducer<T> {
 
     private static final Logger LOG = LoggerFactory.getLogger(KafkaCustomProducer.class);
 
+    private static final int MAX_POOLED_COMPRESSION_BUFFER_SIZE = 16 * 1024 * 1024;
+
+    private static final ThreadLocal<ByteArrayOutputStream> COMPRESSION_BUFFERS = ThreadLocal.withInitial(ByteArrayOutputStream::new);
+
     private final KafkaProducer<String, T> producer;
 
     private final KafkaProducerConfig kafkaProducerConfig;
@@ -120,13 +125,10 @@ public class KafkaCustomProducer<T> {
     public void produceRawData(final byte[] bytes, final String key) throws Exception{
         try {
             long startPreparationTime = System.currentTimeMillis();
-            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
-            OutputStream compressedOutputStream = compressionConfig.getCompressionEngine().createOutputStream(byteArrayOutputStream);
-            compressedOutputStream.write(bytes);
-            compressedOutputStream.close();
+            final byte[] compressedBytes = compress(bytes);
 
             topicMetrics.getProduceDataPreparationTimer().record(System.currentTimeMillis() - startPreparationTime, TimeUnit.MILLISECONDS);
-            send(topicName, key, byteArrayOutputStream.toByteArray()).get();
+            send(topicName, key, compressedBytes).get();
 
             topicMetrics.update(producer);
         } catch (Exception e) {
@@ -136,6 +138,56 @@ public class KafkaCustomProducer<T> {
         }
     }
 
+    /**
+     * Produces raw data without waiting for the broker to acknowledge it.
+     *
+     * @param bytes The data
+     * @param key The record key
+     * @return A future which completes when the broker acknowledges the data, or exceptionally if it cannot be produced
+     */
+    public CompletableFuture<Void> produceRawDataAsync(final byte[] bytes, final String key) {
+        final CompletableFuture<Void> produceFuture = new CompletableFuture<>();
+        try {
+            long startPreparationTime = System.currentTimeMillis();
+            final byte[] compressedBytes = compress(bytes);
+
+            topicMetrics.getProduceDataPreparationTimer().record(System.currentTimeMillis() - startPreparationTime, TimeUnit.MILLISECONDS);
+            producer.send(createProducerRecord(topicName, key, compressedBytes), (metadata, exception) -> {
+                if (exception != null) {
+                    topicMetrics.getNumberOfRawDataSendErrors().increment();
+                    LOG.error("Error occurred while publishing raw data", exception);
+                    produceFuture.completeExceptionally(exception);
+                } else {
+                    produceFuture.complete(null);
+                }
+            });
+
+            topicMetrics.update(producer);
+        } catch (Exception e) {
+            topicMetrics.getNumberOfRawDataSendErrors().increment();
+            LOG.error("Error occurred while publishing raw data", e);
+            produceFuture.completeExceptionally(e);
+        }
+        return produceFuture;
+    }
+
+    private byte[] compress(final byte[] bytes) throws IOException {
+        if (compressionConfig == CompressionOption.NONE) {
+            return bytes;
+        }
+        ByteArrayOutputStream byteArrayOutputStream = COMPRESSION_BUFFERS.get();
+        if (byteArrayOutputStream.size() > MAX_POOLED_COMPRESSION_BUFFER_SIZE) {
+            // Do not keep a buffer around which grew for an unusually large request
+            byteArrayOutputStream = new ByteArrayOutputStream();
+            COMPRESSION_BUFFERS.set(byteArrayOutputStream);
+        }
+        byteArrayOutputStream.reset();
+        try (OutputStream compressedOutputStream = compressionConfig.getCompressionEngine().createOutputStream(byteArrayOutputStream)) {
+            compressedOutputStream.write(bytes);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
     public Integer getMaxRequestSize() {
         KafkaProducerProperties producerProperties = kafkaProducerConfig.getKafkaProducerProperties();
         if (producerProperties != null) {
@@ -210,11 +262,13 @@ public class KafkaCustomProducer<T> {
     }
 
     Future send(final String topicName, String key, final Object record) throws Exception {
-        ProducerRecord producerRecord = Objects.isNull(key) ?
+        return producer.send(createProducerRecord(topicName, key, record), callBack(record));
+    }
+
+    private static ProducerRecord createProducerRecord(final String topicName, final String key, final Object record) {
+        return Objects.isNull(key) ?
             new ProducerRecord(topicName, record) :
             new ProducerRecord(topicName, key, record);
-
-        return producer.send(producerRecord, callBack(record));
     }
 
     private void publishJsonMessage(final Record<Event> record, final String key) throws IOException, ProcessingException, Exception {
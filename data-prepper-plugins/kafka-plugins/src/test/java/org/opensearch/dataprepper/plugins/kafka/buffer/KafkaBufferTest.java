@@ -9,6 +9,7 @@
 
 package org.opensearch.dataprepper.plugins.kafka.buffer;
 
+import org.apache.kafka.common.errors.RecordTooLargeException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -23,6 +24,7 @@ import org.mockito.quality.Strictness;
 import org.opensearch.dataprepper.aws.api.AwsCredentialsSupplier;
 import org.opensearch.dataprepper.model.CheckpointState;
 import org.opensearch.dataprepper.model.acknowledgements.AcknowledgementSetManager;
+import org.opensearch.dataprepper.model.buffer.SizeOverflowException;
 import org.opensearch.dataprepper.model.breaker.CircuitBreaker;
 import org.opensearch.dataprepper.model.configuration.PluginSetting;
 import org.opensearch.dataprepper.model.event.Event;
@@ -55,6 +57,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.FutureTask;
@@ -63,6 +67,7 @@ import java.util.concurrent.TimeoutException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -75,6 +80,7 @@ import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -238,6 +244,54 @@ class KafkaBufferTest {
         assertThrows(RuntimeException.class, () -> kafkaBuffer.doWrite(record, 10000));
     }
 
+    @Test
+    void doWriteBytesAsync_without_max_in_flight_writes_waits_for_producer() throws Exception {
+        kafkaBuffer = createObjectUnderTest();
+        final byte[] bytes = UUID.randomUUID().toString().getBytes();
+        final String key = UUID.randomUUID().toString();
+
+        final CompletableFuture<Void> writeFuture = kafkaBuffer.doWriteBytesAsync(bytes, key, 100);
+
+        assertThat(writeFuture.isDone(), equalTo(true));
+        verify(producer).produceRawData(bytes, key);
+        verify(producer, never()).produceRawDataAsync(any(), any());
+    }
+
+    @Test
+    void doWriteBytesAsync_with_max_in_flight_writes_completes_when_producer_completes() throws Exception {
+        when(bufferConfig.getMaxInFlightWrites()).thenReturn(1);
+        final CompletableFuture<Void> produceFuture = new CompletableFuture<>();
+        final byte[] bytes = UUID.randomUUID().toString().getBytes();
+        final String key = UUID.randomUUID().toString();
+        when(producer.produceRawDataAsync(bytes, key)).thenReturn(produceFuture);
+        kafkaBuffer = createObjectUnderTest();
+
+        final CompletableFuture<Void> writeFuture = kafkaBuffer.doWriteBytesAsync(bytes, key, 100);
+
+        assertThat(writeFuture.isDone(), equalTo(false));
+        assertThrows(TimeoutException.class, () -> kafkaBuffer.doWriteBytesAsync(bytes, key, 10));
+
+        produceFuture.complete(null);
+
+        assertThat(writeFuture.isDone(), equalTo(true));
+        assertThat(writeFuture.isCompletedExceptionally(), equalTo(false));
+        kafkaBuffer.doWriteBytesAsync(bytes, key, 10);
+        verify(producer, never()).produceRawData(any(), any());
+    }
+
+    @Test
+    void doWriteBytesAsync_with_max_in_flight_writes_fails_with_SizeOverflowException_for_large_records() throws Exception {
+        when(bufferConfig.getMaxInFlightWrites()).thenReturn(1);
+        when(producer.produceRawDataAsync(any(), any())).thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException()));
+        kafkaBuffer = createObjectUnderTest();
+
+        final CompletableFuture<Void> writeFuture = kafkaBuffer.doWriteBytesAsync(new byte[] {}, null, 100);
+
+        final ExecutionException actualException = assertThrows(ExecutionException.class, writeFuture::get);
+        assertThat(actualException.getCause(), instanceOf(SizeOverflowException.class));
+        kafkaBuffer.doWriteBytesAsync(new byte[] {}, null, 10);
+    }
+
     @Test
     void test_kafkaBuffer_doWriteAll() throws Exception {
         kafkaBuffer = createObjectUnderTest();
@@ -52,6 +52,23 @@ class PauseConsumePredicateTest {
         assertThat(pauseConsumePredicate.pauseConsuming(), equalTo(isOpen));
     }
 
+    @Test
+    void noPause_returns_predicate_with_getPressure_returning_zero() {
+        assertThat(PauseConsumePredicate.noPause().getPressure(), equalTo(0.0));
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0.0, 0.5, 1.0})
+    void circuitBreakingPredicate_with_a_circuit_breaker_returns_predicate_with_getPressure_returning_value_of_getPressure(final double pressure) {
+        final CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
+
+        final PauseConsumePredicate pauseConsumePredicate = PauseConsumePredicate.circuitBreakingPredicate(circuitBreaker);
+
+        when(circuitBreaker.getPressure()).thenReturn(pressure);
+
+        assertThat(pauseConsumePredicate.getPressure(), equalTo(pressure));
+    }
+
     @Test
     void circuitBreakingPredicate_with_a_circuit_breaker_returns_predicate_with_toString() {
         final CircuitBreaker circuitBreaker = mock(CircuitBreaker.class);
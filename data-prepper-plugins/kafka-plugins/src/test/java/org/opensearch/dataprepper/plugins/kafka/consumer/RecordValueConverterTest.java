@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ */
+
+package org.opensearch.dataprepper.plugins.kafka.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.util.Utf8;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+class RecordValueConverterTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final Schema SCHEMA = new Schema.Parser().parse("{" +
+            "\"type\": \"record\", \"name\": \"Order\", \"fields\": [" +
+            "{\"name\": \"id\", \"type\": \"string\"}," +
+            "{\"name\": \"quantity\", \"type\": \"int\"}," +
+            "{\"name\": \"total\", \"type\": \"long\"}," +
+            "{\"name\": \"price\", \"type\": \"double\"}," +
+            "{\"name\": \"ratio\", \"type\": \"float\"}," +
+            "{\"name\": \"paid\", \"type\": \"boolean\"}," +
+            "{\"name\": \"note\", \"type\": [\"null\", \"string\"]}," +
+            "{\"name\": \"status\", \"type\": {\"type\": \"enum\", \"name\": \"Status\", \"symbols\": [\"NEW\", \"DONE\"]}}," +
+            "{\"name\": \"tags\", \"type\": {\"type\": \"array\", \"items\": \"string\"}}," +
+            "{\"name\": \"attributes\", \"type\": {\"type\": \"map\", \"values\": \"long\"}}," +
+            "{\"name\": \"payload\", \"type\": \"bytes\"}," +
+            "{\"name\": \"parent\", \"type\": [\"null\", \"Order\"]}" +
+            "]}");
+
+    private static GenericRecord createRecord(final String id, final GenericRecord parent) {
+        final GenericRecord record = new GenericData.Record(SCHEMA);
+        record.put("id", new Utf8(id));
+        record.put("quantity", 3);
+        record.put("total", 1234567890123L);
+        record.put("price", 9.5);
+        record.put("ratio", Float.NaN);
+        record.put("paid", true);
+        record.put("note", null);
+        record.put("status", new GenericData.EnumSymbol(SCHEMA.getField("status").schema(), "DONE"));
+        record.put("tags", new GenericData.Array<>(SCHEMA.getField("tags").schema(), List.of(new Utf8("a"), new Utf8("b"))));
+        record.put("attributes", Map.of(new Utf8("count"), 7L));
+        record.put("payload", ByteBuffer.wrap("raw".getBytes(StandardCharsets.UTF_8)));
+        record.put("parent", parent);
+        return record;
+    }
+
+    @Test
+    void convertRecord_matches_json_of_record_string() throws Exception {
+        final GenericRecord record = createRecord("child", createRecord("parent", null));
+
+        final ObjectNode objectNode = new RecordValueConverter().convertRecord(record);
+
+        assertThat(objectNode, equalTo(OBJECT_MAPPER.readTree(record.toString())));
+    }
+
+    @Test
+    void convertRecord_reuses_plan_for_records_of_same_schema() throws Exception {
+        final RecordValueConverter objectUnderTest = new RecordValueConverter();
+        final GenericRecord first = createRecord("first", null);
+        final GenericRecord second = createRecord("second", null);
+
+        assertThat(objectUnderTest.convertRecord(first), equalTo(OBJECT_MAPPER.readTree(first.toString())));
+        assertThat(objectUnderTest.convertRecord(second), equalTo(OBJECT_MAPPER.readTree(second.toString())));
+    }
+
+    @Test
+    void toObjectNode_returns_json_objects_without_copying() {
+        final ObjectNode objectNode = OBJECT_MAPPER.createObjectNode().put("key", "value");
+
+        assertThat(RecordValueConverter.toObjectNode(objectNode), sameInstance(objectNode));
+        assertThat(RecordValueConverter.toObjectNode(OBJECT_MAPPER.createArrayNode()), nullValue());
+        assertThat(RecordValueConverter.toObjectNode(Map.of("key", "value")), nullValue());
+    }
+}
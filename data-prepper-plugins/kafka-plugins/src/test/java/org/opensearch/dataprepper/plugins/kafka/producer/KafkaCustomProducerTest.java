@@ -39,11 +39,14 @@ import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
@@ -129,6 +132,34 @@ public class KafkaCustomProducerTest {
         verifyNoInteractions(numberOfRecordSendErrors);
     }
 
+    @Test
+    public void produceRawDataAsync_completes_from_producer_callback() throws Exception {
+        when(kafkaTopicProducerMetrics.getProduceDataPreparationTimer()).thenReturn(mock(Timer.class));
+        when(kafkaTopicProducerMetrics.getNumberOfRawDataSendErrors()).thenReturn(numberOfRawDataSendErrors);
+        when(kafkaSinkConfig.getSerdeFormat()).thenReturn("plaintext");
+        KafkaProducer kafkaProducer = mock(KafkaProducer.class);
+        producer = new KafkaCustomProducer(kafkaProducer, kafkaSinkConfig, dlqSink, mock(ExpressionEvaluator.class),
+                null, kafkaTopicProducerMetrics, schemaService);
+        final String key = UUID.randomUUID().toString();
+        final byte[] byteData = record.getData().toJsonString().getBytes();
+
+        final CompletableFuture<Void> produceFuture = producer.produceRawDataAsync(byteData, key);
+
+        final ArgumentCaptor<ProducerRecord> recordArgumentCaptor = ArgumentCaptor.forClass(ProducerRecord.class);
+        final ArgumentCaptor<Callback> callbackArgumentCaptor = ArgumentCaptor.forClass(Callback.class);
+        verify(kafkaProducer).send(recordArgumentCaptor.capture(), callbackArgumentCaptor.capture());
+        assertArrayEquals((byte[]) recordArgumentCaptor.getValue().value(), byteData);
+        assertEquals(recordArgumentCaptor.getValue().key(), key);
+        assertFalse(produceFuture.isDone());
+
+        final KafkaException exception = new KafkaException();
+        callbackArgumentCaptor.getValue().onCompletion(null, exception);
+
+        final ExecutionException actualException = assertThrows(ExecutionException.class, produceFuture::get);
+        assertEquals(actualException.getCause(), exception);
+        verify(numberOfRawDataSendErrors).increment();
+    }
+
     @Test
     public void produceRawData_sendError() throws Exception {
         when(kafkaTopicProducerMetrics.getProduceDataPreparationTimer()).thenReturn(mock(Timer.class));
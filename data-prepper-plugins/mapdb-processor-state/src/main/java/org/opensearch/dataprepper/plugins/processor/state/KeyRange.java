@@ -0,0 +1,44 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import java.math.BigInteger;
+
+/**
+ * A range of keys, from {@link #low} inclusive to {@link #high} exclusive, which covers one segment of a processor state.
+ */
+class KeyRange {
+    final byte[] low;
+    final byte[] high;
+
+    private KeyRange(final byte[] low, final byte[] high) {
+        this.low = low;
+        this.high = high;
+    }
+
+    /**
+     * Gets iteration endpoints by taking the lowest and highest key and splitting the keyrange into segments.
+     * These endpoints are an approximation of segments, and segments are guaranteed to cover the entire key range,
+     * but there is no guarantee that all segments contain an equal number of elements.
+     *
+     * @param firstKey The lowest key in the state
+     * @param lastKey  The highest key in the state
+     * @param segments Number of segments
+     * @param index    Index to find segment endpoints for
+     * @return KeyRange containing the two endpoints
+     */
+    static KeyRange forSegment(final byte[] firstKey, final byte[] lastKey, final int segments, final int index) {
+        final BigInteger lowEnd = new BigInteger(firstKey);
+        final BigInteger highEnd = new BigInteger(lastKey);
+        final BigInteger step = highEnd.subtract(lowEnd).divide(new BigInteger(String.valueOf(segments)));
+        final byte[] lowIndex = lowEnd.add(step.multiply(new BigInteger(String.valueOf(index)))).toByteArray();
+        final byte[] highIndex =
+                index == segments - 1 ?
+                        highEnd.add(new BigInteger("1")).toByteArray() :
+                        lowEnd.add(step.multiply(new BigInteger(String.valueOf(index + 1)))).toByteArray();
+        return new KeyRange(lowIndex, highIndex);
+    }
+}
@@ -5,7 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor.state;
 
-import org.opensearch.dataprepper.processor.state.ProcessorState;
 import com.google.common.primitives.SignedBytes;
 import org.mapdb.BTreeMap;
 import org.mapdb.DBMaker;
@@ -13,7 +12,6 @@ import org.mapdb.Serializer;
 import org.mapdb.serializer.SerializerByteArray;
 
 import java.io.File;
-import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -21,7 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.BiFunction;
 
-public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
+public class MapDbProcessorState<V> implements SegmentedProcessorState<V> {
 
 
     private static class SignedByteArraySerializer extends SerializerByteArray {
@@ -56,6 +54,7 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
         map.put(key, value);
     }
 
+    @Override
     public void putAll(final Map<byte[], V> data) {
         map.putAll(data);
     }
@@ -91,30 +90,14 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
         return returnList;
     }
 
+    @Override
     public Iterator<Map.Entry<byte[], V>> getIterator(final int segments, final int index) {
         final KeyRange iterationEndpoints = getIterationEndpoints(segments, index);
         return map.entryIterator(iterationEndpoints.low, true, iterationEndpoints.high, false);
     }
 
-    /**
-     * Gets iteration endpoints by taking the lowest and highest key and splitting the keyrange into segments.
-     * These endpoints are an approximation of segments, and segments are guaranteed to cover the entire key range,
-     * but there is no guarantee that all segments contain an equal number of elements.
-     *
-     * @param segments Number of segments
-     * @param index    Index to find segment endpoints for
-     * @return KeyRange containing the two endpoints
-     */
     private KeyRange getIterationEndpoints(final int segments, final int index) {
-        final BigInteger lowEnd = new BigInteger(map.firstKey());
-        final BigInteger highEnd = new BigInteger(map.lastKey());
-        final BigInteger step = highEnd.subtract(lowEnd).divide(new BigInteger(String.valueOf(segments)));
-        final byte[] lowIndex = lowEnd.add(step.multiply(new BigInteger(String.valueOf(index)))).toByteArray();
-        final byte[] highIndex =
-                index == segments - 1 ?
-                        highEnd.add(new BigInteger("1")).toByteArray() :
-                        lowEnd.add(step.multiply(new BigInteger(String.valueOf(index + 1)))).toByteArray();
-        return new KeyRange(lowIndex, highIndex);
+        return KeyRange.forSegment(map.firstKey(), map.lastKey(), segments, index);
     }
 
     @Override
@@ -138,14 +121,4 @@ public class MapDbProcessorState<V> implements ProcessorState<byte[], V> {
         map.close();
     }
 
-    private static class KeyRange {
-        public byte[] low;
-        public byte[] high;
-
-        public KeyRange(byte[] low, byte[] high) {
-            this.low = low;
-            this.high = high;
-        }
-    }
-
 }
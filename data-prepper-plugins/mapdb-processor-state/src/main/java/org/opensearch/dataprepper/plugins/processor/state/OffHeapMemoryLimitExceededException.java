@@ -0,0 +1,18 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+/**
+ * Thrown when an {@link OffHeapMemoryPool} cannot provide a page without exceeding its limit. Processors must not
+ * swallow it, since the state that could not be stored would otherwise be lost silently.
+ *
+ * @since 2.17
+ */
+public class OffHeapMemoryLimitExceededException extends IllegalStateException {
+    public OffHeapMemoryLimitExceededException(final String message) {
+        super(message);
+    }
+}
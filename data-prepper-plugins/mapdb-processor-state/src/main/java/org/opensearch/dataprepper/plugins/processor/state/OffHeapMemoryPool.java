@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A bounded pool of direct memory pages for {@link OffHeapProcessorState}. Pages released by one state, for example
+ * when a window is cleared on rotation, are reused by the next, so steady state operation does not allocate. The
+ * total memory held by the pool, including pages in use, never exceeds the configured limit.
+ *
+ * @since 2.17
+ */
+public class OffHeapMemoryPool {
+    static final int DEFAULT_PAGE_SIZE = 1024 * 1024;
+    // Several states share a pool and each needs pages of its own, so the default page size leaves room for many pages
+    static final int MIN_DEFAULT_PAGE_COUNT = 64;
+
+    private final long maxBytes;
+    private final int pageSize;
+    private final Deque<ByteBuffer> freePages = new ArrayDeque<>();
+    private long reservedBytes;
+
+    public OffHeapMemoryPool(final long maxBytes) {
+        this(maxBytes, (int) Math.max(1, Math.min(DEFAULT_PAGE_SIZE, maxBytes / MIN_DEFAULT_PAGE_COUNT)));
+    }
+
+    public OffHeapMemoryPool(final long maxBytes, final int pageSize) {
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        if (pageSize <= 0 || pageSize > maxBytes) {
+            throw new IllegalArgumentException("pageSize must be positive and no larger than maxBytes");
+        }
+        this.maxBytes = maxBytes;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Acquires a cleared page with at least the given capacity.
+     *
+     * @param minCapacity the capacity required
+     * @return a page
+     * @throws OffHeapMemoryLimitExceededException if the pool limit would be exceeded
+     */
+    public synchronized ByteBuffer acquire(final int minCapacity) {
+        if (minCapacity <= pageSize) {
+            final ByteBuffer page = freePages.poll();
+            if (page != null) {
+                page.clear();
+                return page;
+            }
+        }
+        final int capacity = Math.max(minCapacity, pageSize);
+        if (reservedBytes + capacity > maxBytes) {
+            throw new OffHeapMemoryLimitExceededException(String.format(
+                    "Off-heap processor state limit of %d bytes exceeded, %d bytes are reserved", maxBytes, reservedBytes));
+        }
+        reservedBytes += capacity;
+        return ByteBuffer.allocateDirect(capacity);
+    }
+
+    /**
+     * Returns a page to the pool. Pages larger than the page size are dropped and their capacity is freed.
+     *
+     * @param page the page
+     */
+    public synchronized void release(final ByteBuffer page) {
+        if (page.capacity() == pageSize) {
+            freePages.push(page);
+        } else {
+            reservedBytes -= page.capacity();
+        }
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public synchronized long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    synchronized int getFreePageCount() {
+        return freePages.size();
+    }
+}
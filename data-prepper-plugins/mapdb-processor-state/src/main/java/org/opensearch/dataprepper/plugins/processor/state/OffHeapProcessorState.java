@@ -0,0 +1,386 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import com.google.common.primitives.SignedBytes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link SegmentedProcessorState} which keeps its values encoded in direct memory pages taken from an
+ * {@link OffHeapMemoryPool}, so large windows neither grow the Java heap nor pay for Java serialization. Keys and the
+ * page address of each value are indexed on heap. Records are appended, so replacing a value leaves the old record
+ * behind as dead bytes. Once the dead bytes take up as much room as the live records, or the pool has no page left
+ * for the next record, the live records are compacted to the front of the pages the state holds and the pages left
+ * empty are returned to the pool. Clearing the state returns all of its pages to the pool.
+ * <p>
+ * Reads and writes may run concurrently, while compaction excludes reads. {@link #clear()} must not run concurrently
+ * with other operations on the same state, which window processors ensure by only clearing a window after it has
+ * rotated out.
+ *
+ * @param <V> Type parameter for the value type.
+ * @since 2.17
+ */
+public class OffHeapProcessorState<V> implements SegmentedProcessorState<V> {
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private final OffHeapMemoryPool memoryPool;
+    private final ProcessorStateCodec<V> codec;
+    private final ConcurrentSkipListMap<byte[], Long> index =
+            new ConcurrentSkipListMap<>(SignedBytes.lexicographicalComparator());
+    private final List<ByteBuffer> pages = new CopyOnWriteArrayList<>();
+    private final AtomicLong count = new AtomicLong();
+    private final Object writeLock = new Object();
+    private final Lock readLock;
+    private final Lock compactionLock;
+    private ByteBuffer writePage;
+    private long bytesUsed;
+    private long deadBytes;
+
+    public OffHeapProcessorState(final OffHeapMemoryPool memoryPool, final ProcessorStateCodec<V> codec) {
+        this.memoryPool = Objects.requireNonNull(memoryPool);
+        this.codec = Objects.requireNonNull(codec);
+        final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+        this.readLock = readWriteLock.readLock();
+        this.compactionLock = readWriteLock.writeLock();
+    }
+
+    @Override
+    public void put(final byte[] key, final V value) {
+        final byte[] record = encode(value);
+        synchronized (writeLock) {
+            indexLocked(key, appendLocked(record));
+        }
+    }
+
+    @Override
+    public void putAll(final Map<byte[], V> data) {
+        final List<byte[]> keys = new ArrayList<>(data.size());
+        final List<byte[]> records = new ArrayList<>(data.size());
+        for (final Map.Entry<byte[], V> entry : data.entrySet()) {
+            keys.add(entry.getKey());
+            records.add(encode(entry.getValue()));
+        }
+        synchronized (writeLock) {
+            // Each record is indexed before the next is appended, since compaction only keeps indexed records
+            for (int i = 0; i < records.size(); i++) {
+                indexLocked(keys.get(i), appendLocked(records.get(i)));
+            }
+        }
+    }
+
+    @Override
+    public V get(final byte[] key) {
+        return read(index, key);
+    }
+
+    /**
+     * Gets a read-only view of the state. Values are decoded each time they are accessed.
+     *
+     * @return a view of the state
+     */
+    @Override
+    public Map<byte[], V> getAll() {
+        return new DecodingMap(index);
+    }
+
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn) {
+        return iterate(index, fn);
+    }
+
+    @Override
+    public <R> List<R> iterate(final BiFunction<byte[], V, R> fn, final int segments, final int index) {
+        if (this.index.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return iterate(getSegment(segments, index), fn);
+    }
+
+    @Override
+    public Iterator<Map.Entry<byte[], V>> getIterator(final int segments, final int index) {
+        return new DecodingMap(getSegment(segments, index)).entrySet().iterator();
+    }
+
+    @Override
+    public long size() {
+        return count.get();
+    }
+
+    /**
+     * Gets the number of bytes of direct memory the records of this state take up, including replaced records which
+     * have not been compacted yet.
+     *
+     * @return the size of the records in bytes
+     */
+    @Override
+    public long sizeInBytes() {
+        synchronized (writeLock) {
+            return bytesUsed;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (writeLock) {
+            index.clear();
+            count.set(0);
+            for (final ByteBuffer page : pages) {
+                memoryPool.release(page);
+            }
+            pages.clear();
+            writePage = null;
+            bytesUsed = 0;
+            deadBytes = 0;
+        }
+    }
+
+    @Override
+    public void delete() {
+        clear();
+    }
+
+    int getPageCount() {
+        return pages.size();
+    }
+
+    long getDeadBytes() {
+        synchronized (writeLock) {
+            return deadBytes;
+        }
+    }
+
+    private NavigableMap<byte[], Long> getSegment(final int segments, final int index) {
+        final KeyRange keyRange = KeyRange.forSegment(this.index.firstKey(), this.index.lastKey(), segments, index);
+        return this.index.subMap(keyRange.low, true, keyRange.high, false);
+    }
+
+    private <R> List<R> iterate(final Map<byte[], Long> entries, final BiFunction<byte[], V, R> fn) {
+        final List<R> returnList = new ArrayList<>();
+        for (final byte[] key : entries.keySet()) {
+            returnList.add(fn.apply(key, read(entries, key)));
+        }
+        return returnList;
+    }
+
+    private void indexLocked(final byte[] key, final long address) {
+        final Long previousAddress = index.put(key, address);
+        if (previousAddress == null) {
+            count.incrementAndGet();
+        } else {
+            deadBytes += recordSize(previousAddress);
+        }
+    }
+
+    private byte[] encode(final V value) {
+        Objects.requireNonNull(value, "value cannot be null");
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (final DataOutputStream dataOutputStream = new DataOutputStream(outputStream)) {
+            codec.encode(value, dataOutputStream);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    private long appendLocked(final byte[] record) {
+        final int recordSize = LENGTH_BYTES + record.length;
+        if (!fitsWritePage(recordSize)) {
+            addWritePageLocked(recordSize);
+        }
+        final long address = ((long) (pages.size() - 1) << 32) | writePage.position();
+        writePage.putInt(record.length);
+        writePage.put(record);
+        bytesUsed += recordSize;
+        return address;
+    }
+
+    private boolean fitsWritePage(final int recordSize) {
+        return writePage != null && writePage.remaining() >= recordSize;
+    }
+
+    private void addWritePageLocked(final int recordSize) {
+        if (deadBytes > 0 && deadBytes >= bytesUsed - deadBytes) {
+            compactLocked();
+            if (fitsWritePage(recordSize)) {
+                return;
+            }
+        }
+        ByteBuffer page;
+        try {
+            page = memoryPool.acquire(recordSize);
+        } catch (final OffHeapMemoryLimitExceededException e) {
+            if (deadBytes == 0) {
+                throw e;
+            }
+            compactLocked();
+            if (fitsWritePage(recordSize)) {
+                return;
+            }
+            page = memoryPool.acquire(recordSize);
+        }
+        pages.add(page);
+        // Writes go through a duplicate so that the position of the shared page never changes under readers
+        writePage = page.duplicate();
+    }
+
+    /**
+     * Moves the live records, in address order, to the front of the pages of this state and returns the pages left
+     * empty to the pool. A record never moves past its old address, so compaction needs no extra pages and never
+     * overwrites a record which has not been moved yet.
+     */
+    private void compactLocked() {
+        compactionLock.lock();
+        try {
+            final List<Map.Entry<byte[], Long>> liveRecords = new ArrayList<>(index.entrySet());
+            liveRecords.sort(Comparator.comparingLong(Map.Entry::getValue));
+            int pageIndex = 0;
+            ByteBuffer target = null;
+            long liveBytes = 0;
+            for (final Map.Entry<byte[], Long> liveRecord : liveRecords) {
+                final long address = liveRecord.getValue();
+                final ByteBuffer source = pages.get(pageIndex(address)).duplicate();
+                source.position(offset(address));
+                final byte[] record = new byte[LENGTH_BYTES + source.getInt(offset(address))];
+                source.get(record);
+                if (target == null) {
+                    target = pages.get(pageIndex).duplicate();
+                    target.clear();
+                }
+                while (target.remaining() < record.length) {
+                    pageIndex++;
+                    target = pages.get(pageIndex).duplicate();
+                    target.clear();
+                }
+                index.put(liveRecord.getKey(), ((long) pageIndex << 32) | target.position());
+                target.put(record);
+                liveBytes += record.length;
+            }
+            final int keptPageCount = target == null ? 0 : pageIndex + 1;
+            while (pages.size() > keptPageCount) {
+                memoryPool.release(pages.remove(pages.size() - 1));
+            }
+            writePage = target;
+            bytesUsed = liveBytes;
+            deadBytes = 0;
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    private int recordSize(final long address) {
+        return LENGTH_BYTES + pages.get(pageIndex(address)).getInt(offset(address));
+    }
+
+    private static int pageIndex(final long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offset(final long address) {
+        return (int) address;
+    }
+
+    private V read(final Map<byte[], Long> addresses, final Object key) {
+        final byte[] record;
+        // The address is looked up under the read lock, since compaction moves records
+        readLock.lock();
+        try {
+            final Long address = addresses.get(key);
+            if (address == null) {
+                return null;
+            }
+            final ByteBuffer page = pages.get(pageIndex(address)).duplicate();
+            page.position(offset(address));
+            record = new byte[page.getInt()];
+            page.get(record);
+        } finally {
+            readLock.unlock();
+        }
+        try {
+            return codec.decode(new DataInputStream(new ByteArrayInputStream(record)));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class DecodingMap extends AbstractMap<byte[], V> {
+        private final Map<byte[], Long> addresses;
+
+        private DecodingMap(final Map<byte[], Long> addresses) {
+            this.addresses = addresses;
+        }
+
+        @Override
+        public V get(final Object key) {
+            return read(addresses, key);
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return addresses.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return addresses.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return addresses.isEmpty();
+        }
+
+        @Override
+        public Set<Entry<byte[], V>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<byte[], V>> iterator() {
+                    final Iterator<byte[]> iterator = addresses.keySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return iterator.hasNext();
+                        }
+
+                        @Override
+                        public Entry<byte[], V> next() {
+                            final byte[] key = iterator.next();
+                            return new SimpleImmutableEntry<>(key, read(addresses, key));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return addresses.size();
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads the values of an {@link OffHeapProcessorState} in a compact binary form.
+ *
+ * @param <V> Type parameter for the value type.
+ * @since 2.17
+ */
+public interface ProcessorStateCodec<V> {
+
+    /**
+     * Writes a value
+     * @param value The value to write
+     * @param output The output to write to
+     * @throws IOException if the value cannot be written
+     */
+    void encode(V value, DataOutput output) throws IOException;
+
+    /**
+     * Reads a value written by {@link #encode(Object, DataOutput)}
+     * @param input The input to read from
+     * @return The value
+     * @throws IOException if the value cannot be read
+     */
+    V decode(DataInput input) throws IOException;
+}
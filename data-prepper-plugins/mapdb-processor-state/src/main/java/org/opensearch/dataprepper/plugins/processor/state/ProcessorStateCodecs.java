@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Helpers for writing {@link ProcessorStateCodec} implementations. Strings and byte arrays are written with a length
+ * prefix, where a length of -1 stands for null.
+ *
+ * @since 2.17
+ */
+public final class ProcessorStateCodecs {
+    private static final int NULL_LENGTH = -1;
+
+    /**
+     * A codec for String values.
+     */
+    public static final ProcessorStateCodec<String> STRING = new ProcessorStateCodec<>() {
+        @Override
+        public void encode(final String value, final DataOutput output) throws IOException {
+            writeString(output, value);
+        }
+
+        @Override
+        public String decode(final DataInput input) throws IOException {
+            return readString(input);
+        }
+    };
+
+    private ProcessorStateCodecs() {
+    }
+
+    public static void writeString(final DataOutput output, final String value) throws IOException {
+        writeBytes(output, value == null ? null : value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String readString(final DataInput input) throws IOException {
+        final byte[] bytes = readBytes(input);
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        if (value == null) {
+            output.writeInt(NULL_LENGTH);
+            return;
+        }
+        output.writeInt(value.length);
+        output.write(value);
+    }
+
+    public static byte[] readBytes(final DataInput input) throws IOException {
+        final int length = input.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        final byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return bytes;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The kinds of store which window processors can keep their state in.
+ *
+ * @since 2.17
+ */
+public enum ProcessorStateStore {
+    /**
+     * {@link MapDbProcessorState}, which keeps Java serialized values on the heap.
+     */
+    MAPDB("mapdb"),
+    /**
+     * {@link OffHeapProcessorState}, which keeps encoded values in a bounded pool of direct memory.
+     */
+    OFF_HEAP("off_heap");
+
+    private static final Map<String, ProcessorStateStore> OPTIONS_MAP = Arrays.stream(ProcessorStateStore.values())
+            .collect(Collectors.toMap(
+                    value -> value.option,
+                    value -> value
+            ));
+
+    private final String option;
+
+    ProcessorStateStore(final String option) {
+        this.option = option;
+    }
+
+    public String getOption() {
+        return option;
+    }
+
+    @JsonCreator
+    public static ProcessorStateStore fromOptionValue(final String option) {
+        return OPTIONS_MAP.get(option);
+    }
+}
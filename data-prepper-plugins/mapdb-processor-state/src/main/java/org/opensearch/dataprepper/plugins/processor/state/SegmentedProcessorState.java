@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.opensearch.dataprepper.processor.state.ProcessorState;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * A {@link ProcessorState} keyed by byte arrays in signed lexicographical order, which processor instances can split
+ * into key ranges to iterate over their own segment.
+ *
+ * @param <V> Type parameter for the value type.
+ * @since 2.17
+ */
+public interface SegmentedProcessorState<V> extends ProcessorState<byte[], V> {
+
+    /**
+     * Puts all key value pairs in the processor state
+     * @param data Key value pairs to put in the state
+     */
+    void putAll(Map<byte[], V> data);
+
+    /**
+     * Gets an iterator over a segment of the processor state
+     * @param segments total number of segments
+     * @param index segment index
+     * @return Iterator over the entries of the segment
+     */
+    Iterator<Map.Entry<byte[], V>> getIterator(int segments, int index);
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class OffHeapMemoryPoolTest {
+
+    @Test
+    void constructor_with_invalid_arguments_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMemoryPool(0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMemoryPool(100, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapMemoryPool(100, 101));
+    }
+
+    @Test
+    void default_page_size_is_bounded_by_max_bytes() {
+        assertThat(new OffHeapMemoryPool(6400).getPageSize(), equalTo(100));
+        assertThat(new OffHeapMemoryPool(10).getPageSize(), equalTo(1));
+        assertThat(new OffHeapMemoryPool(Long.MAX_VALUE).getPageSize(), equalTo(OffHeapMemoryPool.DEFAULT_PAGE_SIZE));
+    }
+
+    @Test
+    void acquire_allocates_direct_pages_up_to_the_limit() {
+        final OffHeapMemoryPool objectUnderTest = new OffHeapMemoryPool(300, 100);
+
+        final ByteBuffer page = objectUnderTest.acquire(10);
+        assertThat(page.isDirect(), equalTo(true));
+        assertThat(page.capacity(), equalTo(100));
+        objectUnderTest.acquire(10);
+        objectUnderTest.acquire(10);
+
+        assertThat(objectUnderTest.getReservedBytes(), equalTo(300L));
+        assertThrows(IllegalStateException.class, () -> objectUnderTest.acquire(10));
+    }
+
+    @Test
+    void released_pages_are_reused() {
+        final OffHeapMemoryPool objectUnderTest = new OffHeapMemoryPool(100, 100);
+        final ByteBuffer page = objectUnderTest.acquire(10);
+        page.putInt(1);
+
+        objectUnderTest.release(page);
+        final ByteBuffer reused = objectUnderTest.acquire(10);
+
+        assertThat(reused, sameInstance(page));
+        assertThat(reused.position(), equalTo(0));
+        assertThat(objectUnderTest.getReservedBytes(), equalTo(100L));
+    }
+
+    @Test
+    void oversize_pages_are_freed_on_release() {
+        final OffHeapMemoryPool objectUnderTest = new OffHeapMemoryPool(1000, 100);
+        final ByteBuffer page = objectUnderTest.acquire(250);
+        assertThat(page.capacity(), equalTo(250));
+        assertThat(objectUnderTest.getReservedBytes(), equalTo(250L));
+
+        objectUnderTest.release(page);
+
+        assertThat(objectUnderTest.getReservedBytes(), equalTo(0L));
+        assertThat(objectUnderTest.getFreePageCount(), equalTo(0));
+    }
+}
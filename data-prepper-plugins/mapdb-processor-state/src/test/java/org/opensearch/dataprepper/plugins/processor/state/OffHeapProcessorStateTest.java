@@ -0,0 +1,254 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OffHeapProcessorStateTest extends ProcessorStateTest {
+    private static final int PAGE_SIZE = 256;
+
+    private static final ProcessorStateCodec<DataClass> DATA_CLASS_CODEC = new ProcessorStateCodec<>() {
+        @Override
+        public void encode(final DataClass value, final DataOutput output) throws IOException {
+            ProcessorStateCodecs.writeString(output, value.stringVal);
+            output.writeInt(value.intVal);
+        }
+
+        @Override
+        public DataClass decode(final DataInput input) throws IOException {
+            return new DataClass(ProcessorStateCodecs.readString(input), input.readInt());
+        }
+    };
+
+    private OffHeapMemoryPool memoryPool;
+
+    @BeforeEach
+    public void setProcessorState() {
+        memoryPool = new OffHeapMemoryPool(PAGE_SIZE * 8, PAGE_SIZE);
+        this.processorState = new OffHeapProcessorState<>(memoryPool, DATA_CLASS_CODEC);
+    }
+
+    private OffHeapProcessorState<DataClass> offHeapState() {
+        return (OffHeapProcessorState<DataClass>) processorState;
+    }
+
+    @Test
+    void testIterateSegment() {
+        final byte[] key1 = new byte[]{-64, 0, -64, 0};
+        final byte[] key2 = new byte[]{0};
+        final byte[] key3 = new byte[]{64, 64, 64, 64};
+        final byte[] key4 = new byte[]{126, 126, 126, 126};
+
+        final DataClass data1 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        final DataClass data2 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        final DataClass data3 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        final DataClass data4 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+
+        processorState.put(key3, data3);
+        processorState.put(key4, data4);
+        processorState.put(key1, data1);
+        processorState.put(key2, data2);
+
+        final List<String> values = processorState.iterate((bytes, dataClass) -> dataClass.stringVal, 2, 0);
+        final List<String> values2 = processorState.iterate((bytes, dataClass) -> dataClass.stringVal, 2, 1);
+
+        assertEquals(2, values.size());
+        assertEquals(2, values2.size());
+        assertTrue(values.containsAll(Arrays.asList(data1.stringVal, data2.stringVal)));
+        assertTrue(values2.containsAll(Arrays.asList(data3.stringVal, data4.stringVal)));
+
+        final Iterator<Map.Entry<byte[], DataClass>> iterator = offHeapState().getIterator(2, 1);
+        assertThat(iterator.next().getValue(), equalTo(data3));
+        assertThat(iterator.next().getValue(), equalTo(data4));
+        assertThat(iterator.hasNext(), equalTo(false));
+    }
+
+    @Test
+    void testIterateSegmentOfEmptyState() {
+        assertThat(processorState.iterate((bytes, dataClass) -> dataClass, 2, 0).isEmpty(), equalTo(true));
+        assertThrows(NoSuchElementException.class, () -> offHeapState().getIterator(2, 0));
+    }
+
+    @Test
+    void testPutReplacesValue() {
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+        final DataClass data1 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        final DataClass data2 = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+
+        processorState.put(key, data1);
+        processorState.put(key.clone(), data2);
+
+        assertThat(processorState.size(), equalTo(1L));
+        assertThat(processorState.get(key), equalTo(data2));
+    }
+
+    @Test
+    void testPutAll() {
+        final Map<byte[], DataClass> data = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            data.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), i));
+        }
+
+        offHeapState().putAll(data);
+
+        assertThat(processorState.size(), equalTo(20L));
+        data.forEach((key, value) -> assertThat(processorState.get(key), equalTo(value)));
+        assertThat(offHeapState().getPageCount() > 1, equalTo(true));
+    }
+
+    @Test
+    void testGetAllView() {
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+        final DataClass data = new DataClass(UUID.randomUUID().toString(), random.nextInt());
+        processorState.put(key, data);
+
+        final Map<byte[], DataClass> all = processorState.getAll();
+
+        assertThat(all.size(), equalTo(1));
+        assertThat(all.containsKey(key), equalTo(true));
+        assertThat(all.get(key), equalTo(data));
+        assertThat(all.get(new byte[]{1}), nullValue());
+        assertThat(all.entrySet().size(), equalTo(1));
+    }
+
+    @Test
+    void testSizeInBytes() {
+        final DataClass data = new DataClass("abc", 1);
+        processorState.put(new byte[]{1}, data);
+
+        // length prefix, string length and bytes, int
+        assertThat(processorState.sizeInBytes(), equalTo((long) Integer.BYTES + Integer.BYTES + 3 + Integer.BYTES));
+    }
+
+    @Test
+    void testClearReturnsPagesToPool() {
+        for (int i = 0; i < 20; i++) {
+            processorState.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), i));
+        }
+        final long reservedBytes = memoryPool.getReservedBytes();
+        final int pageCount = offHeapState().getPageCount();
+
+        processorState.clear();
+
+        assertThat(processorState.size(), equalTo(0L));
+        assertThat(processorState.sizeInBytes(), equalTo(0L));
+        assertThat(processorState.getAll().isEmpty(), equalTo(true));
+        assertThat(memoryPool.getFreePageCount(), equalTo(pageCount));
+
+        for (int i = 0; i < 20; i++) {
+            processorState.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), i));
+        }
+        assertThat(memoryPool.getReservedBytes(), equalTo(reservedBytes));
+    }
+
+    @Test
+    void testReplacingGrowingValuesReclaimsReplacedRecords() {
+        final Map<byte[], DataClass> otherData = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            otherData.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), i));
+        }
+        offHeapState().putAll(otherData);
+        final byte[] key = UUID.randomUUID().toString().getBytes();
+
+        // Without reclaiming replaced records, this appends far more than the limit of the pool
+        DataClass data = null;
+        for (int i = 0; i < 1000; i++) {
+            data = new DataClass("a".repeat(i % 200), i);
+            processorState.put(key, data);
+        }
+
+        assertThat(processorState.size(), equalTo(6L));
+        assertThat(processorState.get(key), equalTo(data));
+        otherData.forEach((otherKey, value) -> assertThat(processorState.get(otherKey), equalTo(value)));
+        assertThat(memoryPool.getReservedBytes() <= memoryPool.getMaxBytes(), equalTo(true));
+    }
+
+    @Test
+    void testCompactionReturnsEmptyPagesToPool() {
+        final List<byte[]> keys = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            keys.add(UUID.randomUUID().toString().getBytes());
+            processorState.put(keys.get(i), new DataClass(UUID.randomUUID().toString(), i));
+        }
+        final int pageCount = offHeapState().getPageCount();
+
+        for (int i = 0; i < keys.size(); i++) {
+            processorState.put(keys.get(i), new DataClass("", i));
+        }
+        assertThat(offHeapState().getDeadBytes() > 0, equalTo(true));
+        processorState.put(UUID.randomUUID().toString().getBytes(), new DataClass(UUID.randomUUID().toString(), -1));
+
+        assertThat(offHeapState().getDeadBytes(), equalTo(0L));
+        assertThat(offHeapState().getPageCount() < pageCount, equalTo(true));
+        assertThat(memoryPool.getFreePageCount() > 0, equalTo(true));
+        assertThat(processorState.size(), equalTo(21L));
+        for (int i = 0; i < keys.size(); i++) {
+            assertThat(processorState.get(keys.get(i)), equalTo(new DataClass("", i)));
+        }
+        assertThat(processorState.iterate((bytes, dataClass) -> dataClass).size(), equalTo(21));
+    }
+
+    @Test
+    void testPutBeyondLimitThrows() {
+        final DataClass data = new DataClass(UUID.randomUUID().toString(), 0);
+        assertThrows(OffHeapMemoryLimitExceededException.class, () -> {
+            for (int i = 0; i < 1000; i++) {
+                processorState.put(UUID.randomUUID().toString().getBytes(), data);
+            }
+        });
+        assertThat(memoryPool.getReservedBytes() <= memoryPool.getMaxBytes(), equalTo(true));
+    }
+
+    @Test
+    void testPutNullValueThrows() {
+        assertThrows(NullPointerException.class, () -> processorState.put(new byte[]{1}, null));
+    }
+
+    @Test
+    void testCodecExceptionsAreUnchecked() {
+        final ProcessorStateCodec<String> failingCodec = new ProcessorStateCodec<>() {
+            @Override
+            public void encode(final String value, final DataOutput output) throws IOException {
+                if (value.isEmpty()) {
+                    throw new IOException("encode");
+                }
+                output.writeUTF(value);
+            }
+
+            @Override
+            public String decode(final DataInput input) throws IOException {
+                throw new IOException("decode");
+            }
+        };
+        final OffHeapProcessorState<String> objectUnderTest = new OffHeapProcessorState<>(memoryPool, failingCodec);
+
+        assertThrows(UncheckedIOException.class, () -> objectUnderTest.put(new byte[]{1}, ""));
+        objectUnderTest.put(new byte[]{1}, "value");
+        assertThrows(UncheckedIOException.class, () -> objectUnderTest.get(new byte[]{1}));
+        objectUnderTest.delete();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.state;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ProcessorStateCodecsTest {
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"value", "ünïcödé"})
+    void string_codec_round_trips(final String value) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ProcessorStateCodecs.STRING.encode(value, new DataOutputStream(outputStream));
+
+        final String decoded = ProcessorStateCodecs.STRING.decode(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+
+        assertThat(decoded, equalTo(value));
+    }
+
+    @Test
+    void bytes_round_trip() throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final DataOutputStream output = new DataOutputStream(outputStream);
+        ProcessorStateCodecs.writeBytes(output, new byte[]{1, 2, 3});
+        ProcessorStateCodecs.writeBytes(output, null);
+
+        final DataInputStream input = new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertThat(ProcessorStateCodecs.readBytes(input), equalTo(new byte[]{1, 2, 3}));
+        assertThat(ProcessorStateCodecs.readBytes(input), nullValue());
+    }
+
+    @ParameterizedTest
+    @EnumSource(ProcessorStateStore.class)
+    void processor_state_store_from_option_value(final ProcessorStateStore store) {
+        assertThat(ProcessorStateStore.fromOptionValue(store.getOption()), equalTo(store));
+    }
+}
@@ -26,6 +26,7 @@ import org.opensearch.dataprepper.metrics.MetricNames;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.event.EventHandle;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.model.event.InternalEventHandle;
 import org.opensearch.dataprepper.model.event.exceptions.EventKeyNotFoundException;
 import org.opensearch.dataprepper.model.failures.DlqObject;
@@ -73,6 +74,9 @@ import java.util.StringJoiner;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -85,6 +89,7 @@ import static org.opensearch.dataprepper.logging.DataPrepperMarkers.NOISY;
 public class BulkIngester implements Ingester {
     private static final Logger LOG = LoggerFactory.getLogger(BulkIngester.class);
     private static final String PLUGIN_NAME = "opensearch";
+    private static final long IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT_SECONDS = 30;
 
     private final OpenSearchSinkConfiguration openSearchSinkConfig;
     private final ExpressionEvaluator expressionEvaluator;
@@ -102,12 +107,12 @@ public class BulkIngester implements Ingester {
     private final long bulkSize;
     private final long flushTimeout;
     private final String documentIdField;
-    private final String documentId;
+    private final FormatTemplate documentId;
     private final String routingField;
-    private final String routing;
+    private final FormatTemplate routing;
     private final String documentRootKey;
     private final VersionType versionType;
-    private final String versionExpression;
+    private final FormatTemplate versionExpression;
     private final ScriptManager scriptManager;
     private final BulkOperationFactory bulkOperationFactory;
     private final FailedBulkOperationConverter failedBulkOperationConverter;
@@ -125,6 +130,9 @@ public class BulkIngester implements Ingester {
     private final DlqProvider dlqProvider;
     private final String dlqFile;
     private final ExecutorService queryExecutorService;
+    private final int maxInFlightBulkRequests;
+    private final ScheduledExecutorService bulkRequestExecutorService;
+    private final Semaphore inFlightBulkRequests;
     private final CustomDocumentBuilder customDocumentBuilder;
 
     private boolean useEventInBulkOperation;
@@ -138,6 +146,7 @@ public class BulkIngester implements Ingester {
     private ExistingDocumentQueryManager existingDocumentQueryManager;
     private IndexManager indexManager;
     private String configuredIndexAlias;
+    private FormatTemplate indexAliasTemplate;
 
     public BulkIngester(final OpenSearchSinkConfiguration openSearchSinkConfig,
                         final ExpressionEvaluator expressionEvaluator,
@@ -167,12 +176,12 @@ public class BulkIngester implements Ingester {
                 openSearchSinkConfig.getIndexConfiguration().getBulkSize());
         this.flushTimeout = openSearchSinkConfig.getIndexConfiguration().getFlushTimeout();
         this.documentIdField = openSearchSinkConfig.getIndexConfiguration().getDocumentIdField();
-        this.documentId = openSearchSinkConfig.getIndexConfiguration().getDocumentId();
+        this.documentId = compileTemplate(openSearchSinkConfig.getIndexConfiguration().getDocumentId(), expressionEvaluator);
         this.routingField = openSearchSinkConfig.getIndexConfiguration().getRoutingField();
-        this.routing = openSearchSinkConfig.getIndexConfiguration().getRouting();
+        this.routing = compileTemplate(openSearchSinkConfig.getIndexConfiguration().getRouting(), expressionEvaluator);
         this.documentRootKey = openSearchSinkConfig.getIndexConfiguration().getDocumentRootKey();
         this.versionType = openSearchSinkConfig.getIndexConfiguration().getVersionType();
-        this.versionExpression = openSearchSinkConfig.getIndexConfiguration().getVersionExpression();
+        this.versionExpression = compileTemplate(openSearchSinkConfig.getIndexConfiguration().getVersionExpression(), expressionEvaluator);
         this.scriptManager = new ScriptManager(openSearchSinkConfig.getIndexConfiguration().getScriptConfiguration(),
                 expressionEvaluator);
         this.bulkOperationFactory = new BulkOperationFactory(versionType, scriptManager, new ObjectMapper(),
@@ -203,6 +212,16 @@ public class BulkIngester implements Ingester {
         this.queryExecutorService = openSearchSinkConfig.getIndexConfiguration().getQueryTerm() != null ?
                 Executors.newSingleThreadExecutor(
                         BackgroundThreadFactory.defaultExecutorThreadFactory("existing-document-query-manager")) : null;
+
+        this.maxInFlightBulkRequests = openSearchSinkConfig.getIndexConfiguration().getMaxInFlightBulkRequests();
+        if (maxInFlightBulkRequests > 0) {
+            this.bulkRequestExecutorService = Executors.newScheduledThreadPool(maxInFlightBulkRequests,
+                    BackgroundThreadFactory.defaultExecutorThreadFactory("opensearch-sink-bulk-request"));
+            this.inFlightBulkRequests = new Semaphore(maxInFlightBulkRequests);
+        } else {
+            this.bulkRequestExecutorService = null;
+            this.inFlightBulkRequests = null;
+        }
     }
 
     @Override
@@ -211,6 +230,7 @@ public class BulkIngester implements Ingester {
         final HeadlessPipeline failurePipeline = failurePipelineSupplier.get();
         this.useEventInBulkOperation = (failurePipeline != null || sinkContext.getForwardToPipelines().size() > 0);
         this.configuredIndexAlias = openSearchSinkConfig.getIndexConfiguration().getIndexAlias();
+        this.indexAliasTemplate = compileTemplate(configuredIndexAlias, expressionEvaluator);
 
         setupDlq();
 
@@ -279,7 +299,7 @@ public class BulkIngester implements Ingester {
             final Event event = record.getData();
             String indexName = configuredIndexAlias;
             try {
-                indexName = indexManager.getIndexName(event.formatString(indexName, expressionEvaluator));
+                indexName = indexManager.getIndexName(indexAliasTemplate.format(event));
             } catch (final Exception e) {
                 LOG.error(NOISY,
                         "There was an exception when constructing the index name. Check the dlq if configured to see details about the affected Event: {}",
@@ -322,8 +342,8 @@ public class BulkIngester implements Ingester {
             String versionExpressionEvaluationResult = null;
             if (versionExpression != null) {
                 try {
-                    versionExpressionEvaluationResult = event.formatString(versionExpression, expressionEvaluator);
-                    version = Long.valueOf(event.formatString(versionExpression, expressionEvaluator));
+                    versionExpressionEvaluationResult = versionExpression.format(event);
+                    version = Long.valueOf(versionExpressionEvaluationResult);
                 } catch (final NumberFormatException e) {
                     final String errorMessage = String.format(
                             "Unable to convert the result of evaluating document_version '%s' to Long for an Event. The evaluation result '%s' must be a valid Long type",
@@ -398,6 +418,10 @@ public class BulkIngester implements Ingester {
 
     @Override
     public void shutdown() {
+        if (bulkRequestExecutorService != null) {
+            awaitInFlightBulkRequests();
+            bulkRequestExecutorService.shutdown();
+        }
         if (dlqWriter != null) {
             try {
                 dlqWriter.close();
@@ -418,6 +442,10 @@ public class BulkIngester implements Ingester {
         }
     }
 
+    private static FormatTemplate compileTemplate(final String format, final ExpressionEvaluator expressionEvaluator) {
+        return format != null ? FormatTemplate.compile(format, expressionEvaluator) : null;
+    }
+
     @VisibleForTesting
     SerializedJson getDocument(final Event event) {
         String docId = null;
@@ -426,7 +454,7 @@ public class BulkIngester implements Ingester {
             docId = event.get(documentIdField, String.class);
         } else if (documentId != null) {
             try {
-                docId = event.formatString(documentId, expressionEvaluator);
+                docId = documentId.format(event);
             } catch (final ExpressionEvaluationException | EventKeyNotFoundException e) {
                 LOG.error("Unable to construct document_id with format {}, the document_id will be generated by OpenSearch",
                         documentId, e);
@@ -438,7 +466,7 @@ public class BulkIngester implements Ingester {
             routingValue = event.get(routingField, String.class);
         } else if (routing != null) {
             try {
-                routingValue = event.formatString(routing, expressionEvaluator);
+                routingValue = routing.format(event);
             } catch (final ExpressionEvaluationException | EventKeyNotFoundException e) {
                 LOG.error("Unable to construct routing with format {}, the routing will be generated by OpenSearch",
                         routing, e);
@@ -478,6 +506,10 @@ public class BulkIngester implements Ingester {
     }
 
     private void flushBatch(final AccumulatingBulkRequest accumulatingBulkRequest) {
+        if (bulkRequestExecutorService != null) {
+            flushBatchAsync(accumulatingBulkRequest);
+            return;
+        }
         bulkRequestTimer.record(() -> {
             try {
                 LOG.debug("Sending data to OpenSearch");
@@ -491,6 +523,53 @@ public class BulkIngester implements Ingester {
         });
     }
 
+    /**
+     * Sends the bulk request from the I/O executor so that the calling worker can continue to fill the next
+     * request. The calling worker only blocks once {@code max_in_flight_bulk_requests} requests are in flight.
+     */
+    private void flushBatchAsync(final AccumulatingBulkRequest accumulatingBulkRequest) {
+        try {
+            inFlightBulkRequests.acquire();
+        } catch (final InterruptedException e) {
+            LOG.error("Unexpected Interrupt:", e);
+            bulkRequestErrorsCounter.increment();
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        LOG.debug("Sending data to OpenSearch");
+        final long startTime = System.nanoTime();
+        try {
+            bulkRetryStrategy.executeAsync(accumulatingBulkRequest, bulkRequestExecutorService)
+                    .whenComplete((ignored, failure) -> {
+                        inFlightBulkRequests.release();
+                        bulkRequestTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+                        if (failure != null) {
+                            LOG.error("Bulk request to OpenSearch failed unexpectedly.", failure);
+                            bulkRequestErrorsCounter.increment();
+                        } else {
+                            bulkRequestSizeBytesSummary.record(accumulatingBulkRequest.getEstimatedSizeInBytes());
+                        }
+                    });
+        } catch (final RuntimeException e) {
+            inFlightBulkRequests.release();
+            throw e;
+        }
+    }
+
+    private void awaitInFlightBulkRequests() {
+        try {
+            if (inFlightBulkRequests.tryAcquire(maxInFlightBulkRequests,
+                    IN_FLIGHT_BULK_REQUESTS_SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                inFlightBulkRequests.release(maxInFlightBulkRequests);
+            } else {
+                LOG.warn("Timed out waiting for in-flight bulk requests to complete during shutdown.");
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> flushBatch(
             final AccumulatingBulkRequest<BulkOperationWrapper, BulkRequest> bulkRequest,
             final BulkOperationWrapper bulkOperationWrapper,
@@ -33,6 +33,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
@@ -245,6 +249,59 @@ public final class BulkRetryStrategy {
         } while (operationResponse != null);
     }
 
+    /**
+     * Executes the bulk request without blocking the calling thread. Every attempt runs on the given executor and
+     * retries are scheduled on it after the backoff delay instead of sleeping.
+     *
+     * @param bulkRequest The bulk request to execute
+     * @param executor The executor which runs attempts and schedules retries
+     * @return A future which completes once all operations have either succeeded or been handled as failures
+     */
+    public CompletableFuture<Void> executeAsync(final AccumulatingBulkRequest bulkRequest,
+                                                final ScheduledExecutorService executor) {
+        final Backoff backoff = Backoff.exponential(INITIAL_DELAY_MS, MAXIMUM_DELAY_MS).withMaxAttempts(maxRetries);
+        final CompletableFuture<Void> completionFuture = new CompletableFuture<>();
+        executor.execute(() -> executeAttempt(bulkRequest, null, null, 1, backoff, executor, completionFuture));
+        return completionFuture;
+    }
+
+    private void executeAttempt(final AccumulatingBulkRequest request,
+                                final BulkResponse response,
+                                final Exception exception,
+                                final int attempt,
+                                final Backoff backoff,
+                                final ScheduledExecutorService executor,
+                                final CompletableFuture<Void> completionFuture) {
+        final BulkOperationRequestResponse operationResponse;
+        try {
+            operationResponse = handleRetry(request, response, attempt, exception);
+        } catch (final Exception e) {
+            completionFuture.completeExceptionally(e);
+            return;
+        }
+        if (operationResponse == null) {
+            completionFuture.complete(null);
+            return;
+        }
+
+        final long delayMillis = backoff.nextDelayMillis(attempt);
+        if (delayMillis < 0) {
+            final RuntimeException e = new RuntimeException(String.format("Number of retries reached the limit of max retries (configured value %d. Last exception message: %s)", maxRetries, operationResponse.getExceptionMessage()));
+            handleFailures(operationResponse.getBulkRequest(), null, e);
+            completionFuture.complete(null);
+            return;
+        }
+        try {
+            executor.schedule(() -> executeAttempt(operationResponse.getBulkRequest(), operationResponse.getResponse(),
+                            operationResponse.getException(), attempt + 1, backoff, executor, completionFuture),
+                    delayMillis, TimeUnit.MILLISECONDS);
+        } catch (final RejectedExecutionException e) {
+            LOG.error("Unable to schedule a retry of the bulk request because the executor was shut down.", e);
+            handleFailures(operationResponse.getBulkRequest(), null, e);
+            completionFuture.complete(null);
+        }
+    }
+
     public boolean canRetry(final BulkResponse response) {
         for (final BulkResponseItem bulkItemResponse : response.items()) {
             if (isItemInError(bulkItemResponse) && canRetryItem(bulkItemResponse)) {
@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.sink.opensearch.configuration;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 import org.opensearch.dataprepper.model.annotations.Experimental;
@@ -29,6 +30,7 @@ public class OpenSearchSinkConfig {
     public static final boolean DEFAULT_ESTIMATE_BULK_SIZE_USING_COMPRESSION = false;
     public static final int DEFAULT_MAX_LOCAL_COMPRESSIONS_FOR_ESTIMATION = 2;
     public static final long DEFAULT_FLUSH_TIMEOUT = 60_000L;
+    public static final int DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS = 0;
     public static final String DEFAULT_AWS_REGION = "us-east-1";
     @Getter
     @JsonProperty("hosts")
@@ -141,6 +143,11 @@ public class OpenSearchSinkConfig {
     @JsonProperty("flush_timeout")
     private Long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
 
+    @Getter
+    @Min(0)
+    @JsonProperty("max_in_flight_bulk_requests")
+    private Integer maxInFlightBulkRequests = DEFAULT_MAX_IN_FLIGHT_BULK_REQUESTS;
+
     @Getter
     @JsonProperty("document_version_type")
     private String versionType = null;
@@ -46,6 +46,10 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -53,12 +57,14 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -221,7 +227,7 @@ public class BulkIngesterTest {
 
     @Test
     void output_with_invalid_version_expression_catches_NumberFormatException_and_creates_DLQObject() throws IOException {
-        final String versionExpression = UUID.randomUUID().toString();
+        final String versionExpression = "not_a_number";
         when(indexConfiguration.getVersionExpression()).thenReturn(versionExpression);
 
         final Event event = mock(JacksonEvent.class);
@@ -230,8 +236,6 @@ public class BulkIngesterTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenReturn("not_a_number");
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
         final Record<Event> eventRecord = new Record<>(event);
 
         final BulkIngester objectUnderTest = createObjectUnderTest();
@@ -269,10 +273,9 @@ public class BulkIngesterTest {
     }
 
     @ParameterizedTest
-    @MethodSource("invalidVersionExceptionProvider")
+    @MethodSource("invalidVersionExpressionProvider")
     void output_with_invalid_version_expression_does_not_add_event_to_bulk_request(
-            final Class<? extends RuntimeException> exceptionType) throws IOException {
-        final String versionExpression = UUID.randomUUID().toString();
+            final String versionExpression) throws IOException {
         when(indexConfiguration.getVersionExpression()).thenReturn(versionExpression);
 
         final Event event = mock(JacksonEvent.class);
@@ -281,8 +284,6 @@ public class BulkIngesterTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenThrow(exceptionType);
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
         final Record<Event> eventRecord = new Record<>(event);
 
         final BulkIngester objectUnderTest = createObjectUnderTest();
@@ -312,10 +313,10 @@ public class BulkIngesterTest {
         verify(event, times(0)).getJsonNode();
     }
 
-    private static Stream<Arguments> invalidVersionExceptionProvider() {
+    private static Stream<Arguments> invalidVersionExpressionProvider() {
         return Stream.of(
-                Arguments.of(NumberFormatException.class),
-                Arguments.of(RuntimeException.class)
+                Arguments.of("not_a_number"),
+                Arguments.of("${" + UUID.randomUUID() + "}")
         );
     }
 
@@ -352,7 +353,7 @@ public class BulkIngesterTest {
 
     @Test
     void output_with_invalid_version_expression_result_catches_RuntimeException_and_creates_DLQObject() throws IOException {
-        final String versionExpression = UUID.randomUUID().toString();
+        final String versionExpression = "${" + UUID.randomUUID() + "}";
         when(indexConfiguration.getVersionExpression()).thenReturn(versionExpression);
 
         final Event event = mock(JacksonEvent.class);
@@ -361,8 +362,6 @@ public class BulkIngesterTest {
         final EventHandle eventHandle = mock(EventHandle.class);
         when(event.getEventHandle()).thenReturn(eventHandle);
         final String index = UUID.randomUUID().toString();
-        when(event.formatString(versionExpression, expressionEvaluator)).thenThrow(RuntimeException.class);
-        when(event.formatString(indexConfiguration.getIndexAlias(), expressionEvaluator)).thenReturn(index);
         final Record<Event> eventRecord = new Record<>(event);
 
         final BulkIngester objectUnderTest = createObjectUnderTest();
@@ -462,6 +461,77 @@ public class BulkIngesterTest {
         assertThat(isExternalVersioning, equalTo(false));
     }
 
+    @Test
+    void output_with_max_in_flight_bulk_requests_flushes_on_bulk_request_executor() throws Exception {
+        when(indexConfiguration.getMaxInFlightBulkRequests()).thenReturn(1);
+        when(indexConfiguration.getFlushTimeout()).thenReturn(-1L);
+        when(sinkContext.getForwardToPipelines()).thenReturn(Map.of());
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("key", UUID.randomUUID().toString()))
+                .build();
+        final String index = UUID.randomUUID().toString();
+        when(eventActionResolver.resolveAction(event, index)).thenReturn("index");
+        when(eventActionResolver.isValidAction("index")).thenReturn(true);
+
+        final BulkIngester objectUnderTest = createObjectUnderTest();
+        initializeIngester(objectUnderTest);
+        when(indexManager.getIndexName(anyString())).thenReturn(index);
+
+        final BulkRetryStrategy bulkRetryStrategy = mock(BulkRetryStrategy.class);
+        final CompletableFuture<Void> bulkRequestFuture = new CompletableFuture<>();
+        when(bulkRetryStrategy.executeAsync(any(), any(ScheduledExecutorService.class))).thenReturn(bulkRequestFuture);
+        setField(objectUnderTest, "bulkRetryStrategy", bulkRetryStrategy);
+
+        objectUnderTest.output(List.of(new Record<>(event)));
+
+        final ScheduledExecutorService bulkRequestExecutorService = getField(objectUnderTest, "bulkRequestExecutorService");
+        final Semaphore inFlightBulkRequests = getField(objectUnderTest, "inFlightBulkRequests");
+        verify(bulkRetryStrategy).executeAsync(any(), eq(bulkRequestExecutorService));
+        verify(bulkRetryStrategy, never()).execute(any());
+        assertThat(inFlightBulkRequests.availablePermits(), equalTo(0));
+
+        bulkRequestFuture.complete(null);
+
+        assertThat(inFlightBulkRequests.availablePermits(), equalTo(1));
+        verify(bulkRequestTimer).record(anyLong(), eq(TimeUnit.NANOSECONDS));
+        verify(bulkRequestSizeBytesSummary).record(any(Double.class));
+
+        objectUnderTest.shutdown();
+        assertThat(bulkRequestExecutorService.isShutdown(), equalTo(true));
+    }
+
+    @Test
+    void output_with_max_in_flight_bulk_requests_counts_unexpected_bulk_request_failures() throws Exception {
+        when(indexConfiguration.getMaxInFlightBulkRequests()).thenReturn(2);
+        when(indexConfiguration.getFlushTimeout()).thenReturn(-1L);
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Collections.singletonMap("key", UUID.randomUUID().toString()))
+                .build();
+        final String index = UUID.randomUUID().toString();
+        when(eventActionResolver.resolveAction(event, index)).thenReturn("index");
+        when(eventActionResolver.isValidAction("index")).thenReturn(true);
+
+        final BulkIngester objectUnderTest = createObjectUnderTest();
+        initializeIngester(objectUnderTest);
+        when(indexManager.getIndexName(anyString())).thenReturn(index);
+
+        final BulkRetryStrategy bulkRetryStrategy = mock(BulkRetryStrategy.class);
+        when(bulkRetryStrategy.executeAsync(any(), any(ScheduledExecutorService.class)))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException()));
+        setField(objectUnderTest, "bulkRetryStrategy", bulkRetryStrategy);
+
+        objectUnderTest.output(List.of(new Record<>(event)));
+
+        final Semaphore inFlightBulkRequests = getField(objectUnderTest, "inFlightBulkRequests");
+        assertThat(inFlightBulkRequests.availablePermits(), equalTo(2));
+        verify(bulkRequestErrorsCounter).increment();
+        verify(bulkRequestSizeBytesSummary, never()).record(any(Double.class));
+
+        objectUnderTest.shutdown();
+    }
+
     private static Stream<Arguments> externalVersionTypeProvider() {
         return Stream.of(
                 Arguments.of(VersionType.External),
@@ -490,4 +560,10 @@ public class BulkIngesterTest {
         field.setAccessible(true);
         return (T) field.get(target);
     }
+
+    private static void setField(final Object target, final String fieldName, final Object value) throws Exception {
+        java.lang.reflect.Field field = target.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
 }
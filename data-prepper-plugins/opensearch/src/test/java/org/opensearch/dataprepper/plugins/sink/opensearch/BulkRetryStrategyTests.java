@@ -40,6 +40,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
@@ -52,7 +56,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
@@ -599,6 +605,102 @@ public class BulkRetryStrategyTests {
         assertEquals(numEventsFailed, 4);
     }
 
+    @Test
+    public void testExecuteAsyncRetryable() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+        final AccumulatingBulkRequest accumulatingBulkRequest = createAccumulatingBulkRequestWithFourOperations(testIndex);
+
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            bulkRetryStrategy.executeAsync(accumulatingBulkRequest, executor).get(10, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(3, client.attempt);
+        assertEquals("3", client.finalRequest.operations().get(0).index().id());
+        assertEquals("4", client.finalRequest.operations().get(1).index().id());
+        assertEquals(3, numEventsSucceeded);
+        assertEquals(1, numEventsFailed);
+    }
+
+    @Test
+    public void testExecuteAsyncWithMaxRetries() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        final int MAX_RETRIES = 5;
+
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        maxRetriesLimitReached = false;
+        client.maxRetriesTestValue = MAX_RETRIES;
+        logFailureConsumer = this::logFailureMaxRetries;
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer, MAX_RETRIES,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+        final AccumulatingBulkRequest accumulatingBulkRequest = createAccumulatingBulkRequestWithFourOperations(testIndex);
+
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+        try {
+            bulkRetryStrategy.executeAsync(accumulatingBulkRequest, executor).get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(maxRetriesLimitReached, equalTo(true));
+        assertEquals(numEventsSucceeded, 0);
+        assertEquals(numEventsFailed, 4);
+    }
+
+    @Test
+    public void testExecuteAsyncHandlesFailuresWhenRetryCannotBeScheduled() throws Exception {
+        final String testIndex = "bar";
+        final FakeClient client = new FakeClient(testIndex);
+        client.maxRetriesTestValue = 5;
+        client.maxRetriesWithException = true;
+
+        numEventsSucceeded = 0;
+        numEventsFailed = 0;
+        final BulkRetryStrategy bulkRetryStrategy = createObjectUnderTest(
+                client::bulk, logFailureConsumer,
+                () -> new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder()));
+        final AccumulatingBulkRequest accumulatingBulkRequest = createAccumulatingBulkRequestWithFourOperations(testIndex);
+
+        final ScheduledExecutorService executor = mock(ScheduledExecutorService.class);
+        doAnswer(a -> {
+            ((Runnable) a.getArgument(0)).run();
+            return null;
+        }).when(executor).execute(any(Runnable.class));
+        when(executor.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .thenThrow(RejectedExecutionException.class);
+
+        bulkRetryStrategy.executeAsync(accumulatingBulkRequest, executor).get(10, TimeUnit.SECONDS);
+
+        verify(executor).schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+        assertEquals(numEventsSucceeded, 0);
+        assertEquals(numEventsFailed, 4);
+    }
+
+    private AccumulatingBulkRequest createAccumulatingBulkRequestWithFourOperations(final String testIndex) {
+        final IndexOperation<SerializedJson> indexOperation1 = new IndexOperation.Builder<SerializedJson>().index(testIndex).id("1").document(arbitraryDocument()).build();
+        final IndexOperation<SerializedJson> indexOperation2 = new IndexOperation.Builder<SerializedJson>().index(testIndex).id("2").document(arbitraryDocument()).build();
+        final IndexOperation<SerializedJson> indexOperation3 = new IndexOperation.Builder<SerializedJson>().index(testIndex).id("3").document(arbitraryDocument()).build();
+        final IndexOperation<SerializedJson> indexOperation4 = new IndexOperation.Builder<SerializedJson>().index(testIndex).id("4").document(arbitraryDocument()).build();
+        final AccumulatingBulkRequest accumulatingBulkRequest = new JavaClientAccumulatingUncompressedBulkRequest(new BulkRequest.Builder());
+        accumulatingBulkRequest.addOperation(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation1).build(), eventHandle1));
+        accumulatingBulkRequest.addOperation(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation2).build(), eventHandle2));
+        accumulatingBulkRequest.addOperation(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation3).build(), eventHandle3));
+        accumulatingBulkRequest.addOperation(new BulkOperationWrapper(new BulkOperation.Builder().index(indexOperation4).build(), eventHandle4));
+        return accumulatingBulkRequest;
+    }
+
     @Test
     public void testExecuteWithMaxRetriesWithException() throws Exception {
         final String testIndex = "bar";
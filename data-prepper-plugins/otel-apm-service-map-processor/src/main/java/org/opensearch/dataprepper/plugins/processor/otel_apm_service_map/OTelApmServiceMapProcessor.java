@@ -26,12 +26,14 @@ import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import com.google.common.primitives.SignedBytes;
 import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.Node;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.NodeOperationDetail;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.Operation;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal.SpanStateData;
+import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal.SpanStateDataCollectionCodec;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal.ClientSpanDecoration;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal.ServerSpanDecoration;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal.ThreeWindowTraceData;
@@ -41,6 +43,11 @@ import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.i
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal.MetricAggregationState;
 import org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.utils.ApmServiceMapMetricsUtil;
 import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapMemoryLimitExceededException;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapMemoryPool;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateStore;
+import org.opensearch.dataprepper.plugins.processor.state.SegmentedProcessorState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -90,9 +97,9 @@ public class OTelApmServiceMapProcessor extends AbstractProcessor<Record<Event>,
     private static Duration windowDuration;
     private static CyclicBarrier allThreadsCyclicBarrier;
 
-    private static volatile MapDbProcessorState<Collection<SpanStateData>> previousWindow;
-    private static volatile MapDbProcessorState<Collection<SpanStateData>> currentWindow;
-    private static volatile MapDbProcessorState<Collection<SpanStateData>> nextWindow;
+    private static volatile SegmentedProcessorState<Collection<SpanStateData>> previousWindow;
+    private static volatile SegmentedProcessorState<Collection<SpanStateData>> currentWindow;
+    private static volatile SegmentedProcessorState<Collection<SpanStateData>> nextWindow;
     private static File dbPath;
     private static Clock clock;
 
@@ -117,7 +124,9 @@ public class OTelApmServiceMapProcessor extends AbstractProcessor<Record<Event>,
                 pluginMetrics,
                 config.getGroupByAttributes(),
                 config.getMetricTimestampSource(),
-                config.getMetricTimestampGranularity());
+                config.getMetricTimestampGranularity(),
+                config.getStateStore(),
+                config.getStateMemoryLimit());
     }
 
     OTelApmServiceMapProcessor(final Duration windowDuration,
@@ -162,6 +171,21 @@ public class OTelApmServiceMapProcessor extends AbstractProcessor<Record<Event>,
                                final List<String> groupByAttributes,
                                final MetricTimestampSource metricTimestampSource,
                                final MetricTimestampGranularity metricTimestampGranularity) {
+        this(windowDuration, databasePath, clock, processWorkers, eventFactory, pluginMetrics,
+                groupByAttributes, metricTimestampSource, metricTimestampGranularity, ProcessorStateStore.MAPDB, null);
+    }
+
+    OTelApmServiceMapProcessor(final Duration windowDuration,
+                               final File databasePath,
+                               final Clock clock,
+                               final int processWorkers,
+                               final EventFactory eventFactory,
+                               final PluginMetrics pluginMetrics,
+                               final List<String> groupByAttributes,
+                               final MetricTimestampSource metricTimestampSource,
+                               final MetricTimestampGranularity metricTimestampGranularity,
+                               final ProcessorStateStore stateStore,
+                               final ByteCount stateMemoryLimit) {
         super(pluginMetrics);
 
         this.hostId = resolveHostId();
@@ -178,9 +202,17 @@ public class OTelApmServiceMapProcessor extends AbstractProcessor<Record<Event>,
             OTelApmServiceMapProcessor.windowDuration = windowDuration;
             OTelApmServiceMapProcessor.dbPath = createPath(databasePath);
 
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + "-previous", processWorkers);
-            nextWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + "-next", processWorkers);
+            if (stateStore == ProcessorStateStore.OFF_HEAP) {
+                // All three windows share one pool, so the limit bounds the processor as a whole
+                final OffHeapMemoryPool memoryPool = new OffHeapMemoryPool(stateMemoryLimit.getBytes());
+                currentWindow = new OffHeapProcessorState<>(memoryPool, SpanStateDataCollectionCodec.INSTANCE);
+                previousWindow = new OffHeapProcessorState<>(memoryPool, SpanStateDataCollectionCodec.INSTANCE);
+                nextWindow = new OffHeapProcessorState<>(memoryPool, SpanStateDataCollectionCodec.INSTANCE);
+            } else {
+                currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
+                previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + "-previous", processWorkers);
+                nextWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + "-next", processWorkers);
+            }
 
             allThreadsCyclicBarrier = new CyclicBarrier(processWorkers);
         }
@@ -216,6 +248,9 @@ public class OTelApmServiceMapProcessor extends AbstractProcessor<Record<Event>,
                 existingSpans.addAll(spansForTrace);
                 nextWindow.put(traceId, existingSpans);
             }
+        } catch (final OffHeapMemoryLimitExceededException e) {
+            // Fail the batch so that its spans are not lost silently when the state is out of memory
+            throw e;
         } catch (RuntimeException e) {
             LOG.error("Caught exception trying to put batch state data", e);
         }
@@ -550,7 +585,7 @@ public class OTelApmServiceMapProcessor extends AbstractProcessor<Record<Event>,
     private void rotateWindows() throws InterruptedException {
         LOG.debug("Rotating APM service map windows at " + clock.instant().toString());
 
-        MapDbProcessorState<Collection<SpanStateData>> tempWindow = previousWindow;
+        SegmentedProcessorState<Collection<SpanStateData>> tempWindow = previousWindow;
         previousWindow = currentWindow;
         currentWindow = nextWindow;
         nextWindow = tempWindow;
@@ -590,7 +625,7 @@ public class OTelApmServiceMapProcessor extends AbstractProcessor<Record<Event>,
      * @param window The window to extract spans from
      * @return Map of traceId to collection of spans
      */
-    private Map<String, Collection<SpanStateData>> buildSpansByTraceIdMap(final MapDbProcessorState<Collection<SpanStateData>> window) {
+    private Map<String, Collection<SpanStateData>> buildSpansByTraceIdMap(final SegmentedProcessorState<Collection<SpanStateData>> window) {
         final Map<String, Collection<SpanStateData>> spansByTraceId = new HashMap<>();
 
         if (window != null && window.getAll() != null && window.size() > 0) {
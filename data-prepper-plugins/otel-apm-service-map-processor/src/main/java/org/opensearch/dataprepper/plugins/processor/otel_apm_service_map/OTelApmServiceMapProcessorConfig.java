@@ -15,6 +15,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateStore;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -26,6 +29,7 @@ import java.util.List;
 public class OTelApmServiceMapProcessorConfig {
     static final int DEFAULT_WINDOW_DURATION_SECONDS = 60;
     static final String DEFAULT_DB_PATH = "data/otel-apm-service-map/";
+    static final String DEFAULT_STATE_MEMORY_LIMIT = "512mb";
 
     @JsonProperty("window_duration")
     @JsonPropertyDescription("Represents the fixed time window during which APM service map relationships are evaluated. " +
@@ -53,6 +57,17 @@ public class OTelApmServiceMapProcessorConfig {
             "'seconds' (default) truncates to second boundaries. 'minutes' truncates to minute boundaries.")
     private MetricTimestampGranularity metricTimestampGranularity = MetricTimestampGranularity.SECONDS;
 
+    @NotNull
+    @JsonProperty(value = "state_store", defaultValue = "mapdb")
+    @JsonPropertyDescription("The store for window state. Use <code>mapdb</code> to keep Java serialized state on the heap, " +
+            "or <code>off_heap</code> to keep compactly encoded state in direct memory bounded by <code>state_memory_limit</code>.")
+    private ProcessorStateStore stateStore = ProcessorStateStore.MAPDB;
+
+    @NotNull
+    @JsonProperty(value = "state_memory_limit", defaultValue = DEFAULT_STATE_MEMORY_LIMIT)
+    @JsonPropertyDescription("The maximum direct memory which the <code>off_heap</code> state store may use for all windows.")
+    private ByteCount stateMemoryLimit = ByteCount.parse(DEFAULT_STATE_MEMORY_LIMIT);
+
     public Duration getWindowDuration() {
         return windowDuration;
     }
@@ -72,4 +87,12 @@ public class OTelApmServiceMapProcessorConfig {
     public MetricTimestampGranularity getMetricTimestampGranularity() {
         return metricTimestampGranularity;
     }
+
+    public ProcessorStateStore getStateStore() {
+        return stateStore;
+    }
+
+    public ByteCount getStateMemoryLimit() {
+        return stateMemoryLimit;
+    }
 }
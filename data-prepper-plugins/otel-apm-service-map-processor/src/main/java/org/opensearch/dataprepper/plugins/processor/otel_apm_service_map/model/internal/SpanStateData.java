@@ -70,6 +70,41 @@ public class SpanStateData implements Serializable {
         this.environment = OTelSpanDerivationUtil.computeEnvironment(spanAttributes);
     }
 
+    /**
+     * Creates span state data with already derived fields, as read back by {@link SpanStateDataCollectionCodec}.
+     */
+    SpanStateData(final String serviceName,
+                  final String spanId,
+                  final String parentSpanId,
+                  final String traceId,
+                  final String spanKind,
+                  final String spanName,
+                  final String operation,
+                  final Long durationInNanos,
+                  final String status,
+                  final String endTime,
+                  final int error,
+                  final int fault,
+                  final String operationName,
+                  final String environment,
+                  final Map<String, String> groupByAttributes) {
+        this.serviceName = serviceName;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.traceId = traceId;
+        this.spanKind = spanKind;
+        this.spanName = spanName;
+        this.operation = operation;
+        this.durationInNanos = durationInNanos;
+        this.status = status;
+        this.endTime = endTime;
+        this.error = error;
+        this.fault = fault;
+        this.operationName = operationName;
+        this.environment = environment;
+        this.groupByAttributes = groupByAttributes;
+    }
+
     /**
      * Get error indicator
      *
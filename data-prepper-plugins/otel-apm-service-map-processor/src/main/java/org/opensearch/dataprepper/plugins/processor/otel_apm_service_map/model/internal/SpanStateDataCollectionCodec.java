@@ -0,0 +1,93 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal;
+
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateCodec;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import static org.opensearch.dataprepper.plugins.processor.state.ProcessorStateCodecs.readString;
+import static org.opensearch.dataprepper.plugins.processor.state.ProcessorStateCodecs.writeString;
+
+/**
+ * Encodes the spans of a trace for the off-heap window state. Derived fields are stored as they are, so decoding does
+ * not need the span attributes they were computed from.
+ */
+public class SpanStateDataCollectionCodec implements ProcessorStateCodec<Collection<SpanStateData>> {
+    public static final SpanStateDataCollectionCodec INSTANCE = new SpanStateDataCollectionCodec();
+
+    @Override
+    public void encode(final Collection<SpanStateData> spans, final DataOutput output) throws IOException {
+        output.writeInt(spans.size());
+        for (final SpanStateData span : spans) {
+            writeString(output, span.getServiceName());
+            writeString(output, span.getSpanId());
+            writeString(output, span.getParentSpanId());
+            writeString(output, span.getTraceId());
+            writeString(output, span.getSpanKind());
+            writeString(output, span.getSpanName());
+            writeString(output, span.getOperation());
+            output.writeBoolean(span.getDurationInNanos() != null);
+            if (span.getDurationInNanos() != null) {
+                output.writeLong(span.getDurationInNanos());
+            }
+            writeString(output, span.getStatus());
+            writeString(output, span.getEndTime());
+            output.writeInt(span.getError());
+            output.writeInt(span.getFault());
+            writeString(output, span.getOperationName());
+            writeString(output, span.getEnvironment());
+            final Map<String, String> groupByAttributes = span.getGroupByAttributes();
+            output.writeInt(groupByAttributes.size());
+            for (final Map.Entry<String, String> attribute : groupByAttributes.entrySet()) {
+                writeString(output, attribute.getKey());
+                writeString(output, attribute.getValue());
+            }
+        }
+    }
+
+    @Override
+    public Collection<SpanStateData> decode(final DataInput input) throws IOException {
+        final int spanCount = input.readInt();
+        final Collection<SpanStateData> spans = new HashSet<>();
+        for (int i = 0; i < spanCount; i++) {
+            final String serviceName = readString(input);
+            final String spanId = readString(input);
+            final String parentSpanId = readString(input);
+            final String traceId = readString(input);
+            final String spanKind = readString(input);
+            final String spanName = readString(input);
+            final String operation = readString(input);
+            final Long durationInNanos = input.readBoolean() ? input.readLong() : null;
+            final String status = readString(input);
+            final String endTime = readString(input);
+            final int error = input.readInt();
+            final int fault = input.readInt();
+            final String operationName = readString(input);
+            final String environment = readString(input);
+            final int attributeCount = input.readInt();
+            final Map<String, String> groupByAttributes = attributeCount == 0 ? Collections.emptyMap() : new HashMap<>();
+            for (int j = 0; j < attributeCount; j++) {
+                groupByAttributes.put(readString(input), readString(input));
+            }
+            spans.add(new SpanStateData(serviceName, spanId, parentSpanId, traceId, spanKind, spanName, operation,
+                    durationInNanos, status, endTime, error, fault, operationName, environment, groupByAttributes));
+        }
+        return spans;
+    }
+}
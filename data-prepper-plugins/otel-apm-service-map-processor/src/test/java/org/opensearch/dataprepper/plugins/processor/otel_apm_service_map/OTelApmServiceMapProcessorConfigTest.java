@@ -10,6 +10,8 @@
 
 package org.opensearch.dataprepper.plugins.processor.otel_apm_service_map;
 
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateStore;
 import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
 import org.junit.jupiter.api.Test;
@@ -37,6 +39,9 @@ public class OTelApmServiceMapProcessorConfigTest {
         assertThat(otelApmServiceMapProcessorConfig.getGroupByAttributes(), equalTo(Collections.emptyList()));
         assertThat(otelApmServiceMapProcessorConfig.getMetricTimestampSource(), equalTo(MetricTimestampSource.ARRIVAL_TIME));
         assertThat(otelApmServiceMapProcessorConfig.getMetricTimestampGranularity(), equalTo(MetricTimestampGranularity.SECONDS));
+        assertThat(otelApmServiceMapProcessorConfig.getStateStore(), equalTo(ProcessorStateStore.MAPDB));
+        assertThat(otelApmServiceMapProcessorConfig.getStateMemoryLimit().getBytes(),
+                equalTo(ByteCount.parse(OTelApmServiceMapProcessorConfig.DEFAULT_STATE_MEMORY_LIMIT).getBytes()));
     }
 
     @Test
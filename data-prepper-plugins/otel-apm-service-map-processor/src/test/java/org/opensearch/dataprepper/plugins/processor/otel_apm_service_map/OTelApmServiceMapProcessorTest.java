@@ -26,6 +26,9 @@ import org.opensearch.dataprepper.model.event.EventBuilder;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapMemoryLimitExceededException;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateStore;
 import org.opensearch.dataprepper.test.plugins.DataPrepperPluginTest;
 import org.opensearch.dataprepper.test.plugins.junit.BaseDataPrepperPluginStandardTestSuite;
 
@@ -1264,6 +1267,77 @@ class OTelApmServiceMapProcessorTest extends BaseDataPrepperPluginStandardTestSu
         arrivalProcessor.shutdown();
     }
 
+    @Test
+    void testOffHeapStateStore_evaluatesSpansAcrossWindows() {
+        final Instant arrivalTime = Instant.parse("2021-01-01T00:05:00Z");
+        final Instant arrivalTimePlusWindow = arrivalTime.plusSeconds(65);
+
+        when(clock.instant())
+            .thenReturn(arrivalTime)
+            .thenReturn(arrivalTime)
+            .thenReturn(arrivalTimePlusWindow)
+            .thenReturn(arrivalTimePlusWindow)
+            .thenReturn(arrivalTimePlusWindow)
+            .thenReturn(arrivalTimePlusWindow)
+            .thenReturn(arrivalTimePlusWindow.plusSeconds(65));
+
+        final BaseEventBuilder<Event> eventBuilder = mock(EventBuilder.class, RETURNS_DEEP_STUBS);
+        when(eventFactory.eventBuilder(any())).thenReturn(eventBuilder);
+        doAnswer((a) -> {
+            eventMetadata = a.getArgument(0);
+            return eventBuilder;
+        }).when(eventBuilder).withEventMetadata(any());
+        doAnswer((a) -> {
+            eventData = a.getArgument(0);
+            return eventBuilder;
+        }).when(eventBuilder).withData(any());
+        doAnswer((a) -> JacksonEvent.builder()
+                .withEventMetadata(eventMetadata)
+                .withData(eventData)
+                .build()).when(eventBuilder).build();
+
+        final OTelApmServiceMapProcessor offHeapProcessor = new OTelApmServiceMapProcessor(
+            Duration.ofSeconds(60), tempDir, clock, 1, eventFactory, pluginMetrics,
+            Collections.emptyList(), MetricTimestampSource.ARRIVAL_TIME, MetricTimestampGranularity.SECONDS,
+            ProcessorStateStore.OFF_HEAP, ByteCount.parse("1mb"));
+
+        final Span clientSpan = createMockSpanWithIds("client-service", "call", "SPAN_KIND_CLIENT",
+                "1111111111111111", "", "aaaaaaaaaaaaaaaa");
+        final Span serverSpan = createMockSpanWithIds("server-service", "handle", "SPAN_KIND_SERVER",
+                "2222222222222222", "1111111111111111", "aaaaaaaaaaaaaaaa");
+
+        offHeapProcessor.doExecute(Collections.singletonList(new Record<>(clientSpan)));
+        offHeapProcessor.doExecute(Collections.singletonList(new Record<>(serverSpan)));
+        assertThat(offHeapProcessor.getSpansDbCount(), equalTo(2.0));
+        assertTrue(offHeapProcessor.getSpansDbSize() > 0);
+        final Collection<Record<Event>> result = offHeapProcessor.doExecute(Collections.emptyList());
+
+        assertThat(result.isEmpty(), equalTo(false));
+        final Set<String> serviceNames = result.stream()
+                .map(record -> record.getData().get("sourceNode/keyAttributes/name", String.class))
+                .filter(name -> name != null)
+                .collect(Collectors.toSet());
+        assertTrue(serviceNames.contains("client-service"));
+
+        offHeapProcessor.shutdown();
+    }
+
+    @Test
+    void testOffHeapStateStore_throwsWhenStateMemoryLimitIsExceeded() {
+        final OTelApmServiceMapProcessor offHeapProcessor = new OTelApmServiceMapProcessor(
+            Duration.ofSeconds(60), tempDir, clock, 1, eventFactory, pluginMetrics,
+            Collections.emptyList(), MetricTimestampSource.ARRIVAL_TIME, MetricTimestampGranularity.SECONDS,
+            ProcessorStateStore.OFF_HEAP, ByteCount.parse("64b"));
+
+        final Span clientSpan = createMockSpanWithIds("client-service", "call", "SPAN_KIND_CLIENT",
+                "1111111111111111", "", "aaaaaaaaaaaaaaaa");
+
+        assertThrows(OffHeapMemoryLimitExceededException.class,
+                () -> offHeapProcessor.doExecute(Collections.singletonList(new Record<>(clientSpan))));
+
+        offHeapProcessor.shutdown();
+    }
+
     @Test
     void testSpanEndTimeMode_usesSpanEndTime() {
         // Given - span_end_time mode should use span's endTime
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.otel_apm_service_map.model.internal;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SpanStateDataCollectionCodecTest {
+
+    private Collection<SpanStateData> roundTrip(final Collection<SpanStateData> spans) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SpanStateDataCollectionCodec.INSTANCE.encode(spans, new DataOutputStream(outputStream));
+        return SpanStateDataCollectionCodec.INSTANCE.decode(new DataInputStream(new ByteArrayInputStream(outputStream.toByteArray())));
+    }
+
+    @Test
+    void round_trip_keeps_all_fields() throws IOException {
+        final SpanStateData span = new SpanStateData("service", "0102", "0304", "0506", "SPAN_KIND_CLIENT",
+                "GET", "op", 1000L, "ERROR", "2023-01-01T00:00:00Z", Map.of("team", "payments"),
+                Map.of("http.request.method", "GET", "http.path", "/api/users", "deployment.environment.name", "production"));
+
+        final Collection<SpanStateData> decoded = roundTrip(Set.of(span));
+
+        assertThat(decoded.size(), equalTo(1));
+        final SpanStateData decodedSpan = decoded.iterator().next();
+        assertThat(decodedSpan, equalTo(span));
+        assertThat(decodedSpan.getDurationInNanos(), equalTo(span.getDurationInNanos()));
+        assertThat(decodedSpan.getStatus(), equalTo(span.getStatus()));
+        assertThat(decodedSpan.getEndTime(), equalTo(span.getEndTime()));
+        assertThat(decodedSpan.getError(), equalTo(span.getError()));
+        assertThat(decodedSpan.getFault(), equalTo(span.getFault()));
+        assertThat(decodedSpan.getOperationName(), equalTo(span.getOperationName()));
+        assertThat(decodedSpan.getEnvironment(), equalTo(span.getEnvironment()));
+        assertThat(decodedSpan.getGroupByAttributes(), equalTo(span.getGroupByAttributes()));
+    }
+
+    @Test
+    void round_trip_with_null_fields() throws IOException {
+        final SpanStateData span = new SpanStateData("service", "0102", null, "0506", "SPAN_KIND_SERVER",
+                "span", null, null, null, null, null, null);
+
+        final SpanStateData decodedSpan = roundTrip(List.of(span)).iterator().next();
+
+        assertThat(decodedSpan, equalTo(span));
+        assertThat(decodedSpan.getDurationInNanos(), equalTo(null));
+        assertThat(decodedSpan.getGroupByAttributes(), equalTo(Collections.emptyMap()));
+    }
+
+    @Test
+    void round_trip_of_empty_collection() throws IOException {
+        assertThat(roundTrip(Collections.emptySet()).isEmpty(), equalTo(true));
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.record.Record;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TextExpositionParserBenchmark {
+    private static final String[] CPU_MODES = {"idle", "iowait", "irq", "nice", "softirq", "steal", "system", "user"};
+    private static final String[] METHODS = {"GET", "POST", "PUT", "DELETE"};
+    private static final String[] BUCKETS = {"0.005", "0.01", "0.025", "0.05", "0.1", "0.25", "0.5", "1", "2.5", "5", "10", "+Inf"};
+
+    @Param({"1000", "100000"})
+    private int seriesCount;
+
+    private TextExpositionParser parser;
+    private byte[] bodyBytes;
+    private String body;
+
+    @Setup
+    public void setUp() {
+        parser = new TextExpositionParser(false);
+        body = createExporterBody(seriesCount);
+        bodyBytes = body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<Record<Event>> parse_bytes() {
+        return parser.parse(bodyBytes);
+    }
+
+    @Benchmark
+    public List<Record<Event>> parse_string() {
+        return parser.parse(body);
+    }
+
+    /**
+     * Creates a body shaped like the output of node and application exporters: per-CPU counters,
+     * per-device gauges, and request latency histograms and summaries, with help and type lines.
+     */
+    private static String createExporterBody(final int seriesCount) {
+        final StringBuilder builder = new StringBuilder(seriesCount * 96);
+        int series = 0;
+
+        builder.append("# HELP node_cpu_seconds_total Seconds the CPUs spent in each mode.\n");
+        builder.append("# TYPE node_cpu_seconds_total counter\n");
+        for (int cpu = 0; series < seriesCount / 4; cpu++) {
+            for (final String mode : CPU_MODES) {
+                builder.append("node_cpu_seconds_total{cpu=\"").append(cpu).append("\",mode=\"").append(mode).append("\"} ")
+                        .append(cpu * 1000.25 + mode.length()).append('\n');
+                series++;
+            }
+        }
+
+        builder.append("# HELP node_filesystem_avail_bytes Filesystem space available to non-root users in bytes.\n");
+        builder.append("# TYPE node_filesystem_avail_bytes gauge\n");
+        for (int device = 0; series < seriesCount / 2; device++) {
+            builder.append("node_filesystem_avail_bytes{device=\"/dev/nvme").append(device)
+                    .append("n1\",fstype=\"ext4\",mountpoint=\"/data/").append(device).append("\"} ")
+                    .append(1_000_000_000L + device * 4096L).append('\n');
+            series++;
+        }
+
+        builder.append("# HELP http_server_requests_seconds Duration of HTTP server requests.\n");
+        builder.append("# TYPE http_server_requests_seconds histogram\n");
+        for (int route = 0; series < seriesCount * 7 / 8; route++) {
+            final String method = METHODS[route % METHODS.length];
+            final String labels = "job=\"api\",method=\"" + method + "\",route=\"/api/v1/resource" + route + "\"";
+            long cumulative = 0;
+            for (final String bucket : BUCKETS) {
+                cumulative += route % 7 + 1;
+                builder.append("http_server_requests_seconds_bucket{").append(labels).append(",le=\"").append(bucket).append("\"} ")
+                        .append(cumulative).append('\n');
+            }
+            builder.append("http_server_requests_seconds_sum{").append(labels).append("} ").append(cumulative * 0.042).append('\n');
+            builder.append("http_server_requests_seconds_count{").append(labels).append("} ").append(cumulative).append('\n');
+            series += BUCKETS.length + 2;
+        }
+
+        builder.append("# HELP rpc_duration_seconds RPC latency distributions.\n");
+        builder.append("# TYPE rpc_duration_seconds summary\n");
+        for (int service = 0; series < seriesCount; service++) {
+            final String labels = "service=\"service-" + service + "\"";
+            builder.append("rpc_duration_seconds{").append(labels).append(",quantile=\"0.5\"} 0.0125\n");
+            builder.append("rpc_duration_seconds{").append(labels).append(",quantile=\"0.99\"} 0.187\n");
+            builder.append("rpc_duration_seconds_sum{").append(labels).append("} 17.5 1625000000000\n");
+            builder.append("rpc_duration_seconds_count{").append(labels).append("} 1400 1625000000000\n");
+            series += 4;
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads the lines of a Prometheus text exposition body directly from its UTF-8 bytes, without
+ * splitting the body into strings. A cursor is meant to be reused for many bodies by one thread,
+ * so that the metric names and label keys it interns are shared between scrapes.
+ */
+class ExpositionCursor {
+    private static final int INTERN_TABLE_SIZE = 4096;
+    private static final int MAX_INTERNED_LENGTH = 128;
+    /**
+     * Longest number of digits which always fits into a long
+     */
+    private static final int MAX_LONG_DIGITS = 18;
+
+    private final String[] internTable = new String[INTERN_TABLE_SIZE];
+    private byte[] scratch = new byte[64];
+
+    private byte[] bytes;
+    private int end;
+    private int nextLineStart;
+    private int lineStart;
+    private int lineEnd;
+    private int position;
+
+    /**
+     * Creates a cursor positioned on a single, untrimmed line.
+     */
+    static ExpositionCursor forLine(final String line) {
+        final ExpositionCursor cursor = new ExpositionCursor();
+        final byte[] lineBytes = line.getBytes(StandardCharsets.UTF_8);
+        cursor.reset(lineBytes, 0, lineBytes.length);
+        cursor.lineEnd = cursor.end;
+        cursor.nextLineStart = cursor.end;
+        return cursor;
+    }
+
+    void reset(final byte[] bytes, final int offset, final int length) {
+        this.bytes = bytes;
+        this.end = offset + length;
+        this.nextLineStart = offset;
+        this.lineStart = offset;
+        this.lineEnd = offset;
+        this.position = offset;
+    }
+
+    /**
+     * Drops the reference to the body so that a cursor kept by a thread does not hold on to it.
+     */
+    void release() {
+        reset(null, 0, 0);
+    }
+
+    /**
+     * Moves to the next line, with leading and trailing whitespace removed.
+     *
+     * @return false if there are no more lines
+     */
+    boolean nextLine() {
+        if (nextLineStart >= end) {
+            return false;
+        }
+        int start = nextLineStart;
+        int newLine = start;
+        while (newLine < end && bytes[newLine] != '\n') {
+            newLine++;
+        }
+        nextLineStart = newLine + 1;
+
+        int stop = newLine;
+        while (start < stop && isControlOrSpace(bytes[start])) {
+            start++;
+        }
+        while (stop > start && isControlOrSpace(bytes[stop - 1])) {
+            stop--;
+        }
+        lineStart = start;
+        lineEnd = stop;
+        position = start;
+        return true;
+    }
+
+    boolean hasRemaining() {
+        return position < lineEnd;
+    }
+
+    byte peek() {
+        return bytes[position];
+    }
+
+    void advance() {
+        position++;
+    }
+
+    void skip(final int count) {
+        position = Math.min(position + count, lineEnd);
+    }
+
+    int position() {
+        return position;
+    }
+
+    boolean startsWith(final byte[] prefix) {
+        if (lineEnd - position < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[position + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Skips whitespace as defined by {@link Character#isWhitespace(char)}.
+     */
+    void skipWhitespace() {
+        while (position < lineEnd && isWhitespace(bytes[position])) {
+            position++;
+        }
+    }
+
+    /**
+     * Skips whitespace as defined by {@link String#trim()}.
+     */
+    void skipControlAndSpace() {
+        while (position < lineEnd && isControlOrSpace(bytes[position])) {
+            position++;
+        }
+    }
+
+    /**
+     * Reads a metric name, which ends at an opening brace or whitespace.
+     *
+     * @return The interned name, or null if there is no name at the current position
+     */
+    String readName() {
+        final int start = position;
+        while (position < lineEnd && bytes[position] != '{' && !isWhitespace(bytes[position])) {
+            position++;
+        }
+        return position == start ? null : internedString(start, position);
+    }
+
+    /**
+     * Reads up to the given delimiter and moves past it.
+     *
+     * @return The interned string before the delimiter, or null if the line does not contain the delimiter
+     */
+    String readUntil(final byte delimiter) {
+        for (int i = position; i < lineEnd; i++) {
+            if (bytes[i] == delimiter) {
+                final String value = internedString(position, i);
+                position = i + 1;
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the rest of the line.
+     *
+     * @return The interned string
+     */
+    String readRemaining() {
+        final String value = internedString(position, lineEnd);
+        position = lineEnd;
+        return value;
+    }
+
+    /**
+     * Reads a label key, which ends at an equals sign and is trimmed, and moves past the equals sign.
+     *
+     * @return The interned key, or null if the label has no equals sign before a closing brace or the end of the line
+     */
+    String readLabelKey() {
+        int start = position;
+        while (position < lineEnd && bytes[position] != '=' && bytes[position] != '}') {
+            position++;
+        }
+        if (position >= lineEnd || bytes[position] != '=') {
+            return null;
+        }
+        int stop = position;
+        while (start < stop && isControlOrSpace(bytes[start])) {
+            start++;
+        }
+        while (stop > start && isControlOrSpace(bytes[stop - 1])) {
+            stop--;
+        }
+        position++;
+        return internedString(start, stop);
+    }
+
+    /**
+     * Reads a label value after its opening quote, unescaping \", \\ and \n, and moves past the closing quote.
+     * A value without a closing quote extends to the end of the line.
+     */
+    String readQuotedValue() {
+        final int start = position;
+        while (position < lineEnd) {
+            final byte b = bytes[position];
+            if (b == '"') {
+                position++;
+                return new String(bytes, start, position - 1 - start, StandardCharsets.UTF_8);
+            }
+            if (b == '\\') {
+                return readEscapedValue(start);
+            }
+            position++;
+        }
+        return new String(bytes, start, position - start, StandardCharsets.UTF_8);
+    }
+
+    private String readEscapedValue(final int start) {
+        ensureScratchCapacity(lineEnd - start);
+        int length = position - start;
+        System.arraycopy(bytes, start, scratch, 0, length);
+        while (position < lineEnd) {
+            final byte b = bytes[position];
+            if (b == '\\' && position + 1 < lineEnd) {
+                final byte next = bytes[position + 1];
+                if (next == '"' || next == '\\') {
+                    scratch[length++] = next;
+                    position += 2;
+                } else if (next == 'n') {
+                    scratch[length++] = '\n';
+                    position += 2;
+                } else {
+                    scratch[length++] = b;
+                    position++;
+                }
+            } else if (b == '"') {
+                position++;
+                break;
+            } else {
+                scratch[length++] = b;
+                position++;
+            }
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a sample value, which ends at whitespace.
+     *
+     * @throws NumberFormatException if the value is not a number
+     */
+    double readValue() {
+        final int start = position;
+        while (position < lineEnd && !isWhitespace(bytes[position])) {
+            position++;
+        }
+        // Negative integers are left to Double#parseDouble, which keeps the sign of -0
+        if (isLongInteger(start, position) && bytes[start] != '-') {
+            return parseLong(start, position);
+        }
+        return TextExpositionParser.parseValue(new String(bytes, start, position - start, StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Reads a timestamp from the rest of the line. Timestamps with a fraction are in seconds, others in milliseconds.
+     *
+     * @throws NumberFormatException if the timestamp is not a number
+     */
+    long readTimestamp() {
+        final int start = position;
+        position = lineEnd;
+        if (isLongInteger(start, lineEnd)) {
+            return parseLong(start, lineEnd);
+        }
+        final String timestamp = new String(bytes, start, lineEnd - start, StandardCharsets.ISO_8859_1);
+        if (timestamp.contains(".")) {
+            return (long) (Double.parseDouble(timestamp) * 1000);
+        }
+        return Long.parseLong(timestamp);
+    }
+
+    /**
+     * @return The current line, for log messages
+     */
+    String line() {
+        return new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets a string for the given bytes, reusing an earlier string with the same ASCII content if it is still in the
+     * intern table. The table is direct-mapped, so a colliding string replaces the earlier one and its size stays bounded.
+     */
+    String internedString(final int start, final int stop) {
+        final int length = stop - start;
+        if (length > MAX_INTERNED_LENGTH) {
+            return new String(bytes, start, length, StandardCharsets.UTF_8);
+        }
+        int hash = 0;
+        for (int i = start; i < stop; i++) {
+            final byte b = bytes[i];
+            if (b < 0) {
+                return new String(bytes, start, length, StandardCharsets.UTF_8);
+            }
+            // Same as String#hashCode for ASCII
+            hash = 31 * hash + b;
+        }
+        final int slot = (hash ^ (hash >>> 16)) & (INTERN_TABLE_SIZE - 1);
+        final String cached = internTable[slot];
+        if (cached != null && cached.hashCode() == hash && matches(cached, start, length)) {
+            return cached;
+        }
+        final String value = new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+        internTable[slot] = value;
+        return value;
+    }
+
+    private boolean matches(final String value, final int start, final int length) {
+        if (value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) != bytes[start + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean isLongInteger(final int start, final int stop) {
+        final int digitsStart = start < stop && bytes[start] == '-' ? start + 1 : start;
+        final int digits = stop - digitsStart;
+        if (digits == 0 || digits > MAX_LONG_DIGITS) {
+            return false;
+        }
+        for (int i = digitsStart; i < stop; i++) {
+            if (bytes[i] < '0' || bytes[i] > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long parseLong(final int start, final int stop) {
+        final boolean negative = bytes[start] == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < stop; i++) {
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private void ensureScratchCapacity(final int capacity) {
+        if (scratch.length < capacity) {
+            scratch = Arrays.copyOf(scratch, Math.max(capacity, scratch.length * 2));
+        }
+    }
+
+    private static boolean isWhitespace(final byte b) {
+        return b == ' ' || (b >= 0x09 && b <= 0x0D) || (b >= 0x1C && b <= 0x1F);
+    }
+
+    private static boolean isControlOrSpace(final byte b) {
+        return b >= 0 && b <= ' ';
+    }
+}
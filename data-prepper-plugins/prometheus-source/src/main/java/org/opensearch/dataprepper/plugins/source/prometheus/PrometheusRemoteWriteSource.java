@@ -84,7 +84,10 @@ public class PrometheusRemoteWriteSource extends BaseHttpSource<Record<Event>> {
 
     @Override
     public BaseHttpService getHttpService(final int bufferWriteTimeoutInMillis, final Buffer<Record<Event>> buffer, final PluginMetrics pluginMetrics) {
+        final SeriesLabelCache seriesLabelCache = sourceConfig.getSeriesCacheSize() > 0
+                ? new SeriesLabelCache(sourceConfig.getSeriesCacheSize(), pluginMetrics)
+                : null;
         return new PrometheusRemoteWriteService(bufferWriteTimeoutInMillis, buffer, pluginMetrics,
-                new RemoteWriteProtobufParser(sourceConfig));
+                new RemoteWriteProtobufParser(sourceConfig, seriesLabelCache));
     }
 }
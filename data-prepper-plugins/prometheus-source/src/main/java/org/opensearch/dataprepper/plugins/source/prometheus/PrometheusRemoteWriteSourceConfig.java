@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.source.prometheus;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
 import org.opensearch.dataprepper.http.BaseHttpServerConfig;
 
 /**
@@ -22,10 +23,15 @@ public class PrometheusRemoteWriteSourceConfig extends BaseHttpServerConfig {
 
     static final String DEFAULT_REMOTE_WRITE_URI = "/api/v1/write";
     static final int DEFAULT_PORT = 9090;
+    static final int DEFAULT_SERIES_CACHE_SIZE = 100_000;
 
     @JsonProperty("flatten_labels")
     private boolean flattenLabels = false;
 
+    @Min(0)
+    @JsonProperty("series_cache_size")
+    private int seriesCacheSize = DEFAULT_SERIES_CACHE_SIZE;
+
     @Valid
     @JsonProperty("scrape")
     private PrometheusScrapeConfig scrapeConfig;
@@ -49,6 +55,15 @@ public class PrometheusRemoteWriteSourceConfig extends BaseHttpServerConfig {
         return flattenLabels;
     }
 
+    /**
+     * The maximum number of label sets whose parsed labels are kept between remote write requests.
+     *
+     * @return the cache size, or 0 if parsed labels are not cached
+     */
+    public int getSeriesCacheSize() {
+        return seriesCacheSize;
+    }
+
     public PrometheusScrapeConfig getScrapeConfig() {
         return scrapeConfig;
     }
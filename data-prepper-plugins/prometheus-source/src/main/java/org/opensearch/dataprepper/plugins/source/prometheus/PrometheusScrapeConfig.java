@@ -12,6 +12,7 @@ package org.opensearch.dataprepper.plugins.source.prometheus;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotEmpty;
 import java.net.URI;
 import java.time.Duration;
@@ -30,6 +31,10 @@ public class PrometheusScrapeConfig {
     @JsonProperty("scrape_timeout")
     private Duration scrapeTimeout = Duration.ofSeconds(10);
 
+    @JsonProperty("max_concurrent_scrapes")
+    @Min(1)
+    private int maxConcurrentScrapes = 4;
+
     @JsonProperty("flatten_labels")
     private boolean flattenLabels = false;
 
@@ -54,6 +59,10 @@ public class PrometheusScrapeConfig {
         return scrapeTimeout;
     }
 
+    public int getMaxConcurrentScrapes() {
+        return maxConcurrentScrapes;
+    }
+
     public boolean isFlattenLabels() {
         return flattenLabels;
     }
@@ -19,14 +19,21 @@ import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Service that periodically scrapes Prometheus metrics endpoints and writes the parsed
- * metrics into the Data Prepper buffer.
+ * metrics into the Data Prepper buffer. The targets of each round are scraped concurrently
+ * on a bounded pool, and a target which has not finished when its next round is due is cancelled.
  */
 public class PrometheusScrapeService {
 
@@ -37,6 +44,7 @@ public class PrometheusScrapeService {
     static final String SCRAPE_FAILURE_METRIC = "scrapeFailure";
     static final String RECORDS_CREATED_METRIC = "recordsCreated";
     static final String SCRAPE_DURATION_METRIC = "scrapeDuration";
+    static final String SCRAPE_DEADLINE_EXCEEDED_METRIC = "scrapeDeadlineExceeded";
 
     private final PrometheusScrapeConfig config;
     private final Buffer<Record<Event>> buffer;
@@ -44,10 +52,12 @@ public class PrometheusScrapeService {
     private final ScrapeTargetScraper scraper;
     private final TextExpositionParser parser;
     private final ScheduledExecutorService executor;
+    private final ExecutorService scrapeExecutor;
     private final Counter scrapeRequestsCounter;
     private final Counter scrapeSuccessCounter;
     private final Counter scrapeFailureCounter;
     private final Counter recordsCreatedCounter;
+    private final Counter scrapeDeadlineExceededCounter;
     private final Timer scrapeDurationTimer;
 
     public PrometheusScrapeService(final PrometheusScrapeConfig config,
@@ -64,10 +74,17 @@ public class PrometheusScrapeService {
             t.setDaemon(true);
             return t;
         });
+        final AtomicInteger scrapeThreadCount = new AtomicInteger();
+        this.scrapeExecutor = Executors.newFixedThreadPool(config.getMaxConcurrentScrapes(), r -> {
+            final Thread t = new Thread(r, "prometheus-scrape-worker-" + scrapeThreadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
         this.scrapeRequestsCounter = pluginMetrics.counter(SCRAPE_REQUESTS_METRIC);
         this.scrapeSuccessCounter = pluginMetrics.counter(SCRAPE_SUCCESS_METRIC);
         this.scrapeFailureCounter = pluginMetrics.counter(SCRAPE_FAILURE_METRIC);
         this.recordsCreatedCounter = pluginMetrics.counter(RECORDS_CREATED_METRIC);
+        this.scrapeDeadlineExceededCounter = pluginMetrics.counter(SCRAPE_DEADLINE_EXCEEDED_METRIC);
         this.scrapeDurationTimer = pluginMetrics.timer(SCRAPE_DURATION_METRIC);
     }
 
@@ -79,23 +96,41 @@ public class PrometheusScrapeService {
     void scrapeAll() {
         try {
             final List<ScrapeTargetConfig> targets = config.getTargets();
+            final long deadlineNanos = System.nanoTime() + config.getScrapeInterval().toNanos();
+            final List<Future<?>> scrapes = new ArrayList<>(targets.size());
             for (final ScrapeTargetConfig target : targets) {
-                try {
-                    scrapeTarget(target.getUrl());
-                } catch (final Exception e) {
-                    LOG.error("Failed to scrape target {}", target.getUrl(), e);
-                }
+                scrapes.add(scrapeExecutor.submit(() -> scrapeTarget(target.getUrl())));
+            }
+            for (int i = 0; i < targets.size(); i++) {
+                awaitScrape(targets.get(i).getUrl(), scrapes.get(i), deadlineNanos);
             }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
         } catch (final Throwable t) {
             LOG.error("Unexpected error in scrapeAll", t);
         }
     }
 
+    private void awaitScrape(final String url, final Future<?> scrape, final long deadlineNanos) throws InterruptedException {
+        try {
+            scrape.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException e) {
+            scrape.cancel(true);
+            scrapeDeadlineExceededCounter.increment();
+            LOG.warn("Scraping target {} did not finish before its next scrape was due and was cancelled", url);
+        } catch (final ExecutionException e) {
+            LOG.error("Failed to scrape target {}", url, e.getCause());
+        } catch (final InterruptedException e) {
+            scrape.cancel(true);
+            throw e;
+        }
+    }
+
     void scrapeTarget(final String url) {
         scrapeDurationTimer.record(() -> {
             scrapeRequestsCounter.increment();
             try {
-                final String body = scraper.scrape(url);
+                final byte[] body = scraper.scrapeBytes(url);
                 final List<Record<Event>> records = parser.parse(body);
                 buffer.writeAll(records, bufferWriteTimeoutMs);
                 recordsCreatedCounter.increment(records.size());
@@ -120,6 +155,7 @@ public class PrometheusScrapeService {
                 Thread.currentThread().interrupt();
             }
         } finally {
+            scrapeExecutor.shutdownNow();
             scraper.close();
         }
     }
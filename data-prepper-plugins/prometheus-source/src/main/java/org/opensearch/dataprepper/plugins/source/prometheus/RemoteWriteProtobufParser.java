@@ -27,7 +27,9 @@ import com.arpnetworking.metrics.prometheus.Types;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -62,6 +64,9 @@ import java.util.TreeMap;
  *       sub-grouped by common label set and sample timestamp to produce one event per distinct
  *       combination.</li>
  * </ol>
+ *
+ * <p>When a {@link SeriesLabelCache} is given, the parsed labels of each label set are kept between
+ * requests, so a series that is sent again reuses its attribute maps and grouping key.
  */
 public class RemoteWriteProtobufParser {
 
@@ -77,9 +82,19 @@ public class RemoteWriteProtobufParser {
     private static final String CREATED_SUFFIX = "_created";
 
     private final PrometheusRemoteWriteSourceConfig config;
+    private final SeriesLabelCache seriesLabelCache;
 
     public RemoteWriteProtobufParser(final PrometheusRemoteWriteSourceConfig config) {
+        this(config, null);
+    }
+
+    /**
+     * @param config the source configuration
+     * @param seriesLabelCache the cache of parsed labels, or null to parse the labels of every time series
+     */
+    RemoteWriteProtobufParser(final PrometheusRemoteWriteSourceConfig config, final SeriesLabelCache seriesLabelCache) {
         this.config = config;
+        this.seriesLabelCache = seriesLabelCache;
     }
 
     /**
@@ -125,16 +140,17 @@ public class RemoteWriteProtobufParser {
 
         final List<ParsedLabels> allParsedLabels = new ArrayList<>(timeSeriesList.size());
         for (final Types.TimeSeries timeSeries : timeSeriesList) {
-            allParsedLabels.add(parseLabels(timeSeries));
+            allParsedLabels.add(seriesLabelCache != null
+                    ? seriesLabelCache.get(timeSeries, RemoteWriteProtobufParser::parseLabels)
+                    : parseLabels(timeSeries));
         }
 
         final Set<String> histogramBaseNames = new HashSet<>();
         final Set<String> summaryBaseNames = new HashSet<>();
 
         for (final ParsedLabels labels : allParsedLabels) {
-            if (labels.metricName.endsWith(BUCKET_SUFFIX) && labels.hasLe) {
-                histogramBaseNames.add(
-                        labels.metricName.substring(0, labels.metricName.length() - BUCKET_SUFFIX.length()));
+            if (labels.isBucket()) {
+                histogramBaseNames.add(labels.groupBaseName);
             } else if (labels.hasQuantile) {
                 summaryBaseNames.add(labels.metricName);
             }
@@ -147,52 +163,34 @@ public class RemoteWriteProtobufParser {
         for (int i = 0; i < timeSeriesList.size(); i++) {
             final Types.TimeSeries timeSeries = timeSeriesList.get(i);
             final ParsedLabels labels = allParsedLabels.get(i);
-            final String name = labels.metricName;
+            final String base = labels.groupBaseName;
 
-            if (name.endsWith(BUCKET_SUFFIX) && labels.hasLe) {
-                final String base = name.substring(0, name.length() - BUCKET_SUFFIX.length());
-                final String groupKey = base + "|" + labels.commonLabelKey;
-                histogramGroups.computeIfAbsent(groupKey, k -> new HistogramGroup(base))
+            if (labels.isBucket()) {
+                histogramGroups.computeIfAbsent(labels.groupKey, k -> new HistogramGroup(base))
                         .addBucket(timeSeries, labels);
 
             } else if (labels.hasQuantile) {
-                final String groupKey = name + "|" + labels.commonLabelKey;
-                summaryGroups.computeIfAbsent(groupKey, k -> new SummaryGroup(name))
+                summaryGroups.computeIfAbsent(labels.groupKey, k -> new SummaryGroup(base))
                         .addQuantile(timeSeries, labels);
 
-            } else if (name.endsWith(COUNT_SUFFIX)) {
-                final String base = name.substring(0, name.length() - COUNT_SUFFIX.length());
-                if (histogramBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    histogramGroups.computeIfAbsent(groupKey, k -> new HistogramGroup(base))
-                            .setCount(timeSeries);
-                } else if (summaryBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    summaryGroups.computeIfAbsent(groupKey, k -> new SummaryGroup(base))
-                            .setCount(timeSeries);
+            } else if (base != null && histogramBaseNames.contains(base)) {
+                final HistogramGroup group = histogramGroups.computeIfAbsent(labels.groupKey, k -> new HistogramGroup(base));
+                if (labels.metricName.endsWith(COUNT_SUFFIX)) {
+                    group.setCount(timeSeries);
                 } else {
-                    standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, false));
+                    group.setSum(timeSeries);
                 }
 
-            } else if (name.endsWith(SUM_SUFFIX)) {
-                final String base = name.substring(0, name.length() - SUM_SUFFIX.length());
-                if (histogramBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    histogramGroups.computeIfAbsent(groupKey, k -> new HistogramGroup(base))
-                            .setSum(timeSeries);
-                } else if (summaryBaseNames.contains(base)) {
-                    final String groupKey = base + "|" + labels.commonLabelKey;
-                    summaryGroups.computeIfAbsent(groupKey, k -> new SummaryGroup(base))
-                            .setSum(timeSeries);
+            } else if (base != null && summaryBaseNames.contains(base)) {
+                final SummaryGroup group = summaryGroups.computeIfAbsent(labels.groupKey, k -> new SummaryGroup(base));
+                if (labels.metricName.endsWith(COUNT_SUFFIX)) {
+                    group.setCount(timeSeries);
                 } else {
-                    standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, false));
+                    group.setSum(timeSeries);
                 }
 
-            } else if (isCounter(name)) {
-                standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, true));
-
             } else {
-                standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, false));
+                standaloneList.add(new StandaloneTimeSeries(timeSeries, labels, isCounter(labels.metricName)));
             }
         }
 
@@ -216,7 +214,7 @@ public class RemoteWriteProtobufParser {
      * Parses labels from a TimeSeries, extracting the metric name, detecting special labels,
      * and computing a common label key for label-set grouping.
      */
-    private static ParsedLabels parseLabels(final Types.TimeSeries timeSeries) {
+    static ParsedLabels parseLabels(final Types.TimeSeries timeSeries) {
         String metricName = DEFAULT_METRIC_NAME;
         final Map<String, Object> attributes = new HashMap<>();
         boolean hasLe = false;
@@ -235,12 +233,17 @@ public class RemoteWriteProtobufParser {
             }
         }
 
-        final Map<String, Object> commonLabels = new HashMap<>(attributes);
-        commonLabels.remove(LE_LABEL);
-        commonLabels.remove(QUANTILE_LABEL);
+        final Map<String, Object> commonLabels;
+        if (hasLe || hasQuantile) {
+            commonLabels = new HashMap<>(attributes);
+            commonLabels.remove(LE_LABEL);
+            commonLabels.remove(QUANTILE_LABEL);
+        } else {
+            commonLabels = attributes;
+        }
         final String commonLabelKey = buildSortedLabelKey(commonLabels);
 
-        return new ParsedLabels(metricName, attributes, Collections.unmodifiableMap(commonLabels),
+        return new ParsedLabels(metricName, Collections.unmodifiableMap(attributes), Collections.unmodifiableMap(commonLabels),
                 commonLabelKey, hasLe, hasQuantile);
     }
 
@@ -268,56 +271,62 @@ public class RemoteWriteProtobufParser {
      * across all bucket TimeSeries
      */
     private List<Record<Event>> convertHistogramGroup(final HistogramGroup group) {
-        final Map<Long, Boolean> timestampOrder = new LinkedHashMap<>();
-        for (final BucketEntry bucket : group.buckets) {
-            for (final Types.Sample sample : bucket.timeSeries.getSamplesList()) {
-                timestampOrder.put(sample.getTimestamp(), Boolean.TRUE);
-            }
-        }
+        final long[] timestamps = distinctTimestamps(group.buckets);
 
-        if (timestampOrder.isEmpty()) {
+        if (timestamps.length == 0) {
             return new ArrayList<>();
         }
 
+        final List<SeriesEntry> sortedBuckets = new ArrayList<>(group.buckets.size());
+        for (final SeriesEntry bucket : group.buckets) {
+            if (bucket.labels.leBound != null) {
+                sortedBuckets.add(bucket);
+            }
+        }
+        sortedBuckets.sort(Comparator.comparingDouble(bucket -> bucket.labels.leBound));
+
         final List<Record<Event>> records = new ArrayList<>();
-        final Map<String, Object> commonAttributes = new HashMap<>(group.buckets.get(0).labels.commonLabels);
-        final String serviceName = PrometheusMetricUtils.extractServiceName(commonAttributes);
+        final ParsedLabels groupLabels = group.buckets.get(0).labels;
         final Instant timeReceived = Instant.now();
-
-        for (final long ts : timestampOrder.keySet()) {
-            final TreeMap<Double, Long> cumulativeBuckets = new TreeMap<>();
-            for (final BucketEntry bucket : group.buckets) {
-                final Double leBound = PrometheusMetricUtils.parseLeValue((String) bucket.labels.attributes.get(LE_LABEL));
-                if (leBound == null) {
+        final double[] bounds = new double[sortedBuckets.size()];
+        final long[] cumulativeCounts = new long[sortedBuckets.size()];
+
+        for (final long ts : timestamps) {
+            int bucketCount = 0;
+            for (final SeriesEntry bucket : sortedBuckets) {
+                final Types.Sample sample = findSample(bucket.timeSeries, ts);
+                if (sample == null) {
                     continue;
                 }
-                for (final Types.Sample sample : bucket.timeSeries.getSamplesList()) {
-                    if (sample.getTimestamp() == ts) {
-                        cumulativeBuckets.put(leBound, (long) sample.getValue());
-                        break;
-                    }
+                final double leBound = bucket.labels.leBound;
+                // A later bucket with the same bound replaces the earlier one
+                if (bucketCount > 0 && Double.compare(bounds[bucketCount - 1], leBound) == 0) {
+                    bucketCount--;
                 }
+                bounds[bucketCount] = leBound;
+                cumulativeCounts[bucketCount] = (long) sample.getValue();
+                bucketCount++;
             }
 
-            if (cumulativeBuckets.isEmpty()) {
+            if (bucketCount == 0) {
                 continue;
             }
 
-            final List<Double> explicitBounds = new ArrayList<>();
-            final List<Long> perBucketCounts = new ArrayList<>();
+            final List<Double> explicitBounds = new ArrayList<>(bucketCount);
+            final List<Long> perBucketCounts = new ArrayList<>(bucketCount);
             long previousCumulative = 0;
-            for (final Map.Entry<Double, Long> entry : cumulativeBuckets.entrySet()) {
-                long perBucket = entry.getValue() - previousCumulative;
+            for (int i = 0; i < bucketCount; i++) {
+                long perBucket = cumulativeCounts[i] - previousCumulative;
                 if (perBucket < 0) {
                     LOG.warn("Negative per-bucket count detected for histogram '{}' at le={}: cumulative={}, previous={}. Clamping to 0.",
-                            group.baseName, entry.getKey(), entry.getValue(), previousCumulative);
+                            group.baseName, bounds[i], cumulativeCounts[i], previousCumulative);
                     perBucket = 0;
                 }
                 perBucketCounts.add(perBucket);
-                if (!Double.isInfinite(entry.getKey())) {
-                    explicitBounds.add(entry.getKey());
+                if (!Double.isInfinite(bounds[i])) {
+                    explicitBounds.add(bounds[i]);
                 }
-                previousCumulative = entry.getValue();
+                previousCumulative = cumulativeCounts[i];
             }
 
             double sumValue = 0.0;
@@ -341,8 +350,8 @@ public class RemoteWriteProtobufParser {
                     .withBucketCount(perBucketCounts.size())
                     .withExplicitBoundsCount(explicitBounds.size())
                     .withAggregationTemporality(PrometheusMetricUtils.AGGREGATION_TEMPORALITY_CUMULATIVE)
-                    .withAttributes(new HashMap<>(commonAttributes))
-                    .withServiceName(serviceName)
+                    .withAttributes(groupLabels.commonLabels)
+                    .withServiceName(groupLabels.serviceName)
                     .withTimeReceived(timeReceived)
                     .build(config.isFlattenLabels());
 
@@ -357,36 +366,26 @@ public class RemoteWriteProtobufParser {
      * across all quantile TimeSeries
      */
     private List<Record<Event>> convertSummaryGroup(final SummaryGroup group) {
-        final Map<Long, Boolean> timestampOrder = new LinkedHashMap<>();
-        for (final QuantileEntry qe : group.quantiles) {
-            for (final Types.Sample sample : qe.timeSeries.getSamplesList()) {
-                timestampOrder.put(sample.getTimestamp(), Boolean.TRUE);
-            }
-        }
+        final long[] timestamps = distinctTimestamps(group.quantiles);
 
-        if (timestampOrder.isEmpty()) {
+        if (timestamps.length == 0) {
             return new ArrayList<>();
         }
 
         final List<Record<Event>> records = new ArrayList<>();
-        final Map<String, Object> commonAttributes = new HashMap<>(group.quantiles.get(0).labels.commonLabels);
-        final String serviceName = PrometheusMetricUtils.extractServiceName(commonAttributes);
+        final ParsedLabels groupLabels = group.quantiles.get(0).labels;
         final Instant timeReceived = Instant.now();
 
-        for (final long ts : timestampOrder.keySet()) {
-            final List<Quantile> quantiles = new ArrayList<>();
+        for (final long ts : timestamps) {
+            final List<Quantile> quantiles = new ArrayList<>(group.quantiles.size());
 
-            for (final QuantileEntry qe : group.quantiles) {
-                final Double quantileValue = PrometheusMetricUtils.parseQuantileValue(
-                        (String) qe.labels.attributes.get(QUANTILE_LABEL));
-                if (quantileValue == null) {
+            for (final SeriesEntry qe : group.quantiles) {
+                if (qe.labels.quantileValue == null) {
                     continue;
                 }
-                for (final Types.Sample sample : qe.timeSeries.getSamplesList()) {
-                    if (sample.getTimestamp() == ts) {
-                        quantiles.add(new DefaultQuantile(quantileValue, sample.getValue()));
-                        break;
-                    }
+                final Types.Sample sample = findSample(qe.timeSeries, ts);
+                if (sample != null) {
+                    quantiles.add(new DefaultQuantile(qe.labels.quantileValue, sample.getValue()));
                 }
             }
 
@@ -412,8 +411,8 @@ public class RemoteWriteProtobufParser {
                     .withCount(countValue)
                     .withQuantiles(quantiles)
                     .withQuantilesValueCount(quantiles.size())
-                    .withAttributes(new HashMap<>(commonAttributes))
-                    .withServiceName(serviceName)
+                    .withAttributes(groupLabels.commonLabels)
+                    .withServiceName(groupLabels.serviceName)
                     .withTimeReceived(timeReceived)
                     .build(config.isFlattenLabels());
 
@@ -424,32 +423,32 @@ public class RemoteWriteProtobufParser {
     }
 
     private List<Record<Event>> convertStandalone(final StandaloneTimeSeries standalone) {
-        final List<Record<Event>> records = new ArrayList<>();
-        final String serviceName = PrometheusMetricUtils.extractServiceName(standalone.labels.attributes);
+        final List<Record<Event>> records = new ArrayList<>(standalone.timeSeries.getSamplesCount());
+        final ParsedLabels labels = standalone.labels;
+        final String counterName = standalone.isCounter ? PrometheusMetricUtils.stripCounterSuffix(labels.metricName) : null;
         final Instant timeReceived = Instant.now();
 
         for (final Types.Sample sample : standalone.timeSeries.getSamplesList()) {
             final String timestamp = resolveTimestamp(sample.getTimestamp());
 
             if (standalone.isCounter) {
-                final String counterName = PrometheusMetricUtils.stripCounterSuffix(standalone.labels.metricName);
                 records.add(new Record<>(JacksonSum.builder()
                         .withName(counterName)
                         .withTime(timestamp)
                         .withValue(sample.getValue())
-                        .withAttributes(new HashMap<>(standalone.labels.attributes))
+                        .withAttributes(labels.attributes)
                         .withIsMonotonic(true)
                         .withAggregationTemporality(PrometheusMetricUtils.AGGREGATION_TEMPORALITY_CUMULATIVE)
-                        .withServiceName(serviceName)
+                        .withServiceName(labels.serviceName)
                         .withTimeReceived(timeReceived)
                         .build(config.isFlattenLabels())));
             } else {
                 records.add(new Record<>(JacksonGauge.builder()
-                        .withName(standalone.labels.metricName)
+                        .withName(labels.metricName)
                         .withTime(timestamp)
                         .withValue(sample.getValue())
-                        .withAttributes(new HashMap<>(standalone.labels.attributes))
-                        .withServiceName(serviceName)
+                        .withAttributes(labels.attributes)
+                        .withServiceName(labels.serviceName)
                         .withTimeReceived(timeReceived)
                         .build(config.isFlattenLabels())));
             }
@@ -471,16 +470,48 @@ public class RemoteWriteProtobufParser {
     }
 
     /**
-     * Gets the sample value as long at a given timestamp from a TimeSeries.
-     * Returns 0 if no sample exists at the requested timestamp.
+     * Collects the distinct sample timestamps of the given TimeSeries in the order they first appear.
      */
-    private static long getSampleValueAtTimestamp(final Types.TimeSeries ts, final long timestamp) {
+    private static long[] distinctTimestamps(final List<SeriesEntry> entries) {
+        long[] timestamps = new long[4];
+        int count = 0;
+        for (final SeriesEntry entry : entries) {
+            for (final Types.Sample sample : entry.timeSeries.getSamplesList()) {
+                final long timestamp = sample.getTimestamp();
+                boolean seen = false;
+                for (int i = 0; i < count && !seen; i++) {
+                    seen = timestamps[i] == timestamp;
+                }
+                if (!seen) {
+                    if (count == timestamps.length) {
+                        timestamps = Arrays.copyOf(timestamps, count * 2);
+                    }
+                    timestamps[count++] = timestamp;
+                }
+            }
+        }
+        return Arrays.copyOf(timestamps, count);
+    }
+
+    /**
+     * Gets the first sample at a given timestamp from a TimeSeries, or null if there is none.
+     */
+    private static Types.Sample findSample(final Types.TimeSeries ts, final long timestamp) {
         for (final Types.Sample sample : ts.getSamplesList()) {
             if (sample.getTimestamp() == timestamp) {
-                return (long) sample.getValue();
+                return sample;
             }
         }
-        return 0;
+        return null;
+    }
+
+    /**
+     * Gets the sample value as long at a given timestamp from a TimeSeries.
+     * Returns 0 if no sample exists at the requested timestamp.
+     */
+    private static long getSampleValueAtTimestamp(final Types.TimeSeries ts, final long timestamp) {
+        final Types.Sample sample = findSample(ts, timestamp);
+        return sample != null ? (long) sample.getValue() : 0;
     }
 
     /**
@@ -488,21 +519,29 @@ public class RemoteWriteProtobufParser {
      * Returns 0.0 if no sample exists at the requested timestamp.
      */
     private static double getSampleDoubleAtTimestamp(final Types.TimeSeries ts, final long timestamp) {
-        for (final Types.Sample sample : ts.getSamplesList()) {
-            if (sample.getTimestamp() == timestamp) {
-                return sample.getValue();
-            }
-        }
-        return 0.0;
+        final Types.Sample sample = findSample(ts, timestamp);
+        return sample != null ? sample.getValue() : 0.0;
     }
 
-    private static class ParsedLabels {
+    /**
+     * The labels of a time series and everything derived from them. Instances are immutable, so that
+     * a {@link SeriesLabelCache} can share them between requests and threads.
+     */
+    static final class ParsedLabels {
         final String metricName;
         final Map<String, Object> attributes;
         final Map<String, Object> commonLabels;
         final String commonLabelKey;
         final boolean hasLe;
         final boolean hasQuantile;
+        final String serviceName;
+        final Double leBound;
+        final Double quantileValue;
+        /**
+         * The name of the histogram or summary this time series may belong to, or null if it cannot belong to one
+         */
+        final String groupBaseName;
+        final String groupKey;
 
         ParsedLabels(final String metricName, final Map<String, Object> attributes,
                      final Map<String, Object> commonLabels, final String commonLabelKey,
@@ -513,24 +552,35 @@ public class RemoteWriteProtobufParser {
             this.commonLabelKey = commonLabelKey;
             this.hasLe = hasLe;
             this.hasQuantile = hasQuantile;
+            this.serviceName = PrometheusMetricUtils.extractServiceName(attributes);
+            this.leBound = hasLe ? PrometheusMetricUtils.parseLeValue((String) attributes.get(LE_LABEL)) : null;
+            this.quantileValue = hasQuantile
+                    ? PrometheusMetricUtils.parseQuantileValue((String) attributes.get(QUANTILE_LABEL)) : null;
+
+            if (isBucket()) {
+                groupBaseName = metricName.substring(0, metricName.length() - BUCKET_SUFFIX.length());
+            } else if (hasQuantile) {
+                groupBaseName = metricName;
+            } else if (metricName.endsWith(COUNT_SUFFIX)) {
+                groupBaseName = metricName.substring(0, metricName.length() - COUNT_SUFFIX.length());
+            } else if (metricName.endsWith(SUM_SUFFIX)) {
+                groupBaseName = metricName.substring(0, metricName.length() - SUM_SUFFIX.length());
+            } else {
+                groupBaseName = null;
+            }
+            this.groupKey = groupBaseName != null ? groupBaseName + "|" + commonLabelKey : null;
         }
-    }
-
-    private static class BucketEntry {
-        final Types.TimeSeries timeSeries;
-        final ParsedLabels labels;
 
-        BucketEntry(final Types.TimeSeries timeSeries, final ParsedLabels labels) {
-            this.timeSeries = timeSeries;
-            this.labels = labels;
+        boolean isBucket() {
+            return hasLe && metricName.endsWith(BUCKET_SUFFIX);
         }
     }
 
-    private static class QuantileEntry {
+    private static class SeriesEntry {
         final Types.TimeSeries timeSeries;
         final ParsedLabels labels;
 
-        QuantileEntry(final Types.TimeSeries timeSeries, final ParsedLabels labels) {
+        SeriesEntry(final Types.TimeSeries timeSeries, final ParsedLabels labels) {
             this.timeSeries = timeSeries;
             this.labels = labels;
         }
@@ -538,7 +588,7 @@ public class RemoteWriteProtobufParser {
 
     private static class HistogramGroup {
         final String baseName;
-        final List<BucketEntry> buckets = new ArrayList<>();
+        final List<SeriesEntry> buckets = new ArrayList<>();
         Types.TimeSeries countTimeSeries;
         Types.TimeSeries sumTimeSeries;
 
@@ -547,7 +597,7 @@ public class RemoteWriteProtobufParser {
         }
 
         void addBucket(final Types.TimeSeries ts, final ParsedLabels labels) {
-            buckets.add(new BucketEntry(ts, labels));
+            buckets.add(new SeriesEntry(ts, labels));
         }
 
         void setCount(final Types.TimeSeries ts) {
@@ -561,7 +611,7 @@ public class RemoteWriteProtobufParser {
 
     private static class SummaryGroup {
         final String baseName;
-        final List<QuantileEntry> quantiles = new ArrayList<>();
+        final List<SeriesEntry> quantiles = new ArrayList<>();
         Types.TimeSeries countTimeSeries;
         Types.TimeSeries sumTimeSeries;
 
@@ -570,7 +620,7 @@ public class RemoteWriteProtobufParser {
         }
 
         void addQuantile(final Types.TimeSeries ts, final ParsedLabels labels) {
-            quantiles.add(new QuantileEntry(ts, labels));
+            quantiles.add(new SeriesEntry(ts, labels));
         }
 
         void setCount(final Types.TimeSeries ts) {
@@ -63,6 +63,21 @@ public class ScrapeTargetScraper {
      * @throws RuntimeException if the response status is not 2xx
      */
     public String scrape(final String url) {
+        return execute(url).contentUtf8();
+    }
+
+    /**
+     * Scrapes the given Prometheus metrics endpoint URL without decoding the response body.
+     *
+     * @param url the full URL of the metrics endpoint to scrape
+     * @return the UTF-8 bytes of the response body
+     * @throws RuntimeException if the response status is not 2xx
+     */
+    public byte[] scrapeBytes(final String url) {
+        return execute(url).content().array();
+    }
+
+    private AggregatedHttpResponse execute(final String url) {
         final URI uri = URI.create(url);
         final String baseUri;
         try {
@@ -93,7 +108,7 @@ public class ScrapeTargetScraper {
                     "Failed to scrape %s: received HTTP %d", url, status.code()));
         }
 
-        return response.contentUtf8();
+        return response;
     }
 
     /**
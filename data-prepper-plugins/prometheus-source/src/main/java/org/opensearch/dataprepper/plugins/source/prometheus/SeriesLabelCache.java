@@ -0,0 +1,133 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import com.arpnetworking.metrics.prometheus.Types;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * A bounded cache of parsed labels, keyed by the label set of a time series. Remote write senders
+ * resend the same series on every interval, so the maps and keys built from a label set can be
+ * reused across requests instead of being rebuilt for every time series.
+ */
+class SeriesLabelCache {
+    static final String SERIES_CACHE_HIT_RATE = "seriesCacheHitRate";
+    static final String SERIES_CACHE_ENTRIES = "seriesCacheEntries";
+    static final String SERIES_CACHE_ESTIMATED_BYTES = "seriesCacheEstimatedBytes";
+
+    /**
+     * Rough size of a cache entry without its labels: the cache node, the key and the parsed labels
+     */
+    static final long ENTRY_OVERHEAD_BYTES = 256;
+    /**
+     * Rough size of a label without its characters: two strings and an entry in each of the two label maps
+     */
+    static final long LABEL_OVERHEAD_BYTES = 160;
+
+    private final Cache<LabelSetKey, RemoteWriteProtobufParser.ParsedLabels> cache;
+    private final AtomicLong estimatedBytes = new AtomicLong();
+
+    SeriesLabelCache(final int maximumSize, final PluginMetrics pluginMetrics) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .executor(Runnable::run)
+                .recordStats()
+                .removalListener((LabelSetKey key, RemoteWriteProtobufParser.ParsedLabels labels, RemovalCause cause) ->
+                        estimatedBytes.addAndGet(-key.estimatedBytes()))
+                .build();
+
+        pluginMetrics.gauge(SERIES_CACHE_HIT_RATE, cache, c -> c.stats().hitRate());
+        pluginMetrics.gauge(SERIES_CACHE_ENTRIES, cache, Cache::estimatedSize);
+        pluginMetrics.gauge(SERIES_CACHE_ESTIMATED_BYTES, estimatedBytes, AtomicLong::get);
+    }
+
+    /**
+     * Gets the parsed labels of a time series, parsing them only if its label set is not cached.
+     *
+     * @param timeSeries the time series
+     * @param parser parses the labels of a time series whose label set is not cached
+     * @return the parsed labels, which are shared with other time series with the same label set
+     */
+    RemoteWriteProtobufParser.ParsedLabels get(final Types.TimeSeries timeSeries,
+                                               final Function<Types.TimeSeries, RemoteWriteProtobufParser.ParsedLabels> parser) {
+        final LabelSetKey key = LabelSetKey.of(timeSeries.getLabelsList());
+        return cache.get(key, k -> {
+            estimatedBytes.addAndGet(k.estimatedBytes());
+            return parser.apply(timeSeries);
+        });
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    long estimatedBytes() {
+        return estimatedBytes.get();
+    }
+
+    /**
+     * The names and values of a label set, in the order the sender wrote them. The hash code is computed once,
+     * and two keys are only equal if all of their names and values are, so colliding label sets never share an entry.
+     */
+    static final class LabelSetKey {
+        private final String[] namesAndValues;
+        private final int hashCode;
+
+        private LabelSetKey(final String[] namesAndValues) {
+            this.namesAndValues = namesAndValues;
+            this.hashCode = Arrays.hashCode(namesAndValues);
+        }
+
+        static LabelSetKey of(final List<Types.Label> labels) {
+            final String[] namesAndValues = new String[labels.size() * 2];
+            for (int i = 0; i < labels.size(); i++) {
+                final Types.Label label = labels.get(i);
+                namesAndValues[2 * i] = label.getName();
+                namesAndValues[2 * i + 1] = label.getValue();
+            }
+            return new LabelSetKey(namesAndValues);
+        }
+
+        long estimatedBytes() {
+            long bytes = ENTRY_OVERHEAD_BYTES;
+            for (int i = 0; i < namesAndValues.length; i += 2) {
+                bytes += LABEL_OVERHEAD_BYTES + namesAndValues[i].length() + namesAndValues[i + 1].length();
+            }
+            return bytes;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof LabelSetKey)) {
+                return false;
+            }
+            final LabelSetKey that = (LabelSetKey) other;
+            return hashCode == that.hashCode && Arrays.equals(namesAndValues, that.namesAndValues);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.opensearch.dataprepper.model.record.Record;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -49,6 +50,12 @@ public class TextExpositionParser {
 
 
     private static final String[] TYPE_LOOKUP_SUFFIXES = {BUCKET_SUFFIX, COUNT_SUFFIX, SUM_SUFFIX, TOTAL_SUFFIX, CREATED_SUFFIX};
+    private static final byte[] TYPE_PREFIX = "# TYPE ".getBytes(StandardCharsets.US_ASCII);
+
+    /**
+     * Each thread parsing bodies keeps its own cursor, so the interned names are reused across scrapes without locking.
+     */
+    private static final ThreadLocal<ExpositionCursor> CURSORS = ThreadLocal.withInitial(ExpositionCursor::new);
 
     private final boolean flattenLabels;
 
@@ -60,26 +67,43 @@ public class TextExpositionParser {
         if (body == null || body.isEmpty()) {
             return Collections.emptyList();
         }
+        return parse(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Parses a text exposition body from its UTF-8 bytes, such as a scrape response body.
+     *
+     * @param body the response body
+     * @return the metric records
+     */
+    public List<Record<Event>> parse(final byte[] body) {
+        if (body == null || body.length == 0) {
+            return Collections.emptyList();
+        }
 
         final Map<String, String> declaredTypes = new HashMap<>();
         final List<ParsedSample> samples = new ArrayList<>();
 
-        final String[] lines = body.split("\n");
-        for (final String rawLine : lines) {
-            final String line = rawLine.trim();
-            if (line.isEmpty()) {
-                continue;
-            }
-            if (line.startsWith("# TYPE ")) {
-                parseTypeLine(line, declaredTypes);
-            } else if (line.startsWith("#")) {
-                continue;
-            } else {
-                final ParsedSample sample = parseSampleLine(line);
-                if (sample != null) {
-                    samples.add(sample);
+        final ExpositionCursor cursor = CURSORS.get();
+        cursor.reset(body, 0, body.length);
+        try {
+            while (cursor.nextLine()) {
+                if (!cursor.hasRemaining()) {
+                    continue;
+                }
+                if (cursor.startsWith(TYPE_PREFIX)) {
+                    parseTypeLine(cursor, declaredTypes);
+                } else if (cursor.peek() == '#') {
+                    continue;
+                } else {
+                    final ParsedSample sample = parseSampleLine(cursor);
+                    if (sample != null) {
+                        samples.add(sample);
+                    }
                 }
             }
+        } finally {
+            cursor.release();
         }
 
         final Instant timeReceived = Instant.now();
@@ -87,136 +111,89 @@ public class TextExpositionParser {
     }
 
     void parseTypeLine(final String line, final Map<String, String> declaredTypes) {
-        final String rest = line.substring("# TYPE ".length()).trim();
-        final int spaceIdx = rest.indexOf(' ');
-        if (spaceIdx < 0) {
+        parseTypeLine(ExpositionCursor.forLine(line), declaredTypes);
+    }
+
+    private void parseTypeLine(final ExpositionCursor cursor, final Map<String, String> declaredTypes) {
+        cursor.skip(TYPE_PREFIX.length);
+        cursor.skipControlAndSpace();
+        final String metricName = cursor.readUntil((byte) ' ');
+        if (metricName == null) {
             return;
         }
-        final String metricName = rest.substring(0, spaceIdx);
-        final String typeName = rest.substring(spaceIdx + 1).trim().toLowerCase();
+        cursor.skipControlAndSpace();
+        final String typeName = cursor.readRemaining().toLowerCase();
         declaredTypes.put(metricName, typeName);
     }
 
     ParsedSample parseSampleLine(final String line) {
-        try {
-            int idx = 0;
-            final int len = line.length();
+        return parseSampleLine(ExpositionCursor.forLine(line));
+    }
 
-            final int nameEnd = findNameEnd(line, idx);
-            if (nameEnd <= idx) {
+    private ParsedSample parseSampleLine(final ExpositionCursor cursor) {
+        try {
+            final String name = cursor.readName();
+            if (name == null) {
                 return null;
             }
-            final String name = line.substring(idx, nameEnd);
-            idx = nameEnd;
 
             final Map<String, String> labels = new LinkedHashMap<>();
-            if (idx < len && line.charAt(idx) == '{') {
-                idx = parseLabels(line, idx, labels);
-            }
-
-            while (idx < len && Character.isWhitespace(line.charAt(idx))) {
-                idx++;
+            if (cursor.hasRemaining() && cursor.peek() == '{') {
+                parseLabels(cursor, labels);
             }
 
-            final int valueStart = idx;
-            while (idx < len && !Character.isWhitespace(line.charAt(idx))) {
-                idx++;
-            }
-            if (valueStart == idx) {
+            cursor.skipWhitespace();
+            if (!cursor.hasRemaining()) {
                 return null;
             }
-            final String valueStr = line.substring(valueStart, idx);
-            final double value = parseValue(valueStr);
+            final double value = cursor.readValue();
 
-            while (idx < len && Character.isWhitespace(line.charAt(idx))) {
-                idx++;
-            }
+            cursor.skipWhitespace();
 
             Long timestampMs = null;
-            if (idx < len) {
-                final String tsStr = line.substring(idx).trim();
-                if (!tsStr.isEmpty()) {
-                    try {
-                        if (tsStr.contains(".")) {
-                            timestampMs = (long) (Double.parseDouble(tsStr) * 1000);
-                        } else {
-                            timestampMs = Long.parseLong(tsStr);
-                        }
-                    } catch (final NumberFormatException e) {
-                        LOG.warn("Unparseable timestamp '{}' in line: {}", tsStr, line);
-                    }
+            if (cursor.hasRemaining()) {
+                try {
+                    timestampMs = cursor.readTimestamp();
+                } catch (final NumberFormatException e) {
+                    LOG.warn("Unparseable timestamp in line: {}", cursor.line());
                 }
             }
 
             return new ParsedSample(name, labels, value, timestampMs);
         } catch (final Exception e) {
-            LOG.warn("Failed to parse exposition line: '{}': {}", line, e.getMessage());
+            LOG.warn("Failed to parse exposition line: '{}': {}", cursor.line(), e.getMessage());
             return null;
         }
     }
 
-    int parseLabels(final String line, final int startIdx, final Map<String, String> labels) {
-        int idx = startIdx + 1;
-        final int len = line.length();
+    void parseLabels(final ExpositionCursor cursor, final Map<String, String> labels) {
+        cursor.advance();
 
-        while (idx < len) {
-            while (idx < len && Character.isWhitespace(line.charAt(idx))) {
-                idx++;
+        while (cursor.hasRemaining()) {
+            cursor.skipWhitespace();
+            if (!cursor.hasRemaining()) {
+                break;
             }
-            if (idx < len && line.charAt(idx) == '}') {
-                return idx + 1;
+            if (cursor.peek() == '}') {
+                cursor.advance();
+                return;
             }
-            if (idx < len && line.charAt(idx) == ',') {
-                idx++;
+            if (cursor.peek() == ',') {
+                cursor.advance();
                 continue;
             }
 
-            final int keyStart = idx;
-            while (idx < len && line.charAt(idx) != '=' && line.charAt(idx) != '}') {
-                idx++;
-            }
-            if (idx >= len || line.charAt(idx) != '=') {
+            final String key = cursor.readLabelKey();
+            if (key == null) {
                 break;
             }
-            final String key = line.substring(keyStart, idx).trim();
-            idx++;
-
-            if (idx >= len || line.charAt(idx) != '"') {
+            if (!cursor.hasRemaining() || cursor.peek() != '"') {
                 break;
             }
-            idx++;
-
-            final StringBuilder valueBuilder = new StringBuilder();
-            while (idx < len) {
-                final char c = line.charAt(idx);
-                if (c == '\\' && idx + 1 < len) {
-                    final char next = line.charAt(idx + 1);
-                    if (next == '"') {
-                        valueBuilder.append('"');
-                        idx += 2;
-                    } else if (next == '\\') {
-                        valueBuilder.append('\\');
-                        idx += 2;
-                    } else if (next == 'n') {
-                        valueBuilder.append('\n');
-                        idx += 2;
-                    } else {
-                        valueBuilder.append(c);
-                        idx++;
-                    }
-                } else if (c == '"') {
-                    idx++;
-                    break;
-                } else {
-                    valueBuilder.append(c);
-                    idx++;
-                }
-            }
+            cursor.advance();
 
-            labels.put(key, valueBuilder.toString());
+            labels.put(key, cursor.readQuotedValue());
         }
-
-        return idx;
     }
 
     private List<Record<Event>> convertSamples(final List<ParsedSample> samples,
@@ -459,19 +436,6 @@ public class TextExpositionParser {
         return Double.parseDouble(valueStr);
     }
 
-    private static int findNameEnd(final String line, final int start) {
-        int idx = start;
-        final int len = line.length();
-        while (idx < len) {
-            final char c = line.charAt(idx);
-            if (c == '{' || Character.isWhitespace(c)) {
-                break;
-            }
-            idx++;
-        }
-        return idx;
-    }
-
     String deriveHistogramBaseName(final String sampleName) {
         if (sampleName.endsWith(BUCKET_SUFFIX)) {
             return sampleName.substring(0, sampleName.length() - BUCKET_SUFFIX.length());
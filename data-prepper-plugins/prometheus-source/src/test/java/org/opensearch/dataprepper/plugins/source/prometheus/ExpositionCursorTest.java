@@ -0,0 +1,197 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExpositionCursorTest {
+
+    private static ExpositionCursor cursorFor(final String body) {
+        final ExpositionCursor cursor = new ExpositionCursor();
+        final byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        cursor.reset(bytes, 0, bytes.length);
+        return cursor;
+    }
+
+    @Test
+    void nextLine_returns_trimmed_lines() {
+        final ExpositionCursor cursor = cursorFor("  first \r\n\nsecond");
+
+        assertThat(cursor.nextLine(), equalTo(true));
+        assertThat(cursor.line(), equalTo("first"));
+        assertThat(cursor.nextLine(), equalTo(true));
+        assertThat(cursor.hasRemaining(), equalTo(false));
+        assertThat(cursor.nextLine(), equalTo(true));
+        assertThat(cursor.line(), equalTo("second"));
+        assertThat(cursor.nextLine(), equalTo(false));
+    }
+
+    @Test
+    void release_ends_the_body() {
+        final ExpositionCursor cursor = cursorFor("metric 1\n");
+
+        cursor.release();
+
+        assertThat(cursor.nextLine(), equalTo(false));
+    }
+
+    @Test
+    void readName_interns_names_across_bodies() {
+        final ExpositionCursor cursor = cursorFor("metric_name{a=\"b\"} 1\nmetric_name 2\n");
+        cursor.nextLine();
+        final String first = cursor.readName();
+        cursor.reset("metric_name 3".getBytes(StandardCharsets.UTF_8), 0, "metric_name 3".length());
+        cursor.nextLine();
+        final String second = cursor.readName();
+
+        assertThat(first, equalTo("metric_name"));
+        assertThat(second, sameInstance(first));
+    }
+
+    @Test
+    void readName_returns_null_without_name() {
+        final ExpositionCursor cursor = ExpositionCursor.forLine("{a=\"b\"} 1");
+
+        assertThat(cursor.readName(), nullValue());
+    }
+
+    @Test
+    void internedString_decodes_non_ascii_and_long_strings() {
+        final String nonAscii = "m\u00e9trique";
+        final String longName = "n".repeat(200);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(nonAscii + " " + longName);
+
+        assertThat(cursor.readName(), equalTo(nonAscii));
+        cursor.skipWhitespace();
+        assertThat(cursor.readName(), equalTo(longName));
+    }
+
+    @Test
+    void internedString_replaces_colliding_entry() {
+        // "Aa" and "BB" have the same hash code
+        final ExpositionCursor cursor = ExpositionCursor.forLine("Aa BB Aa");
+
+        final String first = cursor.readName();
+        cursor.skipWhitespace();
+        final String colliding = cursor.readName();
+        cursor.skipWhitespace();
+        final String again = cursor.readName();
+
+        assertThat(colliding, equalTo("BB"));
+        assertThat(again, equalTo("Aa"));
+        assertThat(again == first, equalTo(false));
+    }
+
+    @Test
+    void readUntil_returns_null_without_delimiter() {
+        final ExpositionCursor cursor = ExpositionCursor.forLine("nodelimiter");
+
+        assertThat(cursor.readUntil((byte) ' '), nullValue());
+        assertThat(cursor.readRemaining(), equalTo("nodelimiter"));
+    }
+
+    @Test
+    void readLabelKey_trims_key() {
+        final ExpositionCursor cursor = ExpositionCursor.forLine(" key \t=\"value\"");
+
+        assertThat(cursor.readLabelKey(), equalTo("key"));
+        assertThat(cursor.peek(), equalTo((byte) '"'));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"key}", "key"})
+    void readLabelKey_returns_null_without_equals(final String label) {
+        final ExpositionCursor cursor = ExpositionCursor.forLine(label);
+
+        assertThat(cursor.readLabelKey(), nullValue());
+    }
+
+    @Test
+    void readQuotedValue_unescapes_value() {
+        final ExpositionCursor cursor = ExpositionCursor.forLine("a\\\"b\\\\c\\nd\\xe\",");
+
+        assertThat(cursor.readQuotedValue(), equalTo("a\"b\\c\nd\\xe"));
+        assertThat(cursor.peek(), equalTo((byte) ','));
+    }
+
+    @Test
+    void readQuotedValue_grows_scratch_buffer_for_long_escaped_value() {
+        final String value = "x".repeat(100);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(value + "\\\\" + value + "\"");
+
+        assertThat(cursor.readQuotedValue(), equalTo(value + "\\" + value));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"unterminated", "unterminated\\"})
+    void readQuotedValue_without_closing_quote_reads_to_end_of_line(final String label) {
+        final ExpositionCursor cursor = ExpositionCursor.forLine(label);
+
+        assertThat(cursor.readQuotedValue(), equalTo(label));
+        assertThat(cursor.hasRemaining(), equalTo(false));
+    }
+
+    @Test
+    void readValue_parses_integers_decimals_and_special_values() {
+        final ExpositionCursor cursor = ExpositionCursor.forLine("42 -0 1.5e3 1234567890123456789 +Inf NaN");
+
+        assertThat(cursor.readValue(), equalTo(42.0));
+        cursor.skipWhitespace();
+        assertThat(Double.doubleToRawLongBits(cursor.readValue()), equalTo(Double.doubleToRawLongBits(-0.0)));
+        cursor.skipWhitespace();
+        assertThat(cursor.readValue(), equalTo(1500.0));
+        cursor.skipWhitespace();
+        assertThat(cursor.readValue(), equalTo(1234567890123456789.0));
+        cursor.skipWhitespace();
+        assertThat(cursor.readValue(), equalTo(Double.POSITIVE_INFINITY));
+        cursor.skipWhitespace();
+        assertThat(Double.isNaN(cursor.readValue()), equalTo(true));
+    }
+
+    @Test
+    void readValue_throws_for_invalid_number() {
+        final ExpositionCursor cursor = ExpositionCursor.forLine("abc");
+
+        assertThrows(NumberFormatException.class, cursor::readValue);
+    }
+
+    @Test
+    void readTimestamp_parses_milliseconds_and_seconds() {
+        assertThat(ExpositionCursor.forLine("1625000000000").readTimestamp(), equalTo(1625000000000L));
+        assertThat(ExpositionCursor.forLine("-5").readTimestamp(), equalTo(-5L));
+        assertThat(ExpositionCursor.forLine("+5").readTimestamp(), equalTo(5L));
+        assertThat(ExpositionCursor.forLine("1625000000.5").readTimestamp(), equalTo(1625000000500L));
+        assertThrows(NumberFormatException.class, () -> ExpositionCursor.forLine("later").readTimestamp());
+    }
+
+    @Test
+    void skip_and_startsWith_stay_within_line() {
+        final ExpositionCursor cursor = ExpositionCursor.forLine("# TYPE");
+
+        assertThat(cursor.startsWith("# TYPE ".getBytes(StandardCharsets.US_ASCII)), equalTo(false));
+        assertThat(cursor.startsWith("# TY".getBytes(StandardCharsets.US_ASCII)), equalTo(true));
+        assertThat(cursor.startsWith("# TE".getBytes(StandardCharsets.US_ASCII)), equalTo(false));
+        cursor.skip(100);
+        assertThat(cursor.hasRemaining(), equalTo(false));
+        cursor.skipControlAndSpace();
+        assertThat(cursor.position(), equalTo(6));
+    }
+}
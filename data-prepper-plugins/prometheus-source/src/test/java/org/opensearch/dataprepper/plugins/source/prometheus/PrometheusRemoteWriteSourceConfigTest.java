@@ -48,6 +48,12 @@ class PrometheusRemoteWriteSourceConfigTest {
         assertThat(config.hasHealthCheckService(), equalTo(false));
     }
 
+    @Test
+    void testDefaultSeriesCacheSize() {
+        final PrometheusRemoteWriteSourceConfig config = new PrometheusRemoteWriteSourceConfig();
+        assertThat(config.getSeriesCacheSize(), equalTo(100_000));
+    }
+
     @Test
     void testDefaultScrapeConfigIsNull() {
         final PrometheusRemoteWriteSourceConfig config = new PrometheusRemoteWriteSourceConfig();
@@ -200,6 +200,7 @@ class PrometheusRemoteWriteSourceTest {
         lenient().when(sourceConfig.getMaxRequestLength()).thenReturn(null);
         lenient().when(sourceConfig.getAuthentication()).thenReturn(null);
         lenient().when(sourceConfig.isFlattenLabels()).thenReturn(false);
+        lenient().when(sourceConfig.getSeriesCacheSize()).thenReturn(1000);
 
         initMetrics();
         pluginMetrics = PluginMetrics.fromNames(PLUGIN_NAME, TEST_PIPELINE_NAME);
@@ -253,6 +254,58 @@ class PrometheusRemoteWriteSourceTest {
         assertEquals(testPayload.length, payloadSizeMax.getValue());
     }
 
+    @Test
+    public void testRepeatedSeriesAreServedFromSeriesCache() throws Exception {
+        final byte[] testPayload = createValidSnappyProtobuf();
+        sourceUnderTest.start(testBuffer);
+
+        for (int i = 0; i < 2; i++) {
+            final AggregatedHttpResponse response = WebClient.of().execute(RequestHeaders.builder()
+                            .scheme(SessionProtocol.HTTP)
+                            .authority("127.0.0.1:" + TEST_PORT)
+                            .method(HttpMethod.POST)
+                            .path("/api/v1/write")
+                            .contentType(MediaType.PROTOBUF)
+                            .build(),
+                    HttpData.wrap(testPayload))
+                    .aggregate().join();
+            assertEquals(HttpStatus.OK, response.status());
+        }
+
+        final String metricNamePrefix = new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME).toString();
+        final Measurement hitRate = getMeasurementFromList(getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(metricNamePrefix)
+                        .add(SeriesLabelCache.SERIES_CACHE_HIT_RATE).toString()), Statistic.VALUE);
+        assertEquals(0.5, hitRate.getValue());
+        final Measurement entries = getMeasurementFromList(getMeasurementList(
+                new StringJoiner(MetricNames.DELIMITER).add(metricNamePrefix)
+                        .add(SeriesLabelCache.SERIES_CACHE_ENTRIES).toString()), Statistic.VALUE);
+        assertEquals(1.0, entries.getValue());
+    }
+
+    @Test
+    public void testSeriesCacheIsDisabledWithZeroSize() throws Exception {
+        when(sourceConfig.getSeriesCacheSize()).thenReturn(0);
+        final byte[] testPayload = createValidSnappyProtobuf();
+        sourceUnderTest.start(testBuffer);
+
+        final AggregatedHttpResponse response = WebClient.of().execute(RequestHeaders.builder()
+                        .scheme(SessionProtocol.HTTP)
+                        .authority("127.0.0.1:" + TEST_PORT)
+                        .method(HttpMethod.POST)
+                        .path("/api/v1/write")
+                        .contentType(MediaType.PROTOBUF)
+                        .build(),
+                HttpData.wrap(testPayload))
+                .aggregate().join();
+
+        assertEquals(HttpStatus.OK, response.status());
+        final String seriesCacheMetric = new StringJoiner(MetricNames.DELIMITER)
+                .add(TEST_PIPELINE_NAME).add(PLUGIN_NAME).add(SeriesLabelCache.SERIES_CACHE_HIT_RATE).toString();
+        assertThrows(RuntimeException.class, () -> getMeasurementList(seriesCacheMetric));
+    }
+
     @Test
     public void testHealthCheck() {
         sourceUnderTest.start(testBuffer);
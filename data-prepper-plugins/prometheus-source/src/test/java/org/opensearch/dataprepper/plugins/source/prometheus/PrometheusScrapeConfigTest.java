@@ -39,6 +39,12 @@ class PrometheusScrapeConfigTest {
         assertThat(config.getScrapeTimeout(), equalTo(Duration.ofSeconds(10)));
     }
 
+    @Test
+    void testDefaultMaxConcurrentScrapes() {
+        final PrometheusScrapeConfig config = new PrometheusScrapeConfig();
+        assertThat(config.getMaxConcurrentScrapes(), equalTo(4));
+    }
+
     @Test
     void testDefaultFlattenLabels() {
         final PrometheusScrapeConfig config = new PrometheusScrapeConfig();
@@ -75,6 +81,7 @@ class PrometheusScrapeConfigTest {
                 + "\"targets\": [{\"url\": \"http://localhost:9090/metrics\"}],"
                 + "\"scrape_interval\": \"PT30S\","
                 + "\"scrape_timeout\": \"PT5S\","
+                + "\"max_concurrent_scrapes\": 8,"
                 + "\"flatten_labels\": true,"
                 + "\"insecure\": true,"
                 + "\"ssl_certificate_file\": \"/path/to/cert.pem\","
@@ -88,6 +95,7 @@ class PrometheusScrapeConfigTest {
         assertThat(config.getTargets().get(0).getUrl(), equalTo("http://localhost:9090/metrics"));
         assertThat(config.getScrapeInterval(), equalTo(Duration.ofSeconds(30)));
         assertThat(config.getScrapeTimeout(), equalTo(Duration.ofSeconds(5)));
+        assertThat(config.getMaxConcurrentScrapes(), equalTo(8));
         assertThat(config.isFlattenLabels(), is(true));
         assertThat(config.isInsecure(), is(true));
         assertThat(config.getSslCertificateFile(), equalTo("/path/to/cert.pem"));
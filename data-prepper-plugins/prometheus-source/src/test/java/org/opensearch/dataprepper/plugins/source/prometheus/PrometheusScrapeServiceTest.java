@@ -25,12 +25,15 @@ import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.record.Record;
 
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -69,6 +72,9 @@ class PrometheusScrapeServiceTest {
     @Mock
     private Counter recordsCreatedCounter;
 
+    @Mock
+    private Counter scrapeDeadlineExceededCounter;
+
     @Mock
     private Timer scrapeDurationTimer;
 
@@ -81,9 +87,11 @@ class PrometheusScrapeServiceTest {
         when(pluginMetrics.counter(PrometheusScrapeService.SCRAPE_FAILURE_METRIC)).thenReturn(scrapeFailureCounter);
         when(pluginMetrics.counter(PrometheusScrapeService.RECORDS_CREATED_METRIC)).thenReturn(recordsCreatedCounter);
         when(pluginMetrics.timer(PrometheusScrapeService.SCRAPE_DURATION_METRIC)).thenReturn(scrapeDurationTimer);
+        when(pluginMetrics.counter(PrometheusScrapeService.SCRAPE_DEADLINE_EXCEEDED_METRIC)).thenReturn(scrapeDeadlineExceededCounter);
 
         when(config.getScrapeInterval()).thenReturn(Duration.ofSeconds(15));
         when(config.getScrapeTimeout()).thenReturn(Duration.ofSeconds(10));
+        when(config.getMaxConcurrentScrapes()).thenReturn(2);
         when(config.isFlattenLabels()).thenReturn(false);
         when(config.isInsecure()).thenReturn(false);
         when(config.getAuthentication()).thenReturn(null);
@@ -126,7 +134,7 @@ class PrometheusScrapeServiceTest {
         when(config.getTargets()).thenReturn(Arrays.asList(target1, target2));
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("test_gauge 1.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn(bytes("test_gauge 1.0\n"));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -137,8 +145,8 @@ class PrometheusScrapeServiceTest {
         service.scrapeAll();
 
         verify(scrapeRequestsCounter, times(2)).increment();
-        verify(mockScraper).scrape("http://host1:9090/metrics");
-        verify(mockScraper).scrape("http://host2:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://host1:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://host2:9090/metrics");
     }
 
     @Test
@@ -152,10 +160,10 @@ class PrometheusScrapeServiceTest {
         when(config.getTargets()).thenReturn(Arrays.asList(target1, target2));
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape("http://failing-host:9090/metrics"))
+        when(mockScraper.scrapeBytes("http://failing-host:9090/metrics"))
                 .thenThrow(new RuntimeException("Connection refused"));
-        when(mockScraper.scrape("http://working-host:9090/metrics"))
-                .thenReturn("test_gauge 42.0\n");
+        when(mockScraper.scrapeBytes("http://working-host:9090/metrics"))
+                .thenReturn(bytes("test_gauge 42.0\n"));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -165,8 +173,8 @@ class PrometheusScrapeServiceTest {
 
         service.scrapeAll();
 
-        verify(mockScraper).scrape("http://failing-host:9090/metrics");
-        verify(mockScraper).scrape("http://working-host:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://failing-host:9090/metrics");
+        verify(mockScraper).scrapeBytes("http://working-host:9090/metrics");
         verify(scrapeRequestsCounter, times(2)).increment();
     }
 
@@ -175,7 +183,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("test_gauge 1.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn(bytes("test_gauge 1.0\n"));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -195,7 +203,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenThrow(new RuntimeException("HTTP 500"));
+        when(mockScraper.scrapeBytes(anyString())).thenThrow(new RuntimeException("HTTP 500"));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -215,7 +223,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn(bytes("# TYPE test_gauge gauge\ntest_gauge 5.0\n"));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -233,7 +241,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn(bytes("# TYPE test_gauge gauge\ntest_gauge 5.0\n"));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -251,7 +259,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("# TYPE test_gauge gauge\ntest_gauge 5.0\n");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn(bytes("# TYPE test_gauge gauge\ntest_gauge 5.0\n"));
         setField(service, "scraper", mockScraper);
 
         doThrow(new RuntimeException("Buffer full")).when(buffer).writeAll(any(), eq(BUFFER_WRITE_TIMEOUT_MS));
@@ -337,7 +345,7 @@ class PrometheusScrapeServiceTest {
         final PrometheusScrapeService service = createService();
 
         final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
-        when(mockScraper.scrape(anyString())).thenReturn("");
+        when(mockScraper.scrapeBytes(anyString())).thenReturn(bytes(""));
         setField(service, "scraper", mockScraper);
 
         doAnswer(invocation -> {
@@ -367,6 +375,102 @@ class PrometheusScrapeServiceTest {
         verify(scrapeRequestsCounter, never()).increment();
     }
 
+    @Test
+    void testScrapeAllScrapesTargetsConcurrently() throws Exception {
+        final PrometheusScrapeService service = createService();
+
+        final ScrapeTargetConfig target1 = mock(ScrapeTargetConfig.class);
+        when(target1.getUrl()).thenReturn("http://host1:9090/metrics");
+        final ScrapeTargetConfig target2 = mock(ScrapeTargetConfig.class);
+        when(target2.getUrl()).thenReturn("http://host2:9090/metrics");
+        when(config.getTargets()).thenReturn(Arrays.asList(target1, target2));
+
+        final CountDownLatch bothStarted = new CountDownLatch(2);
+        final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
+        when(mockScraper.scrapeBytes(anyString())).thenAnswer(invocation -> {
+            bothStarted.countDown();
+            if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+                throw new RuntimeException("Targets were not scraped concurrently");
+            }
+            return bytes("test_gauge 1.0\n");
+        });
+        setField(service, "scraper", mockScraper);
+
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scrapeDurationTimer).record(any(Runnable.class));
+
+        service.scrapeAll();
+
+        verify(scrapeSuccessCounter, times(2)).increment();
+        verify(scrapeFailureCounter, never()).increment();
+    }
+
+    @Test
+    void testScrapeAllCancelsTargetPastDeadline() throws Exception {
+        final PrometheusScrapeService service = createService();
+
+        when(config.getScrapeInterval()).thenReturn(Duration.ofMillis(100));
+        final ScrapeTargetConfig target = mock(ScrapeTargetConfig.class);
+        when(target.getUrl()).thenReturn("http://slow-host:9090/metrics");
+        when(config.getTargets()).thenReturn(Collections.singletonList(target));
+
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
+        when(mockScraper.scrapeBytes(anyString())).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(10000);
+            } catch (final InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return bytes("test_gauge 1.0\n");
+        });
+        setField(service, "scraper", mockScraper);
+
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scrapeDurationTimer).record(any(Runnable.class));
+
+        service.scrapeAll();
+
+        verify(scrapeDeadlineExceededCounter).increment();
+        assertThat(interrupted.await(5, TimeUnit.SECONDS), equalTo(true));
+    }
+
+    @Test
+    void testScrapeAllRestoresInterruptWhenInterruptedWhileWaiting() throws Exception {
+        final PrometheusScrapeService service = createService();
+
+        final ScrapeTargetConfig target = mock(ScrapeTargetConfig.class);
+        when(target.getUrl()).thenReturn("http://host1:9090/metrics");
+        when(config.getTargets()).thenReturn(Collections.singletonList(target));
+
+        final ScrapeTargetScraper mockScraper = mock(ScrapeTargetScraper.class);
+        when(mockScraper.scrapeBytes(anyString())).thenAnswer(invocation -> {
+            Thread.sleep(10000);
+            return bytes("test_gauge 1.0\n");
+        });
+        setField(service, "scraper", mockScraper);
+
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(scrapeDurationTimer).record(any(Runnable.class));
+
+        Thread.currentThread().interrupt();
+        service.scrapeAll();
+
+        assertThat(Thread.interrupted(), equalTo(true));
+        verify(scrapeDeadlineExceededCounter, never()).increment();
+    }
+
+    private static byte[] bytes(final String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+
     private static void setField(final Object target, final String fieldName, final Object value) throws Exception {
         final Field field = target.getClass().getDeclaredField(fieldName);
         field.setAccessible(true);
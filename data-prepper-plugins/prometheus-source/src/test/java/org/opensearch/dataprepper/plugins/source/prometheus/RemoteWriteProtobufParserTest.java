@@ -17,6 +17,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.event.Event;
 import org.opensearch.dataprepper.model.metric.Gauge;
 import org.opensearch.dataprepper.model.metric.Histogram;
@@ -47,6 +48,7 @@ import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class RemoteWriteProtobufParserTest {
@@ -1160,4 +1162,111 @@ class RemoteWriteProtobufParserTest {
 
         assertThat(records, hasSize(2));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testHistogramWithDuplicateBoundsKeepsLastBucket() throws Exception {
+        final Remote.WriteRequest.Builder requestBuilder = Remote.WriteRequest.newBuilder();
+
+        requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("dup_bucket").build())
+                .addLabels(Types.Label.newBuilder().setName("le").setValue("+Inf").build())
+                .addSamples(Types.Sample.newBuilder().setValue(10.0).setTimestamp(1706869800000L).build())
+                .build());
+        requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("dup_bucket").build())
+                .addLabels(Types.Label.newBuilder().setName("le").setValue("1").build())
+                .addSamples(Types.Sample.newBuilder().setValue(5.0).setTimestamp(1706869800000L).build())
+                .build());
+        requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("dup_bucket").build())
+                .addLabels(Types.Label.newBuilder().setName("le").setValue("1.0").build())
+                .addSamples(Types.Sample.newBuilder().setValue(7.0).setTimestamp(1706869800000L).build())
+                .build());
+
+        final byte[] compressed = Snappy.compress(requestBuilder.build().toByteArray());
+        final List<Record<Event>> records = parser.parse(compressed);
+
+        assertThat(records, hasSize(1));
+        final Event event = records.get(0).getData();
+        final List<Long> buckets = event.get("bucketCountsList", List.class);
+        assertThat(buckets, equalTo(List.of(7L, 3L)));
+        final List<Double> bounds = event.get("explicitBounds", List.class);
+        assertThat(bounds, equalTo(List.of(1.0)));
+    }
+
+    @Test
+    void testHistogramWithManyTimestampsProducesEventPerTimestamp() throws Exception {
+        final Types.TimeSeries.Builder bucket = Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("many_bucket").build())
+                .addLabels(Types.Label.newBuilder().setName("le").setValue("+Inf").build());
+        for (int i = 0; i < 6; i++) {
+            bucket.addSamples(Types.Sample.newBuilder().setValue(i).setTimestamp(1706869800000L + i * 1000L).build());
+        }
+
+        final byte[] compressed = Snappy.compress(
+                Remote.WriteRequest.newBuilder().addTimeseries(bucket.build()).build().toByteArray());
+        final List<Record<Event>> records = parser.parse(compressed);
+
+        assertThat(records, hasSize(6));
+        for (int i = 0; i < 6; i++) {
+            assertThat(records.get(i).getData().get("time", String.class),
+                    equalTo(Instant.ofEpochMilli(1706869800000L + i * 1000L).toString()));
+        }
+    }
+
+    @Test
+    void testParserWithSeriesCacheProducesSameEventsAsWithoutCache() throws Exception {
+        final SeriesLabelCache seriesLabelCache = new SeriesLabelCache(100, mock(PluginMetrics.class));
+        final RemoteWriteProtobufParser cachedParser = new RemoteWriteProtobufParser(config, seriesLabelCache);
+        final Remote.WriteRequest.Builder requestBuilder = Remote.WriteRequest.newBuilder();
+
+        requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("cpu_temperature").build())
+                .addLabels(Types.Label.newBuilder().setName("service.name").setValue("checkout").build())
+                .addSamples(Types.Sample.newBuilder().setValue(72.5).setTimestamp(1706869800000L).build())
+                .build());
+        requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("http_requests_total").build())
+                .addLabels(Types.Label.newBuilder().setName("job").setValue("api").build())
+                .addSamples(Types.Sample.newBuilder().setValue(100.0).setTimestamp(1706869800000L).build())
+                .build());
+        for (final String le : new String[]{"0.5", "+Inf"}) {
+            requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                    .addLabels(Types.Label.newBuilder().setName("__name__").setValue("request_duration_bucket").build())
+                    .addLabels(Types.Label.newBuilder().setName("job").setValue("api").build())
+                    .addLabels(Types.Label.newBuilder().setName("le").setValue(le).build())
+                    .addSamples(Types.Sample.newBuilder().setValue(le.equals("0.5") ? 10.0 : 15.0).setTimestamp(1706869800000L).build())
+                    .build());
+        }
+        requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("request_duration_count").build())
+                .addLabels(Types.Label.newBuilder().setName("job").setValue("api").build())
+                .addSamples(Types.Sample.newBuilder().setValue(15.0).setTimestamp(1706869800000L).build())
+                .build());
+        for (final String quantile : new String[]{"0.5", "0.99"}) {
+            requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                    .addLabels(Types.Label.newBuilder().setName("__name__").setValue("response_latency").build())
+                    .addLabels(Types.Label.newBuilder().setName("quantile").setValue(quantile).build())
+                    .addSamples(Types.Sample.newBuilder().setValue(0.2).setTimestamp(1706869800000L).build())
+                    .build());
+        }
+        requestBuilder.addTimeseries(Types.TimeSeries.newBuilder()
+                .addLabels(Types.Label.newBuilder().setName("__name__").setValue("response_latency_sum").build())
+                .addSamples(Types.Sample.newBuilder().setValue(3.5).setTimestamp(1706869800000L).build())
+                .build());
+        final byte[] compressed = Snappy.compress(requestBuilder.build().toByteArray());
+
+        final List<Record<Event>> expected = parser.parse(compressed);
+        final List<Record<Event>> firstRecords = cachedParser.parse(compressed);
+        final List<Record<Event>> secondRecords = cachedParser.parse(compressed);
+
+        assertThat(expected, hasSize(4));
+        assertThat(seriesLabelCache.estimatedSize(), equalTo(8L));
+        for (final List<Record<Event>> records : List.of(firstRecords, secondRecords)) {
+            assertThat(records, hasSize(expected.size()));
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(records.get(i).getData().toJsonString(), equalTo(expected.get(i).getData().toJsonString()));
+            }
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.source.prometheus;
+
+import com.arpnetworking.metrics.prometheus.Types;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.dataprepper.metrics.PluginMetrics;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SeriesLabelCacheTest {
+
+    @Mock
+    private PluginMetrics pluginMetrics;
+
+    private final AtomicInteger parseCount = new AtomicInteger();
+    private final Function<Types.TimeSeries, RemoteWriteProtobufParser.ParsedLabels> countingParser = timeSeries -> {
+        parseCount.incrementAndGet();
+        return RemoteWriteProtobufParser.parseLabels(timeSeries);
+    };
+
+    private static Types.TimeSeries timeSeries(final String... namesAndValues) {
+        final Types.TimeSeries.Builder builder = Types.TimeSeries.newBuilder();
+        for (int i = 0; i < namesAndValues.length; i += 2) {
+            builder.addLabels(Types.Label.newBuilder().setName(namesAndValues[i]).setValue(namesAndValues[i + 1]).build());
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private double gaugeValue(final String name) {
+        final ArgumentCaptor<Object> objectCaptor = ArgumentCaptor.forClass(Object.class);
+        final ArgumentCaptor<ToDoubleFunction<Object>> functionCaptor = ArgumentCaptor.forClass(ToDoubleFunction.class);
+        verify(pluginMetrics).gauge(eq(name), objectCaptor.capture(), functionCaptor.capture());
+        return functionCaptor.getValue().applyAsDouble(objectCaptor.getValue());
+    }
+
+    @Test
+    void get_parses_each_label_set_once() {
+        final SeriesLabelCache cache = new SeriesLabelCache(10, pluginMetrics);
+
+        final RemoteWriteProtobufParser.ParsedLabels first = cache.get(
+                timeSeries("__name__", "http_requests_total", "method", "GET"), countingParser);
+        final RemoteWriteProtobufParser.ParsedLabels second = cache.get(
+                timeSeries("__name__", "http_requests_total", "method", "GET"), countingParser);
+        final RemoteWriteProtobufParser.ParsedLabels other = cache.get(
+                timeSeries("__name__", "http_requests_total", "method", "POST"), countingParser);
+
+        assertThat(second, sameInstance(first));
+        assertThat(other, not(sameInstance(first)));
+        assertThat(first.attributes.get("method"), equalTo("GET"));
+        assertThat(other.attributes.get("method"), equalTo("POST"));
+        assertThat(parseCount.get(), equalTo(2));
+        assertThat(cache.estimatedSize(), equalTo(2L));
+    }
+
+    @Test
+    void gauges_report_hit_rate_entries_and_bytes() {
+        final SeriesLabelCache cache = new SeriesLabelCache(10, pluginMetrics);
+
+        cache.get(timeSeries("__name__", "up", "job", "api"), countingParser);
+        cache.get(timeSeries("__name__", "up", "job", "api"), countingParser);
+
+        final long expectedBytes = SeriesLabelCache.ENTRY_OVERHEAD_BYTES + 2 * SeriesLabelCache.LABEL_OVERHEAD_BYTES
+                + "__name__".length() + "up".length() + "job".length() + "api".length();
+        assertThat(gaugeValue(SeriesLabelCache.SERIES_CACHE_HIT_RATE), equalTo(0.5));
+        assertThat(gaugeValue(SeriesLabelCache.SERIES_CACHE_ENTRIES), equalTo(1.0));
+        assertThat(gaugeValue(SeriesLabelCache.SERIES_CACHE_ESTIMATED_BYTES), equalTo((double) expectedBytes));
+    }
+
+    @Test
+    void evicted_entries_are_removed_from_estimated_bytes() {
+        final SeriesLabelCache cache = new SeriesLabelCache(1, pluginMetrics);
+
+        cache.get(timeSeries("a", "1"), countingParser);
+        final long bytesOfOneEntry = cache.estimatedBytes();
+        cache.get(timeSeries("a", "2"), countingParser);
+
+        assertThat(cache.estimatedSize(), equalTo(1L));
+        assertThat(cache.estimatedBytes(), equalTo(bytesOfOneEntry));
+    }
+
+    @Test
+    void label_set_keys_are_equal_only_for_identical_labels() {
+        final SeriesLabelCache.LabelSetKey key = SeriesLabelCache.LabelSetKey.of(timeSeries("a", "1", "b", "2").getLabelsList());
+        final SeriesLabelCache.LabelSetKey same = SeriesLabelCache.LabelSetKey.of(timeSeries("a", "1", "b", "2").getLabelsList());
+        final SeriesLabelCache.LabelSetKey reordered = SeriesLabelCache.LabelSetKey.of(timeSeries("b", "2", "a", "1").getLabelsList());
+        // "Aa" and "BB" have the same hash code
+        final SeriesLabelCache.LabelSetKey colliding = SeriesLabelCache.LabelSetKey.of(List.of(
+                Types.Label.newBuilder().setName("Aa").setValue("").build()));
+        final SeriesLabelCache.LabelSetKey collided = SeriesLabelCache.LabelSetKey.of(List.of(
+                Types.Label.newBuilder().setName("BB").setValue("").build()));
+
+        assertThat(key.equals(key), equalTo(true));
+        assertThat(key.equals(same), equalTo(true));
+        assertThat(key.hashCode(), equalTo(same.hashCode()));
+        assertThat(key.equals(reordered), equalTo(false));
+        assertThat(key.equals("a"), equalTo(false));
+        assertThat(colliding.hashCode(), equalTo(collided.hashCode()));
+        assertThat(colliding.equals(collided), equalTo(false));
+    }
+}
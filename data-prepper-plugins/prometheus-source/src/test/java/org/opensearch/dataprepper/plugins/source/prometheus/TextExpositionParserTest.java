@@ -24,6 +24,7 @@ import org.opensearch.dataprepper.model.metric.Sum;
 import org.opensearch.dataprepper.model.metric.Summary;
 import org.opensearch.dataprepper.model.record.Record;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.HashMap;
@@ -56,6 +57,41 @@ class TextExpositionParserTest {
         assertThat(results, hasSize(0));
     }
 
+    @Test
+    void testEmptyByteBodyReturnsEmptyList() {
+        assertThat(parser.parse((byte[]) null), hasSize(0));
+        assertThat(parser.parse(new byte[0]), hasSize(0));
+    }
+
+    @Test
+    void testParseBytesMatchesParseString() {
+        final String body = "# HELP http_requests_total Total requests\r\n" +
+                "# TYPE http_requests_total counter\r\n" +
+                "http_requests_total{method=\"GET\",path=\"/caf\u00e9\"} 1027 1625000000000\r\n" +
+                "\n" +
+                "   temperature{room=\"a\\\"b\"}   -3.5\n" +
+                "unparseable_metric not_a_number\n";
+
+        final List<Record<Event>> fromBytes = parser.parse(body.getBytes(StandardCharsets.UTF_8));
+        final List<Record<Event>> fromString = parser.parse(body);
+
+        assertThat(fromBytes, hasSize(2));
+        assertThat(fromString, hasSize(2));
+        for (int i = 0; i < fromBytes.size(); i++) {
+            final Metric expected = (Metric) fromString.get(i).getData();
+            final Metric actual = (Metric) fromBytes.get(i).getData();
+            assertThat(actual.getName(), equalTo(expected.getName()));
+            assertThat(actual.getAttributes(), equalTo(expected.getAttributes()));
+        }
+        final Sum sum = (Sum) fromBytes.get(0).getData();
+        assertThat(sum.getValue(), closeTo(1027.0, 0.001));
+        assertThat(sum.getTime(), equalTo(Instant.ofEpochMilli(1625000000000L).toString()));
+        assertThat(sum.getAttributes(), hasEntry("path", "/caf\u00e9"));
+        final Gauge gauge = (Gauge) fromBytes.get(1).getData();
+        assertThat(gauge.getValue(), closeTo(-3.5, 0.001));
+        assertThat(gauge.getAttributes(), hasEntry("room", "a\"b"));
+    }
+
     @Test
     void testParseGaugeMetric() {
         final String body = "# TYPE cpu_temperature gauge\n" +
@@ -612,16 +648,32 @@ class TextExpositionParserTest {
         assertThat(sample, equalTo(null));
     }
 
+    @Test
+    void testParseLabelsMethodLeavesCursorAfterMultiByteLabels() {
+        final Map<String, String> labels = new LinkedHashMap<>();
+        final String line = "metric{city=\"M\u00fcnchen\"} 1.0";
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
+
+        assertThat(labels.get("city"), equalTo("M\u00fcnchen"));
+        assertThat(cursor.position(), equalTo(line.substring(0, line.indexOf('}') + 1).getBytes(StandardCharsets.UTF_8).length));
+        cursor.skipWhitespace();
+        assertThat(cursor.readValue(), equalTo(1.0));
+    }
+
     @Test
     void testParseLabelsMethod() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{key1=\"val1\",key2=\"val2\"} 1.0";
-        final int endIdx = parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
 
         assertThat(labels.size(), equalTo(2));
         assertThat(labels.get("key1"), equalTo("val1"));
         assertThat(labels.get("key2"), equalTo("val2"));
-        assertThat(endIdx, greaterThan(6));
+        assertThat(cursor.position(), equalTo(line.indexOf('}') + 1));
     }
 
     @Test
@@ -682,7 +734,9 @@ class TextExpositionParserTest {
     void testParseLabelsWithWhitespaceAroundLabels() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{ key1=\"val1\" } 1.0";
-        parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
         assertThat(labels.size(), equalTo(1));
         assertThat(labels.get("key1"), equalTo("val1"));
     }
@@ -691,7 +745,9 @@ class TextExpositionParserTest {
     void testParseLabelsWithMalformedNoEquals() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{malformed_label} 1.0";
-        parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
         assertThat(labels.size(), equalTo(0));
     }
 
@@ -699,7 +755,9 @@ class TextExpositionParserTest {
     void testParseLabelsWithMissingQuoteAfterEquals() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{key=noquote} 1.0";
-        parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
         assertThat(labels.size(), equalTo(0));
     }
 
@@ -707,7 +765,9 @@ class TextExpositionParserTest {
     void testParseLabelsWithUnterminatedValue() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{key=\"unterminated";
-        parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
         assertThat(labels.size(), equalTo(1));
         assertThat(labels.get("key"), equalTo("unterminated"));
     }
@@ -716,7 +776,9 @@ class TextExpositionParserTest {
     void testParseLabelsWithBackslashAtEnd() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{key=\"val\\\"} 1.0";
-        parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
         assertThat(labels.containsKey("key"), equalTo(true));
     }
 
@@ -757,16 +819,21 @@ class TextExpositionParserTest {
     void testParseLabelsAtEndOfString() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{key=\"val\"";
-        final int endIdx = parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
         assertThat(labels.size(), equalTo(1));
         assertThat(labels.get("key"), equalTo("val"));
+        assertThat(cursor.hasRemaining(), equalTo(false));
     }
 
     @Test
     void testParseLabelsWithUnknownEscapeSequence() {
         final Map<String, String> labels = new LinkedHashMap<>();
         final String line = "metric{key=\"val\\xend\"} 1.0";
-        parser.parseLabels(line, 6, labels);
+        final ExpositionCursor cursor = ExpositionCursor.forLine(line);
+        cursor.skip(6);
+        parser.parseLabels(cursor, labels);
         assertThat(labels.size(), equalTo(1));
         assertThat(labels.get("key"), equalTo("val\\xend"));
     }
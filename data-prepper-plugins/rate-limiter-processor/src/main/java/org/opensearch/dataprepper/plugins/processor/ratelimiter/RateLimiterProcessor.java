@@ -10,11 +10,13 @@
 
 package org.opensearch.dataprepper.plugins.processor.ratelimiter;
 
+import io.micrometer.core.instrument.Counter;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPluginConstructor;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.model.plugin.InvalidPluginConfigurationException;
 import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
@@ -22,85 +24,153 @@ import org.opensearch.dataprepper.model.record.Record;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 
 @DataPrepperPlugin(name = "rate_limiter", pluginType = Processor.class, pluginConfigurationType = RateLimiterProcessorConfig.class)
 public class RateLimiterProcessor extends AbstractProcessor<Record<Event>, Record<Event>> {
-    private final int eventsPerSecond;
-    private final long counterRetentionSeconds;
+    static final String EVENTS_DROPPED = "eventsDropped";
+    static final String EVENTS_DELAYED = "eventsDelayed";
+    private static final String MISSING_KEY = "";
+
     private final RateLimiterMode whenExceeds;
     private final String limitWhen;
     private final ExpressionEvaluator expressionEvaluator;
-    private final ConcurrentHashMap<Long, AtomicInteger> emittedPerSecond = new ConcurrentHashMap<>();
+    private final FormatTemplate limitKey;
+    private final TokenBucket sharedBucket;
+    private final TokenBuckets keyedBuckets;
+    private final LongSupplier nanoClock;
+    private final Counter eventsDroppedCounter;
+    private final Counter eventsDelayedCounter;
 
     @DataPrepperPluginConstructor
     public RateLimiterProcessor(final PluginMetrics pluginMetrics,
                                 final RateLimiterProcessorConfig config,
                                 final ExpressionEvaluator expressionEvaluator) {
+        this(pluginMetrics, config, expressionEvaluator, System::nanoTime);
+    }
+
+    RateLimiterProcessor(final PluginMetrics pluginMetrics,
+                         final RateLimiterProcessorConfig config,
+                         final ExpressionEvaluator expressionEvaluator,
+                         final LongSupplier nanoClock) {
         super(pluginMetrics);
-        this.eventsPerSecond = config.getEventsPerSecond();
-        this.counterRetentionSeconds = config.getCounterRetention().getSeconds();
         this.whenExceeds = config.getWhenExceeds();
         this.limitWhen = config.getLimitWhen();
         this.expressionEvaluator = expressionEvaluator;
+        this.nanoClock = nanoClock;
+        this.eventsDroppedCounter = pluginMetrics.counter(EVENTS_DROPPED);
+        this.eventsDelayedCounter = pluginMetrics.counter(EVENTS_DELAYED);
 
         if (limitWhen != null && !expressionEvaluator.isValidExpressionStatement(limitWhen)) {
             throw new InvalidPluginConfigurationException(
                     String.format("limit_when \"%s\" is not a valid expression statement.", limitWhen));
         }
+
+        final int eventsPerSecond = config.getEventsPerSecond();
+        final int burst = config.getBurst() != null ? config.getBurst() : eventsPerSecond;
+        final long nowNanos = nanoClock.getAsLong();
+        if (config.getLimitKey() != null) {
+            this.limitKey = FormatTemplate.compile(config.getLimitKey(), expressionEvaluator);
+            this.keyedBuckets = new TokenBuckets(eventsPerSecond, burst, config.getMaxKeys(),
+                    config.getCounterRetention().toNanos(), nowNanos);
+            this.sharedBucket = null;
+        } else {
+            this.limitKey = null;
+            this.keyedBuckets = null;
+            this.sharedBucket = new TokenBucket(eventsPerSecond, burst, nowNanos);
+        }
     }
 
     @Override
     public Collection<Record<Event>> doExecute(final Collection<Record<Event>> records) {
-        final Collection<Record<Event>> output = new ArrayList<>();
+        // The key of each record, or null if limit_when does not apply to it
+        final String[] recordKeys = new String[records.size()];
+        final Map<String, Integer> keyCounts = new LinkedHashMap<>();
+        int recordIndex = 0;
+        for (final Record<Event> record : records) {
+            if (limitWhen == null || expressionEvaluator.evaluateConditional(limitWhen, record.getData())) {
+                final String key = getKey(record.getData());
+                recordKeys[recordIndex] = key;
+                keyCounts.merge(key, 1, Integer::sum);
+            }
+            recordIndex++;
+        }
+
+        if (keyCounts.isEmpty()) {
+            return records;
+        }
+
+        final long nowNanos = nanoClock.getAsLong();
+        if (whenExceeds != RateLimiterMode.DROP) {
+            long waitNanos = 0;
+            for (final Map.Entry<String, Integer> entry : keyCounts.entrySet()) {
+                final long keyWaitNanos = getBucket(entry.getKey(), nowNanos).reserve(entry.getValue(), nowNanos);
+                if (keyWaitNanos > 0) {
+                    eventsDelayedCounter.increment(entry.getValue());
+                }
+                waitNanos = Math.max(waitNanos, keyWaitNanos);
+            }
+            waitForReservation(waitNanos);
+            return records;
+        }
 
+        // The count of each key becomes the number of its records which may still pass
+        for (final Map.Entry<String, Integer> entry : keyCounts.entrySet()) {
+            final int count = entry.getValue();
+            final int granted = getBucket(entry.getKey(), nowNanos).tryAcquire(count, nowNanos);
+            if (granted < count) {
+                eventsDroppedCounter.increment(count - granted);
+            }
+            entry.setValue(granted);
+        }
+
+        final Collection<Record<Event>> output = new ArrayList<>(records.size());
+        recordIndex = 0;
         for (final Record<Event> record : records) {
-            if (limitWhen != null && !expressionEvaluator.evaluateConditional(limitWhen, record.getData())) {
+            final String key = recordKeys[recordIndex++];
+            if (key == null) {
                 output.add(record);
                 continue;
             }
-
-            if (whenExceeds == RateLimiterMode.DROP) {
-                final long now = System.currentTimeMillis() / 1000;
-                final AtomicInteger count = emittedPerSecond.computeIfAbsent(now, k -> new AtomicInteger(0));
-                if (count.incrementAndGet() <= eventsPerSecond) {
-                    output.add(record);
-                }
-            } else {
-                waitForCapacity();
+            final int granted = keyCounts.get(key);
+            if (granted > 0) {
                 output.add(record);
+                keyCounts.put(key, granted - 1);
             }
         }
-
-        evictOldCounters();
         return output;
     }
 
-    private void waitForCapacity() {
-        while (true) {
-            final long now = System.currentTimeMillis() / 1000;
-            final AtomicInteger count = emittedPerSecond.computeIfAbsent(now, k -> new AtomicInteger(0));
-            if (count.incrementAndGet() <= eventsPerSecond) {
-                return;
-            }
-            count.decrementAndGet();
-            try {
-                long sleepMs = 1000 - (System.currentTimeMillis() % 1000);
-                Thread.sleep(sleepMs);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+    private String getKey(final Event event) {
+        return limitKey == null ? MISSING_KEY : limitKey.format(event, MISSING_KEY);
+    }
+
+    private TokenBucket getBucket(final String key, final long nowNanos) {
+        return keyedBuckets == null ? sharedBucket : keyedBuckets.get(key, nowNanos);
+    }
+
+    /**
+     * Waits once for the whole batch to be within its reservation, rather than waiting for each event.
+     */
+    private void waitForReservation(final long waitNanos) {
+        final long deadline = System.nanoTime() + waitNanos;
+        long remainingNanos = waitNanos;
+        while (remainingNanos > 0) {
+            LockSupport.parkNanos(this, remainingNanos);
+            if (Thread.currentThread().isInterrupted()) {
                 return;
             }
+            remainingNanos = deadline - System.nanoTime();
         }
     }
 
-    private void evictOldCounters() {
-        final long now = System.currentTimeMillis() / 1000;
-        emittedPerSecond.keySet().removeIf(second -> now - second > counterRetentionSeconds);
+    int getKeyCount() {
+        return keyedBuckets == null ? 0 : keyedBuckets.size();
     }
 
-
     @Override
     public void prepareForShutdown() {
     }
@@ -14,6 +14,7 @@ import com.fasterxml.jackson.annotation.JsonClassDescription;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.Duration;
@@ -23,13 +24,35 @@ import java.time.Duration;
         "By default, <code>rate_limiter</code> drops events that exceed the configured number allowed per second.")
 public class RateLimiterProcessorConfig {
 
-    @JsonPropertyDescription("The number of events allowed per second.")
+    static final int DEFAULT_MAX_KEYS = 10_000;
+
+    @JsonPropertyDescription("The number of events allowed per second. Capacity refills continuously at this rate.")
     @JsonProperty("events_per_second")
     @NotNull
+    @Min(1)
     private int eventsPerSecond;
 
+    @JsonPropertyDescription("The largest number of events allowed at once after a quiet period. " +
+            "Defaults to <code>events_per_second</code>.")
+    @JsonProperty("burst")
+    @Min(1)
+    private Integer burst;
+
+    @JsonPropertyDescription("A format string such as <code>${/tenant}</code> which gives each event a key. " +
+            "When specified, each key is limited to <code>events_per_second</code> separately. " +
+            "Placeholders may be event keys or expressions.")
+    @JsonProperty("limit_key")
+    private String limitKey;
+
+    @JsonPropertyDescription("The maximum number of keys to track when <code>limit_key</code> is specified. " +
+            "The least recently seen keys are discarded first. Default is 10000.")
+    @JsonProperty(value = "max_keys", defaultValue = "" + DEFAULT_MAX_KEYS)
+    @Min(1)
+    private int maxKeys = DEFAULT_MAX_KEYS;
+
     @JsonPropertyDescription("Indicates what action the <code>rate_limiter</code> takes when the number of events received is greater than the number of events allowed per second. " +
-            "Default value is drop, which drops the excess events received in that second.")
+            "Default value is drop, which drops the excess events. " +
+            "In hold mode, the whole batch is admitted at once and the processor waits once until it is within the rate.")
     @JsonProperty(value = "when_exceeds", defaultValue = "drop")
     private RateLimiterMode whenExceeds = RateLimiterMode.DROP;
 
@@ -39,8 +62,8 @@ public class RateLimiterProcessorConfig {
     @JsonProperty("limit_when")
     private String limitWhen;
 
-    @JsonPropertyDescription("The duration to track per-second event counts. " +
-            "Counters older than this are discarded to free resources. Default is 60 seconds.")
+    @JsonPropertyDescription("How often to discard the limits of keys which have been idle long enough to be full again. " +
+            "Only used with <code>limit_key</code>. Default is 60 seconds.")
     @JsonProperty(value = "counter_retention", defaultValue = "PT60S")
     private Duration counterRetention = Duration.ofSeconds(60);
 
@@ -48,6 +71,18 @@ public class RateLimiterProcessorConfig {
         return eventsPerSecond;
     }
 
+    public Integer getBurst() {
+        return burst;
+    }
+
+    public String getLimitKey() {
+        return limitKey;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
     public RateLimiterMode getWhenExceeds() {
         return whenExceeds;
     }
@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.ratelimiter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A token bucket which refills continuously at a fixed rate up to its capacity. Tokens are taken for whole batches,
+ * either only as many as are available, or as a reservation which may put the bucket into debt. A bucket in debt
+ * grants nothing until it has refilled past zero, which is how a reservation delays the callers after it.
+ */
+class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(final int tokensPerSecond, final int capacity, final long nowNanos) {
+        this.capacity = capacity;
+        this.tokensPerNano = tokensPerSecond / (double) TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Takes up to the requested number of tokens.
+     *
+     * @param requested the number of tokens wanted
+     * @param nowNanos the current time in nanoseconds
+     * @return the number of tokens taken, between zero and the requested number
+     */
+    synchronized int tryAcquire(final int requested, final long nowNanos) {
+        refill(nowNanos);
+        final int granted = (int) Math.min(requested, Math.max(0, Math.floor(tokens)));
+        tokens -= granted;
+        return granted;
+    }
+
+    /**
+     * Takes the requested number of tokens, going into debt if there are not enough.
+     *
+     * @param requested the number of tokens to take
+     * @param nowNanos the current time in nanoseconds
+     * @return the nanoseconds until the bucket is out of debt, or zero if it is not in debt
+     */
+    synchronized long reserve(final int requested, final long nowNanos) {
+        refill(nowNanos);
+        tokens -= requested;
+        if (tokens >= 0) {
+            return 0;
+        }
+        return (long) Math.ceil(-tokens / tokensPerNano);
+    }
+
+    synchronized boolean isFull(final long nowNanos) {
+        refill(nowNanos);
+        return tokens >= capacity;
+    }
+
+    private void refill(final long nowNanos) {
+        if (nowNanos > lastRefillNanos) {
+            tokens = Math.min(capacity, tokens + (nowNanos - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.ratelimiter;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The token buckets of a keyed rate limiter, held in a least recently used map of bounded size. A key which is
+ * evicted starts again with a full bucket, which is also what it would have after being idle, so eviction only
+ * loosens limits for keys which were pushed out while still in debt.
+ */
+class TokenBuckets {
+    private final int tokensPerSecond;
+    private final int capacity;
+    private final long idleEvictionNanos;
+    private final Map<String, TokenBucket> buckets;
+    private long nextIdleEvictionNanos;
+
+    TokenBuckets(final int tokensPerSecond, final int capacity, final int maxKeys, final long idleEvictionNanos,
+                 final long nowNanos) {
+        this.tokensPerSecond = tokensPerSecond;
+        this.capacity = capacity;
+        this.idleEvictionNanos = idleEvictionNanos;
+        this.nextIdleEvictionNanos = nowNanos + idleEvictionNanos;
+        this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, TokenBucket> eldest) {
+                return size() > maxKeys;
+            }
+        };
+    }
+
+    synchronized TokenBucket get(final String key, final long nowNanos) {
+        evictIdle(nowNanos);
+        return buckets.computeIfAbsent(key, k -> new TokenBucket(tokensPerSecond, capacity, nowNanos));
+    }
+
+    synchronized int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Removes full buckets from the least recently used end, at most once per idle eviction interval. A full bucket
+     * holds no state which a new bucket would not have.
+     */
+    private void evictIdle(final long nowNanos) {
+        if (nowNanos - nextIdleEvictionNanos < 0) {
+            return;
+        }
+        nextIdleEvictionNanos = nowNanos + idleEvictionNanos;
+        final Iterator<TokenBucket> iterator = buckets.values().iterator();
+        while (iterator.hasNext() && iterator.next().isFull(nowNanos)) {
+            iterator.remove();
+        }
+    }
+}
@@ -26,5 +26,8 @@ class RateLimiterProcessorConfigTest {
         assertThat(config.getWhenExceeds(), equalTo(RateLimiterMode.DROP));
         assertThat(config.getLimitWhen(), nullValue());
         assertThat(config.getCounterRetention(),equalTo(Duration.ofSeconds(60)));
+        assertThat(config.getBurst(), nullValue());
+        assertThat(config.getLimitKey(), nullValue());
+        assertThat(config.getMaxKeys(), equalTo(RateLimiterProcessorConfig.DEFAULT_MAX_KEYS));
     }
 }
@@ -24,10 +24,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 @DataPrepperPluginTest(pluginName = "rate_limiter", pluginType = Processor.class)
@@ -64,7 +67,9 @@ class RateLimiterProcessorTest extends BaseDataPrepperPluginStandardTestSuite {
         final Collection<Record<Event>> result1 = processor.execute(createEvents(eventFactory, 300));
         final Collection<Record<Event>> result2 = processor.execute(createEvents(eventFactory, 200));
 
-        assertThat(result1.size() + result2.size(), lessThanOrEqualTo(400));
+        // Capacity refills continuously, so allow for the tokens added while the second batch is created
+        assertThat(result1.size() + result2.size(), lessThanOrEqualTo(410));
+        assertThat(result1.size(), equalTo(300));
     }
 
     @Test
@@ -81,6 +86,21 @@ class RateLimiterProcessorTest extends BaseDataPrepperPluginStandardTestSuite {
         assertThat(result.size(), equalTo(7));
     }
 
+    @Test
+    void test_limit_when_keeps_the_order_of_events(
+            @PluginConfigurationFile("rate_limiter_with_limit_when.yaml") final Processor<Record<Event>, Record<Event>> processor,
+            final EventFactory eventFactory) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.addAll(createEvents(eventFactory, 1, Map.of("id", "debug-" + i, "level", "DEBUG")));
+            records.addAll(createEvents(eventFactory, 1, Map.of("id", "info-" + i, "level", "INFO")));
+        }
+
+        final Collection<Record<Event>> result = processor.execute(records);
+
+        assertThat(getIds(result), equalTo(List.of("debug-0", "info-0", "debug-1", "info-1", "info-2", "info-3", "info-4")));
+    }
+
     @Test
     void test_hold_mode(
             @PluginConfigurationFile("rate_limiter_hold_mode.yaml") final Processor<Record<Event>, Record<Event>> processor,
@@ -91,6 +111,64 @@ class RateLimiterProcessorTest extends BaseDataPrepperPluginStandardTestSuite {
         assertThat(result.size(), equalTo(3));
     }
 
+    @Test
+    void test_limit_key_limits_each_key_separately(
+            @PluginConfigurationFile("rate_limiter_with_limit_key.yaml") final Processor<Record<Event>, Record<Event>> processor,
+            final EventFactory eventFactory) {
+        final List<Record<Event>> records = new ArrayList<>();
+        records.addAll(createEvents(eventFactory, 5, Map.of("message", "test", "tenant", "a")));
+        records.addAll(createEvents(eventFactory, 5, Map.of("message", "test", "tenant", "b")));
+        records.addAll(createEvents(eventFactory, 1, Map.of("message", "test", "tenant", "c")));
+        records.addAll(createEvents(eventFactory, 5, Map.of("message", "test")));
+
+        final Collection<Record<Event>> result = processor.execute(records);
+
+        assertThat(countTenant(result, "a"), equalTo(3L));
+        assertThat(countTenant(result, "b"), equalTo(3L));
+        assertThat(countTenant(result, "c"), equalTo(1L));
+        assertThat(countTenant(result, null), equalTo(3L));
+    }
+
+    @Test
+    void test_hold_mode_admits_the_whole_batch(
+            @PluginConfigurationFile("rate_limiter_hold_mode.yaml") final Processor<Record<Event>, Record<Event>> processor,
+            final EventFactory eventFactory) {
+        final long start = System.nanoTime();
+        final Collection<Record<Event>> result = processor.execute(createEvents(eventFactory, 4));
+        final long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(result.size(), equalTo(4));
+        // 2 events are in the initial burst and 2 more take one second to refill
+        assertThat(elapsedMillis, greaterThanOrEqualTo(900L));
+    }
+
+    @Test
+    void test_limit_key_keeps_the_order_of_events(
+            @PluginConfigurationFile("rate_limiter_with_limit_key.yaml") final Processor<Record<Event>, Record<Event>> processor,
+            final EventFactory eventFactory) {
+        final List<Record<Event>> records = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            records.addAll(createEvents(eventFactory, 1, Map.of("id", "a-" + i, "tenant", "a")));
+            records.addAll(createEvents(eventFactory, 1, Map.of("id", "b-" + i, "tenant", "b")));
+        }
+
+        final Collection<Record<Event>> result = processor.execute(records);
+
+        assertThat(getIds(result), equalTo(List.of("a-0", "b-0", "a-1", "b-1", "a-2", "b-2")));
+    }
+
+    private List<String> getIds(final Collection<Record<Event>> records) {
+        return records.stream()
+                .map(record -> record.getData().get("id", String.class))
+                .collect(Collectors.toList());
+    }
+
+    private long countTenant(final Collection<Record<Event>> records, final String tenant) {
+        return records.stream()
+                .filter(record -> Objects.equals(record.getData().get("tenant", String.class), tenant))
+                .count();
+    }
+
     private List<Record<Event>> createEvents(final EventFactory eventFactory, final int count) {
         return createEvents(eventFactory, count, Map.of("message", "test"));
     }
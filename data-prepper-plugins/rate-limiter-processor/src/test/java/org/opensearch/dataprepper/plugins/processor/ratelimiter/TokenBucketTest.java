@@ -0,0 +1,74 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.ratelimiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TokenBucketTest {
+    private static final long START = 1_000L;
+
+    @Test
+    void tryAcquire_grants_up_to_capacity() {
+        final TokenBucket objectUnderTest = new TokenBucket(10, 5, START);
+
+        assertThat(objectUnderTest.tryAcquire(3, START), equalTo(3));
+        assertThat(objectUnderTest.tryAcquire(3, START), equalTo(2));
+        assertThat(objectUnderTest.tryAcquire(3, START), equalTo(0));
+    }
+
+    @Test
+    void tokens_refill_continuously() {
+        final TokenBucket objectUnderTest = new TokenBucket(10, 10, START);
+        assertThat(objectUnderTest.tryAcquire(10, START), equalTo(10));
+
+        assertThat(objectUnderTest.tryAcquire(10, START + TimeUnit.MILLISECONDS.toNanos(250)), equalTo(2));
+        assertThat(objectUnderTest.tryAcquire(10, START + TimeUnit.MILLISECONDS.toNanos(500)), equalTo(3));
+    }
+
+    @Test
+    void refill_is_capped_at_capacity() {
+        final TokenBucket objectUnderTest = new TokenBucket(10, 4, START);
+        objectUnderTest.tryAcquire(4, START);
+
+        assertThat(objectUnderTest.isFull(START + TimeUnit.SECONDS.toNanos(10)), equalTo(true));
+        assertThat(objectUnderTest.tryAcquire(10, START + TimeUnit.SECONDS.toNanos(10)), equalTo(4));
+    }
+
+    @Test
+    void time_going_backwards_does_not_refill() {
+        final TokenBucket objectUnderTest = new TokenBucket(10, 1, START);
+        objectUnderTest.tryAcquire(1, START);
+
+        assertThat(objectUnderTest.tryAcquire(1, START - TimeUnit.SECONDS.toNanos(1)), equalTo(0));
+    }
+
+    @Test
+    void reserve_within_capacity_does_not_wait() {
+        final TokenBucket objectUnderTest = new TokenBucket(10, 10, START);
+
+        assertThat(objectUnderTest.reserve(10, START), equalTo(0L));
+        assertThat(objectUnderTest.isFull(START), equalTo(false));
+    }
+
+    @Test
+    void reserve_beyond_capacity_returns_time_until_out_of_debt() {
+        final TokenBucket objectUnderTest = new TokenBucket(10, 10, START);
+
+        assertThat(objectUnderTest.reserve(15, START), equalTo(TimeUnit.MILLISECONDS.toNanos(500)));
+        assertThat(objectUnderTest.tryAcquire(1, START + TimeUnit.MILLISECONDS.toNanos(400)), equalTo(0));
+        assertThat(objectUnderTest.reserve(1, START + TimeUnit.MILLISECONDS.toNanos(500)), equalTo(TimeUnit.MILLISECONDS.toNanos(100)));
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ */
+
+package org.opensearch.dataprepper.plugins.processor.ratelimiter;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class TokenBucketsTest {
+    private static final long START = 0L;
+    private static final long IDLE_EVICTION_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    @Test
+    void get_returns_the_same_bucket_for_a_key() {
+        final TokenBuckets objectUnderTest = new TokenBuckets(10, 10, 10, IDLE_EVICTION_NANOS, START);
+
+        final TokenBucket bucket = objectUnderTest.get("a", START);
+
+        assertThat(objectUnderTest.get("a", START), sameInstance(bucket));
+        assertThat(objectUnderTest.get("b", START), not(sameInstance(bucket)));
+        assertThat(objectUnderTest.size(), equalTo(2));
+    }
+
+    @Test
+    void least_recently_used_key_is_evicted_beyond_max_keys() {
+        final TokenBuckets objectUnderTest = new TokenBuckets(10, 10, 2, IDLE_EVICTION_NANOS, START);
+        final TokenBucket bucketA = objectUnderTest.get("a", START);
+        final TokenBucket bucketB = objectUnderTest.get("b", START);
+        objectUnderTest.get("a", START);
+
+        objectUnderTest.get("c", START);
+
+        assertThat(objectUnderTest.size(), equalTo(2));
+        assertThat(objectUnderTest.get("a", START), sameInstance(bucketA));
+        assertThat(objectUnderTest.get("b", START), not(sameInstance(bucketB)));
+    }
+
+    @Test
+    void full_buckets_are_evicted_after_the_idle_interval() {
+        final TokenBuckets objectUnderTest = new TokenBuckets(10, 10, 10, IDLE_EVICTION_NANOS, START);
+        objectUnderTest.get("a", START);
+        objectUnderTest.get("b", START).tryAcquire(10, START);
+        objectUnderTest.get("c", START);
+
+        objectUnderTest.get("b", START + TimeUnit.MILLISECONDS.toNanos(10));
+        objectUnderTest.get("a", START + IDLE_EVICTION_NANOS - 1);
+        assertThat(objectUnderTest.size(), equalTo(3));
+
+        objectUnderTest.get("d", START + IDLE_EVICTION_NANOS);
+
+        assertThat(objectUnderTest.size(), equalTo(1));
+    }
+}
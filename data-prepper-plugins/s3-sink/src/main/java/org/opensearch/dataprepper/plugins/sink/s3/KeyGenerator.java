@@ -7,24 +7,28 @@ package org.opensearch.dataprepper.plugins.sink.s3;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.ObjectKey;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 
 
 public class KeyGenerator {
-    private final S3SinkConfig s3SinkConfig;
     private final S3BucketSelector s3BucketSelector;
     private final ExtensionProvider extensionProvider;
 
-    private final ExpressionEvaluator expressionEvaluator;
+    private final FormatTemplate pathPrefixTemplate;
+    private final FormatTemplate namePatternTemplate;
 
     public KeyGenerator(final S3SinkConfig s3SinkConfig,
                         final S3BucketSelector s3BucketSelector,
                         final ExtensionProvider extensionProvider,
                         final ExpressionEvaluator expressionEvaluator) {
-        this.s3SinkConfig = s3SinkConfig;
         this.s3BucketSelector = s3BucketSelector;
         this.extensionProvider = extensionProvider;
-        this.expressionEvaluator = expressionEvaluator;
+        final ObjectKeyOptions objectKeyOptions = s3SinkConfig.getObjectKeyOptions();
+        final String pathPrefix = objectKeyOptions.getPathPrefix();
+        this.pathPrefixTemplate = pathPrefix != null ? FormatTemplate.compile(pathPrefix, expressionEvaluator) : null;
+        this.namePatternTemplate = FormatTemplate.compile(objectKeyOptions.getNamePattern(), expressionEvaluator);
     }
 
     /**
@@ -34,9 +38,9 @@ public class KeyGenerator {
      * @return object key path.
      */
     public String generateKeyForEvent(final Event event) {
-        final String pathPrefix = s3BucketSelector != null ? s3BucketSelector.getPathPrefix() : ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator);
+        final String pathPrefix = s3BucketSelector != null ? s3BucketSelector.getPathPrefix() : ObjectKey.buildingPathPrefix(pathPrefixTemplate, event);
         final String safePathPrefix = pathPrefix != null ? pathPrefix : "";
-        final String namePattern = ObjectKey.objectFileName(s3SinkConfig, extensionProvider.getExtension(), event, expressionEvaluator);
+        final String namePattern = ObjectKey.objectFileName(namePatternTemplate, extensionProvider.getExtension(), event);
         return (!safePathPrefix.isEmpty()) ? safePathPrefix + namePattern : namePattern;
     }
 }
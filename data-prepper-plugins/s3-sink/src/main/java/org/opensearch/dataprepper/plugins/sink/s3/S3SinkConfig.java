@@ -98,6 +98,9 @@ public class S3SinkConfig {
     @JsonProperty("buffer_type")
     private BufferTypeOptions bufferType = BufferTypeOptions.INMEMORY;
 
+    @JsonProperty("concurrent_writes")
+    private boolean concurrentWrites = false;
+
     private int maxConnectionRetries = DEFAULT_CONNECTION_RETRIES;
 
     @JsonProperty("max_retries")
@@ -189,6 +192,15 @@ public class S3SinkConfig {
         return bufferType;
     }
 
+    /**
+     * Whether pipeline workers may write events to different S3 groups at the same time. When disabled, a single
+     * lock is held while a batch is written and its uploads complete.
+     * @return true if writes are locked per S3 group.
+     */
+    public boolean isConcurrentWrites() {
+        return concurrentWrites;
+    }
+
     /**
      * S3 client connection retries configuration Options.
      * @return max connection retries value.
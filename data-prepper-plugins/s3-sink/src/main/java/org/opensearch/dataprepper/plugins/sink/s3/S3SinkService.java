@@ -49,6 +49,8 @@ public class S3SinkService {
     static final String S3_OBJECTS_SIZE = "s3SinkObjectSizeBytes";
     private final S3SinkConfig s3SinkConfig;
     private final Lock reentrantLock;
+    private final Lock forceFlushLock;
+    private final boolean concurrentWrites;
     private final int maxEvents;
     private final ByteCount maxBytes;
     private final Duration maxCollectionDuration;
@@ -81,6 +83,8 @@ public class S3SinkService {
         this.codecContext = codecContext;
         this.retrySleepTime = retrySleepTime;
         reentrantLock = new ReentrantLock();
+        forceFlushLock = new ReentrantLock();
+        concurrentWrites = s3SinkConfig.isConcurrentWrites();
 
         maxEvents = s3SinkConfig.getThresholdOptions().getEventCount();
         maxBytes = s3SinkConfig.getThresholdOptions().getMaximumSize();
@@ -109,6 +113,11 @@ public class S3SinkService {
             return;
         }
 
+        if (concurrentWrites) {
+            outputConcurrently(records);
+            return;
+        }
+
         List<Event> failedEvents = new ArrayList<>();
         Exception sampleException = null;
         reentrantLock.lock();
@@ -118,17 +127,7 @@ public class S3SinkService {
                 final Event event = record.getData();
                 try {
                     final S3Group s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
-                    final Buffer currentBuffer = s3Group.getBuffer();
-                    final OutputCodec codec = s3Group.getOutputCodec();
-
-                    if (currentBuffer.getEventCount() == 0) {
-                        codec.start(currentBuffer.getOutputStream(), event, codecContext);
-                    }
-
-                    codec.writeEvent(event, currentBuffer.getOutputStream());
-                    int count = currentBuffer.getEventCount() + 1;
-                    currentBuffer.setEventCount(count);
-                    s3Group.addEventHandle(event.getEventHandle());
+                    writeEventToGroup(s3Group, event);
 
                     flushToS3IfNeeded(completableFutures, s3Group, false);
                 } catch (Exception ex) {
@@ -148,20 +147,111 @@ public class S3SinkService {
                 checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
             }
 
-            if (!completableFutures.isEmpty()) {
+            waitForUploads(completableFutures);
+        } finally {
+            reentrantLock.unlock();
+        }
+
+        releaseFailedEvents(failedEvents, sampleException);
+    }
+
+    /**
+     * Writes the records while holding only the lock of the {@link S3Group} each event belongs to, so that
+     * workers writing to different groups do not block each other. The uploads started by this batch are
+     * waited on after all group locks have been released.
+     *
+     * @param records received records and add into buffer.
+     */
+    private void outputConcurrently(final Collection<Record<Event>> records) {
+        final List<Event> failedEvents = new ArrayList<>();
+        Exception sampleException = null;
+        final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
+        for (final Record<Event> record : records) {
+            final Event event = record.getData();
+            try {
+                writeEventToLockedGroup(completableFutures, event);
+            } catch (final Exception ex) {
+                if (sampleException == null) {
+                    sampleException = ex;
+                }
+
+                failedEvents.add(event);
+            }
+        }
+
+        for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
+            // A group which is locked is being written to, and its writer checks the thresholds itself.
+            if (s3Group.tryLock()) {
                 try {
-                    CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
-                            .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
-                            .join();
-                } catch (final Exception e) {
-                    LOG.warn("There was an exception while waiting for all requests to complete", e);
+                    if (!s3Group.isFlushed()) {
+                        flushToS3IfNeeded(completableFutures, s3Group, false);
+                    }
+                } finally {
+                    s3Group.unlock();
                 }
+            }
+        }
 
+        // Only one worker needs to enforce the aggregate threshold at a time.
+        if (s3SinkConfig.getAggregateThresholdOptions() != null && forceFlushLock.tryLock()) {
+            try {
+                checkAggregateThresholdsAndFlushIfNeeded(completableFutures);
+            } finally {
+                forceFlushLock.unlock();
             }
-        } finally {
-            reentrantLock.unlock();
         }
 
+        waitForUploads(completableFutures);
+
+        releaseFailedEvents(failedEvents, sampleException);
+    }
+
+    private void writeEventToLockedGroup(final List<CompletableFuture<?>> completableFutures, final Event event) throws IOException {
+        while (true) {
+            final S3Group s3Group = s3GroupManager.getOrCreateGroupForEvent(event);
+            s3Group.lock();
+            try {
+                // Another worker flushed this group after it was looked up; the next lookup creates a new one.
+                if (s3Group.isFlushed()) {
+                    continue;
+                }
+
+                writeEventToGroup(s3Group, event);
+                flushToS3IfNeeded(completableFutures, s3Group, false);
+                return;
+            } finally {
+                s3Group.unlock();
+            }
+        }
+    }
+
+    private void writeEventToGroup(final S3Group s3Group, final Event event) throws IOException {
+        final Buffer currentBuffer = s3Group.getBuffer();
+        final OutputCodec codec = s3Group.getOutputCodec();
+
+        if (currentBuffer.getEventCount() == 0) {
+            codec.start(currentBuffer.getOutputStream(), event, codecContext);
+        }
+
+        codec.writeEvent(event, currentBuffer.getOutputStream());
+        int count = currentBuffer.getEventCount() + 1;
+        currentBuffer.setEventCount(count);
+        s3Group.addEventHandle(event.getEventHandle());
+    }
+
+    private void waitForUploads(final List<CompletableFuture<?>> completableFutures) {
+        if (!completableFutures.isEmpty()) {
+            try {
+                CompletableFuture.allOf(completableFutures.toArray(new CompletableFuture[0]))
+                        .thenRun(() -> LOG.debug("All {} requests to S3 have completed", completableFutures.size()))
+                        .join();
+            } catch (final Exception e) {
+                LOG.warn("There was an exception while waiting for all requests to complete", e);
+            }
+        }
+    }
+
+    private void releaseFailedEvents(final List<Event> failedEvents, final Exception sampleException) {
         if(!failedEvents.isEmpty()) {
             failedEvents
                     .stream()
@@ -171,6 +261,24 @@ public class S3SinkService {
         }
     }
 
+    /**
+     * Flushes the group while holding its lock when writes are concurrent.
+     *
+     * @return whether the flush was attempted
+     */
+    private boolean flushGroupToS3IfNeeded(final List<CompletableFuture<?>> completableFutures, final S3Group s3Group, final boolean forceFlush) {
+        if (!concurrentWrites) {
+            return flushToS3IfNeeded(completableFutures, s3Group, forceFlush);
+        }
+
+        s3Group.lock();
+        try {
+            return !s3Group.isFlushed() && flushToS3IfNeeded(completableFutures, s3Group, forceFlush);
+        } finally {
+            s3Group.unlock();
+        }
+    }
+
     /**
      * @param completableFutures completableFutures
      * @param s3Group s3 group
@@ -183,6 +291,7 @@ public class S3SinkService {
         if (forceFlush || ThresholdCheck.checkThresholdExceed(s3Group.getBuffer(), maxEvents, maxBytes, maxCollectionDuration)) {
 
             s3GroupManager.removeGroup(s3Group);
+            s3Group.markFlushed();
             try {
 
                 s3Group.getOutputCodec().complete(s3Group.getBuffer().getOutputStream());
@@ -235,7 +344,7 @@ public class S3SinkService {
             for (final S3Group s3Group : s3GroupManager.getS3GroupsSortedBySize()) {
                 LOG.info("Forcing a flush of object with key {} due to aggregate_threshold of {} bytes being reached", s3Group.getBuffer().getKey(), aggregateThresholdBytes);
 
-                final boolean flushed = flushToS3IfNeeded(completableFutures, s3Group, true);
+                final boolean flushed = flushGroupToS3IfNeeded(completableFutures, s3Group, true);
                 numberOfObjectsForceFlushed.increment();
 
                 if (flushed) {
@@ -260,7 +369,8 @@ public class S3SinkService {
         }
 
         LOG.info("Shutdown initiated. Flushing {} remaining S3 groups to S3.", s3GroupManager.getNumberOfGroups());
-        reentrantLock.lock();
+        final Lock shutdownLock = concurrentWrites ? forceFlushLock : reentrantLock;
+        shutdownLock.lock();
         try {
             final List<CompletableFuture<?>> completableFutures = new ArrayList<>();
 
@@ -268,7 +378,7 @@ public class S3SinkService {
             for (final S3Group s3Group : s3GroupManager.getS3GroupEntries()) {
                 LOG.info("Force flushing group with key {} containing {} events and {} bytes during shutdown",
                         s3Group.getBuffer().getKey(), s3Group.getBuffer().getEventCount(), s3Group.getBuffer().getSize());
-                flushToS3IfNeeded(completableFutures, s3Group, true);
+                flushGroupToS3IfNeeded(completableFutures, s3Group, true);
                 numberOfObjectsForceFlushed.increment();
             }
 
@@ -285,7 +395,7 @@ public class S3SinkService {
                 }
             }
         } finally {
-            reentrantLock.unlock();
+            shutdownLock.unlock();
         }
     }
 }
@@ -7,6 +7,7 @@ package org.opensearch.dataprepper.plugins.sink.s3.accumulator;
 
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
 import org.opensearch.dataprepper.plugins.s3keyindex.S3ObjectIndexUtility;
 import org.opensearch.dataprepper.plugins.sink.s3.S3SinkConfig;
 import org.slf4j.Logger;
@@ -53,6 +54,24 @@ public class ObjectKey {
             return "";
         }
         String pathPrefixExpressionResult = expressionEvaluator != null ? event.formatString(pathPrefix, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS) : pathPrefix;
+        return expandPathPrefix(pathPrefixExpressionResult);
+    }
+
+    /**
+     * Building path inside bucket from a compiled path_prefix.
+     *
+     * @param pathPrefixTemplate compiled path prefix, or null if there is no path prefix
+     * @param event event
+     * @return s3 object path
+     */
+    public static String buildingPathPrefix(final FormatTemplate pathPrefixTemplate, final Event event) {
+        if (pathPrefixTemplate == null) {
+            return "";
+        }
+        return expandPathPrefix(pathPrefixTemplate.format(event, REPLACEMENT_FOR_NON_EXISTENT_KEYS));
+    }
+
+    private static String expandPathPrefix(final String pathPrefixExpressionResult) {
         StringBuilder s3ObjectPath = new StringBuilder();
         if (pathPrefixExpressionResult != null && !pathPrefixExpressionResult.isEmpty()) {
             String[] pathPrefixList = pathPrefixExpressionResult.split("\\/");
@@ -82,6 +101,24 @@ public class ObjectKey {
                                         final ExpressionEvaluator expressionEvaluator) {
         String configNamePattern = s3SinkConfig.getObjectKeyOptions().getNamePattern();
         String configNamePatternExpressionResult = event.formatString(configNamePattern, expressionEvaluator, REPLACEMENT_FOR_NON_EXISTENT_KEYS);
+        return expandObjectFileName(configNamePatternExpressionResult, codecExtension);
+    }
+
+    /**
+     * Get the object file name with the extension from a compiled name pattern.
+     *
+     * @param namePatternTemplate compiled name pattern
+     * @param codecExtension extension
+     * @param event event
+     * @return s3 object name with prefix
+     */
+    public static String objectFileName(final FormatTemplate namePatternTemplate,
+                                        final String codecExtension,
+                                        final Event event) {
+        return expandObjectFileName(namePatternTemplate.format(event, REPLACEMENT_FOR_NON_EXISTENT_KEYS), codecExtension);
+    }
+
+    private static String expandObjectFileName(final String configNamePatternExpressionResult, final String codecExtension) {
         int extensionIndex = configNamePatternExpressionResult.lastIndexOf('.');
         if (extensionIndex > 0) {
             return S3ObjectIndexUtility.getObjectNameWithDateTimeId(configNamePatternExpressionResult.substring(0, extensionIndex)) + "."
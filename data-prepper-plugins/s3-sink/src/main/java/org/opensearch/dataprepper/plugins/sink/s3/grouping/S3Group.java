@@ -11,6 +11,7 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.concurrent.locks.ReentrantLock;
 
 public class S3Group implements Comparable<S3Group> {
 
@@ -22,6 +23,10 @@ public class S3Group implements Comparable<S3Group> {
 
     private final Collection<EventHandle> groupEventHandles;
 
+    private final ReentrantLock lock;
+
+    private volatile boolean flushed;
+
     public S3Group(final S3GroupIdentifier s3GroupIdentifier,
                    final Buffer buffer,
                    final OutputCodec outputCodec) {
@@ -29,6 +34,7 @@ public class S3Group implements Comparable<S3Group> {
         this.s3GroupIdentifier = s3GroupIdentifier;
         this.outputCodec = outputCodec;
         this.groupEventHandles = new LinkedList<>();
+        this.lock = new ReentrantLock();
     }
 
     public Buffer getBuffer() {
@@ -53,6 +59,37 @@ public class S3Group implements Comparable<S3Group> {
         groupEventHandles.clear();
     }
 
+    /**
+     * Acquires the lock which guards writes to this group's buffer and codec.
+     */
+    public void lock() {
+        lock.lock();
+    }
+
+    /**
+     * Acquires the lock only if no other thread holds it.
+     * @return true if the lock was acquired.
+     */
+    public boolean tryLock() {
+        return lock.tryLock();
+    }
+
+    public void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * Marks this group as flushed. A flushed group has been removed from the {@link S3GroupManager} and must not
+     * receive further events.
+     */
+    public void markFlushed() {
+        flushed = true;
+    }
+
+    public boolean isFlushed() {
+        return flushed;
+    }
+
     @Override
     public int compareTo(final S3Group o) {
         return Long.compare(buffer.getSize(), o.getBuffer().getSize());
@@ -23,7 +23,9 @@ import software.amazon.awssdk.services.s3.S3AsyncClient;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class S3GroupManager {
@@ -65,7 +67,7 @@ public class S3GroupManager {
     public int getNumberOfGroups() { return allGroups.size(); }
 
     public void removeGroup(final S3Group s3Group) {
-        allGroups.remove(s3Group.getS3GroupIdentifier());
+        allGroups.remove(s3Group.getS3GroupIdentifier(), s3Group);
     }
 
     public Collection<S3Group> getS3GroupEntries() {
@@ -73,23 +75,26 @@ public class S3GroupManager {
     }
 
     public Collection<S3Group> getS3GroupsSortedBySize() {
-        return allGroups.values().stream().sorted(Collections.reverseOrder()).collect(Collectors.toList());
+        // Sizes are captured once since groups may still be written to while sorting.
+        final Map<S3Group, Long> groupSizes = allGroups.values().stream()
+                .collect(Collectors.toMap(Function.identity(), s3Group -> s3Group.getBuffer().getSize()));
+        return groupSizes.keySet().stream()
+                .sorted(Comparator.comparing(groupSizes::get, Collections.reverseOrder()))
+                .collect(Collectors.toList());
     }
 
     public S3Group getOrCreateGroupForEvent(final Event event) {
 
         final S3GroupIdentifier s3GroupIdentifier = s3GroupIdentifierFactory.getS3GroupIdentifierForEvent(event);
 
-        if (allGroups.containsKey(s3GroupIdentifier)) {
-            return allGroups.get(s3GroupIdentifier);
-        } else {
-            final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), s3GroupIdentifier::getMetadata,  bucketOwnerProvider, s3SinkConfig.getServerSideEncryptionConfig());
-            final OutputCodec outputCodec = codecFactory.provideCodec();
-            final S3Group s3Group = new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
-            allGroups.put(s3GroupIdentifier, s3Group);
-            LOG.debug("Created a new S3 group. Total number of groups: {}", allGroups.size());
-            return s3Group;
-        }
+        return allGroups.computeIfAbsent(s3GroupIdentifier, this::createGroup);
+    }
+
+    private S3Group createGroup(final S3GroupIdentifier s3GroupIdentifier) {
+        final Buffer bufferForNewGroup =  bufferFactory.getBuffer(s3Client, s3GroupIdentifier::getFullBucketName, s3GroupIdentifier::getGroupIdentifierFullObjectKey, s3SinkConfig.getDefaultBucket(), s3GroupIdentifier::getMetadata,  bucketOwnerProvider, s3SinkConfig.getServerSideEncryptionConfig());
+        final OutputCodec outputCodec = codecFactory.provideCodec();
+        LOG.debug("Creating a new S3 group. Current number of groups: {}", allGroups.size());
+        return new S3Group(s3GroupIdentifier, bufferForNewGroup, outputCodec);
     }
 
     public long recalculateAndGetGroupSize() {
@@ -16,14 +16,23 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.model.event.Event;
+import org.opensearch.dataprepper.model.event.FormatTemplate;
+import org.opensearch.dataprepper.model.event.JacksonEvent;
 import org.opensearch.dataprepper.plugins.sink.s3.accumulator.ObjectKey;
+import org.opensearch.dataprepper.plugins.sink.s3.configuration.ObjectKeyOptions;
 
+import java.util.Map;
 import java.util.UUID;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.when;
@@ -39,9 +48,14 @@ class KeyGeneratorTest {
     @Mock
     private ExpressionEvaluator expressionEvaluator;
 
+    @Mock
+    private ObjectKeyOptions objectKeyOptions;
+
     @BeforeEach
     void setUp() {
-
+        when(s3SinkConfig.getObjectKeyOptions()).thenReturn(objectKeyOptions);
+        when(objectKeyOptions.getPathPrefix()).thenReturn("${/folder}/");
+        when(objectKeyOptions.getNamePattern()).thenReturn("events-%{yyyy-MM-dd'T'HH-mm-ss'Z'}");
     }
 
     private KeyGenerator createObjectUnderTest(S3BucketSelector s3BucketSelector) {
@@ -60,9 +74,9 @@ class KeyGeneratorTest {
 
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event)))
                     .thenReturn(pathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), isNull(), eq(event)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -84,9 +98,9 @@ class KeyGeneratorTest {
         final KeyGenerator objectUnderTest = createObjectUnderTest(null);
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event)))
                     .thenReturn(pathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, extension, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), eq(extension), eq(event)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -112,9 +126,9 @@ class KeyGeneratorTest {
 
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event)))
                     .thenReturn(objectKeyPathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), isNull(), eq(event)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -139,9 +153,9 @@ class KeyGeneratorTest {
         final KeyGenerator objectUnderTest = createObjectUnderTest(s3BucketSelector);
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
 
-            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(s3SinkConfig, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.buildingPathPrefix(any(FormatTemplate.class), eq(event)))
                     .thenReturn(objectKeyPathPrefix);
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, extension, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), eq(extension), eq(event)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -165,7 +179,7 @@ class KeyGeneratorTest {
         final Event event = mock(Event.class);
 
         try (final MockedStatic<ObjectKey> objectKeyMockedStatic = mockStatic(ObjectKey.class)) {
-            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(s3SinkConfig, null, event, expressionEvaluator))
+            objectKeyMockedStatic.when(() -> ObjectKey.objectFileName(any(FormatTemplate.class), isNull(), eq(event)))
                     .thenReturn(objectName);
 
             String key = objectUnderTest.generateKeyForEvent(event);
@@ -173,4 +187,23 @@ class KeyGeneratorTest {
             assertThat(key, equalTo(objectName));
         }
     }
+
+    @Test
+    void generateKey_renders_the_configured_path_prefix_for_each_event() {
+        when(extensionProvider.getExtension()).thenReturn("json");
+        final KeyGenerator objectUnderTest = createObjectUnderTest(null);
+
+        final Event event = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("folder", "first"))
+                .build();
+        final Event otherEvent = JacksonEvent.builder()
+                .withEventType("event")
+                .withData(Map.of("folder", "second"))
+                .build();
+
+        assertThat(objectUnderTest.generateKeyForEvent(event), startsWith("first/events-"));
+        assertThat(objectUnderTest.generateKeyForEvent(otherEvent), startsWith("second/events-"));
+        assertThat(objectUnderTest.generateKeyForEvent(otherEvent), endsWith(".json"));
+    }
 }
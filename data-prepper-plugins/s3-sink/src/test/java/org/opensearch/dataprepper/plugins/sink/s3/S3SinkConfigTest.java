@@ -28,6 +28,11 @@ class S3SinkConfigTest {
         assertThat(new S3SinkConfig().getBufferType(), equalTo(BufferTypeOptions.INMEMORY));
     }
 
+    @Test
+    void default_concurrent_writes_test() {
+        assertThat(new S3SinkConfig().isConcurrentWrites(), equalTo(false));
+    }
+
     @Test
     void default_max_connection_retries_test() {
         assertThat(new S3SinkConfig().getMaxConnectionRetries(), equalTo(MAX_CONNECTION_RETRIES));
@@ -49,6 +49,11 @@ import java.util.Optional;
 import java.util.Random;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -59,6 +64,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
@@ -747,6 +753,105 @@ class S3SinkServiceTest {
         verify(s3ObjectsForceFlushedCounter, never()).increment();
     }
 
+    @Test
+    void output_with_concurrent_writes_flushes_each_group_when_threshold_is_reached() throws IOException {
+        when(s3SinkConfig.isConcurrentWrites()).thenReturn(true);
+
+        final Buffer firstBuffer = mock(Buffer.class);
+        when(firstBuffer.getEventCount()).thenReturn(MAX_EVENTS);
+        when(firstBuffer.flushToS3(any(Consumer.class), any(Consumer.class))).thenReturn(Optional.of(CompletableFuture.completedFuture(null)));
+        final Buffer secondBuffer = mock(Buffer.class);
+        when(secondBuffer.getEventCount()).thenReturn(MAX_EVENTS);
+        when(secondBuffer.flushToS3(any(Consumer.class), any(Consumer.class))).thenReturn(Optional.of(CompletableFuture.completedFuture(null)));
+
+        final S3Group firstGroup = new S3Group(null, firstBuffer, codec);
+        final S3Group secondGroup = new S3Group(null, secondBuffer, codec);
+        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(firstGroup, secondGroup);
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        s3SinkService.output(generateEventRecords(2));
+
+        verify(firstBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(secondBuffer).flushToS3(any(Consumer.class), any(Consumer.class));
+        verify(s3GroupManager).removeGroup(firstGroup);
+        verify(s3GroupManager).removeGroup(secondGroup);
+        verify(codec, times(2)).writeEvent(any(Event.class), any());
+        assertThat(firstGroup.isFlushed(), equalTo(true));
+        assertThat(secondGroup.isFlushed(), equalTo(true));
+    }
+
+    @Test
+    void output_with_concurrent_writes_does_not_write_to_a_group_flushed_by_another_worker() throws IOException {
+        when(s3SinkConfig.isConcurrentWrites()).thenReturn(true);
+
+        final Buffer flushedBuffer = mock(Buffer.class);
+        final S3Group flushedGroup = new S3Group(null, flushedBuffer, codec);
+        flushedGroup.markFlushed();
+
+        final Buffer buffer = mock(Buffer.class);
+        final OutputStream outputStream = mock(OutputStream.class);
+        when(buffer.getOutputStream()).thenReturn(outputStream);
+        when(buffer.getDuration()).thenReturn(Duration.ZERO);
+        final S3Group s3Group = new S3Group(null, buffer, codec);
+
+        when(s3GroupManager.getOrCreateGroupForEvent(any(Event.class))).thenReturn(flushedGroup, s3Group);
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        final List<Record<Event>> records = generateEventRecords(1);
+        s3SinkService.output(records);
+
+        verify(codec).start(outputStream, records.get(0).getData(), codecContext);
+        verify(codec).writeEvent(records.get(0).getData(), outputStream);
+        verify(buffer).setEventCount(1);
+        verify(flushedBuffer, never()).getOutputStream();
+        verify(buffer, never()).flushToS3(any(Consumer.class), any(Consumer.class));
+    }
+
+    @Test
+    void output_with_concurrent_writes_does_not_block_writers_of_other_groups() throws Exception {
+        when(s3SinkConfig.isConcurrentWrites()).thenReturn(true);
+
+        final OutputCodec blockedCodec = mock(OutputCodec.class);
+        final CountDownLatch blockedWriteStarted = new CountDownLatch(1);
+        final CountDownLatch releaseBlockedWrite = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            blockedWriteStarted.countDown();
+            releaseBlockedWrite.await();
+            return null;
+        }).when(blockedCodec).writeEvent(any(Event.class), any());
+
+        final Buffer blockedBuffer = mock(Buffer.class);
+        when(blockedBuffer.getDuration()).thenReturn(Duration.ZERO);
+        final S3Group blockedGroup = new S3Group(null, blockedBuffer, blockedCodec);
+
+        final Buffer buffer = mock(Buffer.class);
+        when(buffer.getDuration()).thenReturn(Duration.ZERO);
+        final S3Group s3Group = new S3Group(null, buffer, codec);
+
+        final List<Record<Event>> blockedRecords = generateEventRecords(1);
+        final List<Record<Event>> records = generateEventRecords(1);
+        when(s3GroupManager.getOrCreateGroupForEvent(blockedRecords.get(0).getData())).thenReturn(blockedGroup);
+        when(s3GroupManager.getOrCreateGroupForEvent(records.get(0).getData())).thenReturn(s3Group);
+
+        final S3SinkService s3SinkService = createObjectUnderTest();
+        final ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            final Future<?> blockedOutput = executorService.submit(() -> s3SinkService.output(blockedRecords));
+            assertThat(blockedWriteStarted.await(5, TimeUnit.SECONDS), equalTo(true));
+
+            s3SinkService.output(records);
+
+            verify(codec).writeEvent(eq(records.get(0).getData()), any());
+            assertThat(blockedOutput.isDone(), equalTo(false));
+
+            releaseBlockedWrite.countDown();
+            blockedOutput.get(5, TimeUnit.SECONDS);
+        } finally {
+            releaseBlockedWrite.countDown();
+            executorService.shutdownNow();
+        }
+    }
+
     private Collection<Record<Event>> generateRandomStringEventRecord() {
         return generateEventRecords(50);
     }
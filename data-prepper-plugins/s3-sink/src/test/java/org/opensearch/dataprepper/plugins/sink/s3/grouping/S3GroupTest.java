@@ -9,6 +9,7 @@ import org.opensearch.dataprepper.plugins.sink.s3.accumulator.Buffer;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -57,4 +58,31 @@ public class S3GroupTest {
         assertThat(largeGroup.compareTo(smallGroup), equalTo(1));
         assertThat(largeGroup.compareTo(anotherLargeGroup), equalTo(0));
     }
+
+    @Test
+    void markFlushed_marks_group_as_flushed() {
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
+
+        assertThat(objectUnderTest.isFlushed(), equalTo(false));
+
+        objectUnderTest.markFlushed();
+
+        assertThat(objectUnderTest.isFlushed(), equalTo(true));
+    }
+
+    @Test
+    void tryLock_returns_false_while_another_thread_holds_the_lock() throws Exception {
+        final S3Group objectUnderTest = new S3Group(mock(S3GroupIdentifier.class), mock(Buffer.class), mock(OutputCodec.class));
+
+        objectUnderTest.lock();
+        try {
+            final CompletableFuture<Boolean> otherThreadLocked = CompletableFuture.supplyAsync(objectUnderTest::tryLock);
+            assertThat(otherThreadLocked.get(), equalTo(false));
+        } finally {
+            objectUnderTest.unlock();
+        }
+
+        assertThat(objectUnderTest.tryLock(), equalTo(true));
+        objectUnderTest.unlock();
+    }
 }
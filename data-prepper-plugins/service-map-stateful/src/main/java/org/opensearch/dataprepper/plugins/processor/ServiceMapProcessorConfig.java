@@ -10,6 +10,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateStore;
 
 @JsonPropertyOrder
 @JsonClassDescription("The <code>service_map</code> processor uses OpenTelemetry data to create a distributed service map for " +
@@ -19,6 +22,9 @@ public class ServiceMapProcessorConfig {
     static final int DEFAULT_WINDOW_DURATION = 180;
     static final String DEFAULT_DB_PATH = "data/service-map/";
     static final String DB_PATH = "db_path";
+    static final String STATE_STORE = "state_store";
+    static final String STATE_MEMORY_LIMIT = "state_memory_limit";
+    static final String DEFAULT_STATE_MEMORY_LIMIT = "512mb";
 
     @JsonProperty(value = WINDOW_DURATION, defaultValue = "" + DEFAULT_WINDOW_DURATION)
     @JsonPropertyDescription("Represents the fixed time window, in seconds, " +
@@ -31,6 +37,17 @@ public class ServiceMapProcessorConfig {
             "when processing service-map data.")
     private String dbPath = DEFAULT_DB_PATH;
 
+    @NotNull
+    @JsonProperty(value = STATE_STORE, defaultValue = "mapdb")
+    @JsonPropertyDescription("The store for window state. Use <code>mapdb</code> to keep Java serialized state on the heap, " +
+            "or <code>off_heap</code> to keep compactly encoded state in direct memory bounded by <code>state_memory_limit</code>.")
+    private ProcessorStateStore stateStore = ProcessorStateStore.MAPDB;
+
+    @NotNull
+    @JsonProperty(value = STATE_MEMORY_LIMIT, defaultValue = DEFAULT_STATE_MEMORY_LIMIT)
+    @JsonPropertyDescription("The maximum direct memory which the <code>off_heap</code> state store may use for all windows.")
+    private ByteCount stateMemoryLimit = ByteCount.parse(DEFAULT_STATE_MEMORY_LIMIT);
+
     public int getWindowDuration() {
         return windowDuration;
     }
@@ -38,4 +55,12 @@ public class ServiceMapProcessorConfig {
     public String getDbPath() {
         return dbPath;
     }
+
+    public ProcessorStateStore getStateStore() {
+        return stateStore;
+    }
+
+    public ByteCount getStateMemoryLimit() {
+        return stateMemoryLimit;
+    }
 }
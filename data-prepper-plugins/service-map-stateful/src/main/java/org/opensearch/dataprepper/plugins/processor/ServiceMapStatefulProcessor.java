@@ -18,15 +18,26 @@ import org.opensearch.dataprepper.model.processor.AbstractProcessor;
 import org.opensearch.dataprepper.model.processor.Processor;
 import org.opensearch.dataprepper.model.record.Record;
 import org.opensearch.dataprepper.model.trace.Span;
+import org.opensearch.dataprepper.model.types.ByteCount;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Sets;
 import com.google.common.primitives.SignedBytes;
 import org.apache.commons.codec.binary.Hex;
 import org.opensearch.dataprepper.plugins.processor.state.MapDbProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapMemoryLimitExceededException;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapMemoryPool;
+import org.opensearch.dataprepper.plugins.processor.state.OffHeapProcessorState;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateCodec;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateCodecs;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateStore;
+import org.opensearch.dataprepper.plugins.processor.state.SegmentedProcessorState;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.DataInput;
+import java.io.DataOutput;
 import java.io.File;
+import java.io.IOException;
 import java.io.Serializable;
 import java.time.Clock;
 import java.util.Arrays;
@@ -65,10 +76,10 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private static long windowDurationMillis;
     private static CyclicBarrier allThreadsCyclicBarrier;
 
-    private static volatile MapDbProcessorState<ServiceMapStateData> previousWindow;
-    private static volatile MapDbProcessorState<ServiceMapStateData> currentWindow;
-    private static volatile MapDbProcessorState<String> previousTraceGroupWindow;
-    private static volatile MapDbProcessorState<String> currentTraceGroupWindow;
+    private static volatile SegmentedProcessorState<ServiceMapStateData> previousWindow;
+    private static volatile SegmentedProcessorState<ServiceMapStateData> currentWindow;
+    private static volatile SegmentedProcessorState<String> previousTraceGroupWindow;
+    private static volatile SegmentedProcessorState<String> currentTraceGroupWindow;
     private static volatile Set<ServiceNodeData> previousIsolatedServiceNodes;
     private static volatile Set<ServiceNodeData> currentIsolatedServiceNodes;
     //TODO: Consider keeping this state in a db
@@ -87,7 +98,9 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                 new File(serviceMapProcessorConfig.getDbPath()),
                 Clock.systemUTC(),
                 pipelineDescription.getNumberOfProcessWorkers(),
-                pluginMetrics);
+                pluginMetrics,
+                serviceMapProcessorConfig.getStateStore(),
+                serviceMapProcessorConfig.getStateMemoryLimit());
     }
 
     ServiceMapStatefulProcessor(final long windowDurationMillis,
@@ -95,6 +108,16 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
                                        final Clock clock,
                                        final int processWorkers,
                                        final PluginMetrics pluginMetrics) {
+        this(windowDurationMillis, databasePath, clock, processWorkers, pluginMetrics, ProcessorStateStore.MAPDB, null);
+    }
+
+    ServiceMapStatefulProcessor(final long windowDurationMillis,
+                                       final File databasePath,
+                                       final Clock clock,
+                                       final int processWorkers,
+                                       final PluginMetrics pluginMetrics,
+                                       final ProcessorStateStore stateStore,
+                                       final ByteCount stateMemoryLimit) {
         super(pluginMetrics);
 
         ServiceMapStatefulProcessor.clock = clock;
@@ -105,10 +128,19 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
             ServiceMapStatefulProcessor.windowDurationMillis = windowDurationMillis;
             ServiceMapStatefulProcessor.dbPath = createPath(databasePath);
 
-            currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
-            previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
-            currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
-            previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
+            if (stateStore == ProcessorStateStore.OFF_HEAP) {
+                // All four windows share one pool, so the limit bounds the processor as a whole
+                final OffHeapMemoryPool memoryPool = new OffHeapMemoryPool(stateMemoryLimit.getBytes());
+                currentWindow = new OffHeapProcessorState<>(memoryPool, ServiceMapStateDataCodec.INSTANCE);
+                previousWindow = new OffHeapProcessorState<>(memoryPool, ServiceMapStateDataCodec.INSTANCE);
+                currentTraceGroupWindow = new OffHeapProcessorState<>(memoryPool, ProcessorStateCodecs.STRING);
+                previousTraceGroupWindow = new OffHeapProcessorState<>(memoryPool, ProcessorStateCodecs.STRING);
+            } else {
+                currentWindow = new MapDbProcessorState<>(dbPath, getNewDbName(), processWorkers);
+                previousWindow = new MapDbProcessorState<>(dbPath, getNewDbName() + EMPTY_SUFFIX, processWorkers);
+                currentTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName(), processWorkers);
+                previousTraceGroupWindow = new MapDbProcessorState<>(dbPath, getNewTraceDbName() + EMPTY_SUFFIX, processWorkers);
+            }
             currentIsolatedServiceNodes = Sets.newConcurrentHashSet();
             previousIsolatedServiceNodes = Sets.newConcurrentHashSet();
 
@@ -152,6 +184,9 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         records.forEach(i -> processSpan((Span) i.getData(), batchStateData));
         try {
             currentWindow.putAll(batchStateData);
+        } catch (final OffHeapMemoryLimitExceededException e) {
+            // The pipeline fails the batch rather than the window silently missing its spans
+            throw e;
         } catch (RuntimeException e) {
             LOG.error("Caught exception trying to put batch state data", e);
         }
@@ -226,7 +261,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
-    private Collection<Record<Event>> iterateProcessorState(final MapDbProcessorState<ServiceMapStateData> processorState) {
+    private Collection<Record<Event>> iterateProcessorState(final SegmentedProcessorState<ServiceMapStateData> processorState) {
         final Collection<Record<Event>> serviceDependencyRecords = new HashSet<>();
 
         if (processorState.getAll() != null && !processorState.getAll().isEmpty()) {
@@ -341,7 +376,7 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
     private void rotateWindows() throws InterruptedException {
         LOG.debug("Rotating service map windows at " + clock.instant().toString());
 
-        MapDbProcessorState tempWindow = previousWindow;
+        SegmentedProcessorState tempWindow = previousWindow;
         previousWindow = currentWindow;
         currentWindow = tempWindow;
         currentWindow.clear();
@@ -445,6 +480,29 @@ public class ServiceMapStatefulProcessor extends AbstractProcessor<Record<Event>
         }
     }
 
+    private static class ServiceMapStateDataCodec implements ProcessorStateCodec<ServiceMapStateData> {
+        private static final ServiceMapStateDataCodec INSTANCE = new ServiceMapStateDataCodec();
+
+        @Override
+        public void encode(final ServiceMapStateData value, final DataOutput output) throws IOException {
+            ProcessorStateCodecs.writeString(output, value.serviceName);
+            ProcessorStateCodecs.writeBytes(output, value.parentSpanId);
+            ProcessorStateCodecs.writeBytes(output, value.traceId);
+            ProcessorStateCodecs.writeString(output, value.spanKind);
+            ProcessorStateCodecs.writeString(output, value.name);
+        }
+
+        @Override
+        public ServiceMapStateData decode(final DataInput input) throws IOException {
+            return new ServiceMapStateData(
+                    ProcessorStateCodecs.readString(input),
+                    ProcessorStateCodecs.readBytes(input),
+                    ProcessorStateCodecs.readBytes(input),
+                    ProcessorStateCodecs.readString(input),
+                    ProcessorStateCodecs.readString(input));
+        }
+    }
+
     private static class ServiceNodeData implements Serializable {
         public String serviceName;
         public byte[] traceId;
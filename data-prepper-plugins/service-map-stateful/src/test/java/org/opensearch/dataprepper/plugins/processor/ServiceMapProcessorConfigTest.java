@@ -2,6 +2,8 @@ package org.opensearch.dataprepper.plugins.processor;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.opensearch.dataprepper.model.types.ByteCount;
+import org.opensearch.dataprepper.plugins.processor.state.ProcessorStateStore;
 import org.opensearch.dataprepper.test.helper.ReflectivelySetField;
 
 import java.util.Random;
@@ -25,6 +27,9 @@ class ServiceMapProcessorConfigTest {
     void testDefaultConfig() {
         assertThat(serviceMapProcessorConfig.getWindowDuration(), equalTo(DEFAULT_WINDOW_DURATION));
         assertThat(serviceMapProcessorConfig.getDbPath(), equalTo(ServiceMapProcessorConfig.DEFAULT_DB_PATH));
+        assertThat(serviceMapProcessorConfig.getStateStore(), equalTo(ProcessorStateStore.MAPDB));
+        assertThat(serviceMapProcessorConfig.getStateMemoryLimit().getBytes(),
+                equalTo(ByteCount.parse(ServiceMapProcessorConfig.DEFAULT_STATE_MEMORY_LIMIT).getBytes()));
     }
 
     @Test
@@ -12,6 +12,7 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
@@ -25,9 +26,13 @@ import org.opensearch.dataprepper.model.record.Record;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
@@ -101,11 +106,75 @@ public class TranslateProcessorBenchmark {
         ) throws IOException {
             try (InputStream is = getClass().getResourceAsStream("/jmh/" + configFile)) {
                 TranslateProcessorConfig config = objectMapper.readValue(is, TranslateProcessorConfig.class);
+                config.hasMappings();
                 return new TranslateProcessor(pluginMetrics, config, expressionEvaluator, TestEventKeyFactory.getTestEventFactory());
             }
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class LargeMappingState {
+        private static final int RECORD_COUNT = 1000;
+
+        @Param({"1000", "10000"})
+        private int mappingSize;
+
+        @Param({"0", "1000"})
+        private int cacheSize;
+
+        private TranslateProcessor individualKeyProcessor;
+        private TranslateProcessor rangeProcessor;
+        private TranslateProcessor patternProcessor;
+        private Collection<Record<Event>> individualKeyRecords;
+        private Collection<Record<Event>> rangeRecords;
+        private Collection<Record<Event>> patternRecords;
+
+        @Setup
+        public void setUp() {
+            final ObjectMapper objectMapper = new ObjectMapper();
+            final Random random = new Random(1);
+
+            final Map<String, Object> individualMap = new LinkedHashMap<>();
+            final Map<String, Object> rangeMap = new LinkedHashMap<>();
+            final Map<String, Object> patterns = new LinkedHashMap<>();
+            for (int i = 0; i < mappingSize; i++) {
+                individualMap.put("key" + i, "value" + i);
+                rangeMap.put((i * 10) + "-" + (i * 10 + 9), "range" + i);
+                patterns.put("^service-" + i + "-[a-z]+$", "pattern" + i);
+            }
+            individualKeyProcessor = createProcessor(objectMapper, Map.of("map", individualMap));
+            rangeProcessor = createProcessor(objectMapper, Map.of("map", rangeMap));
+            patternProcessor = createProcessor(objectMapper, Map.of("regex", Map.of("patterns", patterns)));
+
+            individualKeyRecords = createRecords(() -> "key" + random.nextInt(mappingSize));
+            rangeRecords = createRecords(() -> Integer.toString(random.nextInt(mappingSize * 10)));
+            patternRecords = createRecords(() -> "service-" + random.nextInt(mappingSize) + "-api");
+        }
+
+        private TranslateProcessor createProcessor(final ObjectMapper objectMapper, final Map<String, Object> mappings) {
+            final Map<String, Object> target = new LinkedHashMap<>(mappings);
+            target.put("target", "targetField");
+            final Map<String, Object> configMap = Map.of(
+                    "cache_size", cacheSize,
+                    "mappings", List.of(Map.of("source", "sourceField", "targets", List.of(target))));
+            final TranslateProcessorConfig config = objectMapper.convertValue(configMap, TranslateProcessorConfig.class);
+            config.hasMappings();
+            return new TranslateProcessor(mock(PluginMetrics.class), config, mock(ExpressionEvaluator.class),
+                    TestEventKeyFactory.getTestEventFactory());
+        }
+
+        private static Collection<Record<Event>> createRecords(final Supplier<String> sourceValues) {
+            final List<Record<Event>> records = new ArrayList<>(RECORD_COUNT);
+            for (int i = 0; i < RECORD_COUNT; i++) {
+                records.add(new Record<>(JacksonEvent.builder()
+                        .withEventType("event")
+                        .withData(Map.of("sourceField", sourceValues.get()))
+                        .build()));
+            }
+            return records;
+        }
+    }
+
     @Benchmark
     @BenchmarkMode(Mode.Throughput)
     public void benchmark_static_key_translation(BenchmarkState state) {
@@ -129,4 +198,22 @@ public class TranslateProcessorBenchmark {
     public void benchmark_nested_path_translation(BenchmarkState state) {
         state.nestedPathProcessor.doExecute(state.nestedPathRecords);
     }
-}
\ No newline at end of file
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_large_individual_key_translation(LargeMappingState state) {
+        state.individualKeyProcessor.doExecute(state.individualKeyRecords);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_large_range_translation(LargeMappingState state) {
+        state.rangeProcessor.doExecute(state.rangeRecords);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    public void benchmark_large_pattern_matching(LargeMappingState state) {
+        state.patternProcessor.doExecute(state.patternRecords);
+    }
+}
@@ -9,12 +9,14 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 import java.util.regex.Pattern;
 
 public class MappingsParser {
     private final LinkedHashMap<Range<Float>, Object> rangeMappings = new LinkedHashMap<>();
     private final Map<String, Object> individualMappings = new HashMap<>();
     private final Map<Pattern, Object> compiledPatterns = new HashMap<>();
+    private final TreeMap<Float, Range<Float>> rangesByMinimum = new TreeMap<>();
     public MappingsParser(TargetsParameterConfig targetConfig){
         RegexParameterConfiguration regexConfig = targetConfig.getRegexParameterConfiguration();
         if (Objects.nonNull(regexConfig)) {
@@ -68,7 +70,8 @@ public class MappingsParser {
                 String exceptionMsg = "map option contains key " + mapEntry.getKey() + " that overlaps with other range entries";
                 throw new InvalidPluginConfigurationException(exceptionMsg);
             } else {
-                rangeMappings.put(Range.between(lowKey, highKey), mapEntry.getValue());
+                rangeMappings.put(rangeEntry, mapEntry.getValue());
+                rangesByMinimum.put(rangeEntry.getMinimum(), rangeEntry);
             }
         }
     }
@@ -83,7 +86,9 @@ public class MappingsParser {
     }
 
     private boolean isRangeOverlapping(Range<Float> rangeEntry) {
-        return rangeMappings.keySet().stream().anyMatch(range -> range.isOverlappedBy(rangeEntry));
+        // Ranges added so far do not overlap, so only the last one starting at or before the end can overlap
+        final Map.Entry<Float, Range<Float>> candidate = rangesByMinimum.floorEntry(rangeEntry.getMaximum());
+        return candidate != null && candidate.getValue().isOverlappedBy(rangeEntry);
     }
 
     private void checkOverlappingKeys() {
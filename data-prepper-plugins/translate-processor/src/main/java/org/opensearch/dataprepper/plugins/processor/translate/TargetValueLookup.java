@@ -0,0 +1,184 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.commons.lang3.Range;
+import org.apache.commons.lang3.math.NumberUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Finds the mapped value of a source value in the mappings of one {@link TargetsParameterConfig}.
+ * <p>
+ * Ranges do not overlap, so they are kept sorted by their lower bound and found with a binary search.
+ * Exact regex patterns are combined into one alternation, so that a source value is matched once instead
+ * of once per pattern. The results for recent source values are cached.
+ */
+class TargetValueLookup {
+    private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\(\\d|k<)");
+
+    private final Map<String, Object> individualMappings;
+    private final float[] rangeLowerBounds;
+    private final float[] rangeUpperBounds;
+    private final Object[] rangeValues;
+    private final List<Pattern> patterns;
+    private final List<Object> patternValues;
+    private final boolean exact;
+    private final Pattern combinedPattern;
+    private final int[] combinedPatternGroups;
+    private final Cache<String, Optional<Object>> cache;
+
+    TargetValueLookup(final TargetsParameterConfig targetConfig, final int cacheSize) {
+        individualMappings = targetConfig.fetchIndividualMappings();
+
+        final List<Map.Entry<Range<Float>, Object>> ranges = new ArrayList<>(targetConfig.fetchRangeMappings().entrySet());
+        ranges.sort(Comparator.comparing(entry -> entry.getKey().getMinimum()));
+        rangeLowerBounds = new float[ranges.size()];
+        rangeUpperBounds = new float[ranges.size()];
+        rangeValues = new Object[ranges.size()];
+        for (int i = 0; i < ranges.size(); i++) {
+            rangeLowerBounds[i] = ranges.get(i).getKey().getMinimum();
+            rangeUpperBounds[i] = ranges.get(i).getKey().getMaximum();
+            rangeValues[i] = ranges.get(i).getValue();
+        }
+
+        patterns = new ArrayList<>();
+        patternValues = new ArrayList<>();
+        final RegexParameterConfiguration regexConfig = targetConfig.getRegexParameterConfiguration();
+        if (Objects.nonNull(regexConfig) && Objects.nonNull(regexConfig.getPatterns())) {
+            for (final Map.Entry<String, Object> patternEntry : regexConfig.getPatterns().entrySet()) {
+                patterns.add(Pattern.compile(patternEntry.getKey()));
+                patternValues.add(patternEntry.getValue());
+            }
+            exact = regexConfig.getExact();
+        } else {
+            exact = true;
+        }
+
+        combinedPatternGroups = new int[patterns.size()];
+        combinedPattern = exact ? combinePatterns() : null;
+
+        cache = cacheSize > 0 ? Caffeine.newBuilder().maximumSize(cacheSize).build() : null;
+    }
+
+    /**
+     * Looks up the mapped value of a source value.
+     *
+     * @param sourceValue The source value
+     * @return The mapped value, or empty if no mapping matches
+     */
+    Optional<Object> lookup(final String sourceValue) {
+        if (cache == null) {
+            return lookupUncached(sourceValue);
+        }
+        return cache.get(sourceValue, this::lookupUncached);
+    }
+
+    private Optional<Object> lookupUncached(final String sourceValue) {
+        if (individualMappings.containsKey(sourceValue)) {
+            return Optional.of(individualMappings.get(sourceValue));
+        }
+        return matchesRangeEntry(sourceValue)
+                .or(() -> matchesPatternEntry(sourceValue));
+    }
+
+    private Optional<Object> matchesRangeEntry(final String sourceValue) {
+        if (rangeValues.length == 0 || !NumberUtils.isParsable(sourceValue)) {
+            return Optional.empty();
+        }
+        final float floatKey = Float.parseFloat(sourceValue);
+        // The last range whose lower bound is not greater than the key is the only one which can contain it
+        int low = 0;
+        int high = rangeLowerBounds.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            if (Float.compare(rangeLowerBounds[middle], floatKey) <= 0) {
+                candidate = middle;
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        if (candidate >= 0 && Float.compare(floatKey, rangeUpperBounds[candidate]) <= 0) {
+            return Optional.of(rangeValues[candidate]);
+        }
+        return Optional.empty();
+    }
+
+    private Optional<Object> matchesPatternEntry(final String sourceValue) {
+        if (patterns.isEmpty()) {
+            return Optional.empty();
+        }
+        if (combinedPattern != null) {
+            final Matcher matcher = combinedPattern.matcher(sourceValue);
+            if (!matcher.matches()) {
+                return Optional.empty();
+            }
+            for (int i = 0; i < combinedPatternGroups.length; i++) {
+                if (matcher.start(combinedPatternGroups[i]) != -1) {
+                    return Optional.of(patternValues.get(i));
+                }
+            }
+            return Optional.empty();
+        }
+        for (int i = 0; i < patterns.size(); i++) {
+            final Matcher matcher = patterns.get(i).matcher(sourceValue);
+            if (matcher.matches()) {
+                return Optional.of(patternValues.get(i));
+            }
+            if (!exact && matcher.find()) {
+                final String targetValue = (String) patternValues.get(i);
+                return Optional.of(matcher.replaceAll(targetValue));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Wraps every pattern in a group of one alternation and records the number of each wrapping group.
+     * An alternation matches with its first alternative that matches the whole value, which is the pattern
+     * the sequential matching would have picked.
+     *
+     * @return The combined pattern, or null if the patterns cannot be combined
+     */
+    private Pattern combinePatterns() {
+        if (patterns.size() < 2) {
+            return null;
+        }
+        final StringBuilder combined = new StringBuilder();
+        int group = 1;
+        for (int i = 0; i < patterns.size(); i++) {
+            final Pattern pattern = patterns.get(i);
+            // Back references would refer to other groups once the groups of earlier patterns are counted
+            if (BACK_REFERENCE.matcher(pattern.pattern()).find()) {
+                return null;
+            }
+            if (i > 0) {
+                combined.append('|');
+            }
+            combined.append('(').append(pattern.pattern()).append(')');
+            combinedPatternGroups[i] = group;
+            group += 1 + pattern.matcher("").groupCount();
+        }
+        try {
+            return Pattern.compile(combined.toString());
+        } catch (final PatternSyntaxException e) {
+            // Named groups may be repeated across patterns
+            return null;
+        }
+    }
+}
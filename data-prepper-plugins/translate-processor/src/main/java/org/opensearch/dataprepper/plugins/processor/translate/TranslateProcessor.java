@@ -5,8 +5,6 @@
 
 package org.opensearch.dataprepper.plugins.processor.translate;
 
-import org.apache.commons.lang3.Range;
-import org.apache.commons.lang3.math.NumberUtils;
 import org.opensearch.dataprepper.expression.ExpressionEvaluator;
 import org.opensearch.dataprepper.metrics.PluginMetrics;
 import org.opensearch.dataprepper.model.annotations.DataPrepperPlugin;
@@ -25,13 +23,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static org.opensearch.dataprepper.logging.DataPrepperMarkers.EVENT;
@@ -46,6 +43,7 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     private final JacksonEvent.Builder eventBuilder = JacksonEvent.builder();
     private final JsonExtractor jsonExtractor = new JsonExtractor();
     private final KeyResolver keyResolver;
+    private final Map<TargetsParameterConfig, TargetValueLookup> targetValueLookups;
 
     @DataPrepperPluginConstructor
     public TranslateProcessor(
@@ -59,6 +57,14 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         this.keyResolver = new CachingKeyResolver(eventKeyFactory);
         Optional.ofNullable(mappingsConfig)
                 .ifPresent(configs -> configs.forEach(MappingsParameterConfig::parseMappings));
+        this.targetValueLookups = new IdentityHashMap<>();
+        Optional.ofNullable(mappingsConfig)
+                .ifPresent(configs -> configs.stream()
+                        .map(MappingsParameterConfig::getTargetsParameterConfigs)
+                        .filter(Objects::nonNull)
+                        .flatMap(List::stream)
+                        .forEach(targetConfig -> targetValueLookups.put(targetConfig,
+                                new TargetValueLookup(targetConfig, translateProcessorConfig.getCacheSize()))));
     }
 
     @Override
@@ -125,7 +131,9 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
         if (rootKey == null || !recordEvent.containsKey(rootKey)) {
             return;
         }
-        Map<String, Object> recordObject = recordEvent.toMap();
+        // Only the root field is converted to Java objects, not the whole event
+        Map<String, Object> recordObject = new HashMap<>();
+        recordObject.put(rootField, recordEvent.get(rootKey, Object.class));
         List<Object> targetObjects = jsonExtractor.getObjectFromPath(commonPath, recordObject);
         if(!targetObjects.isEmpty()) {
             targetObjects.forEach(targetObj -> performMappings(targetObj, sourceKeys, sourceObject, targetConfig));
@@ -189,55 +197,9 @@ public class TranslateProcessor extends AbstractProcessor<Record<Event>, Record<
     }
 
     private Optional<Object> getTargetValueForSource(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Optional<Object> targetValue = Optional.empty();
-        targetValue = targetValue
-                .or(() -> matchesIndividualEntry(sourceValue, targetConfig))
-                .or(() -> matchesRangeEntry(sourceValue, targetConfig))
-                .or(() -> matchesPatternEntry(sourceValue, targetConfig))
+        return targetValueLookups.get(targetConfig)
+                .lookup(sourceValue)
                 .or(() -> Optional.ofNullable(targetConfig.getDefaultValue()));
-        return targetValue;
-    }
-
-    private Optional<Object> matchesIndividualEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<String, Object> individualMappings = targetConfig.fetchIndividualMappings();
-        if (individualMappings.containsKey(sourceValue)) {
-            return Optional.of(individualMappings.get(sourceValue));
-        }
-        return Optional.empty();
-    }
-
-    private Optional<Object> matchesRangeEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        if (!NumberUtils.isParsable(sourceValue)) {
-            return Optional.empty();
-        }
-        Float floatKey = Float.parseFloat(sourceValue);
-        LinkedHashMap<Range<Float>, Object> rangeMappings = targetConfig.fetchRangeMappings();
-        for (Map.Entry<Range<Float>, Object> rangeEntry : rangeMappings.entrySet()) {
-            Range<Float> range = rangeEntry.getKey();
-            if (range.contains(floatKey)) {
-                return Optional.of(rangeEntry.getValue());
-            }
-        }
-        return Optional.empty();
-    }
-
-    private Optional<Object> matchesPatternEntry(final String sourceValue, TargetsParameterConfig targetConfig) {
-        Map<Pattern, Object> compiledPatterns = targetConfig.fetchCompiledPatterns();
-        if (compiledPatterns.isEmpty()) {
-            return Optional.empty();
-        }
-        final boolean exact = targetConfig.getRegexParameterConfiguration().getExact();
-        for (Pattern pattern : compiledPatterns.keySet()) {
-            Matcher matcher = pattern.matcher(sourceValue);
-            if (matcher.matches()) {
-                return Optional.of(compiledPatterns.get(pattern));
-            }
-            if(!exact && matcher.find()) {
-                String targetValue = (String)compiledPatterns.get(pattern);
-                return Optional.of(matcher.replaceAll(targetValue));
-            }
-        }
-        return Optional.empty();
     }
 
     private void addTargetToRecords(Object sourceObject, List<Object> targetValues, Object recordObject, TargetsParameterConfig targetMappings) {
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.annotation.JsonPropertyDescription;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Min;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,6 +22,7 @@ import java.util.Objects;
 @JsonPropertyOrder
 @JsonClassDescription("The <code>translate</code> processor transforms values in events into preconfigured values.")
 public class TranslateProcessorConfig {
+    static final int DEFAULT_CACHE_SIZE = 1000;
 
     @JsonProperty("file")
     @JsonPropertyDescription("Points to the file that contains mapping configurations.")
@@ -32,6 +34,12 @@ public class TranslateProcessorConfig {
     @Valid
     private List<MappingsParameterConfig> mappingsParameterConfigs = new ArrayList<>();
 
+    @JsonProperty(value = "cache_size", defaultValue = "1000")
+    @JsonPropertyDescription("The number of recent source values for which the translated value is cached per target. " +
+            "Set to <code>0</code> to disable the cache. Default is <code>1000</code>.")
+    @Min(0)
+    private int cacheSize = DEFAULT_CACHE_SIZE;
+
     @JsonIgnore
     private List<MappingsParameterConfig> fileMappingsConfigs;
 
@@ -46,6 +54,10 @@ public class TranslateProcessorConfig {
         return mappingsParameterConfigs;
     }
 
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
     public List<MappingsParameterConfig> getCombinedMappingsConfigs() {
         return combinedMappingsConfigs;
     }
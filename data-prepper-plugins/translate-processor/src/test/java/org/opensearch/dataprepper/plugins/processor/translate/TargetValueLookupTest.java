@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.dataprepper.plugins.processor.translate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TargetValueLookupTest {
+    @Mock
+    private RegexParameterConfiguration regexConfig;
+
+    private TargetValueLookup createObjectUnderTest(final Map<String, Object> map, final int cacheSize) {
+        final TargetsParameterConfig targetConfig = new TargetsParameterConfig(map, "target", regexConfig, null, null, null);
+        return new TargetValueLookup(targetConfig, cacheSize);
+    }
+
+    private static Map<String, Object> largeRangeMap() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        for (int i = 0; i < 10000; i++) {
+            map.put((i * 10) + "-" + (i * 10 + 5), "range" + i);
+        }
+        return map;
+    }
+
+    @ParameterizedTest
+    @CsvSource({"0,range0", "5,range0", "3.5,range0", "10,range1", "99995,range9999", "12340,range1234"})
+    void lookup_finds_value_of_range_containing_source(final String sourceValue, final String expected) {
+        final TargetValueLookup objectUnderTest = createObjectUnderTest(largeRangeMap(), 0);
+
+        assertThat(objectUnderTest.lookup(sourceValue), equalTo(Optional.of(expected)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"-1", "6", "9.5", "99996", "not_a_number"})
+    void lookup_returns_empty_outside_of_ranges(final String sourceValue) {
+        final TargetValueLookup objectUnderTest = createObjectUnderTest(largeRangeMap(), 0);
+
+        assertThat(objectUnderTest.lookup(sourceValue), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void lookup_prefers_individual_mappings() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("key1", "individual");
+        final Map<String, Object> patterns = new LinkedHashMap<>();
+        patterns.put("key.*", "pattern");
+        when(regexConfig.getPatterns()).thenReturn(patterns);
+        lenient().when(regexConfig.getExact()).thenReturn(true);
+
+        final TargetValueLookup objectUnderTest = createObjectUnderTest(map, 0);
+
+        assertThat(objectUnderTest.lookup("key1"), equalTo(Optional.of("individual")));
+        assertThat(objectUnderTest.lookup("key2"), equalTo(Optional.of("pattern")));
+    }
+
+    @Test
+    void lookup_with_exact_patterns_returns_value_of_first_matching_pattern() {
+        final Map<String, Object> patterns = new LinkedHashMap<>();
+        patterns.put("^(4\\d\\d)$", "client_error");
+        patterns.put("(?i)ERROR-(\\d+)", "error");
+        patterns.put("\\d+", "number");
+        patterns.put("(?<code>5)\\d\\d", "server_error");
+        when(regexConfig.getPatterns()).thenReturn(patterns);
+        when(regexConfig.getExact()).thenReturn(true);
+
+        final TargetValueLookup objectUnderTest = createObjectUnderTest(null, 0);
+
+        assertThat(objectUnderTest.lookup("404"), equalTo(Optional.of("client_error")));
+        assertThat(objectUnderTest.lookup("error-12"), equalTo(Optional.of("error")));
+        assertThat(objectUnderTest.lookup("500"), equalTo(Optional.of("number")));
+        assertThat(objectUnderTest.lookup("5xx"), equalTo(Optional.empty()));
+        assertThat(objectUnderTest.lookup("ERROR"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void lookup_with_back_references_in_patterns_matches_each_pattern() {
+        final Map<String, Object> patterns = new LinkedHashMap<>();
+        patterns.put("(a)b", "first");
+        patterns.put("(c)\\1", "second");
+        when(regexConfig.getPatterns()).thenReturn(patterns);
+        when(regexConfig.getExact()).thenReturn(true);
+
+        final TargetValueLookup objectUnderTest = createObjectUnderTest(null, 0);
+
+        assertThat(objectUnderTest.lookup("cc"), equalTo(Optional.of("second")));
+        assertThat(objectUnderTest.lookup("ab"), equalTo(Optional.of("first")));
+        assertThat(objectUnderTest.lookup("ca"), equalTo(Optional.empty()));
+    }
+
+    @Test
+    void lookup_with_non_exact_patterns_replaces_partial_matches() {
+        final Map<String, Object> patterns = new LinkedHashMap<>();
+        patterns.put("foo", "bar");
+        patterns.put("\\d+", "N");
+        when(regexConfig.getPatterns()).thenReturn(patterns);
+        when(regexConfig.getExact()).thenReturn(false);
+
+        final TargetValueLookup objectUnderTest = createObjectUnderTest(null, 0);
+
+        assertThat(objectUnderTest.lookup("foo"), equalTo(Optional.of("bar")));
+        assertThat(objectUnderTest.lookup("a foo b"), equalTo(Optional.of("a bar b")));
+        assertThat(objectUnderTest.lookup("id 42"), equalTo(Optional.of("id N")));
+    }
+
+    @Test
+    void lookup_with_cache_returns_same_results() {
+        final Map<String, Object> map = largeRangeMap();
+        map.put("key1", "individual");
+        final TargetValueLookup objectUnderTest = createObjectUnderTest(map, 10);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(objectUnderTest.lookup("key1"), equalTo(Optional.of("individual")));
+            assertThat(objectUnderTest.lookup("12"), equalTo(Optional.of("range1")));
+            assertThat(objectUnderTest.lookup("missing"), equalTo(Optional.empty()));
+        }
+    }
+}